@@ -5,6 +5,7 @@ plugins {
     java
     id("com.github.johnrengelman.shadow") version "7.1.2"
     id("io.spring.dependency-management") version "1.0.11.RELEASE"
+    id("me.champeau.jmh") version "0.6.8"
     checkstyle
 }
 
@@ -92,6 +93,10 @@ tasks.withType<ShadowJar> {
     })
 }
 
+jmh {
+    jmhVersion.set("1.35")
+}
+
 checkstyle {
     toolVersion = "9.1"
     configDirectory.set(File("checkstyle"))
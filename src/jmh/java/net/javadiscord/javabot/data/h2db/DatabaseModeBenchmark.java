@@ -0,0 +1,146 @@
+package net.javadiscord.javabot.data.h2db;
+
+import com.zaxxer.hikari.HikariDataSource;
+import net.javadiscord.javabot.data.config.SystemsConfig;
+import net.javadiscord.javabot.systems.help.dao.HelpAccountRepository;
+import net.javadiscord.javabot.systems.help.model.HelpAccount;
+import net.javadiscord.javabot.systems.moderation.warn.dao.WarnRepository;
+import net.javadiscord.javabot.systems.moderation.warn.model.Warn;
+import net.javadiscord.javabot.systems.moderation.warn.model.WarnSeverity;
+import org.h2.tools.DeleteDbFiles;
+import org.h2.tools.Server;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the latency of common repository calls with the database opened in-process
+ * and accessed through the loopback TCP server, as the bot did before.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DatabaseModeBenchmark {
+	private static final int USERS = 1000;
+
+	@Param({"embedded", "tcp"})
+	private String mode;
+
+	private Path dir;
+	private Server server;
+	private HikariDataSource dataSource;
+	private long userId;
+
+	/**
+	 * Creates a database with some warns and help accounts.
+	 *
+	 * @throws IOException  If the schema can't be loaded.
+	 * @throws SQLException If an error occurs.
+	 */
+	@Setup(Level.Trial)
+	public void setup() throws IOException, SQLException {
+		dir = Files.createTempDirectory("database-benchmark");
+		SystemsConfig.HikariConfig config = new SystemsConfig.HikariConfig();
+		if (mode.equals("tcp")) {
+			server = DbHelper.startTcpServer(0);
+			config.setJdbcUrl("jdbc:h2:tcp://localhost:" + server.getPort() + "/" + dir.resolve("java_bot"));
+		} else {
+			config.setJdbcUrl("jdbc:h2:file:" + dir.resolve("java_bot"));
+		}
+		dataSource = DbHelper.createDataSource(config);
+		DbHelper.initializeSchema(dataSource);
+		try (Connection con = dataSource.getConnection()) {
+			WarnRepository warns = new WarnRepository(con);
+			HelpAccountRepository accounts = new HelpAccountRepository(con);
+			for (long id = 0; id < USERS; id++) {
+				warns.insert(new Warn(id, 0, WarnSeverity.LOW, "Benchmark"));
+				HelpAccount account = new HelpAccount();
+				account.setUserId(id);
+				account.setExperience(id);
+				accounts.insert(account);
+			}
+		}
+	}
+
+	/**
+	 * Closes the database and deletes its files.
+	 */
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		dataSource.close();
+		if (server != null) {
+			server.stop();
+		}
+		DeleteDbFiles.execute(dir.toString(), null, true);
+	}
+
+	private long nextUserId() {
+		userId = (userId + 1) % USERS;
+		return userId;
+	}
+
+	/**
+	 * Looks up a help account, as done for every thanked helper.
+	 *
+	 * @return The account.
+	 * @throws SQLException If an error occurs.
+	 */
+	@Benchmark
+	public Optional<HelpAccount> helpAccountByUserId() throws SQLException {
+		try (Connection con = dataSource.getConnection()) {
+			return new HelpAccountRepository(con).getByUserId(nextUserId());
+		}
+	}
+
+	/**
+	 * Updates a help account, as done for every experience transaction.
+	 *
+	 * @throws SQLException If an error occurs.
+	 */
+	@Benchmark
+	public void helpAccountUpdate() throws SQLException {
+		try (Connection con = dataSource.getConnection()) {
+			HelpAccount account = new HelpAccount();
+			account.setUserId(nextUserId());
+			account.setExperience(userId + 1);
+			new HelpAccountRepository(con).update(account);
+		}
+	}
+
+	/**
+	 * Gets a page of the help experience leaderboard.
+	 *
+	 * @return The accounts.
+	 * @throws SQLException If an error occurs.
+	 */
+	@Benchmark
+	public List<HelpAccount> helpAccountPage() throws SQLException {
+		try (Connection con = dataSource.getConnection()) {
+			return new HelpAccountRepository(con).getAccounts(1, 10);
+		}
+	}
+
+	/**
+	 * Sums up the severity of a user's warns, as done for every new warn and profile.
+	 *
+	 * @return The total severity.
+	 * @throws SQLException If an error occurs.
+	 */
+	@Benchmark
+	public int warnTotalSeverityWeight() throws SQLException {
+		try (Connection con = dataSource.getConnection()) {
+			return new WarnRepository(con).getTotalSeverityWeight(nextUserId(), LocalDateTime.now().minusDays(30));
+		}
+	}
+}
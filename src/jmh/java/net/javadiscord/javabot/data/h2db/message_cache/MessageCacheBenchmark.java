@@ -0,0 +1,126 @@
+package net.javadiscord.javabot.data.h2db.message_cache;
+
+import net.javadiscord.javabot.data.h2db.message_cache.model.CachedMessage;
+import net.javadiscord.javabot.util.LongLinkedMap;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the {@link LongLinkedMap} which backs the {@link MessageCache} with the
+ * {@link ArrayList} it used before, for the operations the message cache listener
+ * performs: editing, deleting and caching a message (evicting the oldest one).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MessageCacheBenchmark {
+	@Param({"1000", "10000", "100000"})
+	private int size;
+
+	private List<CachedMessage> list;
+	private LongLinkedMap<CachedMessage> map;
+	private long nextId;
+
+	/**
+	 * Fills both caches with the same messages.
+	 */
+	@Setup(Level.Iteration)
+	public void setup() {
+		list = new ArrayList<>(size);
+		map = new LongLinkedMap<>(size);
+		for (nextId = 0; nextId < size; nextId++) {
+			CachedMessage message = message(nextId);
+			list.add(message);
+			map.put(nextId, message);
+		}
+	}
+
+	private static CachedMessage message(long id) {
+		CachedMessage message = new CachedMessage();
+		message.setMessageId(id);
+		message.setAuthorId(id % 100);
+		message.setMessageContent("Message " + id);
+		return message;
+	}
+
+	/**
+	 * Edits a message in the middle of the list, as the listener used to.
+	 *
+	 * @return The edited message.
+	 */
+	@Benchmark
+	public CachedMessage listUpdate() {
+		long id = nextId - size / 2;
+		Optional<CachedMessage> optional = list.stream().filter(m -> m.getMessageId() == id).findFirst();
+		optional.ifPresent(before -> list.set(list.indexOf(before), message(id)));
+		return optional.orElse(null);
+	}
+
+	/**
+	 * Edits a message in the middle of the map.
+	 *
+	 * @return The edited message.
+	 */
+	@Benchmark
+	public CachedMessage mapUpdate() {
+		long id = nextId - size / 2;
+		return map.put(id, message(id));
+	}
+
+	/**
+	 * Deletes a message in the middle of the list and caches a new one, as the listener used to.
+	 *
+	 * @return The deleted message.
+	 */
+	@Benchmark
+	public CachedMessage listDeleteAndCache() {
+		long id = nextId - size / 2;
+		Optional<CachedMessage> optional = list.stream().filter(m -> m.getMessageId() == id).findFirst();
+		optional.ifPresent(list::remove);
+		list.add(message(nextId++));
+		return optional.orElse(null);
+	}
+
+	/**
+	 * Deletes a message in the middle of the map and caches a new one.
+	 *
+	 * @return The deleted message.
+	 */
+	@Benchmark
+	public CachedMessage mapDeleteAndCache() {
+		CachedMessage removed = map.remove(nextId - size / 2);
+		map.put(nextId, message(nextId++));
+		return removed;
+	}
+
+	/**
+	 * Evicts the oldest message from the full list and caches a new one.
+	 *
+	 * @return The evicted message.
+	 */
+	@Benchmark
+	public CachedMessage listEvict() {
+		CachedMessage evicted = list.remove(0);
+		list.add(message(nextId++));
+		return evicted;
+	}
+
+	/**
+	 * Evicts the oldest message from the full map and caches a new one.
+	 *
+	 * @return The evicted message.
+	 */
+	@Benchmark
+	public CachedMessage mapEvict() {
+		CachedMessage evicted = map.removeOldest();
+		map.put(nextId, message(nextId++));
+		return evicted;
+	}
+}
@@ -0,0 +1,159 @@
+package net.javadiscord.javabot.data.h2db.message_cache;
+
+import net.javadiscord.javabot.data.config.SystemsConfig;
+import net.javadiscord.javabot.data.h2db.message_cache.index.CompressedMessageCacheIndex;
+import net.javadiscord.javabot.data.h2db.message_cache.index.HeapMessageCacheIndex;
+import net.javadiscord.javabot.data.h2db.message_cache.index.MessageCacheIndex;
+import net.javadiscord.javabot.data.h2db.message_cache.model.CachedMessage;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.IterationParams;
+import org.openjdk.jmh.runner.IterationType;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares holding the content of cached messages on the heap with holding it
+ * compressed off-heap, for caching a message (evicting the oldest one) and for
+ * reading a message when it is logged. The memory used per message is reported
+ * along with each score, as the secondary results of {@link Memory}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MessageContentStorageBenchmark {
+	private static final String[] WORDS = {
+			"the", "a", "is", "it", "to", "you", "I", "and", "that", "this", "what", "how", "why", "can", "does",
+			"anyone", "know", "help", "please", "thanks", "error", "method", "class", "object", "array", "list",
+			"null", "exception", "compile", "run", "code", "Java", "String", "int", "static", "return", "loop",
+			"works", "doesn't", "work", "should", "use", "try", "instead", "lol", "yeah", "ok", "nice", "idea"
+	};
+	private static final String[] SNIPPETS = {
+			"```java\nfor (int i = 0; i < list.size(); i++) {\n\tSystem.out.println(list.get(i));\n}\n```",
+			"https://docs.oracle.com/en/java/javase/17/docs/api/java.base/java/util/List.html",
+			"Exception in thread \"main\" java.lang.NullPointerException: Cannot invoke \"String.length()\" because \"s\" is null",
+			"<@123456789012345678> have you tried that?"
+	};
+
+	@Param({"100000"})
+	private int size;
+
+	@Param({"HEAP", "COMPRESSED_OFF_HEAP"})
+	private SystemsConfig.MessageCacheStoreConfig.ContentStorage storage;
+
+	private MessageCacheIndex index;
+	private Random random;
+	private long nextId;
+	private double rawBytesPerMessage;
+	private double heapBytesPerMessage;
+
+	/**
+	 * Fills the index with generated chat messages, measuring how much heap the index retains.
+	 * This includes everything the index holds on to, like its map's arrays and boxed handles.
+	 */
+	@Setup(Level.Trial)
+	public void setup() {
+		random = new Random(42);
+		index = switch (storage) {
+			case HEAP -> new HeapMessageCacheIndex();
+			case COMPRESSED_OFF_HEAP -> new CompressedMessageCacheIndex(1024 * 1024);
+		};
+		long raw = 0;
+		long heapBefore = usedHeap();
+		for (nextId = 0; nextId < size; nextId++) {
+			CachedMessage message = message(nextId);
+			raw += message.getMessageContent().getBytes(StandardCharsets.UTF_8).length;
+			index.put(message);
+		}
+		heapBytesPerMessage = (double) (usedHeap() - heapBefore) / size;
+		rawBytesPerMessage = (double) raw / size;
+	}
+
+	private static long usedHeap() {
+		for (int i = 0; i < 3; i++) {
+			System.gc();
+		}
+		Runtime runtime = Runtime.getRuntime();
+		return runtime.totalMemory() - runtime.freeMemory();
+	}
+
+	private CachedMessage message(long id) {
+		StringBuilder content = new StringBuilder();
+		int words = 1 + random.nextInt(24);
+		for (int i = 0; i < words; i++) {
+			if (i > 0) content.append(' ');
+			content.append(WORDS[random.nextInt(WORDS.length)]);
+		}
+		if (random.nextInt(8) == 0) {
+			content.append('\n').append(SNIPPETS[random.nextInt(SNIPPETS.length)]);
+		}
+		CachedMessage message = new CachedMessage();
+		message.setMessageId(id);
+		message.setAuthorId(random.nextInt(5000));
+		message.setMessageContent(content.toString());
+		return message;
+	}
+
+	/**
+	 * Caches a new message, evicting the oldest one.
+	 *
+	 * @param memory Reports the memory used per message.
+	 * @return The evicted message's id.
+	 */
+	@Benchmark
+	public long cacheAndEvict(Memory memory) {
+		index.put(message(nextId++));
+		return index.removeOldest();
+	}
+
+	/**
+	 * Reads a message, as it is done when an edit or deletion is logged.
+	 *
+	 * @param memory Reports the memory used per message.
+	 * @return The message.
+	 */
+	@Benchmark
+	public CachedMessage read(Memory memory) {
+		return index.get(nextId - 1 - random.nextInt(size));
+	}
+
+	/**
+	 * The memory used per cached message, reported as secondary results. JMH sums event counters
+	 * over all measurement iterations, so they are only set for the last one.
+	 */
+	@State(Scope.Thread)
+	@AuxCounters(AuxCounters.Type.EVENTS)
+	public static class Memory {
+		/**
+		 * The length of a message's content, encoded as UTF-8.
+		 */
+		public double rawBytesPerMessage;
+		/**
+		 * The heap retained by the index, including the content if it's stored on the heap.
+		 */
+		public double heapBytesPerMessage;
+		/**
+		 * The off-heap memory allocated by the index.
+		 */
+		public double offHeapBytesPerMessage;
+		private int measurementIterations;
+
+		/**
+		 * Sets the counters from the benchmark's index, if this is the last measurement iteration.
+		 *
+		 * @param benchmark The benchmark's state.
+		 * @param params    The iteration's parameters.
+		 */
+		@Setup(Level.Iteration)
+		public void measure(MessageContentStorageBenchmark benchmark, IterationParams params) {
+			boolean last = params.getType() == IterationType.MEASUREMENT && ++measurementIterations == params.getCount();
+			rawBytesPerMessage = last ? benchmark.rawBytesPerMessage : 0;
+			heapBytesPerMessage = last ? benchmark.heapBytesPerMessage : 0;
+			offHeapBytesPerMessage = last ? (double) benchmark.index.getOffHeapBytes() / benchmark.index.size() : 0;
+		}
+	}
+}
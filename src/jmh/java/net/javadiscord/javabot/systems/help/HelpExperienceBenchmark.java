@@ -0,0 +1,167 @@
+package net.javadiscord.javabot.systems.help;
+
+import net.dv8tion.jda.api.MessageBuilder;
+import net.dv8tion.jda.api.entities.Message;
+import net.javadiscord.javabot.data.config.guild.HelpConfig;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.IterationParams;
+import org.openjdk.jmh.runner.IterationType;
+
+import java.lang.ref.Reference;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares keeping every message of a help session in a list, as the help channel listener did
+ * before, with accumulating the experience of each author as the messages are received. The heap
+ * retained per session is reported along with each score, as the secondary result of {@link Memory}.
+ * <p>
+ * The messages are built with a {@link MessageBuilder}, which holds less data than a message
+ * received from Discord, so the retained size of the message list is a lower bound.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HelpExperienceBenchmark {
+	private static final long OWNER = 0;
+	private static final int HELPERS = 5;
+	private static final int RETAINED_SESSIONS = 200;
+	private static final String[] WORDS = {
+			"the", "a", "is", "it", "to", "you", "I", "and", "that", "this", "what", "how", "why", "can", "does",
+			"method", "class", "object", "array", "list", "null", "exception", "compile", "String", "static"
+	};
+
+	@Param({"500"})
+	private int messages;
+
+	@Param({"MESSAGE_LIST", "ACCUMULATOR"})
+	private String mode;
+
+	private HelpConfig config;
+	private long[] authors;
+	private String[] contents;
+	private Message[] session;
+	private double retainedBytesPerSession;
+
+	/**
+	 * Generates the messages of a help session, and measures how much heap a session retains.
+	 */
+	@Setup(Level.Trial)
+	public void setup() {
+		Random random = new Random(42);
+		config = new HelpConfig();
+		authors = new long[messages];
+		contents = new String[messages];
+		for (int i = 0; i < messages; i++) {
+			authors[i] = random.nextInt(HELPERS + 1);
+			StringBuilder content = new StringBuilder();
+			int words = 1 + random.nextInt(30);
+			for (int w = 0; w < words; w++) {
+				content.append(WORDS[random.nextInt(WORDS.length)]).append(' ');
+			}
+			contents[i] = content.toString();
+		}
+		session = newSession();
+		Object[] sessions = new Object[RETAINED_SESSIONS];
+		long before = usedHeap();
+		for (int i = 0; i < sessions.length; i++) {
+			sessions[i] = mode.equals("MESSAGE_LIST") ? messageList(newSession()) : accumulator();
+		}
+		retainedBytesPerSession = (double) (usedHeap() - before) / sessions.length;
+		// the sessions must not be collected before the heap is measured
+		Reference.reachabilityFence(sessions);
+	}
+
+	private Message[] newSession() {
+		Message[] session = new Message[contents.length];
+		for (int i = 0; i < contents.length; i++) {
+			session[i] = new MessageBuilder(contents[i]).build();
+		}
+		return session;
+	}
+
+	private static long usedHeap() {
+		for (int i = 0; i < 3; i++) {
+			System.gc();
+		}
+		Runtime runtime = Runtime.getRuntime();
+		return runtime.totalMemory() - runtime.freeMemory();
+	}
+
+	/**
+	 * Keeps the messages of a session, copying the list for every new message, like the listener did before.
+	 *
+	 * @param session The messages of the session.
+	 * @return The messages, mapped by the reservation id.
+	 */
+	public Map<Long, List<Message>> messageList(Message[] session) {
+		Map<Long, List<Message>> reservationMessages = new HashMap<>();
+		for (Message message : session) {
+			List<Message> list = new ArrayList<>();
+			list.add(message);
+			if (reservationMessages.containsKey(1L)) {
+				list.addAll(reservationMessages.get(1L));
+			}
+			reservationMessages.put(1L, list);
+		}
+		return reservationMessages;
+	}
+
+	/**
+	 * Accumulates the experience of a session as its messages are received.
+	 *
+	 * @return The accumulator.
+	 */
+	public HelpExperienceAccumulator accumulator() {
+		HelpExperienceAccumulator accumulator = new HelpExperienceAccumulator(OWNER, config);
+		for (int i = 0; i < contents.length; i++) {
+			accumulator.add(authors[i], contents[i]);
+		}
+		return accumulator;
+	}
+
+	/**
+	 * Receives all messages of a help session.
+	 *
+	 * @param memory Reports the heap retained per session.
+	 * @return The session's state.
+	 */
+	@Benchmark
+	public Object receiveSession(Memory memory) {
+		return mode.equals("MESSAGE_LIST") ? messageList(session) : accumulator();
+	}
+
+	/**
+	 * The heap retained per help session, reported as a secondary result. JMH sums event counters
+	 * over all measurement iterations, so it is only set for the last one.
+	 */
+	@State(Scope.Thread)
+	@AuxCounters(AuxCounters.Type.EVENTS)
+	public static class Memory {
+		/**
+		 * The heap retained by a single help session, including its messages.
+		 */
+		public double retainedBytesPerSession;
+		private int measurementIterations;
+
+		/**
+		 * Sets the counter from the benchmark's measurement, if this is the last measurement iteration.
+		 *
+		 * @param benchmark The benchmark's state.
+		 * @param params    The iteration's parameters.
+		 */
+		@Setup(Level.Iteration)
+		public void measure(HelpExperienceBenchmark benchmark, IterationParams params) {
+			boolean last = params.getType() == IterationType.MEASUREMENT && ++measurementIterations == params.getCount();
+			retainedBytesPerSession = last ? benchmark.retainedBytesPerSession : 0;
+		}
+	}
+}
@@ -0,0 +1,85 @@
+package net.javadiscord.javabot.systems.moderation.automod;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares looking up hosts in the {@link DomainIndex} with the plain {@link List}
+ * lookup that AutoMod used before. The bundled <code>spamLinks.txt</code> is padded
+ * with generated domains to reach the size of the upstream scam list.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DomainIndexBenchmark {
+	@Param({"5000", "25000", "50000"})
+	private int size;
+
+	private List<String> list;
+	private DomainIndex index;
+	private String[] hosts;
+
+	/**
+	 * Loads the bundled scam list and builds both lookup structures.
+	 *
+	 * @throws IOException If the bundled list cannot be read.
+	 */
+	@Setup
+	public void setup() throws IOException {
+		List<String> domains = new ArrayList<>(size);
+		try (InputStream is = DomainIndexBenchmark.class.getResourceAsStream("/spamLinks.txt")) {
+			if (is == null) throw new IOException("Could not load spamLinks.txt");
+			new String(is.readAllBytes(), StandardCharsets.UTF_8).lines()
+					.filter(line -> !line.isBlank())
+					.limit(size)
+					.forEach(domains::add);
+		}
+		for (int i = domains.size(); i < size; i++) {
+			domains.add("generated-scam-domain-" + i + ".com");
+		}
+		list = List.copyOf(domains);
+		index = new DomainIndex(domains);
+		hosts = new String[]{
+				"github.com",
+				"docs.oracle.com",
+				"discord.com",
+				list.get(list.size() / 2),
+				"free." + list.get(list.size() - 1),
+				"www.youtube.com"
+		};
+	}
+
+	/**
+	 * Looks up all sample hosts in the plain list, as AutoMod used to do.
+	 *
+	 * @param bh The {@link Blackhole} which consumes the results.
+	 */
+	@Benchmark
+	public void listContains(Blackhole bh) {
+		for (String host : hosts) {
+			bh.consume(list.contains(host));
+		}
+	}
+
+	/**
+	 * Looks up all sample hosts, including their parent domains, in the {@link DomainIndex}.
+	 *
+	 * @param bh The {@link Blackhole} which consumes the results.
+	 */
+	@Benchmark
+	public void domainIndexContains(Blackhole bh) {
+		for (String host : hosts) {
+			bh.consume(index.contains(host));
+		}
+	}
+}
@@ -0,0 +1,52 @@
+package net.javadiscord.javabot.util.scanner;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Messages which are crafted to cause excessive backtracking in the patterns
+ * that were used to scan messages, scaled to a given length.
+ */
+public enum AdversarialCorpus {
+	/**
+	 * A GitHub link with a long path and no line number, which the old
+	 * GitHub link pattern needed super-linear time to reject.
+	 */
+	GITHUB_PATH("https://github.com/a/b/blob/", "a/", ".b"),
+	/**
+	 * A GitHub link consisting of many short path segments.
+	 */
+	GITHUB_SEGMENTS("https://github.com/a/b/blob/", "/x", "/x"),
+	/**
+	 * A link with a huge amount of labels, followed by a control character.
+	 */
+	URL_LABELS("http://", "a.", "a.\u0000"),
+	/**
+	 * Many invites without any separators.
+	 */
+	INVITES("", "discord.gg/", "discordapp.com/"),
+	/**
+	 * Many almost-matching watched keywords.
+	 */
+	KEYWORDS("", "fuc", "fu ck");
+
+	private final String prefix;
+	private final String first;
+	private final String second;
+
+	AdversarialCorpus(String prefix, String first, String second) {
+		this.prefix = prefix;
+		this.first = first;
+		this.second = second;
+	}
+
+	/**
+	 * Builds a message of roughly the given length.
+	 *
+	 * @param length The message's length.
+	 * @return The message.
+	 */
+	public @NotNull String build(int length) {
+		int half = Math.max(0, length - prefix.length()) / 2;
+		return prefix + first.repeat(half / first.length()) + second.repeat(half / second.length());
+	}
+}
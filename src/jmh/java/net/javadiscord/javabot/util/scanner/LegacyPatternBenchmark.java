@@ -0,0 +1,64 @@
+package net.javadiscord.javabot.util.scanner;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Measures the backtracking <code>java.util.regex</code> patterns that were used
+ * to scan messages before, on the same {@link AdversarialCorpus}, for comparison
+ * with the {@link MessageScannerBenchmark}. The lengths are kept small, as the
+ * GitHub link pattern already takes seconds for a few thousand characters.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(1)
+public class LegacyPatternBenchmark {
+	private static final Pattern URL_PATTERN = Pattern.compile(
+			"(?:^|[\\W])((ht|f)tp(s?)://|www\\.)"
+					+ "(([\\w\\-]+\\.)+?([\\w\\-.~]+/?)*"
+					+ "[\\p{Alnum}.,%_=?&#\\-+()\\[\\]*$~@!:/{};']*)",
+			Pattern.CASE_INSENSITIVE | Pattern.MULTILINE | Pattern.DOTALL);
+	private static final Pattern INVITE_URL = Pattern.compile("discord(?:(\\.(?:me|io|gg)|sites\\.com)/.{0,4}|app\\.com.{1,4}(?:invite|oauth2).{0,5}/)\\w+");
+	private static final Pattern GITHUB_LINK_PATTERN = Pattern.compile("https:?//github\\.com/([A-Za-z0-9\\-_.]+)/([A-Za-z0-9\\-_.]+)/(?:blob|tree)/(\\S+?)/(\\S+?)(\\.\\S+)?#L(\\d+)[-~]?L?(\\d*)");
+	private static final Pattern MESSAGE_URL_PATTERN = Pattern.compile("https://((?:canary|ptb)\\.)?discord.com/channels/[0-9]+/[0-9]+/[0-9]+");
+
+	@Param({"250", "500", "1000", "2000"})
+	private int length;
+
+	@Param
+	private AdversarialCorpus corpus;
+
+	private String message;
+
+	/**
+	 * Builds the message of the current corpus and length.
+	 */
+	@Setup
+	public void setup() {
+		message = corpus.build(length);
+	}
+
+	/**
+	 * Runs all legacy patterns over the message, like the listeners used to.
+	 *
+	 * @return The amount of matches, so that the work isn't optimized away.
+	 */
+	@Benchmark
+	public int scan() {
+		int matches = 0;
+		for (Pattern pattern : new Pattern[]{URL_PATTERN, INVITE_URL, GITHUB_LINK_PATTERN, MESSAGE_URL_PATTERN}) {
+			Matcher matcher = pattern.matcher(message);
+			while (matcher.find()) {
+				matches++;
+			}
+		}
+		matches += message.toLowerCase().contains("fuck") ? 1 : 0;
+		return matches;
+	}
+}
@@ -0,0 +1,46 @@
+package net.javadiscord.javabot.util.scanner;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how long the {@link MessageScanner} takes for every message of the
+ * {@link AdversarialCorpus}. As all patterns run in linear time, doubling the
+ * message length should roughly double the time, for every corpus.
+ *
+ * @see LegacyPatternBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MessageScannerBenchmark {
+	@Param({"1000", "2000", "4000", "8000"})
+	private int length;
+
+	@Param
+	private AdversarialCorpus corpus;
+
+	private String message;
+
+	/**
+	 * Builds the message of the current corpus and length.
+	 */
+	@Setup
+	public void setup() {
+		message = corpus.build(length);
+	}
+
+	/**
+	 * Scans the message with the {@link MessageScanner}.
+	 *
+	 * @return The {@link MessageAnalysis}, so that the work isn't optimized away.
+	 */
+	@Benchmark
+	public MessageAnalysis scan() {
+		return MessageScanner.scan(message);
+	}
+}
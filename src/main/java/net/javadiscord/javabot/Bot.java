@@ -20,6 +20,7 @@ import net.dv8tion.jda.api.utils.ChunkingFilter;
 import net.dv8tion.jda.api.utils.MemberCachePolicy;
 import net.dv8tion.jda.api.utils.cache.CacheFlag;
 import net.javadiscord.javabot.data.config.BotConfig;
+import net.javadiscord.javabot.data.h2db.DbExecutor;
 import net.javadiscord.javabot.data.h2db.DbHelper;
 import net.javadiscord.javabot.data.h2db.commands.QuickMigrateSubcommand;
 import net.javadiscord.javabot.data.h2db.message_cache.MessageCache;
@@ -61,6 +62,7 @@ import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
 import java.util.TimeZone;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 
@@ -96,6 +98,12 @@ public class Bot {
 	@Getter
 	private static ScheduledExecutorService asyncPool;
 
+	@Getter
+	private static ExecutorService blockingPool;
+
+	@Getter
+	private static DbExecutor dbExecutor;
+
 	/**
 	 * The constructor of this class, which also adds all {@link SlashCommand} and
 	 * {@link ContextCommand} to the {@link DIH4JDA} instance.
@@ -136,6 +144,13 @@ public class Bot {
 		config = new BotConfig(Path.of("config"));
 		dataSource = DbHelper.initDataSource(config);
 		asyncPool = Executors.newScheduledThreadPool(config.getSystems().getAsyncPoolSize());
+		if (config.getSystems().isDedicatedExecutors()) {
+			blockingPool = Executors.newFixedThreadPool(config.getSystems().getBlockingPoolSize());
+			dbExecutor = DbExecutor.dedicated(config.getSystems().getHikariConfig().getMaximumPoolSize());
+		} else {
+			blockingPool = asyncPool;
+			dbExecutor = DbExecutor.shared(asyncPool);
+		}
 		autoMod = new AutoMod();
 		JDA jda = JDABuilder.createDefault(config.getSystems().getJdaBotToken())
 				.setStatus(OnlineStatus.DO_NOT_DISTURB)
@@ -152,7 +167,7 @@ public class Bot {
 				.disableAutomaticCommandRegistration()
 				.build();
 		customTagManager = new CustomTagManager(jda, dataSource);
-		messageCache = new MessageCache();
+		messageCache = new MessageCache(config.getSystems().getMessageCacheStoreConfig());
 		serverLockManager = new ServerLockManager(jda);
 		addEventListeners(jda, dih4jda);
 		addComponentHandler(dih4jda);
@@ -0,0 +1,96 @@
+package net.javadiscord.javabot.api.routes.automod;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import net.dv8tion.jda.api.JDA;
+import net.dv8tion.jda.api.entities.Guild;
+import net.javadiscord.javabot.Bot;
+import net.javadiscord.javabot.api.exception.InvalidEntityIdException;
+import net.javadiscord.javabot.api.routes.automod.model.AutoModRuleData;
+import net.javadiscord.javabot.api.routes.automod.model.CacheStatsData;
+import net.javadiscord.javabot.systems.moderation.automod.AutoModEngine;
+import net.javadiscord.javabot.systems.moderation.automod.AutoModRule;
+import net.javadiscord.javabot.systems.moderation.automod.RuleStatistics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * Handles all GET-Requests on the guilds/{guild_id}/automod/rules/ and automod/verdicts/ routes.
+ */
+@RestController
+public class AutoModRuleController {
+	private final JDA jda;
+
+	/**
+	 * The constructor of this class.
+	 *
+	 * @param jda The {@link Autowired} {@link JDA} instance to use.
+	 */
+	@Autowired
+	public AutoModRuleController(final JDA jda) {
+		this.jda = jda;
+	}
+
+	/**
+	 * Serves all AutoMod rules in the order they are run in for the specified guild,
+	 * followed by the disabled ones, along with their statistics. The statistics are
+	 * not cached, as they are cheap to collect.
+	 *
+	 * @param guildId The guilds' id.
+	 * @return The {@link ResponseEntity}.
+	 */
+	@GetMapping("guilds/{guild_id}/automod/rules")
+	public ResponseEntity<List<AutoModRuleData>> getRules(@PathVariable("guild_id") long guildId) {
+		Guild guild = jda.getGuildById(guildId);
+		if (guild == null) {
+			throw new InvalidEntityIdException(Guild.class, "You've provided an invalid guild id!");
+		}
+		AutoModEngine engine = Bot.getAutoMod().getEngine();
+		List<AutoModRule> enabled = engine.getRules(Bot.getConfig().get(guild).getModerationConfig());
+		List<AutoModRuleData> rules = engine.getAllRules().values().stream()
+				.sorted((a, b) -> Integer.compare(order(enabled, a), order(enabled, b)))
+				.map(rule -> buildData(rule, engine.getStatistics(rule.getName()), enabled.contains(rule)))
+				.toList();
+		return new ResponseEntity<>(rules, HttpStatus.OK);
+	}
+
+	/**
+	 * Serves the statistics of the cache which holds AutoMod's verdicts, which
+	 * shows how often listeners reuse a message's first evaluation.
+	 *
+	 * @return The {@link ResponseEntity}.
+	 */
+	@GetMapping("automod/verdicts")
+	public ResponseEntity<CacheStatsData> getVerdictCacheStats() {
+		CacheStats stats = Bot.getAutoMod().getVerdicts().getStats();
+		CacheStatsData data = new CacheStatsData();
+		data.setHitCount(stats.hitCount());
+		data.setMissCount(stats.missCount());
+		data.setHitRate(stats.hitRate());
+		data.setEvictionCount(stats.evictionCount());
+		return new ResponseEntity<>(data, HttpStatus.OK);
+	}
+
+	private int order(List<AutoModRule> enabled, AutoModRule rule) {
+		int index = enabled.indexOf(rule);
+		return index < 0 ? Integer.MAX_VALUE : index;
+	}
+
+	private AutoModRuleData buildData(AutoModRule rule, RuleStatistics statistics, boolean enabled) {
+		AutoModRuleData data = new AutoModRuleData();
+		data.setName(rule.getName());
+		data.setCost(rule.getCost());
+		data.setTerminal(rule.isTerminal());
+		data.setEnabled(enabled);
+		data.setExecutions(statistics.getExecutions());
+		data.setHits(statistics.getHits());
+		data.setTotalNanos(statistics.getTotalNanos());
+		data.setAverageNanos(statistics.getExecutions() == 0 ? 0 : statistics.getTotalNanos() / statistics.getExecutions());
+		return data;
+	}
+}
@@ -0,0 +1,20 @@
+package net.javadiscord.javabot.api.routes.automod.model;
+
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+
+/**
+ * API-Data class which contains the statistics of a single AutoMod rule.
+ */
+@Data
+@EqualsAndHashCode(callSuper = false)
+public class AutoModRuleData {
+	private String name;
+	private int cost;
+	private boolean terminal;
+	private boolean enabled;
+	private long executions;
+	private long hits;
+	private long totalNanos;
+	private long averageNanos;
+}
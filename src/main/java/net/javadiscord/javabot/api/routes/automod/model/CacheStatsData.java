@@ -0,0 +1,16 @@
+package net.javadiscord.javabot.api.routes.automod.model;
+
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+
+/**
+ * API-Data class which contains the statistics of a cache.
+ */
+@Data
+@EqualsAndHashCode(callSuper = false)
+public class CacheStatsData {
+	private long hitCount;
+	private long missCount;
+	private double hitRate;
+	private long evictionCount;
+}
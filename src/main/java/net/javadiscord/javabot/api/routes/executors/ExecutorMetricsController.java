@@ -0,0 +1,42 @@
+package net.javadiscord.javabot.api.routes.executors;
+
+import net.javadiscord.javabot.Bot;
+import net.javadiscord.javabot.api.routes.executors.model.ExecutorMetricsData;
+import net.javadiscord.javabot.data.h2db.DbExecutor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Handles all GET-Requests on the executors/ route.
+ */
+@RestController
+public class ExecutorMetricsController {
+	/**
+	 * Serves the queue metrics of the bot's executors, so that running with and
+	 * without dedicated executors can be compared.
+	 *
+	 * @return The {@link ResponseEntity}.
+	 */
+	@GetMapping("executors")
+	public ResponseEntity<ExecutorMetricsData> getExecutorMetrics() {
+		DbExecutor dbExecutor = Bot.getDbExecutor();
+		ExecutorMetricsData data = new ExecutorMetricsData();
+		data.setDedicatedExecutors(dbExecutor.isDedicated());
+		data.setDbQueueDepth(dbExecutor.getQueueDepth());
+		data.setDbActiveCount(dbExecutor.getActiveCount());
+		data.setDbCompletedCount(dbExecutor.getCompletedCount());
+		data.setDbAverageWaitMillis(dbExecutor.getAverageWaitMillis());
+		data.setAsyncPoolQueueDepth(getQueueDepth(Bot.getAsyncPool()));
+		data.setBlockingPoolQueueDepth(getQueueDepth(Bot.getBlockingPool()));
+		return new ResponseEntity<>(data, HttpStatus.OK);
+	}
+
+	private int getQueueDepth(ExecutorService executor) {
+		return executor instanceof ThreadPoolExecutor pool ? pool.getQueue().size() : -1;
+	}
+}
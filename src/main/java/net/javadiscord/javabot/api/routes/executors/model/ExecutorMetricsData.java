@@ -0,0 +1,19 @@
+package net.javadiscord.javabot.api.routes.executors.model;
+
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+
+/**
+ * API-Data class which contains the queue metrics of the bot's executors.
+ */
+@Data
+@EqualsAndHashCode(callSuper = false)
+public class ExecutorMetricsData {
+	private boolean dedicatedExecutors;
+	private int dbQueueDepth;
+	private int dbActiveCount;
+	private long dbCompletedCount;
+	private double dbAverageWaitMillis;
+	private int asyncPoolQueueDepth;
+	private int blockingPoolQueueDepth;
+}
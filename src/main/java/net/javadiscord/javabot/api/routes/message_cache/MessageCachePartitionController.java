@@ -0,0 +1,67 @@
+package net.javadiscord.javabot.api.routes.message_cache;
+
+import net.dv8tion.jda.api.JDA;
+import net.dv8tion.jda.api.entities.Guild;
+import net.javadiscord.javabot.Bot;
+import net.javadiscord.javabot.api.exception.InvalidEntityIdException;
+import net.javadiscord.javabot.api.routes.message_cache.model.MessageCachePartitionData;
+import net.javadiscord.javabot.data.h2db.message_cache.MessageCachePartition;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * Handles all GET-Requests on the guilds/{guild_id}/message-cache/partitions/ route.
+ */
+@RestController
+public class MessageCachePartitionController {
+	private final JDA jda;
+
+	/**
+	 * The constructor of this class.
+	 *
+	 * @param jda The {@link Autowired} {@link JDA} instance to use.
+	 */
+	@Autowired
+	public MessageCachePartitionController(final JDA jda) {
+		this.jda = jda;
+	}
+
+	/**
+	 * Serves the statistics of all message cache partitions of the specified guild,
+	 * heaviest first. A channel id of 0 stands for the partition of the whole guild.
+	 *
+	 * @param guildId The guilds' id.
+	 * @return The {@link ResponseEntity}.
+	 */
+	@GetMapping("guilds/{guild_id}/message-cache/partitions")
+	public ResponseEntity<List<MessageCachePartitionData>> getPartitions(@PathVariable("guild_id") long guildId) {
+		Guild guild = jda.getGuildById(guildId);
+		if (guild == null) {
+			throw new InvalidEntityIdException(Guild.class, "You've provided an invalid guild id!");
+		}
+		List<MessageCachePartitionData> partitions = Bot.getMessageCache().getPartitionStatistics(guildId).stream()
+				.sorted((a, b) -> Long.compare(b.weight(), a.weight()))
+				.map(this::buildData)
+				.toList();
+		return new ResponseEntity<>(partitions, HttpStatus.OK);
+	}
+
+	private MessageCachePartitionData buildData(MessageCachePartition.Statistics statistics) {
+		MessageCachePartitionData data = new MessageCachePartitionData();
+		data.setChannelId(statistics.channelId());
+		data.setSize(statistics.size());
+		data.setWeight(statistics.weight());
+		data.setHits(statistics.hits());
+		data.setMisses(statistics.misses());
+		long requests = statistics.hits() + statistics.misses();
+		data.setHitRate(requests == 0 ? 1 : (double) statistics.hits() / requests);
+		data.setEvictions(statistics.evictions());
+		return data;
+	}
+}
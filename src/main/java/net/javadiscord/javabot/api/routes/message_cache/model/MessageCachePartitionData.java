@@ -0,0 +1,19 @@
+package net.javadiscord.javabot.api.routes.message_cache.model;
+
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+
+/**
+ * API-Data class which contains the statistics of a single message cache partition.
+ */
+@Data
+@EqualsAndHashCode(callSuper = false)
+public class MessageCachePartitionData {
+	private long channelId;
+	private int size;
+	private long weight;
+	private long hits;
+	private long misses;
+	private double hitRate;
+	private long evictions;
+}
@@ -32,10 +32,25 @@ public class SystemsConfig {
 
 	/**
 	 * The number of threads to allocate to the bot's general purpose async
-	 * thread pool.
+	 * thread pool. If {@link SystemsConfig#dedicatedExecutors} is enabled, this
+	 * pool only runs scheduled tasks.
 	 */
 	private int asyncPoolSize = 4;
 
+	/**
+	 * Whether database actions and other blocking work (like purges or rendering
+	 * leaderboards) should run on their own executors, instead of sharing the
+	 * general purpose async thread pool. The database executor always has as
+	 * many threads as the connection pool has connections.
+	 */
+	private boolean dedicatedExecutors = true;
+
+	/**
+	 * The number of threads to allocate to the pool for blocking work which
+	 * doesn't use the database, if {@link SystemsConfig#dedicatedExecutors} is enabled.
+	 */
+	private int blockingPoolSize = 4;
+
 	/**
 	 * Configuration for the Hikari connection pool that's used for the bot's
 	 * SQL data source.
@@ -47,6 +62,16 @@ public class SystemsConfig {
 	 */
 	private ApiConfig apiConfig = new ApiConfig();
 
+	/**
+	 * Configuration settings for the list of scam domains which AutoMod uses.
+	 */
+	private ScamListConfig scamListConfig = new ScamListConfig();
+
+	/**
+	 * Configuration settings for how the message cache is held in memory and persisted.
+	 */
+	private MessageCacheStoreConfig messageCacheStoreConfig = new MessageCacheStoreConfig();
+
 	/**
 	 * Configuration settings for certain commands which need an extra layer of
 	 * security.
@@ -74,9 +99,139 @@ public class SystemsConfig {
 	 */
 	@Data
 	public static class HikariConfig {
-		private String jdbcUrl = "jdbc:h2:tcp://localhost:9122/./java_bot";
+		/**
+		 * The JDBC url of the database. By default, the database is opened in-process.
+		 * A <code>jdbc:h2:tcp://localhost:port/</code> url is served by the bot's own TCP server.
+		 */
+		private String jdbcUrl = "jdbc:h2:file:./java_bot";
 		private int maximumPoolSize = 5;
 		private long leakDetectionThreshold = 10000;
+
+		/**
+		 * Whether a TCP server should be started, so that the database can be accessed
+		 * by admin or debugging tools while the bot is running. It is always started if
+		 * the {@link HikariConfig#jdbcUrl} points to it.
+		 */
+		private boolean tcpServerEnabled = false;
+
+		/**
+		 * The port of the TCP server, unless the {@link HikariConfig#jdbcUrl} points
+		 * to a server on localhost, whose port is used instead.
+		 */
+		private int tcpServerPort = 9122;
+
+		/**
+		 * The amount of parsed statements H2 keeps per connection, so that named
+		 * queries which are prepared again on the same connection are not parsed again.
+		 * This is only applied if the JDBC url doesn't set <code>QUERY_CACHE_SIZE</code> itself.
+		 */
+		private int queryCacheSize = 64;
+	}
+
+	/**
+	 * Configuration settings for the list of scam domains which AutoMod uses.
+	 */
+	@Data
+	public static class ScamListConfig {
+		/**
+		 * The url of the newline-separated list of scam domains. This may also
+		 * point to a local file, using the <code>file:</code> scheme.
+		 */
+		private String url = "https://raw.githubusercontent.com/DevSpen/scam-links/master/src/links.txt";
+
+		/**
+		 * The file in which the most recently fetched list is stored, so that it
+		 * is available right away on the next startup.
+		 */
+		private String snapshotFile = "scam_links.txt";
+
+		/**
+		 * The amount of minutes between refreshes of the list.
+		 */
+		private long refreshIntervalMinutes = 60;
+	}
+
+	/**
+	 * Configuration settings for how the message cache is held in memory and persisted. Since all
+	 * guilds share a single message cache, which is loaded before any guild
+	 * config, this isn't part of the guild's message cache config.
+	 */
+	@Data
+	public static class MessageCacheStoreConfig {
+		/**
+		 * The backend which stores the cached messages.
+		 */
+		private Backend backend = Backend.H2;
+
+		/**
+		 * The directory which contains the log segments, if the {@link Backend#MAPPED_LOG} backend is used.
+		 */
+		private String logDirectory = "message_cache";
+
+		/**
+		 * The size of a single log segment in bytes.
+		 */
+		private int segmentSize = 4 * 1024 * 1024;
+
+		/**
+		 * The share of the log which has to consist of edited or deleted messages
+		 * before it is compacted.
+		 */
+		private double compactionThreshold = 0.5;
+
+		/**
+		 * The maximum total weight of all cached messages, across all guilds. A
+		 * message's weight is the length of its content, plus 64 for the rest of it.
+		 * Once the weight is exceeded, the oldest messages of the heaviest guilds
+		 * or channels are evicted.
+		 */
+		private long maxWeight = 64L * 1024 * 1024;
+
+		/**
+		 * The amount of stored messages which are read at once while the cache
+		 * is warmed up after startup.
+		 */
+		private int warmUpBatchSize = 500;
+
+		/**
+		 * Where the content of cached messages is held in memory.
+		 */
+		private ContentStorage contentStorage = ContentStorage.HEAP;
+
+		/**
+		 * The size of a single off-heap slab in bytes, if the {@link ContentStorage#COMPRESSED_OFF_HEAP}
+		 * storage is used.
+		 */
+		private int slabSize = 1024 * 1024;
+
+		/**
+		 * All backends which can store the message cache.
+		 */
+		public enum Backend {
+			/**
+			 * Stores cached messages in the bot's database.
+			 */
+			H2,
+			/**
+			 * Stores cached messages in an append-only, memory-mapped log.
+			 */
+			MAPPED_LOG
+		}
+
+		/**
+		 * All ways in which the content of cached messages can be held in memory.
+		 */
+		public enum ContentStorage {
+			/**
+			 * Holds the content as strings on the heap.
+			 */
+			HEAP,
+			/**
+			 * Holds the content compressed in direct buffers, outside the heap. This
+			 * allows caching far more messages without growing the heap.
+			 */
+			COMPRESSED_OFF_HEAP
+		}
 	}
 
 	/**
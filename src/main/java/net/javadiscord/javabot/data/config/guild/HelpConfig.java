@@ -90,6 +90,18 @@ public class HelpConfig extends GuildConfigItem {
 	 */
 	private int preferredOpenChannelCount = 3;
 
+	/**
+	 * The maximum number of help channels to create or reopen at once, when
+	 * replenishing the open channels.
+	 */
+	private int channelPoolBatchSize = 2;
+
+	/**
+	 * The number of seconds to wait after opening a batch of help channels,
+	 * before opening more, so that Discord's rate limits aren't hit.
+	 */
+	private long channelPoolBatchDelaySeconds = 10;
+
 	/**
 	 * A list of successive timeouts (in minutes) to use when checking to see if
 	 * a help channel is still active. The bot waits X minutes since the last
@@ -120,6 +132,19 @@ public class HelpConfig extends GuildConfigItem {
 	 */
 	private long updateIntervalSeconds = 60;
 
+	/**
+	 * The number of minutes to wait between each reconciliation of the reserved
+	 * help channels held in memory with those stored in the database.
+	 */
+	private long reservationReconcileIntervalMinutes = 10;
+
+	/**
+	 * The number of minutes to wait between each check of the message history of
+	 * all reserved help channels. In between, channels are only checked once their
+	 * inactivity timeout expired.
+	 */
+	private long inactivityReconcileIntervalMinutes = 30;
+
 	/**
 	 * The number of channels which can be reserved by a single user at any time.
 	 */
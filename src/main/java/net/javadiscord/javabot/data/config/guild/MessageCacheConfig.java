@@ -14,15 +14,34 @@ import java.util.List;
 @EqualsAndHashCode(callSuper = true)
 public class MessageCacheConfig extends GuildConfigItem {
 	/**
-	 * The amount of message that can be cached at once.
+	 * The amount of message that can be cached at once, unless the cache is
+	 * {@link MessageCacheConfig#partitionByChannel partitioned by channel}.
 	 */
 	private int maxCachedMessages = 1000;
 
+	/**
+	 * Whether every channel gets its own part of the cache, so that busy
+	 * channels can't evict the messages of other channels.
+	 */
+	private boolean partitionByChannel = false;
+
+	/**
+	 * The amount of messages that can be cached per channel, if the cache is
+	 * {@link MessageCacheConfig#partitionByChannel partitioned by channel}.
+	 */
+	private int maxCachedMessagesPerChannel = 200;
+
 	/**
 	 * ID of the Message Cache log channel.
 	 */
 	private long messageCacheLogChannelId = 0;
 
+	/**
+	 * The amount of seconds for which deleted messages of the same channel are
+	 * collected, before they are logged together with a transcript.
+	 */
+	private int deletedMessageBatchSeconds = 3;
+
 	/**
 	 * The amount of messages after which the DB is synchronized with the local cache.
 	 */
@@ -53,6 +53,46 @@ public class ModerationConfig extends GuildConfigItem {
 	 */
 	private int maxWarnSeverity = 100;
 
+	/**
+	 * The amount of messages a member may send within {@link ModerationConfig#spamWindowSeconds}
+	 * (not counting the newest one) before AutoMod treats them as spam.
+	 */
+	private int spamMessageThreshold = 5;
+
+	/**
+	 * The length of the window, in seconds, which AutoMod uses to detect message spam.
+	 */
+	private int spamWindowSeconds = 6;
+
+	/**
+	 * The amount of near-identical messages a member may post within
+	 * {@link ModerationConfig#duplicateWindowSeconds}, across more than one
+	 * channel, before AutoMod treats them as spam.
+	 */
+	private int duplicateMessageThreshold = 3;
+
+	/**
+	 * The length of the window, in seconds, which AutoMod uses to detect duplicated messages.
+	 */
+	private int duplicateWindowSeconds = 15;
+
+	/**
+	 * The names of the AutoMod rules which should be run first, in order.
+	 * All other enabled rules are run afterwards, cheapest first.
+	 */
+	private List<String> automodRuleOrder = List.of();
+
+	/**
+	 * The names of the AutoMod rules which should not be run at all.
+	 */
+	private List<String> automodDisabledRules = List.of();
+
+	/**
+	 * The length of the window, in milliseconds, within which all warnings AutoMod
+	 * issues for a single member are combined into one.
+	 */
+	private int automodWarnDebounceMillis = 3000;
+
 	/**
 	 * Invite links AutoMod should exclude.
 	 */
@@ -8,11 +8,15 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.lang.reflect.InvocationTargetException;
-import java.sql.*;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 /**
  * This class represents a simple "Repository" for all database tables.
@@ -26,6 +30,11 @@ public abstract class DatabaseRepository<T> {
 	private final Connection con;
 	private final Class<T> modelClass;
 	private final String tableName;
+	/**
+	 * The name of the {@link QueryRegistry} query which inserts a single row.
+	 * Its parameters are all non-key {@link TableProperty properties}, in their order.
+	 */
+	private final String insertQuery;
 	private final List<TableProperty<T>> properties;
 
 	/**
@@ -38,10 +47,7 @@ public abstract class DatabaseRepository<T> {
 	 */
 	public final T insert(T instance, boolean returnGeneratedKeys) throws SQLException {
 		List<TableProperty<T>> filteredProperties = this.properties.stream().filter(p -> !p.isKey()).toList();
-		try (PreparedStatement stmt = con.prepareStatement(String.format("INSERT INTO %s (%s) VALUES (%s)",
-				tableName, filteredProperties.stream().map(TableProperty::getPropertyName).collect(Collectors.joining(",")),
-				",?".repeat(filteredProperties.size()).substring(1)
-		), Statement.RETURN_GENERATED_KEYS)) {
+		try (PreparedStatement stmt = QueryRegistry.prepare(con, insertQuery, Statement.RETURN_GENERATED_KEYS)) {
 			int index = 1;
 			for (TableProperty<T> property : filteredProperties) {
 				stmt.setObject(index, property.getFunction().apply(instance), property.getH2Type());
@@ -66,22 +72,21 @@ public abstract class DatabaseRepository<T> {
 		}
 	}
 
-	public final int update(String query, Object... args) throws SQLException {
-		return DbActions.update(query, args);
+	public final int update(String queryName, Object... args) throws SQLException {
+		return DbActions.update(queryName, args);
 	}
 
 	/**
-	 * Queries a single (the first) row which matches the given filter and converts it to the specified
-	 * model class. Additionally, this value is then wrapped in an {@link Optional} as it is possible for the value
-	 * to be empty.
+	 * Queries a single (the first) row and converts it to the specified model class. Additionally,
+	 * this value is then wrapped in an {@link Optional} as it is possible for the value to be empty.
 	 *
-	 * @param filter The filter for this query. Might look something like "WHEN age > 18".
-	 * @param args   Additional arguments used for formatting. "?" symbols are used as placeholders.
+	 * @param queryName The name of the query in the {@link QueryRegistry}. It must select all columns of this table.
+	 * @param args      The query's parameters, which replace its "?" placeholders.
 	 * @return An {@link Optional} which eventually holds the desired value.
 	 * @throws SQLException If an error occurs.
 	 */
-	public final Optional<T> querySingle(String filter, @NotNull Object... args) throws SQLException {
-		try (PreparedStatement stmt = con.prepareStatement(String.format("SELECT * FROM %s%s", tableName, filter.isEmpty() ? "" : " " + filter))) {
+	public final Optional<T> querySingle(String queryName, @NotNull Object... args) throws SQLException {
+		try (PreparedStatement stmt = QueryRegistry.prepare(con, queryName)) {
 			int i = 1;
 			for (Object arg : args) {
 				stmt.setObject(i++, arg);
@@ -96,16 +101,15 @@ public abstract class DatabaseRepository<T> {
 	}
 
 	/**
-	 * Queries a multiple rows which match the given filter and converts them to the specified
-	 * model class.
+	 * Queries a multiple rows and converts them to the specified model class.
 	 *
-	 * @param filter The filter for this query. Might look something like "WHEN age > 18".
-	 * @param args   Additional arguments used for formatting. "?" symbols are used as placeholders.
+	 * @param queryName The name of the query in the {@link QueryRegistry}. It must select all columns of this table.
+	 * @param args      The query's parameters, which replace its "?" placeholders.
 	 * @return An unmodifiable {@link List} which holds the desired value(s).
 	 * @throws SQLException If an error occurs.
 	 */
-	public final @NotNull List<T> queryMultiple(String filter, Object @NotNull ... args) throws SQLException {
-		try (PreparedStatement stmt = con.prepareStatement(String.format("SELECT * FROM %s%s", tableName, filter.isEmpty() ? "" : " " + filter))) {
+	public final @NotNull List<T> queryMultiple(String queryName, Object @NotNull ... args) throws SQLException {
+		try (PreparedStatement stmt = QueryRegistry.prepare(con, queryName)) {
 			int i = 1;
 			for (Object arg : args) {
 				stmt.setObject(i++, arg);
@@ -119,12 +123,21 @@ public abstract class DatabaseRepository<T> {
 		}
 	}
 
-	public final long count() {
-		return DbActions.count("SELECT COUNT (*) FROM " + tableName);
-	}
-
-	public final long count(String query, Object... args) {
-		return DbActions.count(String.format(query, args));
+	/**
+	 * Gets a count, using a query which <strong>must</strong> return a long
+	 * integer value as the first column of the result set.
+	 *
+	 * @param queryName The name of the query in the {@link QueryRegistry}.
+	 * @param args      The query's parameters, which replace its "?" placeholders.
+	 * @return The count.
+	 */
+	public final long count(String queryName, Object... args) {
+		return DbActions.count(queryName, stmt -> {
+			int i = 1;
+			for (Object arg : args) {
+				stmt.setObject(i++, arg);
+			}
+		});
 	}
 
 	public final int getLogicalSize() {
@@ -4,7 +4,10 @@ import net.javadiscord.javabot.Bot;
 import net.javadiscord.javabot.util.ExceptionLogger;
 import org.jetbrains.annotations.NotNull;
 
-import java.sql.*;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
@@ -47,15 +50,15 @@ public class DbActions {
 	/**
 	 * Maps a query.
 	 *
-	 * @param query    The query.
-	 * @param modifier The {@link StatementModifier}.
-	 * @param mapper   The {@link ResultSetMapper}.
-	 * @param <T>      The generic type.
+	 * @param queryName The name of the query in the {@link QueryRegistry}.
+	 * @param modifier  The {@link StatementModifier}.
+	 * @param mapper    The {@link ResultSetMapper}.
+	 * @param <T>       The generic type.
 	 * @return A generic type.
 	 * @throws SQLException If an error occurs.
 	 */
-	public static <T> T mapQuery(@NotNull String query, @NotNull StatementModifier modifier, @NotNull ResultSetMapper<T> mapper) throws SQLException {
-		try (Connection c = Bot.getDataSource().getConnection(); PreparedStatement stmt = c.prepareStatement(query)) {
+	public static <T> T mapQuery(@NotNull String queryName, @NotNull StatementModifier modifier, @NotNull ResultSetMapper<T> mapper) throws SQLException {
+		try (Connection c = Bot.getDataSource().getConnection(); PreparedStatement stmt = QueryRegistry.prepare(c, queryName)) {
 			modifier.modify(stmt);
 			ResultSet rs = stmt.executeQuery();
 			return mapper.map(rs);
@@ -65,17 +68,17 @@ public class DbActions {
 	/**
 	 * Maps a query asynchronous.
 	 *
-	 * @param query    The query.
-	 * @param modifier The {@link StatementModifier}.
-	 * @param mapper   The {@link ResultSetMapper}.
-	 * @param <T>      The generic type.
+	 * @param queryName The name of the query in the {@link QueryRegistry}.
+	 * @param modifier  The {@link StatementModifier}.
+	 * @param mapper    The {@link ResultSetMapper}.
+	 * @param <T>       The generic type.
 	 * @return A generic type.
 	 */
-	public static <T> @NotNull CompletableFuture<T> mapQueryAsync(@NotNull String query, @NotNull StatementModifier modifier, @NotNull ResultSetMapper<T> mapper) {
+	public static <T> @NotNull CompletableFuture<T> mapQueryAsync(@NotNull String queryName, @NotNull StatementModifier modifier, @NotNull ResultSetMapper<T> mapper) {
 		CompletableFuture<T> cf = new CompletableFuture<>();
-		Bot.getAsyncPool().submit(() -> {
+		Bot.getDbExecutor().execute(() -> {
 			try {
-				cf.complete(mapQuery(query, modifier, mapper));
+				cf.complete(mapQuery(queryName, modifier, mapper));
 			} catch (SQLException e) {
 				ExceptionLogger.capture(e, DbActions.class.getSimpleName());
 				cf.completeExceptionally(e);
@@ -88,12 +91,12 @@ public class DbActions {
 	 * Gets a count, using a query which <strong>must</strong> return a long
 	 * integer value as the first column of the result set.
 	 *
-	 * @param query    The query.
-	 * @param modifier A modifier to use to set parameters for the query.
+	 * @param queryName The name of the query in the {@link QueryRegistry}.
+	 * @param modifier  A modifier to use to set parameters for the query.
 	 * @return The column value.
 	 */
-	public static long count(@NotNull String query, @NotNull StatementModifier modifier) {
-		try (Connection c = Bot.getDataSource().getConnection(); PreparedStatement stmt = c.prepareStatement(query)) {
+	public static long count(@NotNull String queryName, @NotNull StatementModifier modifier) {
+		try (Connection c = Bot.getDataSource().getConnection(); PreparedStatement stmt = QueryRegistry.prepare(c, queryName)) {
 			modifier.modify(stmt);
 			ResultSet rs = stmt.executeQuery();
 			if (!rs.next()) return 0;
@@ -108,50 +111,23 @@ public class DbActions {
 	 * Gets a count, using a query which <strong>must</strong> return a long
 	 * integer value as the first column of the result set.
 	 *
-	 * @param query The query.
+	 * @param queryName The name of the query in the {@link QueryRegistry}.
 	 * @return The column value.
 	 */
-	public static long count(@NotNull String query) {
-		try (
-				Connection conn = Bot.getDataSource().getConnection();
-				Statement stmt = conn.createStatement()
-		) {
-			ResultSet rs = stmt.executeQuery(query);
-			if (!rs.next()) return 0;
-			return rs.getLong(1);
-		} catch (SQLException e) {
-			ExceptionLogger.capture(e, DbActions.class.getSimpleName());
-			return 0;
-		}
-	}
-
-	/**
-	 * Convenience method similar to {@link DbActions#count(String, StatementModifier)}
-	 * which allows for getting the count from a query using simple string
-	 * formatting instead of having to define a statement modifier.
-	 * <p>
-	 * <strong>WARNING</strong>: This method should NEVER be called with
-	 * user-provided data.
-	 * </p>
-	 *
-	 * @param queryFormat The format string.
-	 * @param args        The set of arguments to pass to the formatter.
-	 * @return The count.
-	 */
-	public static long countf(@NotNull String queryFormat, @NotNull Object... args) {
-		return count(String.format(queryFormat, args));
+	public static long count(@NotNull String queryName) {
+		return count(queryName, stmt -> {});
 	}
 
 	/**
 	 * Updates a database table.
 	 *
-	 * @param query  The query.
-	 * @param params The queries' parameters.
+	 * @param queryName The name of the query in the {@link QueryRegistry}.
+	 * @param params    The queries' parameters.
 	 * @return The rows that got updates during this process.
 	 * @throws SQLException If an error occurs.
 	 */
-	public static int update(@NotNull String query, Object @NotNull ... params) throws SQLException {
-		try (Connection c = Bot.getDataSource().getConnection(); PreparedStatement stmt = c.prepareStatement(query)) {
+	public static int update(@NotNull String queryName, Object @NotNull ... params) throws SQLException {
+		try (Connection c = Bot.getDataSource().getConnection(); PreparedStatement stmt = QueryRegistry.prepare(c, queryName)) {
 			int i = 1;
 			for (Object param : params) {
 				stmt.setObject(i++, param);
@@ -161,14 +137,14 @@ public class DbActions {
 	}
 
 	/**
-	 * Does an asynchronous database action using the bot's async pool.
+	 * Does an asynchronous database action using the bot's {@link DbExecutor}.
 	 *
 	 * @param consumer The consumer that will use a connection.
 	 * @return A future that completes when the action is complete.
 	 */
 	public static @NotNull CompletableFuture<Void> doAsyncAction(ConnectionConsumer consumer) {
 		CompletableFuture<Void> future = new CompletableFuture<>();
-		Bot.getAsyncPool().submit(() -> {
+		Bot.getDbExecutor().execute(() -> {
 			try (Connection c = Bot.getDataSource().getConnection()) {
 				consumer.consume(c);
 				future.complete(null);
@@ -181,7 +157,7 @@ public class DbActions {
 	}
 
 	/**
-	 * Does an asynchronous database action using the bot's async pool, and
+	 * Does an asynchronous database action using the bot's {@link DbExecutor}, and
 	 * wraps access to the connection behind a data access object that can be
 	 * built using the provided dao constructor.
 	 *
@@ -192,7 +168,7 @@ public class DbActions {
 	 */
 	public static <T> @NotNull CompletableFuture<Void> doAsyncDaoAction(Function<Connection, T> daoConstructor, DaoConsumer<T> consumer) {
 		CompletableFuture<Void> future = new CompletableFuture<>();
-		Bot.getAsyncPool().submit(() -> {
+		Bot.getDbExecutor().execute(() -> {
 			try (Connection c = Bot.getDataSource().getConnection()) {
 				T dao = daoConstructor.apply(c);
 				consumer.consume(dao);
@@ -214,7 +190,7 @@ public class DbActions {
 	 */
 	public static <T> @NotNull CompletableFuture<T> mapAsync(ConnectionFunction<T> function) {
 		CompletableFuture<T> future = new CompletableFuture<>();
-		Bot.getAsyncPool().submit(() -> {
+		Bot.getDbExecutor().execute(() -> {
 			try (Connection c = Bot.getDataSource().getConnection()) {
 				future.complete(function.apply(c));
 			} catch (SQLException e) {
@@ -228,16 +204,16 @@ public class DbActions {
 	/**
 	 * Fetches a single result from the database.
 	 *
-	 * @param query    The query to use.
-	 * @param modifier The query modifier for setting parameters.
-	 * @param mapper   The result set mapper. It is assumed to already have its
-	 *                 cursor on the first row. Do not call next() on it.
-	 * @param <T>      The result type.
+	 * @param queryName The name of the query in the {@link QueryRegistry}.
+	 * @param modifier  The query modifier for setting parameters.
+	 * @param mapper    The result set mapper. It is assumed to already have its
+	 *                  cursor on the first row. Do not call next() on it.
+	 * @param <T>       The result type.
 	 * @return An optional that may contain the result, if one was found.
 	 */
-	public static <T> Optional<T> fetchSingleEntity(String query, StatementModifier modifier, ResultSetMapper<T> mapper) {
+	public static <T> Optional<T> fetchSingleEntity(String queryName, StatementModifier modifier, ResultSetMapper<T> mapper) {
 		try {
-			return mapQuery(query, modifier, rs -> {
+			return mapQuery(queryName, modifier, rs -> {
 				if (!rs.next()) return Optional.empty();
 				return Optional.of(mapper.map(rs));
 			});
@@ -254,7 +230,7 @@ public class DbActions {
 	 * @return The logical size, in bytes.
 	 */
 	public static int getLogicalSize(String table) {
-		try (Connection c = Bot.getDataSource().getConnection(); PreparedStatement stmt = c.prepareStatement("CALL DISK_SPACE_USED(?)")) {
+		try (Connection c = Bot.getDataSource().getConnection(); PreparedStatement stmt = QueryRegistry.prepare(c, "database.disk_space_used")) {
 			stmt.setString(1, table);
 			ResultSet rs = stmt.executeQuery();
 			if (rs.next()) {
@@ -0,0 +1,108 @@
+package net.javadiscord.javabot.data.h2db;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The {@link Executor} which runs all asynchronous database actions, and keeps
+ * track of how many of them are waiting to be run.
+ * <p>
+ * In dedicated mode, actions run on their own threads, of which there are
+ * exactly as many as the connection pool has connections. Actions therefore
+ * never block waiting for a connection, and long-running work on the bot's
+ * other pools can't delay them. Otherwise, actions share the pool they are
+ * given, like they used to.
+ * </p>
+ */
+public class DbExecutor implements Executor {
+	private final ExecutorService executor;
+	private final boolean dedicated;
+	private final AtomicInteger queued = new AtomicInteger();
+	private final AtomicInteger active = new AtomicInteger();
+	private final LongAdder completed = new LongAdder();
+	private final LongAdder waitNanos = new LongAdder();
+
+	private DbExecutor(@NotNull ExecutorService executor, boolean dedicated) {
+		this.executor = executor;
+		this.dedicated = dedicated;
+	}
+
+	/**
+	 * Creates an executor with its own threads.
+	 *
+	 * @param threads The amount of threads, which should match the size of the connection pool.
+	 * @return The {@link DbExecutor}.
+	 */
+	public static @NotNull DbExecutor dedicated(int threads) {
+		AtomicInteger count = new AtomicInteger();
+		return new DbExecutor(Executors.newFixedThreadPool(threads, r -> {
+			Thread thread = new Thread(r, "db-" + count.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		}), true);
+	}
+
+	/**
+	 * Creates an executor which runs all actions on the given, shared pool.
+	 *
+	 * @param pool The pool to use.
+	 * @return The {@link DbExecutor}.
+	 */
+	public static @NotNull DbExecutor shared(@NotNull ExecutorService pool) {
+		return new DbExecutor(pool, false);
+	}
+
+	@Override
+	public void execute(@NotNull Runnable action) {
+		long submitted = System.nanoTime();
+		queued.incrementAndGet();
+		executor.execute(() -> {
+			queued.decrementAndGet();
+			waitNanos.add(System.nanoTime() - submitted);
+			active.incrementAndGet();
+			try {
+				action.run();
+			} finally {
+				active.decrementAndGet();
+				completed.increment();
+			}
+		});
+	}
+
+	public boolean isDedicated() {
+		return dedicated;
+	}
+
+	/**
+	 * The amount of actions which were submitted, but haven't started yet.
+	 *
+	 * @return The current queue depth.
+	 */
+	public int getQueueDepth() {
+		return queued.get();
+	}
+
+	public int getActiveCount() {
+		return active.get();
+	}
+
+	public long getCompletedCount() {
+		return completed.sum();
+	}
+
+	/**
+	 * The average time actions spent in the queue before they were started.
+	 *
+	 * @return The average wait time, in milliseconds.
+	 */
+	public double getAverageWaitMillis() {
+		long started = completed.sum() + active.get();
+		return started == 0 ? 0 : (double) waitNanos.sum() / started / TimeUnit.MILLISECONDS.toNanos(1);
+	}
+}
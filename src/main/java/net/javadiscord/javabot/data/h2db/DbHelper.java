@@ -9,7 +9,9 @@ import net.javadiscord.javabot.data.config.SystemsConfig;
 import net.javadiscord.javabot.util.ExceptionLogger;
 import org.h2.tools.Server;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
+import javax.sql.DataSource;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Files;
@@ -29,6 +31,14 @@ import java.util.stream.Collectors;
  */
 @Slf4j
 public class DbHelper {
+	/**
+	 * Matches the urls of databases which are stored in a local file, either opened in-process
+	 * (<code>jdbc:h2:file:./java_bot</code>) or through the bot's own TCP server
+	 * (<code>jdbc:h2:tcp://localhost:9122/./java_bot</code>). The first group is the server's port,
+	 * if any, and the second one is the file's path.
+	 */
+	private static final Pattern FILE_URL_PATTERN = Pattern.compile("jdbc:h2:(?:file:|tcp://localhost:(\\d+)/|(?![a-z]+:))([^;]+)(?:;.*)?");
+
 	private DbHelper() {
 	}
 
@@ -42,27 +52,22 @@ public class DbHelper {
 	 *                               start the database.
 	 */
 	public static @NotNull HikariDataSource initDataSource(@NotNull BotConfig config) {
-		// Determine if we need to initialize the schema, before starting up the server.
-		boolean shouldInitSchema = shouldInitSchema(config.getSystems().getHikariConfig().getJdbcUrl());
-
-		// Now that we have remembered whether we need to initialize the schema, start up the server.
-		Server server;
-		try {
-			server = Server.createTcpServer("-tcpPort", "9122", "-ifNotExists").start();
-		} catch (SQLException e) {
-			ExceptionLogger.capture(e, DbHelper.class.getSimpleName());
-			throw new IllegalStateException("Cannot start database server.", e);
-		}
-		HikariConfig hikariConfig = new HikariConfig();
 		SystemsConfig.HikariConfig hikariConfigSource = config.getSystems().getHikariConfig();
-		hikariConfig.setJdbcUrl(hikariConfigSource.getJdbcUrl());
-		hikariConfig.setMaximumPoolSize(hikariConfigSource.getMaximumPoolSize());
-		hikariConfig.setLeakDetectionThreshold(hikariConfigSource.getLeakDetectionThreshold());
-		HikariDataSource ds = new HikariDataSource(hikariConfig);
+		// Determine if we need to initialize the schema, before starting up the database.
+		boolean shouldInitSchema = shouldInitSchema(hikariConfigSource.getJdbcUrl());
+
+		Server server = initTcpServer(hikariConfigSource);
+		HikariDataSource ds = createDataSource(hikariConfigSource);
 		// Add a shutdown hook to close down the datasource and server when the JVM terminates.
 		Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+			// write pending message cache changes while the datasource is still open
+			if (Bot.getMessageCache() != null) {
+				Bot.getMessageCache().close();
+			}
 			ds.close();
-			server.stop();
+			if (server != null) {
+				server.stop();
+			}
 		}));
 		if (shouldInitSchema) {
 			try {
@@ -76,12 +81,85 @@ public class DbHelper {
 	}
 
 	/**
-	 * Does an asynchronous database action using the bot's async pool.
+	 * Starts the TCP server, if it is needed. This is only the case if the bot itself connects
+	 * through it, or if it was enabled so that admin tools can access the database.
+	 *
+	 * @param hikariConfigSource The bot's connection pool configuration.
+	 * @return The running {@link Server}, or null if the database is only accessed in-process.
+	 */
+	private static @Nullable Server initTcpServer(@NotNull SystemsConfig.HikariConfig hikariConfigSource) {
+		if (!hikariConfigSource.isTcpServerEnabled() && !isLocalTcpUrl(hikariConfigSource.getJdbcUrl())) {
+			return null;
+		}
+		try {
+			return startTcpServer(getTcpServerPort(hikariConfigSource));
+		} catch (SQLException e) {
+			ExceptionLogger.capture(e, DbHelper.class.getSimpleName());
+			throw new IllegalStateException("Cannot start database server.", e);
+		}
+	}
+
+	/**
+	 * Gets the port the TCP server listens on. If the bot itself connects through the server,
+	 * this is the port in its JDBC url, since the server would be unreachable on any other port.
+	 *
+	 * @param hikariConfigSource The bot's connection pool configuration.
+	 * @return The port.
+	 */
+	static int getTcpServerPort(@NotNull SystemsConfig.HikariConfig hikariConfigSource) {
+		Matcher m = FILE_URL_PATTERN.matcher(hikariConfigSource.getJdbcUrl());
+		if (m.matches() && m.group(1) != null) {
+			return Integer.parseInt(m.group(1));
+		}
+		return hikariConfigSource.getTcpServerPort();
+	}
+
+	/**
+	 * Creates the connection pool for the configured database.
+	 *
+	 * @param hikariConfigSource The bot's connection pool configuration.
+	 * @return The data source.
+	 */
+	static @NotNull HikariDataSource createDataSource(@NotNull SystemsConfig.HikariConfig hikariConfigSource) {
+		HikariConfig hikariConfig = new HikariConfig();
+		hikariConfig.setJdbcUrl(withQueryCacheSize(hikariConfigSource.getJdbcUrl(), hikariConfigSource.getQueryCacheSize()));
+		hikariConfig.setMaximumPoolSize(hikariConfigSource.getMaximumPoolSize());
+		hikariConfig.setLeakDetectionThreshold(hikariConfigSource.getLeakDetectionThreshold());
+		return new HikariDataSource(hikariConfig);
+	}
+
+	/**
+	 * Starts a TCP server which serves the databases of this process to other clients.
+	 *
+	 * @param port The port to listen on, or 0 to use any free port.
+	 * @return The running {@link Server}.
+	 * @throws SQLException If the server could not be started.
+	 */
+	static @NotNull Server startTcpServer(int port) throws SQLException {
+		Server server = Server.createTcpServer("-tcpPort", String.valueOf(port), "-ifNotExists").start();
+		log.info("Started database server on port {}.", server.getPort());
+		return server;
+	}
+
+	/**
+	 * Sets the size of H2's per-session query cache, unless the url already does so.
+	 *
+	 * @param jdbcUrl        The configured JDBC url.
+	 * @param queryCacheSize The amount of parsed statements to keep per connection.
+	 * @return The JDBC url to use.
+	 */
+	private static @NotNull String withQueryCacheSize(@NotNull String jdbcUrl, int queryCacheSize) {
+		if (jdbcUrl.toUpperCase().contains(";QUERY_CACHE_SIZE=")) return jdbcUrl;
+		return jdbcUrl + ";QUERY_CACHE_SIZE=" + queryCacheSize;
+	}
+
+	/**
+	 * Does an asynchronous database action using the bot's {@link DbExecutor}.
 	 *
 	 * @param consumer The consumer that will use a connection.
 	 */
 	public static void doDbAction(ConnectionConsumer consumer) {
-		Bot.getAsyncPool().submit(() -> {
+		Bot.getDbExecutor().execute(() -> {
 			try (Connection c = Bot.getDataSource().getConnection()) {
 				consumer.consume(c);
 			} catch (SQLException e) {
@@ -91,7 +169,7 @@ public class DbHelper {
 	}
 
 	/**
-	 * Does an asynchronous database action using the bot's async pool, and
+	 * Does an asynchronous database action using the bot's {@link DbExecutor}, and
 	 * wraps access to the connection behind a data access object that can be
 	 * built using the provided dao constructor.
 	 *
@@ -100,7 +178,7 @@ public class DbHelper {
 	 * @param <T>            The type of data access object. Usually some kind of repository.
 	 */
 	public static <T> void doDaoAction(Function<Connection, T> daoConstructor, DaoConsumer<T> consumer) {
-		Bot.getAsyncPool().submit(() -> {
+		Bot.getDbExecutor().execute(() -> {
 			try (Connection c = Bot.getDataSource().getConnection()) {
 				T dao = daoConstructor.apply(c);
 				consumer.consume(dao);
@@ -110,23 +188,43 @@ public class DbHelper {
 		});
 	}
 
-	private static boolean shouldInitSchema(String jdbcUrl) {
-		Pattern p = Pattern.compile("jdbc:h2:tcp://localhost:\\d+/(.*)");
-		Matcher m = p.matcher(jdbcUrl);
-		boolean shouldInitSchema = false;
-		if (m.find()) {
-			String dbFilePath = m.group(1) + ".mv.db";
-			if (Files.notExists(Path.of(dbFilePath))) {
-				log.info("Database file doesn't exist yet. Initializing schema.");
-				shouldInitSchema = true;
-			}
-		} else {
+	/**
+	 * Checks whether the database of the given url still has to be created.
+	 *
+	 * @param jdbcUrl The JDBC url, which must point to a local file or an in-memory database.
+	 * @return Whether the schema has to be initialized.
+	 * @throws IllegalArgumentException If the url points to neither.
+	 */
+	static boolean shouldInitSchema(@NotNull String jdbcUrl) {
+		if (jdbcUrl.startsWith("jdbc:h2:mem:")) return true;
+		Matcher m = FILE_URL_PATTERN.matcher(jdbcUrl);
+		if (!m.matches()) {
 			throw new IllegalArgumentException("Invalid JDBC URL. Should point to a file.");
 		}
-		return shouldInitSchema;
+		String dbFilePath = m.group(2) + ".mv.db";
+		// like H2 itself, resolve a leading ~ to the user's home directory
+		if (dbFilePath.startsWith("~/") || dbFilePath.startsWith("~\\")) {
+			dbFilePath = System.getProperty("user.home") + dbFilePath.substring(1);
+		}
+		if (Files.notExists(Path.of(dbFilePath))) {
+			log.info("Database file doesn't exist yet. Initializing schema.");
+			return true;
+		}
+		return false;
+	}
+
+	private static boolean isLocalTcpUrl(@NotNull String jdbcUrl) {
+		return jdbcUrl.startsWith("jdbc:h2:tcp://localhost:");
 	}
 
-	private static void initializeSchema(HikariDataSource dataSource) throws IOException, SQLException {
+	/**
+	 * Creates all tables of a new database.
+	 *
+	 * @param dataSource The database's {@link DataSource}.
+	 * @throws IOException  If the schema can't be loaded.
+	 * @throws SQLException If an error occurs.
+	 */
+	public static void initializeSchema(@NotNull DataSource dataSource) throws IOException, SQLException {
 		try (InputStream is = DbHelper.class.getClassLoader().getResourceAsStream("database/schema.sql")) {
 			if (is == null) throw new IOException("Could not load schema.sql.");
 			List<String> queries = Arrays.stream(new String(is.readAllBytes()).split(";"))
@@ -135,7 +233,7 @@ public class DbHelper {
 				for (String rawQuery : queries) {
 					String query = rawQuery.lines()
 							.map(s -> s.strip().stripIndent())
-							.collect(Collectors.joining(""));
+							.collect(Collectors.joining("\n"));
 					try (Statement stmt = c.createStatement()) {
 						stmt.executeUpdate(query);
 					}
@@ -0,0 +1,77 @@
+package net.javadiscord.javabot.data.h2db;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Records how often and how long every query of the {@link QueryRegistry} is executed.
+ */
+public class QueryMetrics {
+	private static final Map<String, Metric> METRICS = new ConcurrentHashMap<>();
+
+	private QueryMetrics() {
+	}
+
+	/**
+	 * Records a single execution of a query.
+	 *
+	 * @param name   The query's name.
+	 * @param nanos  The duration of the execution in nanoseconds.
+	 * @param failed Whether the execution threw an exception.
+	 */
+	static void record(@NotNull String name, long nanos, boolean failed) {
+		Metric metric = METRICS.computeIfAbsent(name, n -> new Metric());
+		metric.executions.increment();
+		metric.totalNanos.add(nanos);
+		metric.maxNanos.accumulate(nanos);
+		if (failed) {
+			metric.failures.increment();
+		}
+	}
+
+	/**
+	 * Takes a snapshot of the statistics of all queries which were executed so far.
+	 *
+	 * @return The {@link Statistics} of all queries, sorted by their total execution time, highest first.
+	 */
+	public static @NotNull List<Statistics> getStatistics() {
+		return METRICS.entrySet().stream()
+				.map(e -> new Statistics(e.getKey(), e.getValue().executions.sum(), e.getValue().failures.sum(),
+						e.getValue().totalNanos.sum(), e.getValue().maxNanos.get()))
+				.sorted(Comparator.comparingLong(Statistics::totalNanos).reversed())
+				.toList();
+	}
+
+	private static class Metric {
+		private final LongAdder executions = new LongAdder();
+		private final LongAdder failures = new LongAdder();
+		private final LongAdder totalNanos = new LongAdder();
+		private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+	}
+
+	/**
+	 * A snapshot of the statistics of a single query.
+	 *
+	 * @param name       The query's name.
+	 * @param executions How often the query was executed.
+	 * @param failures   How many of these executions failed.
+	 * @param totalNanos The total duration of all executions in nanoseconds.
+	 * @param maxNanos   The duration of the slowest execution in nanoseconds.
+	 */
+	public record Statistics(String name, long executions, long failures, long totalNanos, long maxNanos) {
+		/**
+		 * Gets the average duration of an execution.
+		 *
+		 * @return The average duration in nanoseconds.
+		 */
+		public long averageNanos() {
+			return executions == 0 ? 0 : totalNanos / executions;
+		}
+	}
+}
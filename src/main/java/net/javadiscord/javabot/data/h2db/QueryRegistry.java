@@ -0,0 +1,131 @@
+package net.javadiscord.javabot.data.h2db;
+
+import net.javadiscord.javabot.util.StringResourceCache;
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Holds all SQL queries of the bot. Queries are loaded from the <code>/database/queries/</code>
+ * resource directory and referred to by their name, so that every query is a constant string which
+ * only receives values through bind parameters, and H2 can reuse its parsed statement.
+ * <p>
+ * A query named <code>warn.select_by_id</code> is the query which follows the
+ * <code>-- name: select_by_id</code> line in <code>/database/queries/warn.sql</code>.
+ * </p>
+ */
+public class QueryRegistry {
+	private static final String QUERY_DIRECTORY = "/database/queries/";
+	private static final Pattern NAME_PATTERN = Pattern.compile("^-- name: (\\S+)\\s*$", Pattern.MULTILINE);
+
+	/**
+	 * All queries which were loaded so far, keyed by the name of their file.
+	 */
+	private static final Map<String, Map<String, String>> GROUPS = new ConcurrentHashMap<>();
+
+	private QueryRegistry() {
+	}
+
+	/**
+	 * Gets the SQL of a query.
+	 *
+	 * @param name The query's name.
+	 * @return The query.
+	 * @throws IllegalArgumentException If there is no query with the given name.
+	 */
+	public static @NotNull String get(@NotNull String name) {
+		int separator = name.lastIndexOf('.');
+		if (separator < 0) throw new IllegalArgumentException("Invalid query name: " + name);
+		Map<String, String> group = GROUPS.computeIfAbsent(name.substring(0, separator), file -> parse(StringResourceCache.load(QUERY_DIRECTORY + file + ".sql")));
+		String query = group.get(name.substring(separator + 1));
+		if (query == null) throw new IllegalArgumentException("Unknown query: " + name);
+		return query;
+	}
+
+	/**
+	 * Prepares a query. The execution times of the returned statement are
+	 * recorded in the {@link QueryMetrics}.
+	 *
+	 * @param con  The {@link Connection} to use.
+	 * @param name The query's name.
+	 * @return The {@link PreparedStatement}.
+	 * @throws SQLException If an error occurs.
+	 */
+	public static @NotNull PreparedStatement prepare(@NotNull Connection con, @NotNull String name) throws SQLException {
+		return instrument(con.prepareStatement(get(name)), name);
+	}
+
+	/**
+	 * Prepares a query which may return generated keys. The execution times of
+	 * the returned statement are recorded in the {@link QueryMetrics}.
+	 *
+	 * @param con               The {@link Connection} to use.
+	 * @param name              The query's name.
+	 * @param autoGeneratedKeys Whether generated keys should be returned, as in {@link Connection#prepareStatement(String, int)}.
+	 * @return The {@link PreparedStatement}.
+	 * @throws SQLException If an error occurs.
+	 */
+	public static @NotNull PreparedStatement prepare(@NotNull Connection con, @NotNull String name, int autoGeneratedKeys) throws SQLException {
+		return instrument(con.prepareStatement(get(name), autoGeneratedKeys), name);
+	}
+
+	/**
+	 * Splits the content of a query file into its named queries.
+	 *
+	 * @param content The file's content.
+	 * @return All queries, keyed by their name.
+	 */
+	static @NotNull Map<String, String> parse(@NotNull String content) {
+		Map<String, String> queries = new HashMap<>();
+		Matcher matcher = NAME_PATTERN.matcher(content);
+		String name = null;
+		int start = 0;
+		while (matcher.find()) {
+			if (name != null) {
+				queries.put(name, strip(content.substring(start, matcher.start())));
+			}
+			name = matcher.group(1);
+			start = matcher.end();
+		}
+		if (name != null) {
+			queries.put(name, strip(content.substring(start)));
+		}
+		return queries;
+	}
+
+	private static @NotNull String strip(@NotNull String query) {
+		query = query.strip();
+		return query.endsWith(";") ? query.substring(0, query.length() - 1).strip() : query;
+	}
+
+	/**
+	 * Wraps a statement, so that the duration of all of its executions is recorded.
+	 */
+	private static @NotNull PreparedStatement instrument(@NotNull PreparedStatement stmt, @NotNull String name) {
+		return (PreparedStatement) Proxy.newProxyInstance(QueryRegistry.class.getClassLoader(), new Class<?>[]{PreparedStatement.class}, (proxy, method, args) -> {
+			boolean execution = method.getName().startsWith("execute");
+			long start = System.nanoTime();
+			boolean failed = true;
+			try {
+				Object result = method.invoke(stmt, args);
+				failed = false;
+				return result;
+			} catch (InvocationTargetException e) {
+				throw e.getCause();
+			} finally {
+				if (execution) {
+					QueryMetrics.record(name, System.nanoTime() - start, failed);
+				}
+			}
+		});
+	}
+}
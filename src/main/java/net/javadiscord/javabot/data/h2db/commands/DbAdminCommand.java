@@ -25,7 +25,7 @@ public class DbAdminCommand extends SlashCommand {
 				.setDefaultPermissions(DefaultMemberPermissions.enabledFor(Permission.MANAGE_SERVER))
 				.setGuildOnly(true)
 		);
-		addSubcommands(new ExportSchemaSubcommand(), new ExportTableSubcommand(), new MigrationsListSubcommand(), new MigrateSubcommand(), new QuickMigrateSubcommand());
+		addSubcommands(new ExportSchemaSubcommand(), new ExportTableSubcommand(), new MigrationsListSubcommand(), new MigrateSubcommand(), new QuickMigrateSubcommand(), new QueryStatsSubcommand());
 		addSubcommandGroups(Map.of(
 				new SubcommandGroupData("message-cache", "Administrative tools for managing the Message Cache."), Set.of(new MessageCacheInfoSubcommand())
 		));
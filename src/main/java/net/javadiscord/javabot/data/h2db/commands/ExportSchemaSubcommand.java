@@ -38,7 +38,7 @@ public class ExportSchemaSubcommand extends SlashCommand.Subcommand {
 	public void execute(SlashCommandInteractionEvent event) {
 		boolean includeData = event.getOption("include-data", false, OptionMapping::getAsBoolean);
 		event.deferReply(false).queue();
-		Bot.getAsyncPool().submit(() -> {
+		Bot.getDbExecutor().execute(() -> {
 			try (Connection con = Bot.getDataSource().getConnection()) {
 				PreparedStatement stmt = con.prepareStatement(String.format("SCRIPT %s TO '%s';", includeData ? "" : "NODATA", SCHEMA_FILE));
 				boolean success = stmt.execute();
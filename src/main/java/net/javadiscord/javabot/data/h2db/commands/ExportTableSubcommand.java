@@ -58,7 +58,7 @@ public class ExportTableSubcommand extends SlashCommand.Subcommand {
 			return;
 		}
 		event.deferReply(false).queue();
-		Bot.getAsyncPool().submit(() -> {
+		Bot.getDbExecutor().execute(() -> {
 			try (Connection con = Bot.getDataSource().getConnection()) {
 				PreparedStatement stmt = con.prepareStatement(String.format("SCRIPT %s TO '%s' TABLE %s;", includeData ? "COLUMNS" : "NODATA", TABLE_FILE, tableOption.getAsString()));
 				boolean success = stmt.execute();
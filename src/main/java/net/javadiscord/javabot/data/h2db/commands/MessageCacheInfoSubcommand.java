@@ -10,8 +10,11 @@ import net.dv8tion.jda.api.interactions.commands.build.SubcommandData;
 import net.javadiscord.javabot.Bot;
 import net.javadiscord.javabot.data.config.GuildConfig;
 import net.javadiscord.javabot.data.h2db.DbActions;
+import net.javadiscord.javabot.data.h2db.message_cache.MessageCachePartition;
 import net.javadiscord.javabot.util.Responses;
 
+import java.util.List;
+
 /**
  * Allows staff members to get more detailed information about the message cache.
  */
@@ -31,16 +34,29 @@ public class MessageCacheInfoSubcommand extends SlashCommand.Subcommand {
 	}
 
 	private MessageEmbed buildInfoEmbed(GuildConfig config, User author) {
-		long messages = DbActions.count("SELECT count(*) FROM message_cache");
+		long messages = DbActions.count("message_cache.count");
 		int maxMessages = config.getMessageCacheConfig().getMaxCachedMessages();
+		List<MessageCachePartition.Statistics> partitions = Bot.getMessageCache().getPartitionStatistics(config.getGuild().getIdLong());
+		int cached = partitions.stream().mapToInt(MessageCachePartition.Statistics::size).sum();
+		String memory = config.getMessageCacheConfig().isPartitionByChannel()
+				? String.format("%s in %s channels", cached, partitions.size())
+				: String.format("%s/%s (%.2f%%)", cached, maxMessages, ((float) cached / maxMessages) * 100);
+		if (Bot.getMessageCache().isWarmingUp()) {
+			memory += " (warming up)";
+		}
 		return new EmbedBuilder()
 				.setAuthor(author.getAsTag(), null, author.getEffectiveAvatarUrl())
 				.setTitle("Message Cache Info")
 				.setColor(Responses.Type.DEFAULT.getColor())
 				.addField("Table Size", DbActions.getLogicalSize("message_cache") + " bytes", false)
-				.addField("Message Count", String.valueOf(Bot.getMessageCache().messageCount), true)
-				.addField("Cached (Memory)", String.format("%s/%s (%.2f%%)", Bot.getMessageCache().cache.size(), maxMessages, ((float) Bot.getMessageCache().cache.size() / maxMessages) * 100), true)
+				.addField("Pending Changes", String.valueOf(Bot.getMessageCache().getPendingChanges()), true)
+				.addField("Cached (Memory)", memory, true)
 				.addField("Cached (Database)", String.format("%s/%s (%.2f%%)", messages, maxMessages, ((float) messages / maxMessages) * 100), true)
+				.addField("Off-Heap Memory", Bot.getMessageCache().getOffHeapBytes() + " bytes", true)
+				.addField("Hits / Misses / Evictions", String.format("%s / %s / %s",
+						partitions.stream().mapToLong(MessageCachePartition.Statistics::hits).sum(),
+						partitions.stream().mapToLong(MessageCachePartition.Statistics::misses).sum(),
+						partitions.stream().mapToLong(MessageCachePartition.Statistics::evictions).sum()), true)
 				.build();
 	}
 }
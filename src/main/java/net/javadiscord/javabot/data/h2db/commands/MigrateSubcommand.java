@@ -88,7 +88,7 @@ public class MigrateSubcommand extends SlashCommand.Subcommand implements AutoCo
 				return;
 			}
 			event.deferReply().queue();
-			Bot.getAsyncPool().submit(() -> {
+			Bot.getDbExecutor().execute(() -> {
 				try (Connection con = Bot.getDataSource().getConnection()) {
 					for (int i = 0; i < statements.length; i++) {
 						if (statements[i].isBlank()) {
@@ -0,0 +1,53 @@
+package net.javadiscord.javabot.data.h2db.commands;
+
+import com.dynxsty.dih4jda.interactions.commands.SlashCommand;
+import net.dv8tion.jda.api.EmbedBuilder;
+import net.dv8tion.jda.api.Permission;
+import net.dv8tion.jda.api.entities.MessageEmbed;
+import net.dv8tion.jda.api.entities.User;
+import net.dv8tion.jda.api.events.interaction.command.SlashCommandInteractionEvent;
+import net.dv8tion.jda.api.interactions.commands.build.SubcommandData;
+import net.javadiscord.javabot.Bot;
+import net.javadiscord.javabot.data.h2db.QueryMetrics;
+import net.javadiscord.javabot.util.Responses;
+
+import java.util.List;
+
+/**
+ * Displays the queries which took the most time since the bot was started.
+ */
+public class QueryStatsSubcommand extends SlashCommand.Subcommand {
+	private static final int MAX_QUERIES = 10;
+
+	/**
+	 * The constructor of this class, which sets the corresponding {@link SubcommandData}.
+	 */
+	public QueryStatsSubcommand() {
+		setSubcommandData(new SubcommandData("query-stats", "Displays the queries which took the most time since the last restart."));
+		requireUsers(Bot.getConfig().getSystems().getAdminConfig().getAdminUsers());
+		requirePermissions(Permission.MANAGE_SERVER);
+	}
+
+	@Override
+	public void execute(SlashCommandInteractionEvent event) {
+		event.replyEmbeds(buildStatsEmbed(QueryMetrics.getStatistics(), event.getUser())).queue();
+	}
+
+	private MessageEmbed buildStatsEmbed(List<QueryMetrics.Statistics> statistics, User author) {
+		EmbedBuilder embed = new EmbedBuilder()
+				.setAuthor(author.getAsTag(), null, author.getEffectiveAvatarUrl())
+				.setTitle("Query Statistics")
+				.setColor(Responses.Type.DEFAULT.getColor());
+		if (statistics.isEmpty()) {
+			embed.setDescription("No queries were executed yet.");
+		}
+		for (QueryMetrics.Statistics query : statistics.stream().limit(MAX_QUERIES).toList()) {
+			embed.addField(query.name(), String.format("`%s` executions, `%.2f ms` total\n`%.2f ms` average, `%.2f ms` max, `%s` failed",
+					query.executions(), query.totalNanos() / 1e6, query.averageNanos() / 1e6, query.maxNanos() / 1e6, query.failures()), false);
+		}
+		if (statistics.size() > MAX_QUERIES) {
+			embed.setFooter(String.format("%s more queries", statistics.size() - MAX_QUERIES));
+		}
+		return embed.build();
+	}
+}
@@ -61,7 +61,7 @@ public class QuickMigrateSubcommand extends SlashCommand.Subcommand implements M
 			Responses.error(event.getHook(), "The provided migration does not contain any statements. Please remove or edit it before running again.").queue();
 			return;
 		}
-		Bot.getAsyncPool().submit(() -> {
+		Bot.getDbExecutor().execute(() -> {
 			TextChannel channel = event.getChannel().asTextChannel();
 			try (Connection con = Bot.getDataSource().getConnection()) {
 				for (int i = 0; i < statements.length; i++) {
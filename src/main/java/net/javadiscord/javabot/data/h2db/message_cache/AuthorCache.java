@@ -0,0 +1,61 @@
+package net.javadiscord.javabot.data.h2db.message_cache;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import net.dv8tion.jda.api.JDA;
+import net.dv8tion.jda.api.entities.User;
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Looks up the authors of cached messages, which may have left the guild and are
+ * therefore no longer part of JDA's cache. Retrieved users are cached for a while,
+ * so that logging many messages of the same author only needs a single request.
+ */
+class AuthorCache {
+	private final AsyncCache<Long, User> users = Caffeine.newBuilder()
+			.maximumSize(1000)
+			.expireAfterWrite(Duration.ofMinutes(10))
+			.buildAsync();
+
+	/**
+	 * Looks up a single user. Concurrent lookups of the same user share one request.
+	 *
+	 * @param jda    The {@link JDA} instance.
+	 * @param userId The user's id.
+	 * @return A future which completes with the {@link User}, or exceptionally if the user could not be retrieved.
+	 */
+	CompletableFuture<User> retrieve(@NotNull JDA jda, long userId) {
+		User user = jda.getUserById(userId);
+		if (user != null) return CompletableFuture.completedFuture(user);
+		// failed lookups are removed from the cache automatically
+		return users.get(userId, (id, executor) -> jda.retrieveUserById(id).submit());
+	}
+
+	/**
+	 * Looks up multiple users at once.
+	 *
+	 * @param jda     The {@link JDA} instance.
+	 * @param userIds The users' ids.
+	 * @return A future which completes with all users that could be retrieved, keyed by their id.
+	 */
+	CompletableFuture<Map<Long, User>> retrieveAll(@NotNull JDA jda, @NotNull Collection<Long> userIds) {
+		Map<Long, CompletableFuture<User>> futures = new HashMap<>();
+		for (long userId : userIds) {
+			futures.put(userId, retrieve(jda, userId).exceptionally(e -> null));
+		}
+		return CompletableFuture.allOf(futures.values().toArray(CompletableFuture[]::new)).thenApply(unused -> {
+			Map<Long, User> users = new HashMap<>();
+			futures.forEach((id, future) -> {
+				User user = future.join();
+				if (user != null) users.put(id, user);
+			});
+			return users;
+		});
+	}
+}
@@ -0,0 +1,66 @@
+package net.javadiscord.javabot.data.h2db.message_cache;
+
+import net.dv8tion.jda.api.entities.Guild;
+import net.dv8tion.jda.api.entities.MessageChannel;
+import net.javadiscord.javabot.Bot;
+import net.javadiscord.javabot.data.config.guild.MessageCacheConfig;
+import net.javadiscord.javabot.data.h2db.message_cache.model.CachedMessage;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Collects the deleted messages of every channel for a short while, so that purges
+ * and bulk deletions are logged with a single message instead of one per deleted message.
+ */
+class DeletedMessageBatcher {
+	/**
+	 * The batches which haven't been logged yet, keyed by their channel's id.
+	 */
+	private final Map<Long, Batch> batches = new HashMap<>();
+
+	/**
+	 * Adds deleted messages to the batch of their channel. A new batch is logged after
+	 * {@link MessageCacheConfig#getDeletedMessageBatchSeconds()}, together with all
+	 * messages of the same channel which are deleted in the meantime.
+	 *
+	 * @param guild    The messages' {@link Guild}.
+	 * @param channel  The messages' {@link MessageChannel}.
+	 * @param messages The deleted messages.
+	 */
+	synchronized void add(Guild guild, MessageChannel channel, Collection<CachedMessage> messages) {
+		if (messages.isEmpty()) return;
+		Batch batch = batches.get(channel.getIdLong());
+		if (batch == null) {
+			batch = new Batch(guild, channel, new ArrayList<>());
+			batches.put(channel.getIdLong(), batch);
+			MessageCacheConfig config = Bot.getConfig().get(guild).getMessageCacheConfig();
+			// the scheduled pool only waits; logging looks up authors and sends messages
+			Bot.getAsyncPool().schedule(() -> Bot.getBlockingPool().execute(() -> log(channel.getIdLong())), config.getDeletedMessageBatchSeconds(), TimeUnit.SECONDS);
+		}
+		batch.messages().addAll(messages);
+	}
+
+	private void log(long channelId) {
+		Batch batch;
+		synchronized (this) {
+			batch = batches.remove(channelId);
+		}
+		if (batch == null) return;
+		List<CachedMessage> messages = batch.messages();
+		if (messages.size() == 1) {
+			Bot.getMessageCache().sendDeletedMessageToLog(batch.guild(), batch.channel(), messages.get(0));
+		} else {
+			messages.sort(Comparator.comparingLong(CachedMessage::getMessageId));
+			Bot.getMessageCache().sendDeletedMessagesToLog(batch.guild(), batch.channel(), messages);
+		}
+	}
+
+	private record Batch(Guild guild, MessageChannel channel, List<CachedMessage> messages) {
+	}
+}
@@ -2,29 +2,41 @@ package net.javadiscord.javabot.data.h2db.message_cache;
 
 import lombok.extern.slf4j.Slf4j;
 import net.dv8tion.jda.api.EmbedBuilder;
+import net.dv8tion.jda.api.JDA;
 import net.dv8tion.jda.api.entities.*;
 import net.dv8tion.jda.api.interactions.components.buttons.Button;
 import net.dv8tion.jda.api.requests.restaction.MessageAction;
 import net.javadiscord.javabot.Bot;
+import net.javadiscord.javabot.data.config.SystemsConfig;
 import net.javadiscord.javabot.data.config.guild.MessageCacheConfig;
-import net.javadiscord.javabot.data.h2db.DbHelper;
-import net.javadiscord.javabot.data.h2db.message_cache.dao.MessageCacheRepository;
+import net.javadiscord.javabot.data.h2db.message_cache.index.MessageCacheIndex;
 import net.javadiscord.javabot.data.h2db.message_cache.model.CachedMessage;
+import net.javadiscord.javabot.data.h2db.message_cache.store.MessageCacheStore;
 import net.javadiscord.javabot.systems.user_commands.IdCalculatorCommand;
 import net.javadiscord.javabot.util.ExceptionLogger;
 import net.javadiscord.javabot.util.Responses;
 import net.javadiscord.javabot.util.TimeUtils;
+import org.jetbrains.annotations.Nullable;
 
 import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
-import java.sql.Connection;
-import java.sql.SQLException;
 import java.time.Instant;
 import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
-import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.LongFunction;
+import java.util.stream.Collectors;
 
 /**
  * Listens for Incoming Messages and stores them in the Message Cache.
@@ -32,56 +44,525 @@ import java.util.List;
 @Slf4j
 public class MessageCache {
 	/**
-	 * A memory-cache (list) of sent Messages, wrapped to a {@link CachedMessage} object.
+	 * The weight of a message, besides its content.
 	 */
-	public List<CachedMessage> cache = new ArrayList<>();
+	private static final int ENTRY_WEIGHT = 64;
+
+	/**
+	 * A memory-cache of sent Messages, wrapped to a {@link CachedMessage} object and
+	 * keyed by their id. All access is guarded by this object's lock.
+	 */
+	private final MessageCacheIndex cache;
+	/**
+	 * The partitions of the memory-cache, which are created once their first message is cached,
+	 * and dropped along with their statistics once their last message is removed.
+	 */
+	private final Map<MessageCachePartition.Key, MessageCachePartition> partitions = new HashMap<>();
+	/**
+	 * All partitions which hold any messages, lightest first. A partition is taken out
+	 * while its weight changes, so that it is always sorted by its current weight.
+	 */
+	private final NavigableSet<MessageCachePartition> partitionsByWeight = new TreeSet<>(Comparator
+			.comparingLong(MessageCachePartition::getWeight)
+			.thenComparingLong(MessageCachePartition::getGuildId)
+			.thenComparingLong(MessageCachePartition::getChannelId));
+	/**
+	 * The maximum total weight of all cached messages.
+	 */
+	private final long maxWeight;
+	private long weight = 0;
 	/**
-	 * Amount of messages since the last synchronization.
+	 * The changes since the last synchronization.
 	 * <p>
-	 * If a certain threshold is reached, messages will be synchronized to reduce the chances of loosing
+	 * If a certain threshold is reached, changes will be synchronized to reduce the chances of loosing
 	 * messages during an unexpected shutdown.
 	 */
-	public int messageCount = 0;
+	private final MessageCacheJournal journal = new MessageCacheJournal();
+	/**
+	 * Persists the cached messages. Writes are serialized through {@link MessageCache#writeLock}.
+	 */
+	private final MessageCacheStore store;
+	private final Object writeLock = new Object();
+	private final AuthorCache authors = new AuthorCache();
+	/**
+	 * Completes once the warm-up has loaded the store. No changes may be written before that.
+	 */
+	private final CompletableFuture<Void> storeLoaded = new CompletableFuture<>();
+	/**
+	 * Completes once the most recently drained changes have been written, or put back into the journal.
+	 * Changes are only drained once the previous ones are done, so that they're written in order.
+	 * Until the store has been loaded, this is {@link MessageCache#storeLoaded}.
+	 */
+	private CompletableFuture<Void> pendingWrite = storeLoaded;
+	private boolean closed = false;
 
 	/**
-	 * Creates a new messages & loads messages from the DB into a List.
+	 * The ids of all messages which were cached, edited or deleted since the warm-up started,
+	 * or null if the cache isn't being warmed up. The stored versions of these messages are outdated.
 	 */
-	public MessageCache() {
-		try (Connection con = Bot.getDataSource().getConnection()) {
-			cache = new MessageCacheRepository(con).getAll();
-		} catch (SQLException e) {
+	private @Nullable Set<Long> touchedDuringWarmUp = null;
+	private boolean warmUpStarted = false;
+	private final int warmUpBatchSize;
+
+	/**
+	 * Creates a new, empty message cache. Stored messages are only loaded once
+	 * {@link MessageCache#warmUp(JDA)} is called.
+	 *
+	 * @param config The {@link SystemsConfig.MessageCacheStoreConfig}.
+	 */
+	public MessageCache(SystemsConfig.MessageCacheStoreConfig config) {
+		this(MessageCacheStore.fromConfig(config), MessageCacheIndex.fromConfig(config), config.getMaxWeight(), config.getWarmUpBatchSize());
+	}
+
+	MessageCache(MessageCacheStore store, MessageCacheIndex cache, long maxWeight, int warmUpBatchSize) {
+		this.store = store;
+		this.cache = cache;
+		this.maxWeight = maxWeight;
+		this.warmUpBatchSize = warmUpBatchSize;
+	}
+
+	/**
+	 * Asynchronously loads the stored messages into the cache, newest first and one batch
+	 * at a time, so that new messages can be cached in the meantime. Messages which are
+	 * cached, edited or deleted before their stored version was loaded keep their live version.
+	 * This should be called once the guild configs are loaded, so that every stored message
+	 * is put into the right partition; it only has an effect the first time it is called.
+	 * No changes are written to the {@link MessageCacheStore} until it has been loaded.
+	 *
+	 * @param jda The {@link JDA} instance.
+	 */
+	public void warmUp(JDA jda) {
+		warmUp(guildId -> {
+			Guild guild = jda.getGuildById(guildId);
+			return guild == null ? null : Bot.getConfig().get(guild).getMessageCacheConfig();
+		});
+	}
+
+	/**
+	 * Asynchronously loads the stored messages into the cache.
+	 *
+	 * @param configs Gets the {@link MessageCacheConfig} of a guild, or null if the bot isn't part of it.
+	 */
+	synchronized void warmUp(LongFunction<MessageCacheConfig> configs) {
+		if (warmUpStarted) return;
+		warmUpStarted = true;
+		touchedDuringWarmUp = new HashSet<>();
+		try {
+			store.getExecutor().execute(() -> loadStoredMessages(configs));
+		} catch (RejectedExecutionException e) {
+			ExceptionLogger.capture(e, getClass().getSimpleName());
+			storeLoaded.complete(null);
+			finishWarmUp();
+		}
+	}
+
+	private void loadStoredMessages(LongFunction<MessageCacheConfig> configs) {
+		long start = System.currentTimeMillis();
+		// the amount of loaded messages, and the amount of those which were put into the cache
+		int loaded = 0;
+		int published = 0;
+		try {
+			// no changes are written before the store has been loaded, and afterwards
+			// they may be written between two batches, but not while one is loaded
+			MessageCacheStore.Cursor cursor;
+			try {
+				synchronized (writeLock) {
+					cursor = store.load(warmUpBatchSize);
+				}
+			} finally {
+				storeLoaded.complete(null);
+			}
+			while (true) {
+				List<CachedMessage> batch;
+				synchronized (writeLock) {
+					batch = cursor.next();
+				}
+				if (batch.isEmpty()) break;
+				loaded += batch.size();
+				published += publish(configs, batch);
+			}
+		} catch (IOException e) {
 			ExceptionLogger.capture(e, getClass().getSimpleName());
 			log.error("Something went wrong during retrieval of stored messages.");
+		} finally {
+			finishWarmUp();
 		}
+		log.info("Warmed up the message cache with {} of {} stored messages in {} ms.", published, loaded, System.currentTimeMillis() - start);
 	}
 
 	/**
-	 * Synchronizes Messages saved in the Database with what is currently stored in memory.
+	 * Puts a batch of stored messages into the cache. Since they are loaded newest first,
+	 * every stored message is older than all messages of its partition, so it is dropped
+	 * if the partition is already full.
+	 *
+	 * @return The amount of messages which were put into the cache.
 	 */
-	public void synchronize() {
-		DbHelper.doDaoAction(MessageCacheRepository::new, dao -> {
-			dao.delete(cache.size());
-			dao.insertList(cache);
-			messageCount = 0;
-			log.info("Synchronized Database with local Cache.");
-		});
+	private synchronized int publish(LongFunction<MessageCacheConfig> configs, List<CachedMessage> batch) {
+		int published = 0;
+		for (CachedMessage message : batch) {
+			if (touchedDuringWarmUp.contains(message.getMessageId()) || cache.contains(message.getMessageId())) continue;
+			MessageCacheConfig config = configs.apply(message.getGuildId());
+			MessageCachePartition partition;
+			int capacity;
+			if (config == null) {
+				// messages of guilds which the bot has left, or which were stored before the cache was partitioned
+				partition = getPartition(message.getGuildId(), 0);
+				capacity = Integer.MAX_VALUE;
+			} else {
+				partition = getPartition(config, message.getGuildId(), message.getChannelId());
+				capacity = getCapacity(config, partition);
+			}
+			if (partition.size() >= capacity) {
+				journal.recordDelete(message.getMessageId());
+				if (partition.isEmpty()) {
+					// a guild or channel whose cache is disabled
+					release(partition);
+				}
+				continue;
+			}
+			cache.put(message);
+			put(partition, message, true);
+			published++;
+		}
+		evictOverweight();
+		return published;
+	}
+
+	private synchronized void finishWarmUp() {
+		touchedDuringWarmUp = null;
 	}
 
 	/**
-	 * Caches a single {@link Message} object.
+	 * Checks whether stored messages are still being loaded.
+	 *
+	 * @return Whether the cache is being warmed up.
+	 */
+	public synchronized boolean isWarmingUp() {
+		return touchedDuringWarmUp != null;
+	}
+
+	/**
+	 * Asynchronously writes all changes since the last synchronization to the {@link MessageCacheStore}.
+	 * Only one synchronization runs at a time; changes which could not be written are
+	 * kept for the next one.
+	 */
+	public synchronized void synchronize() {
+		if (closed || !pendingWrite.isDone() || journal.size() == 0) return;
+		List<MessageCacheJournal.Change> changes = journal.drain();
+		CompletableFuture<Void> done = new CompletableFuture<>();
+		pendingWrite = done;
+		try {
+			store.getExecutor().execute(() -> write(changes, done));
+		} catch (RejectedExecutionException e) {
+			ExceptionLogger.capture(e, getClass().getSimpleName());
+			finishWrite(changes, false, done);
+		}
+	}
+
+	/**
+	 * Writes all changes since the last synchronization to the {@link MessageCacheStore}, and
+	 * waits until they are written. A synchronization which is still running is waited for first,
+	 * so that its older changes can't overwrite the flushed ones. If the warm-up hasn't started yet,
+	 * the store can't be written, so the changes are kept.
+	 */
+	public void flush() {
+		List<MessageCacheJournal.Change> changes;
+		CompletableFuture<Void> done = new CompletableFuture<>();
+		while (true) {
+			CompletableFuture<Void> previous;
+			synchronized (this) {
+				previous = pendingWrite;
+				if (previous.isDone()) {
+					changes = journal.drain();
+					pendingWrite = done;
+					break;
+				}
+				if (!warmUpStarted) {
+					if (journal.size() > 0) {
+						log.warn("Could not flush {} changes, since the message cache store hasn't been loaded.", journal.size());
+					}
+					return;
+				}
+			}
+			previous.join();
+		}
+		write(changes, done);
+	}
+
+	/**
+	 * Writes a batch of drained changes, and puts them back into the journal if that fails.
+	 *
+	 * @param changes The drained changes.
+	 * @param done    The {@link MessageCache#pendingWrite}, which is completed afterwards.
+	 */
+	private void write(List<MessageCacheJournal.Change> changes, CompletableFuture<Void> done) {
+		boolean written = false;
+		try {
+			if (!changes.isEmpty()) {
+				synchronized (writeLock) {
+					store.write(changes);
+				}
+			}
+			written = true;
+		} catch (IOException e) {
+			ExceptionLogger.capture(e, getClass().getSimpleName());
+		} finally {
+			finishWrite(changes, written, done);
+		}
+	}
+
+	private synchronized void finishWrite(List<MessageCacheJournal.Change> changes, boolean written, CompletableFuture<Void> done) {
+		if (!written) {
+			journal.restore(changes);
+		} else if (!changes.isEmpty()) {
+			log.info("Wrote {} changes to the message cache store.", changes.size());
+		}
+		done.complete(null);
+	}
+
+	/**
+	 * Flushes all pending changes and closes the {@link MessageCacheStore}. This
+	 * is used when the bot shuts down; no changes are synchronized afterwards.
+	 */
+	public void close() {
+		synchronized (this) {
+			closed = true;
+		}
+		flush();
+		synchronized (writeLock) {
+			try {
+				store.close();
+			} catch (IOException e) {
+				ExceptionLogger.capture(e, getClass().getSimpleName());
+			}
+		}
+	}
+
+	/**
+	 * Gets the amount of changes which haven't been written to the {@link MessageCacheStore} yet.
+	 *
+	 * @return The amount of pending changes.
+	 */
+	public synchronized int getPendingChanges() {
+		return journal.size();
+	}
+
+	/**
+	 * Caches a single {@link Message} object, evicting the oldest message of its
+	 * partition if the partition is full.
 	 *
 	 * @param message The message to cache.
 	 */
 	public void cache(Message message) {
-		MessageCacheConfig config = Bot.getConfig().get(message.getGuild()).getMessageCacheConfig();
-		if (cache.size() + 1 > config.getMaxCachedMessages()) {
-			cache.remove(0);
+		cache(CachedMessage.of(message), Bot.getConfig().get(message.getGuild()).getMessageCacheConfig());
+	}
+
+	synchronized void cache(CachedMessage cached, MessageCacheConfig config) {
+		MessageCachePartition partition = getPartition(config, cached.getGuildId(), cached.getChannelId());
+		touch(cached.getMessageId());
+		cache.put(cached);
+		put(partition, cached, false);
+		journal.recordUpsert(cached);
+		int capacity = getCapacity(config, partition);
+		while (partition.size() > capacity) {
+			evict(partition);
 		}
-		if (messageCount >= config.getMessageSynchronizationInterval()) {
+		evictOverweight();
+		if (journal.size() >= config.getMessageSynchronizationInterval()) {
 			synchronize();
 		}
-		messageCount++;
-		cache.add(CachedMessage.of(message));
+	}
+
+	/**
+	 * Replaces the cached version of an edited message, keeping its position in the cache.
+	 * Messages which weren't cached before are cached like new ones.
+	 *
+	 * @param message The edited {@link Message}.
+	 * @return The previously cached version, or null if the message wasn't cached.
+	 */
+	public @Nullable CachedMessage update(Message message) {
+		return update(CachedMessage.of(message), Bot.getConfig().get(message.getGuild()).getMessageCacheConfig());
+	}
+
+	synchronized @Nullable CachedMessage update(CachedMessage cached, MessageCacheConfig config) {
+		MessageCachePartition partition = findPartition(cached.getGuildId(), cached.getChannelId(), cached.getMessageId());
+		if (partition == null) {
+			getPartition(config, cached.getGuildId(), cached.getChannelId()).recordMiss();
+			cache(cached, config);
+			return null;
+		}
+		partition.recordHit();
+		journal.recordUpsert(cached);
+		put(partition, cached, false);
+		CachedMessage before = cache.put(cached);
+		evictOverweight();
+		return before;
+	}
+
+	/**
+	 * Removes a message from the cache.
+	 *
+	 * @param guild     The message's {@link Guild}.
+	 * @param channelId The id of the message's channel.
+	 * @param messageId The message's id.
+	 * @return The removed {@link CachedMessage}, or null if the message wasn't cached.
+	 */
+	public @Nullable CachedMessage remove(Guild guild, long channelId, long messageId) {
+		return remove(Bot.getConfig().get(guild).getMessageCacheConfig(), guild.getIdLong(), channelId, messageId);
+	}
+
+	synchronized @Nullable CachedMessage remove(MessageCacheConfig config, long guildId, long channelId, long messageId) {
+		MessageCachePartition partition = findPartition(guildId, channelId, messageId);
+		if (partition == null) {
+			// misses of channels without any cached messages aren't counted, so that they don't keep an empty partition around
+			MessageCachePartition expected = partitions.get(getKey(config, guildId, channelId));
+			if (expected != null) {
+				expected.recordMiss();
+			}
+			if (touch(messageId)) {
+				// the message may not have been loaded yet, so its stored version has to be deleted
+				journal.recordDelete(messageId);
+			}
+			return null;
+		}
+		partition.recordHit();
+		partitionsByWeight.remove(partition);
+		weight -= partition.remove(messageId);
+		release(partition);
+		journal.recordDelete(messageId);
+		return cache.remove(messageId);
+	}
+
+	/**
+	 * Gets the amount of messages in the memory-cache.
+	 *
+	 * @return The amount of cached messages.
+	 */
+	public synchronized int size() {
+		return cache.size();
+	}
+
+	/**
+	 * Gets the total weight of all messages in the memory-cache. A message's
+	 * weight is the length of its content, plus a fixed amount for the rest of it.
+	 *
+	 * @return The total weight.
+	 */
+	public synchronized long getWeight() {
+		return weight;
+	}
+
+	/**
+	 * Gets the statistics of all partitions of the given guild.
+	 *
+	 * @param guildId The guild's id.
+	 * @return The {@link MessageCachePartition.Statistics} of all of the guild's partitions.
+	 */
+	public synchronized List<MessageCachePartition.Statistics> getPartitionStatistics(long guildId) {
+		return partitions.values().stream()
+				.filter(partition -> partition.getGuildId() == guildId)
+				.map(MessageCachePartition::getStatistics)
+				.toList();
+	}
+
+	/**
+	 * Marks a message as changed by a live event, so that its stored version is ignored during warm-up.
+	 *
+	 * @return Whether the cache is being warmed up.
+	 */
+	private boolean touch(long messageId) {
+		if (touchedDuringWarmUp == null) return false;
+		touchedDuringWarmUp.add(messageId);
+		return true;
+	}
+
+	private static int getCapacity(MessageCacheConfig config, MessageCachePartition partition) {
+		return partition.getChannelId() == 0 ? config.getMaxCachedMessages() : config.getMaxCachedMessagesPerChannel();
+	}
+
+	private static MessageCachePartition.Key getKey(MessageCacheConfig config, long guildId, long channelId) {
+		return new MessageCachePartition.Key(guildId, config.isPartitionByChannel() ? channelId : 0);
+	}
+
+	private MessageCachePartition getPartition(MessageCacheConfig config, long guildId, long channelId) {
+		MessageCachePartition.Key key = getKey(config, guildId, channelId);
+		return getPartition(key.guildId(), key.channelId());
+	}
+
+	private MessageCachePartition getPartition(long guildId, long channelId) {
+		return partitions.computeIfAbsent(new MessageCachePartition.Key(guildId, channelId), key -> new MessageCachePartition(guildId, channelId));
+	}
+
+	/**
+	 * Finds the partition which holds the given message. Depending on whether its
+	 * guild's cache was partitioned by channel when the message was cached, this
+	 * is either the partition of its channel, or the one of its guild.
+	 */
+	private @Nullable MessageCachePartition findPartition(long guildId, long channelId, long messageId) {
+		MessageCachePartition partition = partitions.get(new MessageCachePartition.Key(guildId, channelId));
+		if (partition != null && partition.contains(messageId)) return partition;
+		partition = partitions.get(new MessageCachePartition.Key(guildId, 0));
+		if (partition != null && partition.contains(messageId)) return partition;
+		// messages which were stored before the cache was partitioned
+		partition = partitions.get(new MessageCachePartition.Key(0, 0));
+		return partition != null && partition.contains(messageId) ? partition : null;
+	}
+
+	/**
+	 * Adds a message to a partition, or updates its weight if it was added before.
+	 *
+	 * @param oldest Whether the message is added as the partition's oldest one.
+	 */
+	private void put(MessageCachePartition partition, CachedMessage message, boolean oldest) {
+		partitionsByWeight.remove(partition);
+		weight += oldest
+				? partition.putOldest(message.getMessageId(), weigh(message))
+				: partition.put(message.getMessageId(), weigh(message));
+		partitionsByWeight.add(partition);
+	}
+
+	private void evict(MessageCachePartition partition) {
+		partitionsByWeight.remove(partition);
+		long before = partition.getWeight();
+		long messageId = partition.evictOldest();
+		weight -= before - partition.getWeight();
+		release(partition);
+		cache.discard(messageId);
+		journal.recordDelete(messageId);
+	}
+
+	/**
+	 * Puts a partition whose weight has changed back in order, or drops it if it has become empty.
+	 */
+	private void release(MessageCachePartition partition) {
+		if (partition.isEmpty()) {
+			partitions.remove(new MessageCachePartition.Key(partition.getGuildId(), partition.getChannelId()));
+		} else {
+			partitionsByWeight.add(partition);
+		}
+	}
+
+	/**
+	 * Evicts messages from the heaviest partitions until the cache's total weight
+	 * no longer exceeds its maximum.
+	 */
+	private void evictOverweight() {
+		while (weight > maxWeight && !partitionsByWeight.isEmpty()) {
+			evict(partitionsByWeight.last());
+		}
+	}
+
+	private static int weigh(CachedMessage message) {
+		return ENTRY_WEIGHT + message.getMessageContent().length();
+	}
+
+	/**
+	 * Gets the amount of memory outside the heap which the memory-cache has allocated.
+	 *
+	 * @return The amount of bytes.
+	 */
+	public synchronized long getOffHeapBytes() {
+		return cache.getOffHeapBytes();
 	}
 
 	/**
@@ -113,7 +594,7 @@ public class MessageCache {
 	public void sendDeletedMessageToLog(Guild guild, MessageChannel channel, CachedMessage message) {
 		MessageCacheConfig config = Bot.getConfig().get(guild).getMessageCacheConfig();
 		if (config.getMessageCacheLogChannel() == null) return;
-		guild.getJDA().retrieveUserById(message.getAuthorId()).queue(author -> {
+		authors.retrieve(guild.getJDA(), message.getAuthorId()).thenAccept(author -> {
 			MessageAction action = config.getMessageCacheLogChannel().sendMessageEmbeds(buildMessageDeleteEmbed(guild, author, channel, message));
 			if (message.getMessageContent().length() > MessageEmbed.VALUE_MAX_LENGTH) {
 				action.addFile(buildDeletedMessageFile(author, message), message.getMessageId() + ".txt");
@@ -122,6 +603,24 @@ public class MessageCache {
 		});
 	}
 
+	/**
+	 * Sends multiple deleted messages of the same channel to the {@link MessageCacheConfig#getMessageCacheLogChannel()},
+	 * using a single embed and a transcript of all messages.
+	 *
+	 * @param guild    The messages' {@link Guild}.
+	 * @param channel  The messages' {@link MessageChannel}.
+	 * @param messages The {@link CachedMessage}s, oldest first.
+	 */
+	public void sendDeletedMessagesToLog(Guild guild, MessageChannel channel, List<CachedMessage> messages) {
+		MessageCacheConfig config = Bot.getConfig().get(guild).getMessageCacheConfig();
+		if (config.getMessageCacheLogChannel() == null) return;
+		List<Long> authorIds = messages.stream().map(CachedMessage::getAuthorId).distinct().toList();
+		authors.retrieveAll(guild.getJDA(), authorIds).thenAccept(users -> config.getMessageCacheLogChannel()
+				.sendMessageEmbeds(buildBulkDeleteEmbed(channel, authorIds, messages))
+				.addFile(buildDeletedMessagesFile(channel, users, messages), channel.getId() + "_" + messages.get(0).getMessageId() + ".txt")
+				.queue());
+	}
+
 	private EmbedBuilder buildMessageCacheEmbed(MessageChannel channel, User author, CachedMessage before) {
 		long epoch = IdCalculatorCommand.getTimestampFromId(before.getMessageId()) / 1000;
 		return new EmbedBuilder()
@@ -156,6 +655,41 @@ public class MessageCache {
 				.build();
 	}
 
+	private MessageEmbed buildBulkDeleteEmbed(MessageChannel channel, List<Long> authorIds, List<CachedMessage> messages) {
+		long first = IdCalculatorCommand.getTimestampFromId(messages.get(0).getMessageId()) / 1000;
+		long last = IdCalculatorCommand.getTimestampFromId(messages.get(messages.size() - 1).getMessageId()) / 1000;
+		String authorMentions = authorIds.stream().map(id -> "<@" + id + ">").collect(Collectors.joining(", "));
+		if (authorMentions.length() > MessageEmbed.VALUE_MAX_LENGTH) {
+			authorMentions = authorIds.size() + " users";
+		}
+		return new EmbedBuilder()
+				.setTitle(messages.size() + " Messages Deleted")
+				.setColor(Responses.Type.ERROR.getColor())
+				.addField("Channel", channel.getAsMention(), true)
+				.addField("Created between", String.format("<t:%s:F> and <t:%s:F>", first, last), true)
+				.addField("Authors", authorMentions, false)
+				.setFooter("The content of all messages is attached.")
+				.build();
+	}
+
+	private InputStream buildDeletedMessagesFile(MessageChannel channel, Map<Long, User> authors, List<CachedMessage> messages) {
+		DateTimeFormatter formatter = TimeUtils.STANDARD_FORMATTER.withZone(ZoneOffset.UTC);
+		StringBuilder sb = new StringBuilder();
+		sb.append(String.format("Channel: #%s%nDeleted messages: %s%n", channel.getName(), messages.size()));
+		for (CachedMessage message : messages) {
+			Instant instant = Instant.ofEpochMilli(IdCalculatorCommand.getTimestampFromId(message.getMessageId()));
+			User author = authors.get(message.getAuthorId());
+			sb.append(String.format("""
+									
+					--- %s (%s) at %s, ID: %s ---
+									
+					%s
+					""", author == null ? "Unknown User" : author.getAsTag(), message.getAuthorId(), formatter.format(instant),
+					message.getMessageId(), message.getMessageContent()));
+		}
+		return new ByteArrayInputStream(sb.toString().getBytes(StandardCharsets.UTF_8));
+	}
+
 	private InputStream buildDeletedMessageFile(User author, CachedMessage message) {
 		DateTimeFormatter formatter = TimeUtils.STANDARD_FORMATTER.withZone(ZoneOffset.UTC);
 		Instant instant = Instant.ofEpochMilli(IdCalculatorCommand.getTimestampFromId(message.getMessageId()));
@@ -0,0 +1,79 @@
+package net.javadiscord.javabot.data.h2db.message_cache;
+
+import net.javadiscord.javabot.data.h2db.message_cache.model.CachedMessage;
+import net.javadiscord.javabot.util.LongLinkedMap;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+
+/**
+ * Records the changes to the {@link MessageCache} since it was last written to
+ * the database. Only the most recent change of every message is kept, so that
+ * a message which is edited several times is only written once.
+ * <p>
+ * This class is not thread-safe; it is guarded by the {@link MessageCache}'s lock.
+ * </p>
+ */
+public class MessageCacheJournal {
+	private LongLinkedMap<Change> changes = new LongLinkedMap<>(64);
+
+	/**
+	 * Records that a message was cached or edited.
+	 *
+	 * @param message The new version of the message.
+	 */
+	public void recordUpsert(@NotNull CachedMessage message) {
+		changes.put(message.getMessageId(), new Change(message.getMessageId(), message));
+	}
+
+	/**
+	 * Records that a message was deleted, or evicted from the cache.
+	 *
+	 * @param messageId The message's id.
+	 */
+	public void recordDelete(long messageId) {
+		changes.put(messageId, new Change(messageId, null));
+	}
+
+	/**
+	 * Removes and returns all recorded changes.
+	 *
+	 * @return The changes, oldest first.
+	 */
+	public @NotNull List<Change> drain() {
+		List<Change> drained = changes.values();
+		changes = new LongLinkedMap<>(Math.max(64, drained.size()));
+		return drained;
+	}
+
+	/**
+	 * Puts back changes which could not be written, unless their message was
+	 * changed again in the meantime.
+	 *
+	 * @param failed The changes which could not be written.
+	 */
+	public void restore(@NotNull List<Change> failed) {
+		for (Change change : failed) {
+			if (!changes.containsKey(change.messageId())) {
+				changes.put(change.messageId(), change);
+			}
+		}
+	}
+
+	public int size() {
+		return changes.size();
+	}
+
+	/**
+	 * A single change to the cache.
+	 *
+	 * @param messageId The id of the changed message.
+	 * @param message   The new version of the message, or null if it was deleted.
+	 */
+	public record Change(long messageId, @Nullable CachedMessage message) {
+		public boolean isDelete() {
+			return message == null;
+		}
+	}
+}
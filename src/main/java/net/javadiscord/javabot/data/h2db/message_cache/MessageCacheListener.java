@@ -1,6 +1,7 @@
 package net.javadiscord.javabot.data.h2db.message_cache;
 
 import net.dv8tion.jda.api.entities.Message;
+import net.dv8tion.jda.api.events.message.MessageBulkDeleteEvent;
 import net.dv8tion.jda.api.events.message.MessageDeleteEvent;
 import net.dv8tion.jda.api.events.message.MessageReceivedEvent;
 import net.dv8tion.jda.api.events.message.MessageUpdateEvent;
@@ -10,13 +11,14 @@ import net.javadiscord.javabot.data.config.guild.MessageCacheConfig;
 import net.javadiscord.javabot.data.h2db.message_cache.model.CachedMessage;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
 
 /**
  * Listener class that listens for incoming, updated or deleted messages.
  */
 public class MessageCacheListener extends ListenerAdapter {
+	private final DeletedMessageBatcher deletedMessages = new DeletedMessageBatcher();
 
 	@Override
 	public void onMessageReceived(@NotNull MessageReceivedEvent event) {
@@ -27,28 +29,34 @@ public class MessageCacheListener extends ListenerAdapter {
 	@Override
 	public void onMessageUpdate(@NotNull MessageUpdateEvent event) {
 		if (this.ignoreMessageCache(event.getMessage())) return;
-		List<CachedMessage> cache = Bot.getMessageCache().cache;
-		Optional<CachedMessage> optional = cache.stream().filter(m -> m.getMessageId() == event.getMessageIdLong()).findFirst();
-		CachedMessage before;
-		if (optional.isPresent()) {
-			before = optional.get();
-			cache.set(cache.indexOf(before), CachedMessage.of(event.getMessage()));
-		} else {
+		CachedMessage before = Bot.getMessageCache().update(event.getMessage());
+		if (before == null) {
 			before = new CachedMessage();
 			before.setMessageId(event.getMessageIdLong());
 			before.setMessageContent("[unknown content]");
-			Bot.getMessageCache().cache(event.getMessage());
 		}
 		Bot.getMessageCache().sendUpdatedMessageToLog(event.getMessage(), before);
 	}
 
 	@Override
 	public void onMessageDelete(@NotNull MessageDeleteEvent event) {
-		Optional<CachedMessage> optional = Bot.getMessageCache().cache.stream().filter(m -> m.getMessageId() == event.getMessageIdLong()).findFirst();
-		optional.ifPresent(message -> {
-			Bot.getMessageCache().sendDeletedMessageToLog(event.getGuild(), event.getChannel(), message);
-			Bot.getMessageCache().cache.remove(message);
-		});
+		if (!event.isFromGuild()) return;
+		CachedMessage message = Bot.getMessageCache().remove(event.getGuild(), event.getChannel().getIdLong(), event.getMessageIdLong());
+		if (message != null) {
+			deletedMessages.add(event.getGuild(), event.getChannel(), List.of(message));
+		}
+	}
+
+	@Override
+	public void onMessageBulkDelete(@NotNull MessageBulkDeleteEvent event) {
+		List<CachedMessage> messages = new ArrayList<>(event.getMessageIds().size());
+		for (String id : event.getMessageIds()) {
+			CachedMessage message = Bot.getMessageCache().remove(event.getGuild(), event.getChannel().getIdLong(), Long.parseLong(id));
+			if (message != null) {
+				messages.add(message);
+			}
+		}
+		deletedMessages.add(event.getGuild(), event.getChannel(), messages);
 	}
 
 
@@ -0,0 +1,144 @@
+package net.javadiscord.javabot.data.h2db.message_cache;
+
+import lombok.Getter;
+import net.javadiscord.javabot.util.LongLinkedMap;
+
+/**
+ * A part of the {@link MessageCache} which holds the messages of a single
+ * guild, or of a single channel if the guild's cache is partitioned by channel.
+ * Every partition evicts its own oldest messages once it exceeds its capacity,
+ * so that a busy channel or guild can't evict the history of others.
+ * <p>
+ * A partition only keeps track of which messages it holds and how much they
+ * weigh; the messages themselves are held by the cache's index. This class
+ * is not thread-safe; it is guarded by the {@link MessageCache}'s lock.
+ * </p>
+ */
+public class MessageCachePartition {
+	@Getter
+	private final long guildId;
+	/**
+	 * The channel's id, or 0 if this partition holds the messages of the whole guild.
+	 */
+	@Getter
+	private final long channelId;
+	/**
+	 * The weight of every message in this partition, oldest first.
+	 */
+	private final LongLinkedMap<Integer> weights = new LongLinkedMap<>(16);
+	@Getter
+	private long weight = 0;
+	private long hits = 0;
+	private long misses = 0;
+	private long evictions = 0;
+
+	MessageCachePartition(long guildId, long channelId) {
+		this.guildId = guildId;
+		this.channelId = channelId;
+	}
+
+	boolean contains(long messageId) {
+		return weights.containsKey(messageId);
+	}
+
+	/**
+	 * Adds a message, or updates the weight of a message which was added before.
+	 *
+	 * @param messageId The message's id.
+	 * @param weight    The message's weight.
+	 * @return The change of this partition's weight.
+	 */
+	long put(long messageId, int weight) {
+		Integer previous = weights.put(messageId, weight);
+		long delta = weight - (previous == null ? 0 : previous);
+		this.weight += delta;
+		return delta;
+	}
+
+	/**
+	 * Adds a message as the oldest one of this partition, so that it is evicted first.
+	 * This is used for stored messages, which are older than any message cached since startup.
+	 *
+	 * @param messageId The message's id.
+	 * @param weight    The message's weight.
+	 * @return The change of this partition's weight, which is 0 if the message was added before.
+	 */
+	long putOldest(long messageId, int weight) {
+		if (!weights.putFirst(messageId, weight)) return 0;
+		this.weight += weight;
+		return weight;
+	}
+
+	/**
+	 * Removes a message.
+	 *
+	 * @param messageId The message's id.
+	 * @return The removed message's weight, or 0 if it wasn't part of this partition.
+	 */
+	int remove(long messageId) {
+		Integer removed = weights.remove(messageId);
+		if (removed == null) return 0;
+		weight -= removed;
+		return removed;
+	}
+
+	/**
+	 * Removes the oldest message.
+	 *
+	 * @return The removed message's id.
+	 */
+	long evictOldest() {
+		long messageId = weights.oldestKey();
+		weight -= weights.removeOldest();
+		evictions++;
+		return messageId;
+	}
+
+	void recordHit() {
+		hits++;
+	}
+
+	void recordMiss() {
+		misses++;
+	}
+
+	public int size() {
+		return weights.size();
+	}
+
+	public boolean isEmpty() {
+		return weights.isEmpty();
+	}
+
+	/**
+	 * Takes a snapshot of this partition's statistics.
+	 *
+	 * @return The {@link Statistics}.
+	 */
+	public Statistics getStatistics() {
+		return new Statistics(guildId, channelId, size(), weight, hits, misses, evictions);
+	}
+
+	/**
+	 * A snapshot of a partition's statistics.
+	 *
+	 * @param guildId   The guild's id.
+	 * @param channelId The channel's id, or 0 if the partition holds the messages of the whole guild.
+	 * @param size      The amount of cached messages.
+	 * @param weight    The total weight of all cached messages.
+	 * @param hits      How often an edited or deleted message was found.
+	 * @param misses    How often an edited or deleted message wasn't found.
+	 * @param evictions How often a message was evicted to make room for others.
+	 */
+	public record Statistics(long guildId, long channelId, int size, long weight, long hits, long misses, long evictions) {
+	}
+
+	/**
+	 * Identifies a partition.
+	 *
+	 * @param guildId   The guild's id.
+	 * @param channelId The channel's id, or 0 for the partition of the whole guild.
+	 */
+	record Key(long guildId, long channelId) {
+	}
+}
@@ -1,6 +1,8 @@
 package net.javadiscord.javabot.data.h2db.message_cache.dao;
 
 import lombok.RequiredArgsConstructor;
+import net.javadiscord.javabot.data.h2db.QueryRegistry;
+import net.javadiscord.javabot.data.h2db.message_cache.MessageCacheJournal;
 import net.javadiscord.javabot.data.h2db.message_cache.model.CachedMessage;
 import org.jetbrains.annotations.NotNull;
 
@@ -23,35 +25,50 @@ public class MessageCacheRepository {
 	 * @throws SQLException If an error occurs.
 	 */
 	public boolean insert(CachedMessage message) throws SQLException {
-		try (PreparedStatement stmt = con.prepareStatement("INSERT INTO message_cache (message_id, author_id, message_content) VALUES (?, ?, ?)",
-				Statement.RETURN_GENERATED_KEYS
-		)) {
+		try (PreparedStatement stmt = QueryRegistry.prepare(con, "message_cache.insert", Statement.RETURN_GENERATED_KEYS)) {
 			stmt.setLong(1, message.getMessageId());
-			stmt.setLong(2, message.getAuthorId());
-			stmt.setString(3, message.getMessageContent());
+			stmt.setLong(2, message.getGuildId());
+			stmt.setLong(3, message.getChannelId());
+			stmt.setLong(4, message.getAuthorId());
+			stmt.setString(5, message.getMessageContent());
 			int rows = stmt.executeUpdate();
 			return rows > 0;
 		}
 	}
 
 	/**
-	 * Inserts a {@link List} of {@link CachedMessage} objects.
+	 * Applies the given changes in a single transaction, using one JDBC batch
+	 * for all inserted or edited messages, and one for all deleted messages.
 	 *
-	 * @param messages The List to insert.
+	 * @param changes The changes to apply.
 	 * @throws SQLException If an error occurs.
 	 */
-	public void insertList(@NotNull List<CachedMessage> messages) throws SQLException {
-		try (PreparedStatement stmt = con.prepareStatement("MERGE INTO message_cache (message_id, author_id, message_content) VALUES (?, ?, ?)",
-				Statement.RETURN_GENERATED_KEYS
-		)) {
-			con.setAutoCommit(false);
-			for (CachedMessage msg : messages) {
-				stmt.setLong(1, msg.getMessageId());
-				stmt.setLong(2, msg.getAuthorId());
-				stmt.setString(3, msg.getMessageContent());
-				stmt.executeUpdate();
+	public void applyChanges(@NotNull List<MessageCacheJournal.Change> changes) throws SQLException {
+		boolean autoCommit = con.getAutoCommit();
+		con.setAutoCommit(false);
+		try (PreparedStatement merge = QueryRegistry.prepare(con, "message_cache.merge");
+			PreparedStatement delete = QueryRegistry.prepare(con, "message_cache.delete")) {
+			for (MessageCacheJournal.Change change : changes) {
+				if (change.isDelete()) {
+					delete.setLong(1, change.messageId());
+					delete.addBatch();
+				} else {
+					merge.setLong(1, change.messageId());
+					merge.setLong(2, change.message().getGuildId());
+					merge.setLong(3, change.message().getChannelId());
+					merge.setLong(4, change.message().getAuthorId());
+					merge.setString(5, change.message().getMessageContent());
+					merge.addBatch();
+				}
 			}
+			merge.executeBatch();
+			delete.executeBatch();
 			con.commit();
+		} catch (SQLException e) {
+			con.rollback();
+			throw e;
+		} finally {
+			con.setAutoCommit(autoCommit);
 		}
 	}
 
@@ -63,9 +80,7 @@ public class MessageCacheRepository {
 	 * @throws SQLException If an error occurs.
 	 */
 	public boolean update(@NotNull CachedMessage message) throws SQLException {
-		try (PreparedStatement stmt = con.prepareStatement("UPDATE message_cache SET message_content = ? WHERE message_id = ?",
-				Statement.RETURN_GENERATED_KEYS
-		)) {
+		try (PreparedStatement stmt = QueryRegistry.prepare(con, "message_cache.update_content", Statement.RETURN_GENERATED_KEYS)) {
 			stmt.setString(1, message.getMessageContent());
 			stmt.setLong(2, message.getMessageId());
 			int rows = stmt.executeUpdate();
@@ -81,9 +96,7 @@ public class MessageCacheRepository {
 	 * @throws SQLException If an error occurs.
 	 */
 	public boolean delete(long messageId) throws SQLException {
-		try (PreparedStatement stmt = con.prepareStatement("DELETE FROM message_cache WHERE message_id = ?",
-				Statement.RETURN_GENERATED_KEYS
-		)) {
+		try (PreparedStatement stmt = QueryRegistry.prepare(con, "message_cache.delete", Statement.RETURN_GENERATED_KEYS)) {
 			stmt.setLong(1, messageId);
 			int rows = stmt.executeUpdate();
 			return rows > 0;
@@ -91,42 +104,31 @@ public class MessageCacheRepository {
 	}
 
 	/**
-	 * Gets all Messages from the Database.
+	 * Gets the newest Messages which are older than the given one.
 	 *
-	 * @return A {@link List} of {@link CachedMessage}s.
+	 * @param messageId The id of the message before which to start.
+	 * @param limit     The maximum amount of messages.
+	 * @return The messages, newest first.
 	 * @throws SQLException If anything goes wrong.
 	 */
-	public List<CachedMessage> getAll() throws SQLException {
-		try (PreparedStatement s = con.prepareStatement("SELECT * FROM message_cache")) {
+	public List<CachedMessage> getNewestBefore(long messageId, int limit) throws SQLException {
+		try (PreparedStatement s = QueryRegistry.prepare(con, "message_cache.select_newest_before")) {
+			s.setLong(1, messageId);
+			s.setInt(2, limit);
 			ResultSet rs = s.executeQuery();
-			List<CachedMessage> cachedMessages = new ArrayList<>();
+			List<CachedMessage> messages = new ArrayList<>(limit);
 			while (rs.next()) {
-				cachedMessages.add(this.read(rs));
+				messages.add(this.read(rs));
 			}
-			return cachedMessages;
-		}
-	}
-
-	/**
-	 * Deletes the given amount of Messages.
-	 *
-	 * @param amount The amount to delete.
-	 * @return If any rows we're affected.
-	 * @throws SQLException If anything goes wrong.
-	 */
-	public boolean delete(int amount) throws SQLException {
-		try (PreparedStatement stmt = con.prepareStatement("DELETE FROM message_cache LIMIT ?",
-				Statement.RETURN_GENERATED_KEYS
-		)) {
-			stmt.setInt(1, amount);
-			int rows = stmt.executeUpdate();
-			return rows > 0;
+			return messages;
 		}
 	}
 
 	private CachedMessage read(ResultSet rs) throws SQLException {
 		CachedMessage cachedMessage = new CachedMessage();
 		cachedMessage.setMessageId(rs.getLong("message_id"));
+		cachedMessage.setGuildId(rs.getLong("guild_id"));
+		cachedMessage.setChannelId(rs.getLong("channel_id"));
 		cachedMessage.setAuthorId(rs.getLong("author_id"));
 		cachedMessage.setMessageContent(rs.getString("message_content"));
 		return cachedMessage;
@@ -0,0 +1,128 @@
+package net.javadiscord.javabot.data.h2db.message_cache.index;
+
+import net.javadiscord.javabot.data.h2db.message_cache.model.CachedMessage;
+import net.javadiscord.javabot.util.ChatTextCompressor;
+import net.javadiscord.javabot.util.DirectSlabArena;
+import net.javadiscord.javabot.util.LongLinkedMap;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Keeps the content of cached messages compressed outside the heap, so that
+ * many more messages can be cached without growing it.
+ * <p>
+ * The heap only holds the ordered index of message ids, each mapped to the
+ * handle of a record in a {@link DirectSlabArena}. That record holds the
+ * author's, guild's and channel's ids and the content, compressed by a
+ * {@link ChatTextCompressor}.
+ * Content is only decompressed when a message is actually read, which
+ * happens when an edit or deletion is logged; evicting messages never reads it.
+ * Once long-lived messages keep too many slabs mostly empty, the arena is compacted.
+ * </p>
+ */
+public class CompressedMessageCacheIndex implements MessageCacheIndex {
+	private final LongLinkedMap<Long> handles = new LongLinkedMap<>(1000);
+	private final DirectSlabArena arena;
+	private final ChatTextCompressor compressor = new ChatTextCompressor();
+
+	/**
+	 * Creates a new, empty index.
+	 *
+	 * @param slabSize The size of the off-heap slabs in bytes.
+	 */
+	public CompressedMessageCacheIndex(int slabSize) {
+		arena = new DirectSlabArena(slabSize);
+	}
+
+	@Override
+	public @Nullable CachedMessage get(long messageId) {
+		Long handle = handles.get(messageId);
+		return handle == null ? null : read(messageId, handle);
+	}
+
+	@Override
+	public boolean contains(long messageId) {
+		return handles.containsKey(messageId);
+	}
+
+	@Override
+	public @Nullable CachedMessage put(@NotNull CachedMessage message) {
+		byte[] content = compressor.compress(message.getMessageContent());
+		ByteBuffer record = ByteBuffer.allocate(2 * Long.BYTES + content.length)
+				.putLong(message.getGuildId())
+				.putLong(message.getChannelId())
+				.put(content);
+		long handle = arena.allocate(message.getAuthorId(), record.array());
+		Long previous = handles.put(message.getMessageId(), handle);
+		if (previous == null) return null;
+		CachedMessage before = read(message.getMessageId(), previous);
+		free(previous);
+		return before;
+	}
+
+	@Override
+	public @Nullable CachedMessage remove(long messageId) {
+		Long handle = handles.remove(messageId);
+		if (handle == null) return null;
+		CachedMessage removed = read(messageId, handle);
+		free(handle);
+		return removed;
+	}
+
+	@Override
+	public boolean discard(long messageId) {
+		Long handle = handles.remove(messageId);
+		if (handle == null) return false;
+		free(handle);
+		return true;
+	}
+
+	@Override
+	public long removeOldest() {
+		long messageId = handles.oldestKey();
+		free(handles.removeOldest());
+		return messageId;
+	}
+
+	@Override
+	public int size() {
+		return handles.size();
+	}
+
+	@Override
+	public long getOffHeapBytes() {
+		return arena.getAllocatedBytes();
+	}
+
+	/**
+	 * Gets the amount of off-heap memory which is used by cached messages.
+	 *
+	 * @return The amount of bytes.
+	 */
+	public long getUsedBytes() {
+		return arena.getLiveBytes();
+	}
+
+	/**
+	 * Frees a record which is no longer referenced by the index, compacting the arena if needed.
+	 */
+	private void free(long handle) {
+		arena.free(handle);
+		if (arena.shouldCompact()) {
+			arena.compact(relocate -> handles.replaceAll(relocate::applyAsLong));
+		}
+	}
+
+	private @NotNull CachedMessage read(long messageId, long handle) {
+		CachedMessage message = new CachedMessage();
+		message.setMessageId(messageId);
+		message.setAuthorId(arena.getHeader(handle));
+		ByteBuffer record = arena.get(handle);
+		message.setGuildId(record.getLong());
+		message.setChannelId(record.getLong());
+		message.setMessageContent(compressor.decompress(record));
+		return message;
+	}
+}
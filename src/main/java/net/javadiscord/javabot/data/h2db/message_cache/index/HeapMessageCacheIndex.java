@@ -0,0 +1,50 @@
+package net.javadiscord.javabot.data.h2db.message_cache.index;
+
+import net.javadiscord.javabot.data.h2db.message_cache.model.CachedMessage;
+import net.javadiscord.javabot.util.LongLinkedMap;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Keeps all cached messages, including their content, on the heap.
+ */
+public class HeapMessageCacheIndex implements MessageCacheIndex {
+	private final LongLinkedMap<CachedMessage> messages = new LongLinkedMap<>(1000);
+
+	@Override
+	public @Nullable CachedMessage get(long messageId) {
+		return messages.get(messageId);
+	}
+
+	@Override
+	public boolean contains(long messageId) {
+		return messages.containsKey(messageId);
+	}
+
+	@Override
+	public @Nullable CachedMessage put(@NotNull CachedMessage message) {
+		return messages.put(message.getMessageId(), message);
+	}
+
+	@Override
+	public @Nullable CachedMessage remove(long messageId) {
+		return messages.remove(messageId);
+	}
+
+	@Override
+	public boolean discard(long messageId) {
+		return messages.remove(messageId) != null;
+	}
+
+	@Override
+	public long removeOldest() {
+		long messageId = messages.oldestKey();
+		messages.removeOldest();
+		return messageId;
+	}
+
+	@Override
+	public int size() {
+		return messages.size();
+	}
+}
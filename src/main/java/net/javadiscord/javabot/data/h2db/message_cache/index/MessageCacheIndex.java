@@ -0,0 +1,86 @@
+package net.javadiscord.javabot.data.h2db.message_cache.index;
+
+import net.javadiscord.javabot.data.config.SystemsConfig;
+import net.javadiscord.javabot.data.h2db.message_cache.model.CachedMessage;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Holds the messages of the {@link net.javadiscord.javabot.data.h2db.message_cache.MessageCache}
+ * in memory, keyed by their id and ordered from oldest to newest. Replacing
+ * a message keeps its position.
+ * <p>
+ * Implementations aren't thread-safe; they are guarded by the message cache's lock.
+ * </p>
+ */
+public interface MessageCacheIndex {
+	/**
+	 * Creates the index which uses the storage selected in the given config.
+	 *
+	 * @param config The {@link SystemsConfig.MessageCacheStoreConfig}.
+	 * @return The {@link MessageCacheIndex}.
+	 */
+	static @NotNull MessageCacheIndex fromConfig(@NotNull SystemsConfig.MessageCacheStoreConfig config) {
+		return switch (config.getContentStorage()) {
+			case HEAP -> new HeapMessageCacheIndex();
+			case COMPRESSED_OFF_HEAP -> new CompressedMessageCacheIndex(config.getSlabSize());
+		};
+	}
+
+	/**
+	 * Gets a message.
+	 *
+	 * @param messageId The message's id.
+	 * @return The message, or null if it isn't cached.
+	 */
+	@Nullable CachedMessage get(long messageId);
+
+	boolean contains(long messageId);
+
+	/**
+	 * Caches a message, replacing any previous version.
+	 *
+	 * @param message The message.
+	 * @return The previous version, or null if the message wasn't cached.
+	 */
+	@Nullable CachedMessage put(@NotNull CachedMessage message);
+
+	/**
+	 * Removes a message.
+	 *
+	 * @param messageId The message's id.
+	 * @return The removed message, or null if it wasn't cached.
+	 */
+	@Nullable CachedMessage remove(long messageId);
+
+	/**
+	 * Removes a message, without reading its content.
+	 *
+	 * @param messageId The message's id.
+	 * @return Whether the message was cached.
+	 */
+	boolean discard(long messageId);
+
+	/**
+	 * Removes the oldest message, without reading its content.
+	 *
+	 * @return The id of the removed message.
+	 * @throws java.util.NoSuchElementException If the index is empty.
+	 */
+	long removeOldest();
+
+	int size();
+
+	default boolean isEmpty() {
+		return size() == 0;
+	}
+
+	/**
+	 * Gets the amount of memory outside the heap which this index has allocated.
+	 *
+	 * @return The amount of bytes.
+	 */
+	default long getOffHeapBytes() {
+		return 0;
+	}
+}
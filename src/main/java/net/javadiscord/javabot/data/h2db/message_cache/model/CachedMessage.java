@@ -9,6 +9,8 @@ import net.dv8tion.jda.api.entities.Message;
 @Data
 public class CachedMessage {
 	private long messageId;
+	private long guildId;
+	private long channelId;
 	private long authorId;
 	private String messageContent;
 
@@ -21,6 +23,8 @@ public class CachedMessage {
 	public static CachedMessage of(Message message) {
 		CachedMessage cachedMessage = new CachedMessage();
 		cachedMessage.setMessageId(message.getIdLong());
+		cachedMessage.setGuildId(message.getGuild().getIdLong());
+		cachedMessage.setChannelId(message.getChannel().getIdLong());
 		cachedMessage.setAuthorId(message.getAuthor().getIdLong());
 		cachedMessage.setMessageContent(message.getContentRaw().trim());
 		return cachedMessage;
@@ -0,0 +1,56 @@
+package net.javadiscord.javabot.data.h2db.message_cache.store;
+
+import net.javadiscord.javabot.Bot;
+import net.javadiscord.javabot.data.h2db.DbActions;
+import net.javadiscord.javabot.data.h2db.message_cache.MessageCacheJournal;
+import net.javadiscord.javabot.data.h2db.message_cache.dao.MessageCacheRepository;
+import net.javadiscord.javabot.data.h2db.message_cache.model.CachedMessage;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+/**
+ * Stores cached messages in the <code>message_cache</code> table of the bot's database.
+ */
+public class H2MessageCacheStore implements MessageCacheStore {
+	/**
+	 * Every batch is a separate query for the messages older than the previous batch, so that no
+	 * connection is held between batches.
+	 */
+	@Override
+	public @NotNull Cursor load(int batchSize) {
+		return new Cursor() {
+			private long lastMessageId = Long.MAX_VALUE;
+
+			@Override
+			public @NotNull List<CachedMessage> next() throws IOException {
+				try {
+					List<CachedMessage> batch = DbActions.map(con -> new MessageCacheRepository(con).getNewestBefore(lastMessageId, batchSize));
+					if (!batch.isEmpty()) {
+						lastMessageId = batch.get(batch.size() - 1).getMessageId();
+					}
+					return batch;
+				} catch (SQLException e) {
+					throw new IOException("Could not load the cached messages.", e);
+				}
+			}
+		};
+	}
+
+	@Override
+	public void write(@NotNull List<MessageCacheJournal.Change> changes) throws IOException {
+		try {
+			DbActions.doAction(con -> new MessageCacheRepository(con).applyChanges(changes));
+		} catch (SQLException e) {
+			throw new IOException("Could not write the cached messages.", e);
+		}
+	}
+
+	@Override
+	public @NotNull Executor getExecutor() {
+		return Bot.getDbExecutor();
+	}
+}
@@ -0,0 +1,245 @@
+package net.javadiscord.javabot.data.h2db.message_cache.store;
+
+import net.javadiscord.javabot.data.h2db.message_cache.model.CachedMessage;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+/**
+ * A single memory-mapped file of a {@link MappedLogMessageCacheStore}, to
+ * which records are only ever appended.
+ * <p>
+ * Every record consists of its payload's length and CRC32 checksum, followed
+ * by the payload itself: a type byte, the message's id and, unless the record
+ * is a deletion tombstone, the guild's, channel's and author's ids and the
+ * UTF-8 encoded content. The unused rest of a segment is always zeroed, so
+ * that a length of zero marks the end of all records. A record whose length or
+ * checksum doesn't match was only partially written before a crash, and ends
+ * the segment as well.
+ * </p>
+ * This class is not thread-safe.
+ */
+class LogSegment {
+	static final byte PUT = 1;
+	static final byte DELETE = 2;
+	/**
+	 * The length and checksum which precede every payload.
+	 */
+	static final int HEADER_SIZE = 8;
+	private static final int DELETE_SIZE = HEADER_SIZE + 1 + 8;
+	private static final int PUT_SIZE = DELETE_SIZE + 3 * 8;
+
+	private final Path path;
+	private final long sequence;
+	private final FileChannel channel;
+	private final MappedByteBuffer buffer;
+	private int position;
+
+	private LogSegment(Path path, long sequence, FileChannel channel, MappedByteBuffer buffer) {
+		this.path = path;
+		this.sequence = sequence;
+		this.channel = channel;
+		this.buffer = buffer;
+	}
+
+	/**
+	 * Creates a new, empty segment.
+	 *
+	 * @param path     The segment's file, which must not exist yet.
+	 * @param sequence The segment's sequence number.
+	 * @param size     The segment's size in bytes.
+	 * @return The {@link LogSegment}.
+	 * @throws IOException If the file could not be created.
+	 */
+	static @NotNull LogSegment create(@NotNull Path path, long sequence, int size) throws IOException {
+		FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+		try {
+			return new LogSegment(path, sequence, channel, channel.map(FileChannel.MapMode.READ_WRITE, 0, size));
+		} catch (IOException e) {
+			channel.close();
+			throw e;
+		}
+	}
+
+	/**
+	 * Opens an existing segment, replaying all of its complete records. Anything
+	 * after the last complete record is discarded.
+	 *
+	 * @param path     The segment's file.
+	 * @param sequence The segment's sequence number.
+	 * @param visitor  The {@link RecordVisitor} which receives all records, oldest first.
+	 * @return The {@link LogSegment}, positioned after its last complete record.
+	 * @throws IOException If the file could not be read.
+	 */
+	static @NotNull LogSegment open(@NotNull Path path, long sequence, @NotNull RecordVisitor visitor) throws IOException {
+		FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+		LogSegment segment;
+		try {
+			segment = new LogSegment(path, sequence, channel, channel.map(FileChannel.MapMode.READ_WRITE, 0, channel.size()));
+		} catch (IOException e) {
+			channel.close();
+			throw e;
+		}
+		segment.position = segment.replay(visitor);
+		// zero anything a crash left behind, so that new records are never followed by stale bytes
+		for (int i = segment.position; i < segment.buffer.capacity(); i++) {
+			if (segment.buffer.get(i) != 0) {
+				segment.buffer.put(i, (byte) 0);
+			}
+		}
+		return segment;
+	}
+
+	/**
+	 * Reads all complete records.
+	 *
+	 * @param visitor The {@link RecordVisitor} which receives all records, oldest first.
+	 * @return The offset after the last complete record.
+	 */
+	int replay(@NotNull RecordVisitor visitor) {
+		int offset = 0;
+		CRC32 crc = new CRC32();
+		while (offset + HEADER_SIZE <= buffer.capacity()) {
+			int length = buffer.getInt(offset);
+			if (length < DELETE_SIZE - HEADER_SIZE || length > buffer.capacity() - offset - HEADER_SIZE) break;
+			int checksum = buffer.getInt(offset + 4);
+			crc.reset();
+			crc.update(buffer.slice(offset + HEADER_SIZE, length));
+			if ((int) crc.getValue() != checksum) break;
+			int payload = offset + HEADER_SIZE;
+			byte type = buffer.get(payload);
+			long messageId = buffer.getLong(payload + 1);
+			int size = HEADER_SIZE + length;
+			if (type == DELETE) {
+				visitor.visitDelete(messageId, size);
+			} else if (type == PUT && length >= PUT_SIZE - HEADER_SIZE) {
+				CachedMessage message = new CachedMessage();
+				message.setMessageId(messageId);
+				message.setGuildId(buffer.getLong(payload + 9));
+				message.setChannelId(buffer.getLong(payload + 17));
+				message.setAuthorId(buffer.getLong(payload + 25));
+				byte[] content = new byte[length - (PUT_SIZE - HEADER_SIZE)];
+				buffer.get(payload + 33, content);
+				message.setMessageContent(new String(content, StandardCharsets.UTF_8));
+				visitor.visitPut(message, size);
+			} else {
+				break;
+			}
+			offset += size;
+		}
+		return offset;
+	}
+
+	/**
+	 * Calculates the size of a record which stores a message.
+	 *
+	 * @param content The message's UTF-8 encoded content.
+	 * @return The record's size in bytes.
+	 */
+	static int putSize(byte @NotNull [] content) {
+		return PUT_SIZE + content.length;
+	}
+
+	/**
+	 * Calculates the size of a deletion tombstone.
+	 *
+	 * @return The record's size in bytes.
+	 */
+	static int deleteSize() {
+		return DELETE_SIZE;
+	}
+
+	/**
+	 * Appends a record which stores a message.
+	 *
+	 * @param message The message.
+	 * @param content The message's UTF-8 encoded content.
+	 * @return False if the record doesn't fit into this segment.
+	 */
+	boolean appendPut(@NotNull CachedMessage message, byte @NotNull [] content) {
+		int size = putSize(content);
+		if (size > remaining()) return false;
+		int payload = position + HEADER_SIZE;
+		buffer.put(payload, PUT);
+		buffer.putLong(payload + 1, message.getMessageId());
+		buffer.putLong(payload + 9, message.getGuildId());
+		buffer.putLong(payload + 17, message.getChannelId());
+		buffer.putLong(payload + 25, message.getAuthorId());
+		buffer.put(payload + 33, content);
+		finishRecord(size);
+		return true;
+	}
+
+	/**
+	 * Appends a deletion tombstone.
+	 *
+	 * @param messageId The deleted message's id.
+	 * @return False if the record doesn't fit into this segment.
+	 */
+	boolean appendDelete(long messageId) {
+		if (DELETE_SIZE > remaining()) return false;
+		int payload = position + HEADER_SIZE;
+		buffer.put(payload, DELETE);
+		buffer.putLong(payload + 1, messageId);
+		finishRecord(DELETE_SIZE);
+		return true;
+	}
+
+	private void finishRecord(int size) {
+		int length = size - HEADER_SIZE;
+		CRC32 crc = new CRC32();
+		crc.update(buffer.slice(position + HEADER_SIZE, length));
+		buffer.putInt(position + 4, (int) crc.getValue());
+		// the length is written last, so that the record only becomes visible once it is complete
+		buffer.putInt(position, length);
+		position += size;
+	}
+
+	/**
+	 * Writes all appended records to the storage device.
+	 */
+	void force() {
+		buffer.force();
+	}
+
+	/**
+	 * Closes the segment's file. The mapping itself is released once the
+	 * segment is garbage collected.
+	 *
+	 * @throws IOException If the file could not be closed.
+	 */
+	void close() throws IOException {
+		channel.close();
+	}
+
+	int remaining() {
+		return buffer.capacity() - position;
+	}
+
+	int getPosition() {
+		return position;
+	}
+
+	long getSequence() {
+		return sequence;
+	}
+
+	Path getPath() {
+		return path;
+	}
+
+	/**
+	 * Receives the records of a segment.
+	 */
+	interface RecordVisitor {
+		void visitPut(CachedMessage message, int size);
+
+		void visitDelete(long messageId, int size);
+	}
+}
@@ -0,0 +1,260 @@
+package net.javadiscord.javabot.data.h2db.message_cache.store;
+
+import lombok.extern.slf4j.Slf4j;
+import net.javadiscord.javabot.Bot;
+import net.javadiscord.javabot.data.h2db.message_cache.MessageCacheJournal;
+import net.javadiscord.javabot.data.h2db.message_cache.model.CachedMessage;
+import net.javadiscord.javabot.util.LongLinkedMap;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.stream.Stream;
+
+/**
+ * Stores cached messages in a directory of append-only, memory-mapped
+ * {@link LogSegment}s, instead of the database.
+ * <p>
+ * Every change is appended to the newest segment; a new segment is started
+ * once it is full. Replaying all segments in order yields the latest version
+ * of every message, so a crash can at most lose the changes which weren't
+ * forced to disk yet. Once enough of the log consists of overwritten or deleted
+ * messages, all messages are copied to fresh segments and the old ones are
+ * deleted. Should that be interrupted, the copies simply repeat what the old
+ * segments already contain.
+ * </p>
+ * This class is not thread-safe.
+ */
+@Slf4j
+public class MappedLogMessageCacheStore implements MessageCacheStore {
+	private static final String SEGMENT_SUFFIX = ".log";
+
+	private final Path directory;
+	private final int segmentSize;
+	private final double compactionThreshold;
+	private final List<LogSegment> segments = new ArrayList<>();
+	/**
+	 * The size of the most recent record of every stored message.
+	 */
+	private final LongLinkedMap<Integer> liveSizes = new LongLinkedMap<>(1000);
+	private long liveBytes = 0;
+	private long totalBytes = 0;
+
+	/**
+	 * Creates a new store.
+	 *
+	 * @param directory           The directory which contains the segments.
+	 * @param segmentSize         The size of a single segment in bytes.
+	 * @param compactionThreshold The share of the log that has to consist of outdated
+	 *                            records before it is compacted, between 0 and 1.
+	 */
+	public MappedLogMessageCacheStore(@NotNull Path directory, int segmentSize, double compactionThreshold) {
+		this.directory = directory;
+		this.segmentSize = segmentSize;
+		this.compactionThreshold = compactionThreshold;
+	}
+
+	/**
+	 * The whole log is replayed before the first batch is handed out, since the latest
+	 * version of a message may be stored in any segment.
+	 */
+	@Override
+	public @NotNull Cursor load(int batchSize) throws IOException {
+		Files.createDirectories(directory);
+		LongLinkedMap<CachedMessage> messages = new LongLinkedMap<>(1000);
+		LogSegment.RecordVisitor visitor = replayInto(messages);
+		for (Path path : listSegments()) {
+			segments.add(LogSegment.open(path, sequenceOf(path), visitor));
+		}
+		if (segments.isEmpty()) {
+			startSegment(segmentSize);
+		}
+		log.info("Replayed {} cached messages from {} log segments.", messages.size(), segments.size());
+		// the log has to be replayed completely before the latest version of any message is known
+		List<CachedMessage> values = messages.values();
+		messages.clear();
+		values.sort(Comparator.comparingLong(CachedMessage::getMessageId).reversed());
+		return new Cursor() {
+			private int position = 0;
+
+			@Override
+			public @NotNull List<CachedMessage> next() {
+				List<CachedMessage> batch = new ArrayList<>(values.subList(position, Math.min(values.size(), position + batchSize)));
+				// the replayed messages are released as they're handed out
+				Collections.fill(values.subList(position, position + batch.size()), null);
+				position += batch.size();
+				return batch;
+			}
+		};
+	}
+
+	@Override
+	public void write(@NotNull List<MessageCacheJournal.Change> changes) throws IOException {
+		if (segments.isEmpty()) throw new IOException("The store has not been loaded.");
+		for (MessageCacheJournal.Change change : changes) {
+			if (change.isDelete()) {
+				if (liveSizes.containsKey(change.messageId())) {
+					appendDelete(change.messageId());
+				}
+			} else {
+				appendPut(change.message());
+			}
+		}
+		active().force();
+		if (segments.size() > 1 && totalBytes - liveBytes > totalBytes * compactionThreshold) {
+			compact();
+		}
+	}
+
+	@Override
+	public @NotNull Executor getExecutor() {
+		return Bot.getBlockingPool();
+	}
+
+	@Override
+	public void close() throws IOException {
+		for (LogSegment segment : segments) {
+			segment.force();
+			segment.close();
+		}
+		segments.clear();
+	}
+
+	/**
+	 * Gets the amount of bytes which are used by records of messages which have
+	 * since been edited or deleted.
+	 *
+	 * @return The amount of bytes which the next compaction would free.
+	 */
+	public long getGarbageBytes() {
+		return totalBytes - liveBytes;
+	}
+
+	public int getSegmentCount() {
+		return segments.size();
+	}
+
+	/**
+	 * Copies the latest version of every message to new segments, and deletes
+	 * all old segments afterwards.
+	 *
+	 * @throws IOException If the log could not be compacted.
+	 */
+	private void compact() throws IOException {
+		long garbage = getGarbageBytes();
+		LongLinkedMap<CachedMessage> messages = new LongLinkedMap<>(liveSizes.size());
+		LogSegment.RecordVisitor visitor = replayInto(messages);
+		List<LogSegment> old = new ArrayList<>(segments);
+		for (LogSegment segment : old) {
+			segment.replay(visitor);
+		}
+		// the copies are counted from scratch
+		liveSizes.clear();
+		liveBytes = 0;
+		totalBytes = 0;
+		startSegment(segmentSize);
+		for (CachedMessage message : messages.values()) {
+			appendPut(message);
+		}
+		for (LogSegment segment : segments) {
+			segment.force();
+		}
+		for (LogSegment segment : old) {
+			segments.remove(segment);
+			segment.close();
+			Files.delete(segment.getPath());
+		}
+		log.info("Compacted the message cache log, freeing {} bytes.", garbage);
+	}
+
+	private void appendPut(@NotNull CachedMessage message) throws IOException {
+		byte[] content = message.getMessageContent().getBytes(StandardCharsets.UTF_8);
+		int size = LogSegment.putSize(content);
+		if (!active().appendPut(message, content)) {
+			startSegment(Math.max(segmentSize, size)).appendPut(message, content);
+		}
+		recordPut(message.getMessageId(), size);
+	}
+
+	private void appendDelete(long messageId) throws IOException {
+		if (!active().appendDelete(messageId)) {
+			startSegment(segmentSize).appendDelete(messageId);
+		}
+		recordDelete(messageId, LogSegment.deleteSize());
+	}
+
+	private void recordPut(long messageId, int size) {
+		Integer previous = liveSizes.put(messageId, size);
+		if (previous != null) {
+			liveBytes -= previous;
+		}
+		liveBytes += size;
+		totalBytes += size;
+	}
+
+	private void recordDelete(long messageId, int size) {
+		Integer previous = liveSizes.remove(messageId);
+		if (previous != null) {
+			liveBytes -= previous;
+		}
+		totalBytes += size;
+	}
+
+	private @NotNull LogSegment.RecordVisitor replayInto(@NotNull LongLinkedMap<CachedMessage> messages) {
+		return new LogSegment.RecordVisitor() {
+			@Override
+			public void visitPut(CachedMessage message, int size) {
+				messages.put(message.getMessageId(), message);
+				recordPut(message.getMessageId(), size);
+			}
+
+			@Override
+			public void visitDelete(long messageId, int size) {
+				messages.remove(messageId);
+				recordDelete(messageId, size);
+			}
+		};
+	}
+
+	/**
+	 * Forces the current segment to disk and starts a new one.
+	 *
+	 * @param size The size of the new segment.
+	 * @return The new segment.
+	 * @throws IOException If the segment could not be created.
+	 */
+	private @NotNull LogSegment startSegment(int size) throws IOException {
+		long sequence = 1;
+		if (!segments.isEmpty()) {
+			active().force();
+			sequence = active().getSequence() + 1;
+		}
+		LogSegment segment = LogSegment.create(directory.resolve(String.format("%020d%s", sequence, SEGMENT_SUFFIX)), sequence, size);
+		segments.add(segment);
+		return segment;
+	}
+
+	private @NotNull LogSegment active() {
+		return segments.get(segments.size() - 1);
+	}
+
+	private @NotNull List<Path> listSegments() throws IOException {
+		try (Stream<Path> files = Files.list(directory)) {
+			return files.filter(path -> path.getFileName().toString().endsWith(SEGMENT_SUFFIX))
+					.sorted(Comparator.comparingLong(MappedLogMessageCacheStore::sequenceOf))
+					.toList();
+		}
+	}
+
+	private static long sequenceOf(@NotNull Path path) {
+		String name = path.getFileName().toString();
+		return Long.parseLong(name.substring(0, name.length() - SEGMENT_SUFFIX.length()));
+	}
+}
@@ -0,0 +1,83 @@
+package net.javadiscord.javabot.data.h2db.message_cache.store;
+
+import net.javadiscord.javabot.data.config.SystemsConfig;
+import net.javadiscord.javabot.data.h2db.message_cache.MessageCacheJournal;
+import net.javadiscord.javabot.data.h2db.message_cache.model.CachedMessage;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+/**
+ * Persists the {@link net.javadiscord.javabot.data.h2db.message_cache.MessageCache},
+ * so that edited and deleted messages can still be logged after a restart.
+ * <p>
+ * Stores are only ever used by one thread at a time: {@link MessageCacheStore#load(int)}
+ * is called once after startup, and the {@link net.javadiscord.javabot.data.h2db.message_cache.MessageCache}
+ * holds back all changes until it has returned.
+ * Changes may be written between two batches of the returned {@link Cursor}, though,
+ * in which case later batches may or may not reflect them.
+ * </p>
+ */
+public interface MessageCacheStore {
+	/**
+	 * Creates the store which is selected in the given config.
+	 *
+	 * @param config The {@link SystemsConfig.MessageCacheStoreConfig}.
+	 * @return The {@link MessageCacheStore}.
+	 */
+	static @NotNull MessageCacheStore fromConfig(@NotNull SystemsConfig.MessageCacheStoreConfig config) {
+		return switch (config.getBackend()) {
+			case H2 -> new H2MessageCacheStore();
+			case MAPPED_LOG -> new MappedLogMessageCacheStore(Path.of(config.getLogDirectory()), config.getSegmentSize(), config.getCompactionThreshold());
+		};
+	}
+
+	/**
+	 * Starts loading all stored messages. They are handed out one batch at a time,
+	 * so that they never have to be held in memory all at once.
+	 *
+	 * @param batchSize The maximum amount of messages per batch.
+	 * @return The {@link Cursor} which hands out the stored messages, newest first.
+	 * @throws IOException If the messages could not be loaded.
+	 */
+	@NotNull Cursor load(int batchSize) throws IOException;
+
+	/**
+	 * Writes the given changes.
+	 *
+	 * @param changes The changes, oldest first.
+	 * @throws IOException If the changes could not be written.
+	 */
+	void write(@NotNull List<MessageCacheJournal.Change> changes) throws IOException;
+
+	/**
+	 * Gets the {@link Executor} which asynchronous writes should run on.
+	 *
+	 * @return The {@link Executor}.
+	 */
+	@NotNull Executor getExecutor();
+
+	/**
+	 * Releases all resources held by this store. No changes may be written afterwards.
+	 *
+	 * @throws IOException If the store could not be closed.
+	 */
+	default void close() throws IOException {
+	}
+
+	/**
+	 * Hands out the stored messages of a {@link MessageCacheStore}, one batch at a time.
+	 */
+	interface Cursor {
+		/**
+		 * Loads the next batch of stored messages.
+		 *
+		 * @return The messages, newest first, or an empty list once all messages have been loaded.
+		 * @throws IOException If the messages could not be loaded.
+		 */
+		@NotNull List<CachedMessage> next() throws IOException;
+	}
+}
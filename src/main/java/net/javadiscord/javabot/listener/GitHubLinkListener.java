@@ -7,6 +7,7 @@ import net.dv8tion.jda.api.interactions.components.buttons.Button;
 import net.javadiscord.javabot.util.ExceptionLogger;
 import net.javadiscord.javabot.util.InteractionUtils;
 import net.javadiscord.javabot.util.StringUtils;
+import net.javadiscord.javabot.util.scanner.MessageScanner;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 
@@ -17,26 +18,23 @@ import java.net.URL;
 import java.net.URLConnection;
 import java.util.Arrays;
 import java.util.List;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 /**
  * Listens for GitHub Links and sends the code snippet if it found one.
  */
 public class GitHubLinkListener extends ListenerAdapter {
 
-	private final Pattern GITHUB_LINK_PATTERN = Pattern.compile("https:?//github\\.com/([A-Za-z0-9\\-_.]+)/([A-Za-z0-9\\-_.]+)/(?:blob|tree)/(\\S+?)/(\\S+?)(\\.\\S+)?#L(\\d+)[-~]?L?(\\d*)");
-
 	@Override
 	public void onMessageReceived(@NotNull MessageReceivedEvent event) {
 		if (event.getAuthor().isBot() || event.getAuthor().isSystem()) return;
-		Matcher matcher = GITHUB_LINK_PATTERN.matcher(event.getMessage().getContentRaw());
-		if (matcher.find()) {
-			Pair<String, String> content = parseGithubUrl(matcher.group());
+		List<String> links = MessageScanner.analyze(event.getMessage()).gitHubLinks();
+		if (!links.isEmpty()) {
+			String link = links.get(0);
+			Pair<String, String> content = parseGithubUrl(link);
 			if (!content.getFirst().isBlank() && !content.getSecond().isBlank()) {
 				event.getMessage().reply(String.format("```%s\n%s\n```", content.getSecond(), StringUtils.standardSanitizer().compute(content.getFirst())))
 						.allowedMentions(List.of())
-						.setActionRow(Button.secondary(InteractionUtils.DELETE_ORIGINAL_TEMPLATE, "\uD83D\uDDD1️"), Button.link(matcher.group(), "View on GitHub"))
+						.setActionRow(Button.secondary(InteractionUtils.DELETE_ORIGINAL_TEMPLATE, "\uD83D\uDDD1️"), Button.link(link, "View on GitHub"))
 						.queue();
 			}
 		}
@@ -6,6 +6,8 @@ import net.dv8tion.jda.api.events.message.MessageReceivedEvent;
 import net.dv8tion.jda.api.hooks.ListenerAdapter;
 import net.javadiscord.javabot.Bot;
 import net.javadiscord.javabot.util.WebhookUtil;
+import net.javadiscord.javabot.util.scanner.MessageAnalysis;
+import net.javadiscord.javabot.util.scanner.MessageScanner;
 
 import javax.annotation.Nonnull;
 
@@ -19,6 +21,10 @@ public class HugListener extends ListenerAdapter {
 		if (!event.isFromGuild()) {
 			return;
 		}
+		MessageAnalysis analysis = MessageScanner.analyze(event.getMessage());
+		if (!analysis.containsKeyword("fuck")) {
+			return;
+		}
 		if (Bot.getAutoMod().hasSuspiciousLink(event.getMessage()) || Bot.getAutoMod().hasAdvertisingLink(event.getMessage())) {
 			return;
 		}
@@ -46,30 +52,28 @@ public class HugListener extends ListenerAdapter {
 			return;
 		}
 		final TextChannel textChannel = tc;
-		String content = event.getMessage().getContentRaw();
-		String lowerCaseContent = content.toLowerCase();
-		if (lowerCaseContent.contains("fuck")) {
-			long threadId = event.isFromThread() ? event.getChannel().getIdLong() : 0;
-			StringBuilder sb = new StringBuilder(content.length());
-			int index = 0;
-			int indexBkp = index;
-			while ((index = lowerCaseContent.indexOf("fuck", index)) != -1) {
-				sb.append(content.substring(indexBkp, index));
-				sb.append(loadHug(content, index));
-				indexBkp = index++ + 4;
-				if (content.length() >= indexBkp + 3 && "ing".equals(lowerCaseContent.substring(indexBkp, indexBkp + 3))) {
-					sb.append(copyCase(content, indexBkp-1, 'g'));
-					sb.append(content.substring(indexBkp, indexBkp + 3));
-					index+=3;
-					indexBkp+=3;
-				}
+		String content = analysis.content();
+		String lowerCaseContent = analysis.lowerCaseContent();
+		long threadId = event.isFromThread() ? event.getChannel().getIdLong() : 0;
+		StringBuilder sb = new StringBuilder(content.length());
+		int index = 0;
+		int indexBkp = index;
+		while ((index = lowerCaseContent.indexOf("fuck", index)) != -1) {
+			sb.append(content.substring(indexBkp, index));
+			sb.append(loadHug(content, index));
+			indexBkp = index++ + 4;
+			if (content.length() >= indexBkp + 3 && "ing".equals(lowerCaseContent.substring(indexBkp, indexBkp + 3))) {
+				sb.append(copyCase(content, indexBkp-1, 'g'));
+				sb.append(content.substring(indexBkp, indexBkp + 3));
+				index+=3;
+				indexBkp+=3;
 			}
-
-			sb.append(content.substring(indexBkp));
-			WebhookUtil.ensureWebhookExists(textChannel,
-					wh -> sendWebhookMessage(wh, event.getMessage(), sb.toString(), threadId),
-					e -> log.error("Webhook lookup/creation failed", e));
 		}
+
+		sb.append(content.substring(indexBkp));
+		WebhookUtil.ensureWebhookExists(textChannel,
+				wh -> sendWebhookMessage(wh, event.getMessage(), sb.toString(), threadId),
+				e -> log.error("Webhook lookup/creation failed", e));
 	}
 
 	private String loadHug(String originalText, int startIndex) {
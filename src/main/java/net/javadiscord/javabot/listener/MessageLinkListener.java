@@ -12,26 +12,24 @@ import net.dv8tion.jda.api.hooks.ListenerAdapter;
 import net.dv8tion.jda.api.requests.RestAction;
 import net.javadiscord.javabot.util.ExceptionLogger;
 import net.javadiscord.javabot.util.WebhookUtil;
+import net.javadiscord.javabot.util.scanner.MessageScanner;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 /**
  * Listens for Message Links and sends the original Message if it found one.
  */
 public class MessageLinkListener extends ListenerAdapter {
 
-	private static final Pattern MESSAGE_URL_PATTERN = Pattern.compile("https://((?:canary|ptb)\\.)?discord.com/channels/[0-9]+/[0-9]+/[0-9]+");
-
 	@Override
 	public void onMessageReceived(@NotNull MessageReceivedEvent event) {
 		if (event.getAuthor().isBot() || event.getAuthor().isSystem()) return;
-		Matcher matcher = MESSAGE_URL_PATTERN.matcher(event.getMessage().getContentRaw());
-		if (matcher.find()) {
-			Optional<RestAction<Message>> optional = parseMessageUrl(matcher.group(), event.getJDA());
+		List<String> links = MessageScanner.analyze(event.getMessage()).messageLinks();
+		if (!links.isEmpty()) {
+			Optional<RestAction<Message>> optional = parseMessageUrl(links.get(0), event.getJDA());
 			optional.ifPresent(action -> action.queue(
 					m -> WebhookUtil.ensureWebhookExists(event.getChannel().asTextChannel(),
 							wh -> WebhookUtil.mirrorMessageToWebhook(wh, m, m.getContentRaw(), 0, ActionRow.of(Button.link(m.getJumpUrl(), "Jump to Message")))
@@ -95,12 +95,12 @@ public abstract class MessageVoteListener extends ListenerAdapter {
 
 	@Override
 	public void onMessageReactionAdd(@NotNull MessageReactionAddEvent event) {
-		Bot.getAsyncPool().submit(() -> handleReactionEvent(event));
+		Bot.getBlockingPool().submit(() -> handleReactionEvent(event));
 	}
 
 	@Override
 	public void onMessageReactionRemove(@NotNull MessageReactionRemoveEvent event) {
-		Bot.getAsyncPool().submit(() -> handleReactionEvent(event));
+		Bot.getBlockingPool().submit(() -> handleReactionEvent(event));
 	}
 
 	/**
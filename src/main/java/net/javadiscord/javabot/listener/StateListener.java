@@ -11,7 +11,9 @@ import net.dv8tion.jda.api.events.ShutdownEvent;
 import net.dv8tion.jda.api.hooks.ListenerAdapter;
 import net.javadiscord.javabot.Bot;
 import net.javadiscord.javabot.data.config.guild.HelpConfig;
+import net.javadiscord.javabot.systems.help.HelpChannelActivity;
 import net.javadiscord.javabot.systems.help.HelpChannelUpdater;
+import net.javadiscord.javabot.systems.help.ReservationRegistry;
 import net.javadiscord.javabot.systems.help.checks.SimpleGreetingCheck;
 import net.javadiscord.javabot.systems.notification.NotificationService;
 import net.javadiscord.javabot.util.ExceptionLogger;
@@ -34,18 +36,28 @@ public class StateListener extends ListenerAdapter {
 		// Initialize all guild-specific configuration.
 		Bot.getConfig().loadGuilds(event.getJDA().getGuilds());
 		Bot.getConfig().flush();
+		Bot.getMessageCache().warmUp(event.getJDA());
 		log.info("Logged in as " + event.getJDA().getSelfUser().getAsTag());
 		log.info("Guilds: " + event.getJDA().getGuilds().stream().map(Guild::getName).collect(Collectors.joining(", ")));
 		for (Guild guild : event.getJDA().getGuilds()) {
 			// Schedule the help channel updater to run periodically for each guild.
 			HelpConfig helpConfig = Bot.getConfig().get(guild).getHelpConfig();
+			// Load the guild's help channel reservations before the updater first looks at them.
 			Bot.getAsyncPool().scheduleAtFixedRate(
-					new HelpChannelUpdater(event.getJDA(), helpConfig, List.of(
-							new SimpleGreetingCheck()
-					)),
-					5,
-					helpConfig.getUpdateIntervalSeconds(),
-					TimeUnit.SECONDS
+					ReservationRegistry.of(guild)::reconcile,
+					helpConfig.getReservationReconcileIntervalMinutes(),
+					helpConfig.getReservationReconcileIntervalMinutes(),
+					TimeUnit.MINUTES
+			);
+			HelpChannelUpdater updater = new HelpChannelUpdater(event.getJDA(), helpConfig, List.of(
+					new SimpleGreetingCheck()
+			));
+			Bot.getAsyncPool().scheduleAtFixedRate(updater, 5, helpConfig.getUpdateIntervalSeconds(), TimeUnit.SECONDS);
+			Bot.getAsyncPool().scheduleAtFixedRate(
+					updater::checkInactiveChannels,
+					HelpChannelActivity.TICK.toMillis(),
+					HelpChannelActivity.TICK.toMillis(),
+					TimeUnit.MILLISECONDS
 			);
 			NotificationService.withGuild(guild).sendToModerationLog(c -> c.sendMessageEmbeds(buildBootedUpEmbed()));
 		}
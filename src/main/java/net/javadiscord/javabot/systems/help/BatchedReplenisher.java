@@ -0,0 +1,145 @@
+package net.javadiscord.javabot.systems.help;
+
+import net.javadiscord.javabot.util.ExceptionLogger;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Replenishes a pool in batches. Each batch's actions are run one after another, and once they're done,
+ * the next batch is requested after a pause, until there is nothing left to do. Only one batch runs
+ * at a time, and an action which fails or throws never stops the replenishing.
+ */
+class BatchedReplenisher {
+	private final Supplier<Batch> nextBatch;
+	private final Executor executor;
+	private final Consumer<Runnable> afterPause;
+	private final AtomicBoolean running = new AtomicBoolean();
+	private final LongAdder succeeded = new LongAdder();
+	private final LongAdder failures = new LongAdder();
+	private final AtomicLong totalLatencyNanos = new AtomicLong();
+	private final AtomicLong maxLatencyNanos = new AtomicLong();
+	private final AtomicLong lastLatencyNanos = new AtomicLong();
+
+	/**
+	 * Creates a new replenisher.
+	 *
+	 * @param nextBatch  Gets the next {@link Batch}, which is empty if the pool is full.
+	 * @param executor   The {@link Executor} which requests the first batch.
+	 * @param afterPause Runs the given task after the pause between two batches.
+	 */
+	BatchedReplenisher(Supplier<Batch> nextBatch, Executor executor, Consumer<Runnable> afterPause) {
+		this.nextBatch = nextBatch;
+		this.executor = executor;
+		this.afterPause = afterPause;
+	}
+
+	/**
+	 * Starts replenishing in the background, unless that's already happening.
+	 */
+	void replenish() {
+		if (running.compareAndSet(false, true)) {
+			long requestedAt = System.nanoTime();
+			executor.execute(() -> runBatch(requestedAt));
+		}
+	}
+
+	/**
+	 * Checks whether a batch is running, or about to be requested.
+	 *
+	 * @return True if the pool is being replenished.
+	 */
+	boolean isRunning() {
+		return running.get();
+	}
+
+	long getSucceeded() {
+		return succeeded.sum();
+	}
+
+	long getFailures() {
+		return failures.sum();
+	}
+
+	double getAverageLatencyMillis() {
+		long count = succeeded.sum();
+		return count == 0 ? 0 : totalLatencyNanos.get() / 1e6 / count;
+	}
+
+	double getMaxLatencyMillis() {
+		return maxLatencyNanos.get() / 1e6;
+	}
+
+	double getLastLatencyMillis() {
+		return lastLatencyNanos.get() / 1e6;
+	}
+
+	/**
+	 * Runs the next batch, or stops replenishing if there is none.
+	 *
+	 * @param requestedAt The {@link System#nanoTime()} at which the batch's actions were requested.
+	 */
+	private void runBatch(long requestedAt) {
+		boolean started = false;
+		try {
+			Batch batch = nextBatch.get();
+			if (batch.actions().isEmpty()) return;
+			// Actions which are still missing after this batch have been waiting since the original request.
+			long nextRequestedAt = batch.remaining() > 0 ? requestedAt : -1;
+			runAll(batch.actions().iterator(), requestedAt, nextRequestedAt);
+			started = true;
+		} finally {
+			if (!started) running.set(false);
+		}
+	}
+
+	private void runAll(@NotNull Iterator<Supplier<CompletableFuture<?>>> actions, long requestedAt, long nextRequestedAt) {
+		if (!actions.hasNext()) {
+			afterPause.accept(() -> runBatch(nextRequestedAt < 0 ? System.nanoTime() : nextRequestedAt));
+			return;
+		}
+		Supplier<CompletableFuture<?>> action = actions.next();
+		// Composing turns an exception thrown while creating the action into a failed future.
+		CompletableFuture.completedFuture(null)
+				.thenCompose(v -> action.get())
+				.whenComplete((result, failure) -> {
+					if (failure == null) {
+						recordLatency(System.nanoTime() - requestedAt);
+					} else {
+						failures.increment();
+						Throwable cause = failure instanceof CompletionException && failure.getCause() != null ? failure.getCause() : failure;
+						ExceptionLogger.capture(cause, getClass().getSimpleName());
+					}
+					runAll(actions, requestedAt, nextRequestedAt);
+				});
+	}
+
+	private void recordLatency(long nanos) {
+		succeeded.increment();
+		totalLatencyNanos.addAndGet(nanos);
+		maxLatencyNanos.accumulateAndGet(nanos, Math::max);
+		lastLatencyNanos.set(nanos);
+	}
+
+	/**
+	 * A batch of actions.
+	 *
+	 * @param actions   The actions to run one after another. Each one is only created when the previous one is done.
+	 * @param remaining How many actions are still missing after this batch.
+	 */
+	record Batch(List<Supplier<CompletableFuture<?>>> actions, int remaining) {
+		/**
+		 * A batch without any actions, which stops the replenishing.
+		 */
+		static final Batch EMPTY = new Batch(List.of(), 0);
+	}
+}
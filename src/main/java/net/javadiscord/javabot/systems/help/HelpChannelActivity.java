@@ -0,0 +1,152 @@
+package net.javadiscord.javabot.systems.help;
+
+import net.dv8tion.jda.api.entities.Guild;
+import net.dv8tion.jda.api.entities.Message;
+import net.javadiscord.javabot.Bot;
+import net.javadiscord.javabot.data.config.guild.HelpConfig;
+import net.javadiscord.javabot.systems.help.model.ChannelReservation;
+import net.javadiscord.javabot.util.HashedTimerWheel;
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Tracks the most recent message of every reserved help channel of a single guild, as messages
+ * are received, and keeps a timer for each channel which expires once the channel has been
+ * inactive for longer than its timeout. This way, the channel history only has to be fetched once
+ * a channel actually became inactive.
+ */
+public class HelpChannelActivity {
+	/**
+	 * The duration of a single tick of the timer wheel, and so the rate at which
+	 * {@link #pollInactiveChannels()} should be called.
+	 */
+	public static final Duration TICK = Duration.ofSeconds(1);
+
+	/**
+	 * The amount of ticks per rotation of the timer wheel, which covers about half an hour.
+	 */
+	private static final int TICKS = 2048;
+
+	private static final Map<Long, HelpChannelActivity> ACTIVITIES = new ConcurrentHashMap<>();
+
+	private final Guild guild;
+	private final Map<Long, LastMessage> lastMessages = new HashMap<>();
+	private final HashedTimerWheel<Long> timers = new HashedTimerWheel<>(TICK.toMillis(), TICKS, System.currentTimeMillis());
+
+	private HelpChannelActivity(Guild guild) {
+		this.guild = guild;
+	}
+
+	/**
+	 * Gets the activity tracker of the given guild.
+	 *
+	 * @param guild The guild.
+	 * @return The guild's {@link HelpChannelActivity}.
+	 */
+	public static HelpChannelActivity of(@NotNull Guild guild) {
+		return ACTIVITIES.computeIfAbsent(guild.getIdLong(), id -> new HelpChannelActivity(guild));
+	}
+
+	/**
+	 * Records a message that was sent in a reserved help channel, and restarts the channel's timer.
+	 * Messages older than the most recent one that was recorded are ignored.
+	 *
+	 * @param message The message.
+	 */
+	public synchronized void record(@NotNull Message message) {
+		long channelId = message.getChannel().getIdLong();
+		Instant sentAt = message.getTimeCreated().toInstant();
+		LastMessage last = lastMessages.get(channelId);
+		if (last != null && last.sentAt().isAfter(sentAt)) return;
+		lastMessages.put(channelId, new LastMessage(sentAt, MessageKind.of(message)));
+		reschedule(channelId);
+	}
+
+	/**
+	 * Restarts the timer of the given channel, which is needed after its timeout was changed.
+	 *
+	 * @param channelId The channel's id.
+	 */
+	public synchronized void reschedule(long channelId) {
+		LastMessage last = lastMessages.get(channelId);
+		Optional<ChannelReservation> reservation = ReservationRegistry.of(guild).getByChannel(channelId);
+		if (last == null || reservation.isEmpty()) {
+			remove(channelId);
+			return;
+		}
+		HelpConfig config = Bot.getConfig().get(guild).getHelpConfig();
+		int minutes = switch (last.kind()) {
+			case ACTIVITY_CHECK -> config.getRemoveInactiveTimeoutMinutes();
+			case THANK_MESSAGE -> config.getRemoveThanksTimeoutMinutes();
+			case MESSAGE -> reservation.get().getTimeout();
+		};
+		timers.schedule(channelId, last.sentAt().plus(Duration.ofMinutes(minutes)).toEpochMilli());
+	}
+
+	/**
+	 * Stops tracking the given channel, which is needed once it's unreserved.
+	 *
+	 * @param channelId The channel's id.
+	 */
+	public synchronized void remove(long channelId) {
+		lastMessages.remove(channelId);
+		timers.cancel(channelId);
+	}
+
+	/**
+	 * Gets all channels whose timer expired since the last call. Their timers are removed,
+	 * until a new message is recorded for them.
+	 *
+	 * @return The ids of the channels which should be checked for inactivity.
+	 */
+	public synchronized List<Long> pollInactiveChannels() {
+		return timers.advance(System.currentTimeMillis());
+	}
+
+	/**
+	 * The kinds of messages which decide how long a channel may stay inactive.
+	 */
+	public enum MessageKind {
+		/**
+		 * Any message that isn't one of the other kinds.
+		 */
+		MESSAGE,
+		/**
+		 * An activity check which the bot sent to the owner of an inactive channel.
+		 */
+		ACTIVITY_CHECK,
+		/**
+		 * The message which the bot sends when the owner unreserves their channel, asking them to thank their helpers.
+		 */
+		THANK_MESSAGE;
+
+		/**
+		 * Determines the kind of the given message.
+		 *
+		 * @param message The message.
+		 * @return The message's {@link MessageKind}.
+		 */
+		public static MessageKind of(@NotNull Message message) {
+			if (!message.getAuthor().equals(message.getJDA().getSelfUser())) return MESSAGE;
+			if (message.getContentRaw().contains("Are you finished with this channel?")) return ACTIVITY_CHECK;
+			if (message.getContentRaw().equals(HelpChannelManager.THANK_MESSAGE_TEXT)) return THANK_MESSAGE;
+			return MESSAGE;
+		}
+	}
+
+	/**
+	 * The most recent message of a channel.
+	 *
+	 * @param sentAt The time the message was sent.
+	 * @param kind   The kind of the message.
+	 */
+	private record LastMessage(Instant sentAt, MessageKind kind) {
+	}
+}
@@ -89,7 +89,7 @@ public class HelpChannelInteractionManager implements ButtonHandler {
 	private void thankHelper(@NotNull ButtonInteractionEvent event, TextChannel channel, User owner, long helperId, ChannelReservation reservation, HelpChannelManager channelManager) {
 		Button btn = event.getButton();
 		long thankCount = DbActions.count(
-				"SELECT COUNT(id) FROM help_channel_thanks WHERE reservation_id = ? AND helper_id = ?",
+				"help_channel_thanks.count_by_reservation_and_helper",
 				s -> {
 					s.setLong(1, reservation.getId());
 					s.setLong(2, helperId);
@@ -105,7 +105,7 @@ public class HelpChannelInteractionManager implements ButtonHandler {
 				// First insert the new thanks data.
 				try {
 					DbActions.update(
-							"INSERT INTO help_channel_thanks (reservation_id, user_id, channel_id, helper_id) VALUES (?, ?, ?, ?)",
+							"help_channel_thanks.insert",
 							reservation.getId(),
 							owner.getIdLong(),
 							channel.getIdLong(),
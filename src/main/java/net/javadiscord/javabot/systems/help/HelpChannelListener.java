@@ -3,7 +3,6 @@ package net.javadiscord.javabot.systems.help;
 import lombok.extern.slf4j.Slf4j;
 import net.dv8tion.jda.api.entities.Category;
 import net.dv8tion.jda.api.entities.ChannelType;
-import net.dv8tion.jda.api.entities.Message;
 import net.dv8tion.jda.api.entities.TextChannel;
 import net.dv8tion.jda.api.events.message.MessageReceivedEvent;
 import net.dv8tion.jda.api.hooks.ListenerAdapter;
@@ -14,7 +13,7 @@ import net.javadiscord.javabot.util.ExceptionLogger;
 
 import javax.annotation.Nonnull;
 import java.sql.SQLException;
-import java.util.*;
+import java.util.Optional;
 
 /**
  * This listener is responsible for handling messages that are sent in one or
@@ -22,19 +21,20 @@ import java.util.*;
  */
 @Slf4j
 public class HelpChannelListener extends ListenerAdapter {
-
-	/**
-	 * A static Map that holds all messages that was sent in a specific reserved channel.
-	 */
-	public static Map<Long, List<Message>> reservationMessages = new HashMap<>();
-
 	@Override
 	public void onMessageReceived(@Nonnull MessageReceivedEvent event) {
-		if (event.getAuthor().isBot() || event.getAuthor().isSystem() || event.getChannelType() != ChannelType.TEXT) {
+		if (event.getChannelType() != ChannelType.TEXT) {
 			return;
 		}
 		HelpConfig config = Bot.getConfig().get(event.getGuild()).getHelpConfig();
 		TextChannel channel = event.getChannel().asTextChannel();
+		// Every message in a reserved channel, including the bot's own activity checks, restarts its inactivity timer.
+		if (config.getReservedChannelCategory() != null && config.getReservedChannelCategory().equals(channel.getParentCategory())) {
+			HelpChannelActivity.of(event.getGuild()).record(event.getMessage());
+		}
+		if (event.getAuthor().isBot() || event.getAuthor().isSystem()) {
+			return;
+		}
 		HelpChannelManager manager = new HelpChannelManager(config);
 
 		// If a message was sent in an open text channel, reserve it.
@@ -57,12 +57,9 @@ public class HelpChannelListener extends ListenerAdapter {
 		} else if (config.getReservedChannelCategory().equals(channel.getParentCategory())) {
 			Optional<ChannelReservation> reservationOptional = manager.getReservationForChannel(event.getChannel().getIdLong());
 			reservationOptional.ifPresent(reservation -> {
-				List<Message> messages = new ArrayList<>();
-				messages.add(event.getMessage());
-				if (reservationMessages.containsKey(reservation.getId())) {
-					messages.addAll(reservationMessages.get(reservation.getId()));
-				}
-				reservationMessages.put(reservation.getId(), messages);
+				HelpExperienceAccumulator.of(reservation, config).add(event.getAuthor().getIdLong(), event.getMessage().getContentDisplay());
+				HelpChannelParticipants.get(reservation.getId()).ifPresent(participants ->
+						participants.add(event.getAuthor().getIdLong(), event.getMessage().getTimeCreated().toInstant()));
 			});
 		} else if (config.getDormantChannelCategory().equals(channel.getParentCategory())) {
 			// Prevent anyone from sending messages in dormant channels.
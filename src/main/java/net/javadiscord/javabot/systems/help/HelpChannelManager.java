@@ -17,7 +17,6 @@ import net.dv8tion.jda.internal.interactions.component.ButtonImpl;
 import net.dv8tion.jda.internal.requests.CompletedRestAction;
 import net.javadiscord.javabot.Bot;
 import net.javadiscord.javabot.data.config.guild.HelpConfig;
-import net.javadiscord.javabot.data.h2db.DbActions;
 import net.javadiscord.javabot.systems.help.model.ChannelReservation;
 import net.javadiscord.javabot.systems.help.model.HelpTransactionMessage;
 import net.javadiscord.javabot.util.ExceptionLogger;
@@ -26,14 +25,10 @@ import net.javadiscord.javabot.util.Responses;
 import org.jetbrains.annotations.NotNull;
 
 import javax.annotation.Nullable;
-import java.sql.Connection;
-import java.sql.PreparedStatement;
-import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.time.LocalDateTime;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
-import java.util.stream.Collectors;
 
 /**
  * This manager is responsible for all the main interactions that affect the
@@ -49,10 +44,12 @@ public class HelpChannelManager {
 	@Getter
 	private final HelpConfig config;
 	private final TextChannel logChannel;
+	private final ReservationRegistry reservations;
 
 	public HelpChannelManager(HelpConfig config) {
 		this.config = config;
 		this.logChannel = Bot.getConfig().get(config.getGuild()).getModerationConfig().getLogChannel();
+		this.reservations = ReservationRegistry.of(config.getGuild());
 	}
 
 	public boolean isOpen(TextChannel channel) {
@@ -63,8 +60,23 @@ public class HelpChannelManager {
 		return config.getReservedChannelCategory().equals(channel.getParentCategory());
 	}
 
+	/**
+	 * Gets all open channels, except for those which were just reserved, and
+	 * may not have been moved to the reserved category yet.
+	 *
+	 * @return A {@link List} of the open channels.
+	 */
+	public List<TextChannel> getOpenChannels() {
+		LocalDateTime recently = LocalDateTime.now().minusMinutes(1);
+		return config.getOpenChannelCategory().getTextChannels().stream()
+				.filter(channel -> reservations.getByChannel(channel.getIdLong())
+						.map(reservation -> reservation.getReservedAt().isBefore(recently))
+						.orElse(true))
+				.toList();
+	}
+
 	public int getOpenChannelCount() {
-		return config.getOpenChannelCategory().getTextChannels().size();
+		return getOpenChannels().size();
 	}
 
 	/**
@@ -79,30 +91,7 @@ public class HelpChannelManager {
 		if (member == null) return false;
 		// Don't allow muted users.
 		if (member.isTimedOut()) return false;
-		try (Connection con = Bot.getDataSource().getConnection(); PreparedStatement stmt = con.prepareStatement("SELECT COUNT(channel_id) FROM reserved_help_channels WHERE user_id = ?")) {
-			stmt.setLong(1, user.getIdLong());
-			ResultSet rs = stmt.executeQuery();
-			return rs.next() && rs.getLong(1) < this.config.getMaxReservedChannelsPerUser();
-		} catch (SQLException e) {
-			ExceptionLogger.capture(e, getClass().getSimpleName());
-			logChannel.sendMessage("Error while checking if a user can reserve a help channel: " + e.getMessage()).queue();
-			return false;
-		}
-	}
-
-	/**
-	 * Opens a text channel so that it is ready for a new question.
-	 */
-	public void openNew() {
-		Category category = config.getOpenChannelCategory();
-		if (category == null) {
-			throw new IllegalStateException("Missing help channel category. Cannot open a new help channel.");
-		}
-		String name = this.config.getChannelNamingStrategy().getName(category.getTextChannels(), config);
-		category.createTextChannel(name).queue(channel -> {
-			channel.getManager().setPosition(0).setTopic(this.config.getOpenChannelTopic()).queue();
-			log.info("Created new help channel {}.", channel.getAsMention());
-		});
+		return reservations.countByUser(user.getIdLong()) < this.config.getMaxReservedChannelsPerUser();
 	}
 
 	/**
@@ -114,20 +103,9 @@ public class HelpChannelManager {
 	 */
 	public void reserve(TextChannel channel, User reservingUser, Message message) throws SQLException {
 		if (!isOpen(channel)) throw new IllegalArgumentException("Can only reserve open channels!");
-		// Check if the database still has this channel marked as reserved (which can happen if an admin manually moves a channel.)
-		long alreadyReservedCount = DbActions.count(
-				"SELECT COUNT(id) FROM reserved_help_channels WHERE channel_id = ?",
-				s -> s.setLong(1, channel.getIdLong())
-		);
-		// If it's marked in the DB as reserved, remove that so that we can reserve it anew.
-		if (alreadyReservedCount > 0) {
-			DbActions.update("DELETE FROM reserved_help_channels WHERE channel_id = ?", channel.getIdLong());
-		}
-		int timeout = config.getInactivityTimeouts().get(0);
-		DbActions.update(
-				"INSERT INTO reserved_help_channels (channel_id, user_id, timeout) VALUES (?, ?, ?)",
-				channel.getIdLong(), reservingUser.getIdLong(), timeout
-		);
+		ChannelReservation reservation = reservations.reserve(channel.getIdLong(), reservingUser.getIdLong(), config.getInactivityTimeouts().get(0));
+		HelpChannelParticipants.start(reservation.getId());
+		HelpChannelActivity.of(channel.getGuild()).record(message);
 		Category target = config.getReservedChannelCategory();
 		channel.getManager().setParent(target).sync(target).queue();
 		// Pin the message, then immediately try and delete the annoying "message has been pinned" message.
@@ -143,20 +121,8 @@ public class HelpChannelManager {
 		}
 		log.info("Reserved channel {} for {}.", channel.getAsMention(), reservingUser.getAsTag());
 
-		// Now that an open channel has been reserved, try and compensate by creating a new one or pulling one from storage.
-		if (this.config.isRecycleChannels()) {
-			List<TextChannel> dormantChannels = this.config.getDormantChannelCategory().getTextChannels();
-			if (!dormantChannels.isEmpty()) {
-				Category targetCategory = this.config.getOpenChannelCategory();
-				TextChannel targetChannel = dormantChannels.get(0);
-				targetChannel.getManager().setParent(targetCategory).sync(targetCategory).queue();
-				targetChannel.sendMessage(config.getReopenedChannelMessage()).queue();
-			} else {
-				logChannel.sendMessage("Warning: No dormant channels were available to replenish an open channel that was just reserved.").queue();
-			}
-		} else {
-			this.openNew();
-		}
+		// Now that an open channel has been reserved, compensate by creating a new one or pulling one from storage in the background.
+		HelpChannelPool.of(channel.getGuild()).replenish();
 	}
 
 	/**
@@ -166,37 +132,34 @@ public class HelpChannelManager {
 	 * @return The user who reserved the channel, or null.
 	 */
 	public User getReservedChannelOwner(TextChannel channel) {
-		try {
-			return DbActions.mapQuery(
-					"SELECT user_id FROM reserved_help_channels WHERE channel_id = ?",
-					s -> s.setLong(1, channel.getIdLong()),
-					rs -> {
-						if (rs.next()) return channel.getJDA().retrieveUserById(rs.getLong(1)).complete();
-						return null;
-					}
-			);
-		} catch (SQLException e) {
-			ExceptionLogger.capture(e, getClass().getSimpleName());
-			return null;
-		}
+		return getReservationForChannel(channel.getIdLong())
+				.map(reservation -> channel.getJDA().retrieveUserById(reservation.getUserId()).complete())
+				.orElse(null);
 	}
 
 	/**
-	 * Gets a list of all users that have participated in a reserved help
-	 * channel since it was reserved.
+	 * Gets all users that have participated in a reserved help channel since
+	 * it was reserved. These are tracked as messages are received, and only if
+	 * the channel was reserved before the bot was started, its history is crawled.
 	 *
-	 * @param channel The channel to get participants for.
-	 * @return The list of users.
+	 * @param channel     The channel to get participants for.
+	 * @param reservation The channel's reservation.
+	 * @return The channel's {@link HelpChannelParticipants}.
 	 */
-	public CompletableFuture<Map<Member, List<Message>>> getParticipantsSinceReserved(@NotNull TextChannel channel) {
+	public CompletableFuture<HelpChannelParticipants> getParticipantsSinceReserved(@NotNull TextChannel channel, @NotNull ChannelReservation reservation) {
+		Optional<HelpChannelParticipants> index = HelpChannelParticipants.get(reservation.getId());
+		if (index.isPresent()) {
+			return CompletableFuture.completedFuture(index.get());
+		}
 		int limit = 300;
 		MessageHistory history = channel.getHistory();
-		final CompletableFuture<Map<Member, List<Message>>> cf = new CompletableFuture<>();
-		Bot.getAsyncPool().execute(() -> {
-			final Map<Member, List<Message>> userMessages = new HashMap<>();
+		final CompletableFuture<HelpChannelParticipants> cf = new CompletableFuture<>();
+		Bot.getBlockingPool().execute(() -> {
+			final HelpChannelParticipants participants = new HelpChannelParticipants();
 			boolean endFound = false;
 			while (!endFound && history.size() < limit) {
 				List<Message> messages = history.retrievePast(50).complete();
+				if (messages.isEmpty()) break;
 				for (Message msg : messages) {
 					if (msg.getContentRaw().contains(config.getReservedChannelMessage()) || msg.isPinned()) {
 						endFound = true;
@@ -204,13 +167,15 @@ public class HelpChannelManager {
 					}
 					User user = msg.getAuthor();
 					if (!user.isBot() && !user.isSystem()) {
-						Member member = channel.getGuild().retrieveMember(user).complete();
-						List<Message> um = userMessages.computeIfAbsent(member, u -> new ArrayList<>());
-						um.add(msg);
+						participants.add(user.getIdLong(), msg.getTimeCreated().toInstant());
 					}
 				}
 			}
-			cf.complete(userMessages);
+			// only kept while the channel is still reserved, since it would never be released otherwise
+			boolean reserved = getReservationForChannel(channel.getIdLong())
+					.filter(current -> current.getId().equals(reservation.getId()))
+					.isPresent();
+			cf.complete(reserved ? HelpChannelParticipants.register(reservation.getId(), participants) : participants);
 		});
 		return cf;
 	}
@@ -241,11 +206,14 @@ public class HelpChannelManager {
 		}
 		ChannelReservation reservation = optionalReservation.get();
 		// Ask the user for some feedback about the help channel, if possible.
-		getParticipantsSinceReserved(channel).thenAcceptAsync(participants -> {
-			List<Member> potentialHelpers = new ArrayList<>(participants.size());
-			for (Map.Entry<Member, List<Message>> entry : participants.entrySet()) {
-				if (!entry.getKey().getUser().equals(owner)) potentialHelpers.add(entry.getKey());
+		getParticipantsSinceReserved(channel, reservation).thenAcceptAsync(participants -> {
+			Map<Member, Integer> messageCounts = new HashMap<>();
+			for (HelpChannelParticipants.Participant participant : participants.getParticipants()) {
+				if (participant.userId() == owner.getIdLong()) continue;
+				Member member = channel.getGuild().getMemberById(participant.userId());
+				if (member != null) messageCounts.put(member, participant.messageCount());
 			}
+			List<Member> potentialHelpers = new ArrayList<>(messageCounts.keySet());
 			if (potentialHelpers.isEmpty()) {
 				InteractionHook hook;
 				if (interaction.getType() == InteractionType.COMPONENT) {
@@ -260,7 +228,7 @@ public class HelpChannelManager {
 				return;
 			}
 			potentialHelpers.sort((o1, o2) -> {
-				int c = Integer.compare(participants.get(o1).size(), participants.get(o2).size());
+				int c = Integer.compare(messageCounts.get(o1), messageCounts.get(o2));
 				if (c == 0) return o1.getEffectiveName().compareTo(o2.getEffectiveName());
 				return c;
 			});
@@ -324,38 +292,36 @@ public class HelpChannelManager {
 	 * @return A rest action that completes when everything is done.
 	 */
 	public RestAction<?> unreserveChannel(TextChannel channel) {
+		HelpChannelActivity.of(channel.getGuild()).remove(channel.getIdLong());
+		Optional<ChannelReservation> reservationOptional = this.getReservationForChannel(channel.getIdLong());
+		reservationOptional.ifPresent(reservation -> HelpChannelParticipants.release(reservation.getId()));
+		Map<Long, Double> experience = reservationOptional
+				.map(reservation -> HelpExperienceAccumulator.release(reservation.getId()))
+				.orElse(Map.of());
 		if (this.config.isRecycleChannels()) {
-			try (Connection con = Bot.getDataSource().getConnection()) {
+			try {
 				HelpExperienceService service = new HelpExperienceService(Bot.getDataSource());
-				Optional<ChannelReservation> reservationOptional = this.getReservationForChannel(channel.getIdLong());
-				if (reservationOptional.isPresent()) {
-					ChannelReservation reservation = reservationOptional.get();
-					Map<Long, Double> experience = this.calculateExperience(HelpChannelListener.reservationMessages.get(reservation.getId()), reservation.getUserId());
-					for (Long recipient : experience.keySet()) {
-						service.performTransaction(recipient, experience.get(recipient), HelpTransactionMessage.HELPED, channel.getGuild());
-					}
+				for (Map.Entry<Long, Double> entry : experience.entrySet()) {
+					service.performTransaction(entry.getKey(), entry.getValue(), HelpTransactionMessage.HELPED, channel.getGuild());
 				}
-				try (PreparedStatement stmt = con.prepareStatement("DELETE FROM reserved_help_channels WHERE channel_id = ?")) {
-					stmt.setLong(1, channel.getIdLong());
-					stmt.executeUpdate();
-					Category dormantCategory = config.getDormantChannelCategory();
-					Category openCategory = config.getOpenChannelCategory();
-					return RestAction.allOf(
-							channel.retrievePinnedMessages()
-									.flatMap(messages -> {
-										if (messages.isEmpty()) {
-											return new CompletedRestAction<>(channel.getJDA(), null);
-										}
-										return RestAction.allOf(messages.stream().map(Message::unpin).toList());
-									}),
-							getOpenChannelCount() >= config.getPreferredOpenChannelCount()
-									? RestAction.allOf(channel.getManager().setParent(dormantCategory).sync(dormantCategory),
-									channel.sendMessage(config.getDormantChannelMessage()))
+				reservations.unreserve(channel.getIdLong());
+				Category dormantCategory = config.getDormantChannelCategory();
+				Category openCategory = config.getOpenChannelCategory();
+				return RestAction.allOf(
+						channel.retrievePinnedMessages()
+								.flatMap(messages -> {
+									if (messages.isEmpty()) {
+										return new CompletedRestAction<>(channel.getJDA(), null);
+									}
+									return RestAction.allOf(messages.stream().map(Message::unpin).toList());
+								}),
+						getOpenChannelCount() >= config.getPreferredOpenChannelCount()
+								? RestAction.allOf(channel.getManager().setParent(dormantCategory).sync(dormantCategory),
+								channel.sendMessage(config.getDormantChannelMessage()))
 
-									: RestAction.allOf(channel.getManager().setParent(openCategory).sync(openCategory),
-									channel.sendMessage(config.getReopenedChannelMessage()))
-					);
-				}
+								: RestAction.allOf(channel.getManager().setParent(openCategory).sync(openCategory),
+								channel.sendMessage(config.getReopenedChannelMessage()))
+				);
 			} catch (SQLException e) {
 				ExceptionLogger.capture(e, getClass().getSimpleName());
 				return logChannel.sendMessage("Error occurred while unreserving help channel " + channel.getAsMention() + ": " + e.getMessage());
@@ -372,19 +338,13 @@ public class HelpChannelManager {
 	 * @throws SQLException If an error occurs.
 	 */
 	public void unreserveAllOwnedChannels(User user) throws SQLException {
-		List<TextChannel> channels = DbActions.mapQuery(
-				"SELECT channel_id FROM reserved_help_channels WHERE user_id = ?",
-				s -> s.setLong(1, user.getIdLong()),
-				rs -> {
-					List<TextChannel> c = new ArrayList<>();
-					while (rs.next()) {
-						c.add(user.getJDA().getTextChannelById(rs.getLong(1)));
-					}
-					return c;
-				}
-		);
-		for (TextChannel channel : channels) {
-			unreserveChannel(channel);
+		for (long channelId : reservations.getChannelsByUser(user.getIdLong())) {
+			TextChannel channel = user.getJDA().getTextChannelById(channelId);
+			if (channel != null) {
+				unreserveChannel(channel);
+			} else {
+				reservations.unreserve(channelId);
+			}
 		}
 	}
 
@@ -395,17 +355,7 @@ public class HelpChannelManager {
 	 * @return The {@link ChannelReservation} object as an {@link Optional}.
 	 */
 	public Optional<ChannelReservation> getReservationForChannel(long channelId) {
-		return DbActions.fetchSingleEntity(
-				"SELECT * FROM reserved_help_channels WHERE channel_id = ?",
-				s -> s.setLong(1, channelId),
-				rs -> new ChannelReservation(
-						rs.getLong("id"),
-						rs.getLong("channel_id"),
-						rs.getTimestamp("reserved_at").toLocalDateTime(),
-						rs.getLong("user_id"),
-						rs.getInt("timeout")
-				)
-		);
+		return reservations.getByChannel(channelId);
 	}
 
 	/**
@@ -415,17 +365,7 @@ public class HelpChannelManager {
 	 * @return The {@link ChannelReservation} object as an {@link Optional}.
 	 */
 	public Optional<ChannelReservation> getReservation(long id) {
-		return DbActions.fetchSingleEntity(
-				"SELECT * FROM reserved_help_channels WHERE id = ?",
-				s -> s.setLong(1, id),
-				rs -> new ChannelReservation(
-						rs.getLong("id"),
-						rs.getLong("channel_id"),
-						rs.getTimestamp("reserved_at").toLocalDateTime(),
-						rs.getLong("user_id"),
-						rs.getInt("timeout")
-				)
-		);
+		return reservations.getById(id);
 	}
 
 	/**
@@ -436,11 +376,8 @@ public class HelpChannelManager {
 	 * @throws SQLException If an error occurs.
 	 */
 	public void setTimeout(@NotNull TextChannel channel, int timeout) throws SQLException {
-		try (Connection con = Bot.getDataSource().getConnection(); PreparedStatement stmt = con.prepareStatement("UPDATE reserved_help_channels SET timeout = ? WHERE channel_id = ?")) {
-			stmt.setInt(1, timeout);
-			stmt.setLong(2, channel.getIdLong());
-			stmt.executeUpdate();
-		}
+		reservations.setTimeout(channel.getIdLong(), timeout);
+		HelpChannelActivity.of(channel.getGuild()).reschedule(channel.getIdLong());
 	}
 
 	/**
@@ -451,15 +388,9 @@ public class HelpChannelManager {
 	 * @throws SQLException If an error occurs.
 	 */
 	public int getTimeout(TextChannel channel) throws SQLException {
-		try (Connection con = Bot.getDataSource().getConnection(); PreparedStatement stmt = con.prepareStatement("SELECT timeout FROM reserved_help_channels WHERE channel_id = ?")) {
-			stmt.setLong(1, channel.getIdLong());
-			ResultSet rs = stmt.executeQuery();
-			if (rs.next()) {
-				return rs.getInt(1);
-			} else {
-				throw new SQLException("Could not get timeout for channel_id " + channel.getId());
-			}
-		}
+		return getReservationForChannel(channel.getIdLong())
+				.map(ChannelReservation::getTimeout)
+				.orElseThrow(() -> new SQLException("Could not get timeout for channel_id " + channel.getId()));
 	}
 
 	/**
@@ -470,14 +401,9 @@ public class HelpChannelManager {
 	 * @throws SQLException If an error occurs.
 	 */
 	public LocalDateTime getReservedAt(TextChannel channel) throws SQLException {
-		return DbActions.mapQuery(
-				"SELECT reserved_at FROM reserved_help_channels WHERE channel_id = ?",
-				s -> s.setLong(1, channel.getIdLong()),
-				rs -> {
-					if (!rs.next()) throw new SQLException("No data!");
-					return rs.getTimestamp(1).toLocalDateTime();
-				}
-		);
+		return getReservationForChannel(channel.getIdLong())
+				.map(ChannelReservation::getReservedAt)
+				.orElseThrow(() -> new SQLException("No data!"));
 	}
 
 	/**
@@ -510,33 +436,6 @@ public class HelpChannelManager {
 	 * @return The reservation id as an {@link Optional}.
 	 */
 	public Optional<Long> getReservationId(TextChannel channel) {
-		try {
-			return DbActions.mapQuery(
-					"SELECT id FROM reserved_help_channels WHERE channel_id = ?",
-					s -> s.setLong(1, channel.getIdLong()),
-					rs -> {
-						if (rs.next()) return Optional.of(rs.getLong(1));
-						return Optional.empty();
-					}
-			);
-		} catch (SQLException e) {
-			ExceptionLogger.capture(e, getClass().getSimpleName());
-			return Optional.empty();
-		}
-	}
-
-	private Map<Long, Double> calculateExperience(List<Message> messages, long ownerId) {
-		Map<Long, Double> experience = new HashMap<>();
-		if (messages == null || messages.isEmpty()) return Map.of();
-		for (User user : messages.stream().map(Message::getAuthor).collect(Collectors.toSet())) {
-			if (user.getIdLong() == ownerId) continue;
-			int xp = 0;
-			for (Message message : messages.stream()
-					.filter(f -> f.getAuthor().getIdLong() != ownerId && f.getContentDisplay().length() > config.getMinimumMessageLength()).toList()) {
-				xp += config.getBaseExperience() + config.getPerCharacterExperience() * (Math.log(message.getContentDisplay().trim().length()) / Math.log(2));
-			}
-			experience.put(user.getIdLong(), Math.min(xp, config.getMaxExperiencePerChannel()));
-		}
-		return experience;
+		return getReservationForChannel(channel.getIdLong()).map(ChannelReservation::getId);
 	}
 }
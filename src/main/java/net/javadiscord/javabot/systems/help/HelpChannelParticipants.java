@@ -0,0 +1,98 @@
+package net.javadiscord.javabot.systems.help;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps track of the users who participated in a single help channel reservation, as their
+ * messages are received, so that the thanks dialog can be built without crawling the channel's
+ * history. Indexes are started when a channel is reserved, and released once it's unreserved.
+ */
+public class HelpChannelParticipants {
+	private static final Map<Long, HelpChannelParticipants> INDEXES = new ConcurrentHashMap<>();
+
+	private final Map<Long, Participant> participants = new ConcurrentHashMap<>();
+
+	/**
+	 * Starts a new, empty index for the given reservation, replacing any previous one.
+	 *
+	 * @param reservationId The reservation's id.
+	 * @return The new index.
+	 */
+	public static HelpChannelParticipants start(long reservationId) {
+		HelpChannelParticipants index = new HelpChannelParticipants();
+		INDEXES.put(reservationId, index);
+		return index;
+	}
+
+	/**
+	 * Keeps an index which was built from the channel's history, so that it doesn't have to be
+	 * crawled again. An index which was started in the meantime is kept instead.
+	 *
+	 * @param reservationId The reservation's id.
+	 * @param index         The index built from the channel's history.
+	 * @return The index which is kept for the reservation.
+	 */
+	public static HelpChannelParticipants register(long reservationId, HelpChannelParticipants index) {
+		HelpChannelParticipants existing = INDEXES.putIfAbsent(reservationId, index);
+		return existing == null ? index : existing;
+	}
+
+	/**
+	 * Gets the index of the given reservation. There is none if the channel was reserved
+	 * before the bot was last started, until its history has been crawled.
+	 *
+	 * @param reservationId The reservation's id.
+	 * @return The {@link HelpChannelParticipants}, as an {@link Optional}.
+	 */
+	public static Optional<HelpChannelParticipants> get(long reservationId) {
+		return Optional.ofNullable(INDEXES.get(reservationId));
+	}
+
+	/**
+	 * Removes the index of the given reservation.
+	 *
+	 * @param reservationId The reservation's id.
+	 */
+	public static void release(long reservationId) {
+		INDEXES.remove(reservationId);
+	}
+
+	/**
+	 * Records a message by the given user.
+	 *
+	 * @param userId The id of the message's author.
+	 * @param sentAt The time the message was sent.
+	 */
+	public void add(long userId, @NotNull Instant sentAt) {
+		participants.merge(userId, new Participant(userId, 1, sentAt), Participant::merge);
+	}
+
+	/**
+	 * Gets all users who participated so far.
+	 *
+	 * @return An immutable {@link List} of {@link Participant}s, in no particular order.
+	 */
+	public List<Participant> getParticipants() {
+		return List.copyOf(participants.values());
+	}
+
+	/**
+	 * A user who participated in a help channel.
+	 *
+	 * @param userId       The user's id.
+	 * @param messageCount The amount of messages the user sent.
+	 * @param lastSeen     The time the user's most recent message was sent.
+	 */
+	public record Participant(long userId, int messageCount, Instant lastSeen) {
+		private Participant merge(@NotNull Participant other) {
+			Instant latest = lastSeen.isAfter(other.lastSeen) ? lastSeen : other.lastSeen;
+			return new Participant(userId, messageCount + other.messageCount, latest);
+		}
+	}
+}
@@ -0,0 +1,167 @@
+package net.javadiscord.javabot.systems.help;
+
+import lombok.extern.slf4j.Slf4j;
+import net.dv8tion.jda.api.entities.Category;
+import net.dv8tion.jda.api.entities.Guild;
+import net.dv8tion.jda.api.entities.TextChannel;
+import net.dv8tion.jda.api.requests.RestAction;
+import net.javadiscord.javabot.Bot;
+import net.javadiscord.javabot.data.config.guild.HelpConfig;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Keeps the preferred amount of open help channels of a single guild ready, by creating new channels
+ * or recycling dormant ones in the background. Channels are opened in small batches, one after another,
+ * with a pause between batches, so that a rush of reservations doesn't run into Discord's rate limits
+ * for creating and editing channels.
+ */
+@Slf4j
+public class HelpChannelPool {
+	private static final Map<Long, HelpChannelPool> POOLS = new ConcurrentHashMap<>();
+
+	private final Guild guild;
+	private final BatchedReplenisher replenisher;
+	private boolean warnedNoDormantChannels;
+
+	private HelpChannelPool(Guild guild) {
+		this.guild = guild;
+		this.replenisher = new BatchedReplenisher(
+				this::nextBatch,
+				Bot.getAsyncPool(),
+				// The pause also gives the channel cache time to catch up with the moved channels.
+				task -> Bot.getAsyncPool().schedule(task, Bot.getConfig().get(guild).getHelpConfig().getChannelPoolBatchDelaySeconds(), TimeUnit.SECONDS)
+		);
+	}
+
+	/**
+	 * Gets the channel pool of the given guild.
+	 *
+	 * @param guild The guild.
+	 * @return The guild's {@link HelpChannelPool}.
+	 */
+	public static HelpChannelPool of(@NotNull Guild guild) {
+		return POOLS.computeIfAbsent(guild.getIdLong(), id -> new HelpChannelPool(guild));
+	}
+
+	/**
+	 * Starts replenishing the open channels in the background, unless that's already happening.
+	 * This never waits for any channel to be opened.
+	 */
+	public void replenish() {
+		replenisher.replenish();
+	}
+
+	/**
+	 * Checks whether channels are being opened right now.
+	 *
+	 * @return True if the pool is being replenished.
+	 */
+	public boolean isReplenishing() {
+		return replenisher.isRunning();
+	}
+
+	/**
+	 * Gets the current state of the pool, and how long it took to open channels since the bot was started.
+	 *
+	 * @return The pool's {@link Statistics}.
+	 */
+	public Statistics getStatistics() {
+		HelpConfig config = Bot.getConfig().get(guild).getHelpConfig();
+		return new Statistics(
+				new HelpChannelManager(config).getOpenChannelCount(),
+				config.getPreferredOpenChannelCount(),
+				config.getDormantChannelCategory() == null ? 0 : config.getDormantChannelCategory().getTextChannels().size(),
+				replenisher.isRunning(),
+				replenisher.getSucceeded(),
+				replenisher.getFailures(),
+				replenisher.getAverageLatencyMillis(),
+				replenisher.getMaxLatencyMillis(),
+				replenisher.getLastLatencyMillis()
+		);
+	}
+
+	/**
+	 * Gets the actions which open up to one batch of missing channels.
+	 *
+	 * @return The next {@link BatchedReplenisher.Batch}, which is empty if no channels are missing.
+	 */
+	private BatchedReplenisher.Batch nextBatch() {
+		HelpConfig config = Bot.getConfig().get(guild).getHelpConfig();
+		if (config.getOpenChannelCategory() == null) {
+			log.warn("Missing open help channel category in {}. Cannot replenish help channels.", guild.getName());
+			return BatchedReplenisher.Batch.EMPTY;
+		}
+		int missing = config.getPreferredOpenChannelCount() - new HelpChannelManager(config).getOpenChannelCount();
+		if (missing <= 0) return BatchedReplenisher.Batch.EMPTY;
+		int batchSize = Math.min(missing, config.getChannelPoolBatchSize());
+		List<Supplier<CompletableFuture<?>>> actions = new ArrayList<>(batchSize);
+		if (config.isRecycleChannels()) {
+			List<TextChannel> dormantChannels = config.getDormantChannelCategory().getTextChannels();
+			if (dormantChannels.isEmpty()) {
+				warnNoDormantChannels();
+				return BatchedReplenisher.Batch.EMPTY;
+			}
+			warnedNoDormantChannels = false;
+			for (TextChannel channel : dormantChannels.subList(0, Math.min(batchSize, dormantChannels.size()))) {
+				actions.add(() -> reopen(channel, config).submit());
+			}
+		} else {
+			for (int i = 0; i < batchSize; i++) {
+				actions.add(() -> create(config).submit());
+			}
+		}
+		return new BatchedReplenisher.Batch(actions, missing - actions.size());
+	}
+
+	private @NotNull RestAction<?> reopen(@NotNull TextChannel channel, @NotNull HelpConfig config) {
+		Category target = config.getOpenChannelCategory();
+		log.info("Reopening dormant help channel {}.", channel.getAsMention());
+		return RestAction.allOf(
+				channel.getManager().setParent(target).sync(target),
+				channel.sendMessage(config.getReopenedChannelMessage())
+		);
+	}
+
+	private @NotNull RestAction<?> create(@NotNull HelpConfig config) {
+		Category category = config.getOpenChannelCategory();
+		String name = config.getChannelNamingStrategy().getName(category.getTextChannels(), config);
+		return category.createTextChannel(name).flatMap(channel -> {
+			log.info("Created new help channel {}.", channel.getAsMention());
+			return channel.getManager().setPosition(0).setTopic(config.getOpenChannelTopic());
+		});
+	}
+
+	private void warnNoDormantChannels() {
+		log.warn("Could not find a dormant channel to replenish open channels.");
+		if (!warnedNoDormantChannels) {
+			warnedNoDormantChannels = true;
+			Bot.getConfig().get(guild).getModerationConfig().getLogChannel()
+					.sendMessage("Warning: No dormant channels were available to replenish the open help channels.").queue();
+		}
+	}
+
+	/**
+	 * The state of a {@link HelpChannelPool}.
+	 *
+	 * @param openChannels         The amount of open channels which aren't reserved yet.
+	 * @param preferredChannels    The amount of open channels the pool tries to keep.
+	 * @param dormantChannels      The amount of dormant channels which can be reopened.
+	 * @param replenishing         Whether channels are being opened right now.
+	 * @param opened               The amount of channels opened since the bot was started.
+	 * @param failures             The amount of channels which couldn't be opened.
+	 * @param averageLatencyMillis The average time from requesting to opening a channel.
+	 * @param maxLatencyMillis     The longest time from requesting to opening a channel.
+	 * @param lastLatencyMillis    The time it took to open the most recent channel.
+	 */
+	public record Statistics(int openChannels, int preferredChannels, int dormantChannels, boolean replenishing,
+							 long opened, long failures, double averageLatencyMillis, double maxLatencyMillis, double lastLatencyMillis) {
+	}
+}
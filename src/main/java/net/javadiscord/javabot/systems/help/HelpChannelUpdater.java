@@ -41,6 +41,8 @@ public class HelpChannelUpdater implements Runnable {
 	private final HelpConfig config;
 	private final HelpChannelManager channelManager;
 	private final List<ChannelSemanticCheck> semanticChecks;
+	private final HelpChannelActivity activity;
+	private Instant lastReconciliation;
 
 	/**
 	 * The Constructor of the class.
@@ -54,12 +56,19 @@ public class HelpChannelUpdater implements Runnable {
 		this.config = config;
 		this.semanticChecks = semanticChecks;
 		this.channelManager = new HelpChannelManager(config);
+		this.activity = HelpChannelActivity.of(config.getGuild());
 	}
 
 	@Override
 	public void run() {
-		for (TextChannel channel : config.getReservedChannelCategory().getTextChannels()) {
-			checkReservedChannel(channel).queue();
+		// Reserved channels are checked once their inactivity timer expires, and their history is only
+		// checked as a whole every now and then, in case some messages were missed.
+		Instant now = Instant.now();
+		if (lastReconciliation == null || lastReconciliation.plus(Duration.ofMinutes(config.getInactivityReconcileIntervalMinutes())).isBefore(now)) {
+			lastReconciliation = now;
+			for (TextChannel channel : config.getReservedChannelCategory().getTextChannels()) {
+				checkReservedChannel(channel).queue();
+			}
 		}
 		for (TextChannel channel : config.getOpenChannelCategory().getTextChannels()) {
 			checkOpenChannel(channel).queue();
@@ -72,7 +81,19 @@ public class HelpChannelUpdater implements Runnable {
 	}
 
 	/**
-	 * Performs a periodic check on a reserved help channel to see if we need to
+	 * Checks all reserved help channels whose inactivity timer expired.
+	 */
+	public void checkInactiveChannels() {
+		for (long channelId : activity.pollInactiveChannels()) {
+			TextChannel channel = config.getGuild().getTextChannelById(channelId);
+			if (channel != null && channelManager.isReserved(channel)) {
+				checkReservedChannel(channel).queue();
+			}
+		}
+	}
+
+	/**
+	 * Performs a check on a reserved help channel to see if we need to
 	 * take certain actions.
 	 *
 	 * @param channel The channel to check.
@@ -135,6 +156,7 @@ public class HelpChannelUpdater implements Runnable {
 						return sendActivityCheck(channel, owner, reservation);
 					} else {// The channel is still active, so take this opportunity to clean up the channel.
 						// Also use it to do some introspection on the type of messages sent recently, to see if the bot can provide automated guidance.
+						activity.record(mostRecentMessage);
 						return RestAction.allOf(deleteOldBotMessages(messages), semanticMessageCheck(channel, owner, messages));
 					}
 				}
@@ -142,7 +164,8 @@ public class HelpChannelUpdater implements Runnable {
 				ExceptionLogger.capture(e, getClass().getSimpleName());
 				return new CompletedRestAction<>(this.jda, e);
 			}
-			// No action needed.
+			// No action needed, but make sure that the channel is checked again once it becomes inactive.
+			activity.record(mostRecentMessage);
 			return new CompletedRestAction<>(this.jda, null);
 		}).flatMap(action -> action);
 	}
@@ -176,32 +199,21 @@ public class HelpChannelUpdater implements Runnable {
 	 * Tries to move channels around to attain the preferred open channel count.
 	 */
 	private void balanceChannels() {
-		int openChannelCount = this.channelManager.getOpenChannelCount();
-		while (openChannelCount < this.config.getPreferredOpenChannelCount()) {
-			if (this.config.isRecycleChannels()) {
-				List<TextChannel> dormantChannels = this.config.getDormantChannelCategory().getTextChannels();
-				if (!dormantChannels.isEmpty()) {
-					Category target = this.config.getOpenChannelCategory();
-					dormantChannels.get(0).getManager().setParent(target).sync(target).queue();
-					openChannelCount++;
-				} else {
-					log.warn("Could not find a dormant channel to replenish open channels.");
-					break;
-				}
-			} else {
-				channelManager.openNew();
-				openChannelCount++;
-			}
+		HelpChannelPool pool = HelpChannelPool.of(config.getGuild());
+		List<TextChannel> openChannels = this.channelManager.getOpenChannels();
+		if (openChannels.size() < this.config.getPreferredOpenChannelCount()) {
+			pool.replenish();
+			return;
 		}
-		while (openChannelCount > this.config.getPreferredOpenChannelCount()) {
-			TextChannel channel = this.config.getOpenChannelCategory().getTextChannels().get(0);
+		// Channels which were just opened by the pool may not show up in the open category yet.
+		if (pool.isReplenishing()) return;
+		for (TextChannel channel : openChannels.subList(0, openChannels.size() - this.config.getPreferredOpenChannelCount())) {
 			if (this.config.isRecycleChannels()) {
 				Category target = this.config.getDormantChannelCategory();
 				channel.getManager().setParent(target).sync(target).queue();
 			} else {
 				channel.delete().queue();
 			}
-			openChannelCount--;
 		}
 	}
 
@@ -214,8 +226,7 @@ public class HelpChannelUpdater implements Runnable {
 	 * @return True if the message is an activity check or false otherwise.
 	 */
 	private boolean isActivityCheck(Message message) {
-		return message.getAuthor().equals(this.jda.getSelfUser()) &&
-				message.getContentRaw().contains("Are you finished with this channel?");
+		return HelpChannelActivity.MessageKind.of(message) == HelpChannelActivity.MessageKind.ACTIVITY_CHECK;
 	}
 
 	/**
@@ -253,8 +264,7 @@ public class HelpChannelUpdater implements Runnable {
 	 * @return True if the message is a thank message.
 	 */
 	private boolean isThankMessage(Message message) {
-		return message.getAuthor().equals(this.jda.getSelfUser()) &&
-				message.getContentRaw().equals(HelpChannelManager.THANK_MESSAGE_TEXT);
+		return HelpChannelActivity.MessageKind.of(message) == HelpChannelActivity.MessageKind.THANK_MESSAGE;
 	}
 
 	/**
@@ -0,0 +1,78 @@
+package net.javadiscord.javabot.systems.help;
+
+import net.javadiscord.javabot.data.config.guild.HelpConfig;
+import net.javadiscord.javabot.systems.help.model.ChannelReservation;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Accumulates the experience which the helpers of a single help channel reservation earn for
+ * their messages, as they are sent. Only a running total per author is kept, instead of the
+ * messages themselves, and the accumulator is released once the channel is unreserved.
+ */
+public class HelpExperienceAccumulator {
+	private static final Map<Long, HelpExperienceAccumulator> ACCUMULATORS = new ConcurrentHashMap<>();
+
+	private final long ownerId;
+	private final HelpConfig config;
+	private final Map<Long, Double> experience = new ConcurrentHashMap<>();
+
+	/**
+	 * Creates a new, empty accumulator.
+	 *
+	 * @param ownerId The id of the user who reserved the channel, and so doesn't earn any experience.
+	 * @param config  The {@link HelpConfig} to calculate the experience with.
+	 */
+	public HelpExperienceAccumulator(long ownerId, HelpConfig config) {
+		this.ownerId = ownerId;
+		this.config = config;
+	}
+
+	/**
+	 * Gets the accumulator of the given reservation, creating it if needed.
+	 *
+	 * @param reservation The reservation.
+	 * @param config      The {@link HelpConfig} to calculate the experience with.
+	 * @return The reservation's {@link HelpExperienceAccumulator}.
+	 */
+	public static HelpExperienceAccumulator of(@NotNull ChannelReservation reservation, HelpConfig config) {
+		return ACCUMULATORS.computeIfAbsent(reservation.getId(), id -> new HelpExperienceAccumulator(reservation.getUserId(), config));
+	}
+
+	/**
+	 * Removes the accumulator of the given reservation.
+	 *
+	 * @param reservationId The reservation's id.
+	 * @return The experience each helper earned, mapped by their user id.
+	 */
+	public static Map<Long, Double> release(long reservationId) {
+		HelpExperienceAccumulator accumulator = ACCUMULATORS.remove(reservationId);
+		return accumulator == null ? Map.of() : accumulator.getExperience();
+	}
+
+	/**
+	 * Adds the experience for a single message. Messages by the channel's owner, and messages
+	 * that are too short, are ignored.
+	 *
+	 * @param authorId The id of the message's author.
+	 * @param content  The displayed content of the message.
+	 */
+	public void add(long authorId, @NotNull String content) {
+		if (authorId == ownerId || content.length() <= config.getMinimumMessageLength() || content.isBlank()) return;
+		double xp = config.getBaseExperience() + config.getPerCharacterExperience() * (Math.log(content.trim().length()) / Math.log(2));
+		experience.merge(authorId, xp, (total, added) -> Math.min(total + added, config.getMaxExperiencePerChannel()));
+	}
+
+	/**
+	 * Gets the experience each helper earned so far, capped to the maximum experience per channel.
+	 *
+	 * @return An immutable {@link Map} of the experience, mapped by the helpers' user ids.
+	 */
+	public Map<Long, Double> getExperience() {
+		return experience.entrySet().stream()
+				.collect(Collectors.toUnmodifiableMap(Map.Entry::getKey, e -> Math.min(e.getValue(), config.getMaxExperiencePerChannel())));
+	}
+}
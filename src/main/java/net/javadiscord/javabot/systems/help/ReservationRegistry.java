@@ -0,0 +1,223 @@
+package net.javadiscord.javabot.systems.help;
+
+import lombok.extern.slf4j.Slf4j;
+import net.dv8tion.jda.api.entities.Guild;
+import net.javadiscord.javabot.Bot;
+import net.javadiscord.javabot.systems.help.dao.ChannelReservationRepository;
+import net.javadiscord.javabot.systems.help.model.ChannelReservation;
+import net.javadiscord.javabot.util.ExceptionLogger;
+import org.jetbrains.annotations.NotNull;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongPredicate;
+
+/**
+ * Keeps the help channel reservations of a single guild in memory, so that they can be looked up
+ * without accessing the database. Changes are written to the database before they're applied here,
+ * and the registry is periodically reconciled with the database, in case the table was edited by hand.
+ */
+@Slf4j
+public class ReservationRegistry {
+	private static final Map<Long, ReservationRegistry> REGISTRIES = new ConcurrentHashMap<>();
+
+	private final String guildName;
+	private final DataSource dataSource;
+	private final LongPredicate isGuildChannel;
+	private final Map<Long, ChannelReservation> byChannel = new ConcurrentHashMap<>();
+	private final Map<Long, ChannelReservation> byId = new ConcurrentHashMap<>();
+	private final Map<Long, Set<Long>> channelsByUser = new ConcurrentHashMap<>();
+
+	/**
+	 * Creates an empty registry. Its reservations are loaded by the first {@link #reconcile()}.
+	 *
+	 * @param guildName      The name of the guild, for logging.
+	 * @param dataSource     The {@link DataSource} to store the reservations in.
+	 * @param isGuildChannel Checks whether a channel id belongs to the guild, as the table holds the reservations of all guilds.
+	 */
+	ReservationRegistry(String guildName, DataSource dataSource, LongPredicate isGuildChannel) {
+		this.guildName = guildName;
+		this.dataSource = dataSource;
+		this.isGuildChannel = isGuildChannel;
+	}
+
+	/**
+	 * Gets the registry of the given guild, loading its reservations from the database
+	 * if this is the first time it's requested. Registries are loaded when the bot is ready,
+	 * so this normally doesn't access the database.
+	 *
+	 * @param guild The guild.
+	 * @return The guild's {@link ReservationRegistry}.
+	 */
+	public static ReservationRegistry of(@NotNull Guild guild) {
+		ReservationRegistry registry = REGISTRIES.get(guild.getIdLong());
+		if (registry != null) return registry;
+		// Load outside the map, so that other guilds' lookups don't wait for the database.
+		registry = new ReservationRegistry(guild.getName(), Bot.getDataSource(), id -> guild.getTextChannelById(id) != null);
+		registry.reconcile();
+		ReservationRegistry existing = REGISTRIES.putIfAbsent(guild.getIdLong(), registry);
+		return existing != null ? existing : registry;
+	}
+
+	/**
+	 * Gets the reservation of the given channel.
+	 *
+	 * @param channelId The channel's id.
+	 * @return The {@link ChannelReservation}, as an {@link Optional}.
+	 */
+	public Optional<ChannelReservation> getByChannel(long channelId) {
+		return Optional.ofNullable(byChannel.get(channelId));
+	}
+
+	/**
+	 * Gets a reservation by its id.
+	 *
+	 * @param id The reservation's id.
+	 * @return The {@link ChannelReservation}, as an {@link Optional}.
+	 */
+	public Optional<ChannelReservation> getById(long id) {
+		return Optional.ofNullable(byId.get(id));
+	}
+
+	/**
+	 * Gets the ids of all channels the given user has reserved.
+	 *
+	 * @param userId The user's id.
+	 * @return An immutable {@link Set} of channel ids.
+	 */
+	public Set<Long> getChannelsByUser(long userId) {
+		return Set.copyOf(channelsByUser.getOrDefault(userId, Set.of()));
+	}
+
+	/**
+	 * Counts the channels the given user has reserved.
+	 *
+	 * @param userId The user's id.
+	 * @return The amount of reserved channels.
+	 */
+	public int countByUser(long userId) {
+		return channelsByUser.getOrDefault(userId, Set.of()).size();
+	}
+
+	/**
+	 * Reserves a channel for a user, replacing any previous reservation of the channel.
+	 *
+	 * @param channelId The channel's id.
+	 * @param userId    The id of the user who reserves the channel.
+	 * @param timeout   The channel's inactivity timeout, in minutes.
+	 * @return The new {@link ChannelReservation}.
+	 * @throws SQLException If an error occurs.
+	 */
+	public synchronized ChannelReservation reserve(long channelId, long userId, int timeout) throws SQLException {
+		try (Connection con = dataSource.getConnection()) {
+			ChannelReservationRepository repo = new ChannelReservationRepository(con);
+			// The database may still have this channel marked as reserved (which can happen if an admin manually moves a channel.)
+			repo.deleteByChannel(channelId);
+			ChannelReservation reservation = repo.insert(channelId, userId, timeout);
+			put(reservation);
+			return reservation;
+		}
+	}
+
+	/**
+	 * Removes the reservation of the given channel.
+	 *
+	 * @param channelId The channel's id.
+	 * @throws SQLException If an error occurs.
+	 */
+	public synchronized void unreserve(long channelId) throws SQLException {
+		try (Connection con = dataSource.getConnection()) {
+			new ChannelReservationRepository(con).deleteByChannel(channelId);
+			remove(channelId);
+		}
+	}
+
+	/**
+	 * Sets the inactivity timeout of the given channel's reservation.
+	 *
+	 * @param channelId The channel's id.
+	 * @param timeout   The new timeout, in minutes.
+	 * @throws SQLException If an error occurs.
+	 */
+	public synchronized void setTimeout(long channelId, int timeout) throws SQLException {
+		try (Connection con = dataSource.getConnection()) {
+			new ChannelReservationRepository(con).updateTimeout(channelId, timeout);
+			ChannelReservation r = byChannel.get(channelId);
+			if (r != null) {
+				put(new ChannelReservation(r.getId(), r.getChannelId(), r.getReservedAt(), r.getUserId(), timeout));
+			}
+		}
+	}
+
+	/**
+	 * Replaces the reservations held in memory by those stored in the database.
+	 */
+	public synchronized void reconcile() {
+		try (Connection con = dataSource.getConnection()) {
+			Map<Long, ChannelReservation> stored = new HashMap<>();
+			for (ChannelReservation reservation : new ChannelReservationRepository(con).getAll()) {
+				if (isGuildChannel.test(reservation.getChannelId())) {
+					stored.put(reservation.getChannelId(), reservation);
+				}
+			}
+			int removed = 0;
+			for (long channelId : List.copyOf(byChannel.keySet())) {
+				if (!stored.containsKey(channelId)) {
+					remove(channelId);
+					removed++;
+				}
+			}
+			int updated = 0;
+			for (ChannelReservation reservation : stored.values()) {
+				if (!reservation.equals(byChannel.get(reservation.getChannelId()))) {
+					put(reservation);
+					updated++;
+				}
+			}
+			if (removed > 0 || updated > 0) {
+				log.info("Reconciled help channel reservations of {}: {} added or updated, {} removed.", guildName, updated, removed);
+			}
+		} catch (SQLException e) {
+			ExceptionLogger.capture(e, getClass().getSimpleName());
+		}
+	}
+
+	/**
+	 * Adds a reservation, or replaces the channel's previous one. The channel's entry is replaced in one step,
+	 * so that lookups, which don't hold the registry's lock, never miss the channel in the meantime.
+	 */
+	private void put(@NotNull ChannelReservation reservation) {
+		long channelId = reservation.getChannelId();
+		byId.put(reservation.getId(), reservation);
+		channelsByUser.computeIfAbsent(reservation.getUserId(), id -> ConcurrentHashMap.newKeySet()).add(channelId);
+		ChannelReservation old = byChannel.put(channelId, reservation);
+		if (old == null) return;
+		if (!old.getId().equals(reservation.getId())) {
+			byId.remove(old.getId());
+		}
+		if (old.getUserId() != reservation.getUserId()) {
+			removeChannelOfUser(old.getUserId(), channelId);
+		}
+	}
+
+	private void remove(long channelId) {
+		ChannelReservation reservation = byChannel.remove(channelId);
+		if (reservation == null) return;
+		byId.remove(reservation.getId());
+		removeChannelOfUser(reservation.getUserId(), channelId);
+	}
+
+	private void removeChannelOfUser(long userId, long channelId) {
+		channelsByUser.computeIfPresent(userId, (id, channels) -> {
+			channels.remove(channelId);
+			return channels.isEmpty() ? null : channels;
+		});
+	}
+}
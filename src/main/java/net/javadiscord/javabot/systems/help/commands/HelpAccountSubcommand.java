@@ -44,11 +44,11 @@ public class HelpAccountSubcommand extends SlashCommand.Subcommand {
 		User user = event.getOption("user", event::getUser, OptionMapping::getAsUser);
 		boolean showTransactions = event.getOption("show-transactions", false, OptionMapping::getAsBoolean);
 		long totalThanks = DbActions.count(
-				"SELECT COUNT(id) FROM help_channel_thanks WHERE helper_id = ?",
+				"help_channel_thanks.count_by_helper",
 				s -> s.setLong(1, user.getIdLong())
 		);
 		long weekThanks = DbActions.count(
-				"SELECT COUNT(id) FROM help_channel_thanks WHERE helper_id = ? AND thanked_at > DATEADD('week', -1, CURRENT_TIMESTAMP(0))",
+				"help_channel_thanks.count_by_helper_this_week",
 				s -> s.setLong(1, user.getIdLong())
 		);
 		try {
@@ -14,6 +14,6 @@ public class HelpCommand extends SlashCommand {
 		setSlashCommandData(Commands.slash("help", "Commands related to the help system.")
 				.setGuildOnly(true)
 		);
-		addSubcommands(new HelpAccountSubcommand(), new HelpPingSubcommand(), new HelpGuidelinesSubcommand());
+		addSubcommands(new HelpAccountSubcommand(), new HelpPingSubcommand(), new HelpGuidelinesSubcommand(), new HelpPoolSubcommand());
 	}
 }
@@ -0,0 +1,47 @@
+package net.javadiscord.javabot.systems.help.commands;
+
+import com.dynxsty.dih4jda.interactions.commands.SlashCommand;
+import net.dv8tion.jda.api.EmbedBuilder;
+import net.dv8tion.jda.api.Permission;
+import net.dv8tion.jda.api.entities.MessageEmbed;
+import net.dv8tion.jda.api.events.interaction.command.SlashCommandInteractionEvent;
+import net.dv8tion.jda.api.interactions.commands.build.SubcommandData;
+import net.javadiscord.javabot.systems.help.HelpChannelPool;
+import net.javadiscord.javabot.util.Responses;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * <h3>This class represents the /help pool command.</h3>
+ * Displays how many help channels are ready, and how long it took to open them.
+ */
+public class HelpPoolSubcommand extends SlashCommand.Subcommand {
+	/**
+	 * The constructor of this class, which sets the corresponding {@link SubcommandData}.
+	 */
+	public HelpPoolSubcommand() {
+		setSubcommandData(new SubcommandData("pool", "Displays the state of the open help channel pool."));
+		requirePermissions(Permission.MANAGE_CHANNEL);
+	}
+
+	@Override
+	public void execute(@NotNull SlashCommandInteractionEvent event) {
+		if (event.getGuild() == null) {
+			Responses.warning(event, "This command can only be used in a server.").queue();
+			return;
+		}
+		event.replyEmbeds(buildPoolEmbed(HelpChannelPool.of(event.getGuild()).getStatistics())).setEphemeral(true).queue();
+	}
+
+	private @NotNull MessageEmbed buildPoolEmbed(@NotNull HelpChannelPool.Statistics statistics) {
+		return new EmbedBuilder()
+				.setTitle("Help Channel Pool")
+				.setColor(Responses.Type.DEFAULT.getColor())
+				.addField("Open Channels", String.format("`%s/%s`", statistics.openChannels(), statistics.preferredChannels()), true)
+				.addField("Dormant Channels", String.format("`%s`", statistics.dormantChannels()), true)
+				.addField("Replenishing", statistics.replenishing() ? "Yes" : "No", true)
+				.addField("Opened", String.format("`%s` channels, `%s` failed", statistics.opened(), statistics.failures()), false)
+				.addField("Replenish Latency", String.format("`%.0f ms` average, `%.0f ms` max, `%.0f ms` last",
+						statistics.averageLatencyMillis(), statistics.maxLatencyMillis(), statistics.lastLatencyMillis()), false)
+				.build();
+	}
+}
@@ -0,0 +1,115 @@
+package net.javadiscord.javabot.systems.help.dao;
+
+import lombok.RequiredArgsConstructor;
+import net.javadiscord.javabot.data.h2db.QueryRegistry;
+import net.javadiscord.javabot.systems.help.model.ChannelReservation;
+import org.jetbrains.annotations.NotNull;
+
+import java.sql.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Dao class that represents the RESERVED_HELP_CHANNELS SQL Table.
+ */
+@RequiredArgsConstructor
+public class ChannelReservationRepository {
+	private final Connection con;
+
+	/**
+	 * Inserts a new {@link ChannelReservation}.
+	 *
+	 * @param channelId The id of the reserved channel.
+	 * @param userId    The id of the user who reserved the channel.
+	 * @param timeout   The channel's inactivity timeout, in minutes.
+	 * @return The reservation that was saved.
+	 * @throws SQLException If an error occurs.
+	 */
+	public ChannelReservation insert(long channelId, long userId, int timeout) throws SQLException {
+		try (PreparedStatement s = QueryRegistry.prepare(con, "reserved_help_channels.insert", Statement.RETURN_GENERATED_KEYS)) {
+			s.setLong(1, channelId);
+			s.setLong(2, userId);
+			s.setInt(3, timeout);
+			s.executeUpdate();
+			ResultSet rs = s.getGeneratedKeys();
+			if (!rs.next()) throw new SQLException("No generated keys returned.");
+			long id = rs.getLong(1);
+			return getById(id).orElseThrow();
+		}
+	}
+
+	/**
+	 * Deletes the reservation of the given channel, if there is any.
+	 *
+	 * @param channelId The id of the channel.
+	 * @throws SQLException If an error occurs.
+	 */
+	public void deleteByChannel(long channelId) throws SQLException {
+		try (PreparedStatement s = QueryRegistry.prepare(con, "reserved_help_channels.delete_by_channel")) {
+			s.setLong(1, channelId);
+			s.executeUpdate();
+		}
+	}
+
+	/**
+	 * Updates the inactivity timeout of the given channel's reservation.
+	 *
+	 * @param channelId The id of the channel.
+	 * @param timeout   The new timeout, in minutes.
+	 * @throws SQLException If an error occurs.
+	 */
+	public void updateTimeout(long channelId, int timeout) throws SQLException {
+		try (PreparedStatement s = QueryRegistry.prepare(con, "reserved_help_channels.update_timeout")) {
+			s.setInt(1, timeout);
+			s.setLong(2, channelId);
+			s.executeUpdate();
+		}
+	}
+
+	/**
+	 * Tries to retrieve a {@link ChannelReservation}, based on the given id.
+	 *
+	 * @param id The reservation's id.
+	 * @return The {@link ChannelReservation} object, as an {@link Optional}.
+	 * @throws SQLException If an error occurs.
+	 */
+	public Optional<ChannelReservation> getById(long id) throws SQLException {
+		try (PreparedStatement s = QueryRegistry.prepare(con, "reserved_help_channels.select_by_id")) {
+			s.setLong(1, id);
+			ResultSet rs = s.executeQuery();
+			ChannelReservation reservation = null;
+			if (rs.next()) {
+				reservation = read(rs);
+			}
+			return Optional.ofNullable(reservation);
+		}
+	}
+
+	/**
+	 * Gets all reservations, of all guilds.
+	 *
+	 * @return A {@link List} with all {@link ChannelReservation}s.
+	 * @throws SQLException If an error occurs.
+	 */
+	public List<ChannelReservation> getAll() throws SQLException {
+		try (PreparedStatement s = QueryRegistry.prepare(con, "reserved_help_channels.select_all")) {
+			ResultSet rs = s.executeQuery();
+			List<ChannelReservation> reservations = new ArrayList<>();
+			while (rs.next()) {
+				reservations.add(read(rs));
+			}
+			return reservations;
+		}
+	}
+
+	private @NotNull ChannelReservation read(@NotNull ResultSet rs) throws SQLException {
+		return new ChannelReservation(
+				rs.getLong("id"),
+				rs.getLong("channel_id"),
+				rs.getTimestamp("reserved_at").toLocalDateTime(),
+				rs.getLong("user_id"),
+				rs.getInt("timeout")
+		);
+	}
+}
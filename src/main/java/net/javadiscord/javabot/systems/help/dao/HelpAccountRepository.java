@@ -2,6 +2,7 @@ package net.javadiscord.javabot.systems.help.dao;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import net.javadiscord.javabot.data.h2db.QueryRegistry;
 import net.javadiscord.javabot.systems.help.model.HelpAccount;
 import org.jetbrains.annotations.NotNull;
 
@@ -28,7 +29,7 @@ public class HelpAccountRepository {
 	 * @throws SQLException If an error occurs.
 	 */
 	public void insert(HelpAccount account) throws SQLException {
-		try (PreparedStatement s = con.prepareStatement("INSERT INTO help_account (user_id, experience) VALUES ( ?, ? )")) {
+		try (PreparedStatement s = QueryRegistry.prepare(con, "help_account.insert")) {
 			s.setLong(1, account.getUserId());
 			s.setDouble(2, account.getExperience());
 			s.executeUpdate();
@@ -43,7 +44,7 @@ public class HelpAccountRepository {
 	 * @throws SQLException If an error occurs.
 	 */
 	public void update(HelpAccount account) throws SQLException {
-		try (PreparedStatement s = con.prepareStatement("UPDATE help_account SET experience = ? WHERE user_id = ?")) {
+		try (PreparedStatement s = QueryRegistry.prepare(con, "help_account.update")) {
 			s.setDouble(1, account.getExperience());
 			s.setLong(2, account.getUserId());
 			s.executeUpdate();
@@ -58,7 +59,7 @@ public class HelpAccountRepository {
 	 * @throws SQLException If an error occurs.
 	 */
 	public Optional<HelpAccount> getByUserId(long userId) throws SQLException {
-		try (PreparedStatement s = con.prepareStatement("SELECT * FROM help_account WHERE user_id = ?")) {
+		try (PreparedStatement s = QueryRegistry.prepare(con, "help_account.select_by_user")) {
 			s.setLong(1, userId);
 			ResultSet rs = s.executeQuery();
 			HelpAccount account = null;
@@ -78,8 +79,9 @@ public class HelpAccountRepository {
 	 * @throws SQLException If an error occurs.
 	 */
 	public List<HelpAccount> getAccounts(int page, int size) throws SQLException {
-		String sql = "SELECT * FROM help_account WHERE experience > 0 ORDER BY experience DESC LIMIT %d OFFSET %d";
-		try (PreparedStatement stmt = con.prepareStatement(String.format(sql, size, Math.max(0, (page * size) - size)))) {
+		try (PreparedStatement stmt = QueryRegistry.prepare(con, "help_account.select_page")) {
+			stmt.setInt(1, size);
+			stmt.setInt(2, Math.max(0, (page * size) - size));
 			ResultSet rs = stmt.executeQuery();
 			List<HelpAccount> accounts = new ArrayList<>(size);
 			while (rs.next()) {
@@ -96,7 +98,7 @@ public class HelpAccountRepository {
 	 * @throws SQLException If an error occurs.
 	 */
 	public int getTotalAccounts() throws SQLException {
-		try (PreparedStatement s = con.prepareStatement("SELECT COUNT(*) FROM help_account WHERE experience > 0")) {
+		try (PreparedStatement s = QueryRegistry.prepare(con, "help_account.count_with_experience")) {
 			ResultSet rs = s.executeQuery();
 			if (rs.next()) return rs.getInt(1);
 			return 0;
@@ -112,7 +114,7 @@ public class HelpAccountRepository {
 	 * @throws SQLException If an error occurs.
 	 */
 	public void removeExperienceFromAllAccounts(double change, int min, int max) throws SQLException {
-		try (PreparedStatement s = con.prepareStatement("UPDATE help_account SET experience = GREATEST(experience - LEAST(GREATEST(experience * (1 - ? / 100), ?), ?), 0)")) {
+		try (PreparedStatement s = QueryRegistry.prepare(con, "help_account.remove_experience")) {
 			s.setDouble(1, change);
 			s.setInt(2, min);
 			s.setInt(3, max);
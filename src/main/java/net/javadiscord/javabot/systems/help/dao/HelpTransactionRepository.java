@@ -2,6 +2,7 @@ package net.javadiscord.javabot.systems.help.dao;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import net.javadiscord.javabot.data.h2db.QueryRegistry;
 import net.javadiscord.javabot.systems.help.model.HelpTransaction;
 
 import java.sql.Connection;
@@ -28,7 +29,7 @@ public class HelpTransactionRepository {
 	 * @throws SQLException If an error occurs.
 	 */
 	public HelpTransaction save(HelpTransaction transaction) throws SQLException {
-		try (PreparedStatement s = con.prepareStatement("INSERT INTO help_transaction (recipient, weight, messageType) VALUES ( ?, ?, ? )")) {
+		try (PreparedStatement s = QueryRegistry.prepare(con, "help_transaction.insert")) {
 			s.setLong(1, transaction.getRecipient());
 			s.setDouble(2, transaction.getWeight());
 			if (transaction.getMessage() != null) {
@@ -52,7 +53,7 @@ public class HelpTransactionRepository {
 	 * @throws SQLException If an error occurs.
 	 */
 	public Optional<HelpTransaction> getTransaction(long id) throws SQLException {
-		try (PreparedStatement stmt = con.prepareStatement("SELECT * FROM help_transaction WHERE id = ?")) {
+		try (PreparedStatement stmt = QueryRegistry.prepare(con, "help_transaction.select_by_id")) {
 			stmt.setLong(1, id);
 			ResultSet rs = stmt.executeQuery();
 			HelpTransaction transaction = null;
@@ -72,7 +73,7 @@ public class HelpTransactionRepository {
 	 * @throws SQLException If an error occurs.
 	 */
 	public List<HelpTransaction> getTransactions(long userId, int count) throws SQLException {
-		try (PreparedStatement s = con.prepareStatement("SELECT * FROM help_transaction WHERE recipient = ? ORDER BY created_at DESC LIMIT ?")) {
+		try (PreparedStatement s = QueryRegistry.prepare(con, "help_transaction.select_latest_by_recipient")) {
 			s.setLong(1, userId);
 			s.setInt(2, count);
 			ResultSet rs = s.executeQuery();
@@ -1,73 +1,73 @@
 package net.javadiscord.javabot.systems.moderation;
 
-import lombok.extern.slf4j.Slf4j;
+import lombok.Getter;
 import net.dv8tion.jda.api.Permission;
 import net.dv8tion.jda.api.entities.Member;
 import net.dv8tion.jda.api.entities.Message;
-import net.dv8tion.jda.api.entities.TextChannel;
 import net.dv8tion.jda.api.events.message.MessageReceivedEvent;
 import net.dv8tion.jda.api.events.message.MessageUpdateEvent;
 import net.dv8tion.jda.api.hooks.ListenerAdapter;
 import net.javadiscord.javabot.Bot;
-import net.javadiscord.javabot.systems.moderation.warn.model.WarnSeverity;
-import net.javadiscord.javabot.systems.notification.NotificationService;
-import net.javadiscord.javabot.util.ExceptionLogger;
+import net.javadiscord.javabot.data.config.SystemsConfig;
+import net.javadiscord.javabot.systems.moderation.automod.AutoModContext;
+import net.javadiscord.javabot.systems.moderation.automod.AutoModEngine;
+import net.javadiscord.javabot.systems.moderation.automod.AutoModVerdicts;
+import net.javadiscord.javabot.systems.moderation.automod.ScamDomainList;
+import net.javadiscord.javabot.systems.moderation.automod.WarnDebouncer;
+import net.javadiscord.javabot.systems.moderation.automod.rules.AdvertisingRule;
+import net.javadiscord.javabot.systems.moderation.automod.rules.DuplicateMessageRule;
+import net.javadiscord.javabot.systems.moderation.automod.rules.MentionSpamRule;
+import net.javadiscord.javabot.systems.moderation.automod.rules.MessageRateRule;
+import net.javadiscord.javabot.systems.moderation.automod.rules.SuspiciousLinkRule;
 import org.jetbrains.annotations.NotNull;
 
 import javax.annotation.Nonnull;
-import java.io.IOException;
-import java.net.URI;
-import java.net.URISyntaxException;
-import java.net.URL;
-import java.time.Duration;
-import java.time.temporal.ChronoUnit;
 import java.util.List;
-import java.util.Objects;
-import java.util.Scanner;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 /**
  * This class checks all incoming messages for potential spam/advertising and warns or mutes the potential offender.
+ * The actual checks are implemented as {@link net.javadiscord.javabot.systems.moderation.automod.AutoModRule}s,
+ * which are run by the {@link AutoModEngine}.
  */
-@Slf4j
-// TODO: Refactor this to be more efficient. Especially AutoMod#checkNewMessageAutomod
 public class AutoMod extends ListenerAdapter {
-
-	private static final Pattern INVITE_URL = Pattern.compile("discord(?:(\\.(?:me|io|gg)|sites\\.com)/.{0,4}|app\\.com.{1,4}(?:invite|oauth2).{0,5}/)\\w+");
-	private static final Pattern URL_PATTERN = Pattern.compile(
-			"(?:^|[\\W])((ht|f)tp(s?)://|www\\.)"
-					+ "(([\\w\\-]+\\.)+?([\\w\\-.~]+/?)*"
-					+ "[\\p{Alnum}.,%_=?&#\\-+()\\[\\]*$~@!:/{};']*)",
-			Pattern.CASE_INSENSITIVE | Pattern.MULTILINE | Pattern.DOTALL);
-	private List<String> spamUrls;
+	@Getter
+	private final AutoModVerdicts verdicts;
+	@Getter
+	private final AutoModEngine engine;
+	private final WarnDebouncer warnDebouncer = new WarnDebouncer(Bot.getAsyncPool());
 
 	/**
-	 * Constructor of the class, that creates a list of strings with potential spam/scam urls.
+	 * Constructor of the class, that loads the list of potential spam/scam domains
+	 * from its local snapshot, schedules refreshing it in the background, and
+	 * sets up all rules.
 	 */
 	public AutoMod() {
-		try(Scanner scan = new Scanner(new URL("https://raw.githubusercontent.com/DevSpen/scam-links/master/src/links.txt").openStream()).useDelimiter("\\A")) {
-			String response = scan.next();
-			spamUrls = List.of(response.split("\n"));
-		} catch (IOException e) {
-			ExceptionLogger.capture(e, getClass().getSimpleName());
-			spamUrls = List.of();
-		}
-		log.info("Loaded {} spam URLs!", spamUrls.size());
+		SystemsConfig.ScamListConfig config = Bot.getConfig().getSystems().getScamListConfig();
+		ScamDomainList spamUrls = ScamDomainList.fromConfig(config);
+		spamUrls.loadSnapshot();
+		spamUrls.scheduleRefresh(Bot.getAsyncPool(), Bot.getBlockingPool(), config.getRefreshIntervalMinutes());
+		verdicts = new AutoModVerdicts(spamUrls);
+		engine = new AutoModEngine(List.of(
+				new MentionSpamRule(),
+				new MessageRateRule(),
+				new AdvertisingRule(verdicts),
+				new SuspiciousLinkRule(verdicts),
+				new DuplicateMessageRule()
+		));
 	}
 
 	@Override
 	public void onMessageReceived(@Nonnull MessageReceivedEvent event) {
 		Member member = event.getMember();
 		if (canBypassAutomod(member)) return;
-		checkNewMessageAutomod(event.getMessage());
+		engine.run(new AutoModContext(event.getMessage(), member, Bot.getConfig().get(event.getGuild()), false, warnDebouncer));
 	}
 
 	@Override
 	public void onMessageUpdate(@Nonnull MessageUpdateEvent event) {
 		Member member = event.getMember();
 		if (canBypassAutomod(member)) return;
-		checkContentAutomod(event.getMessage());
+		engine.run(new AutoModContext(event.getMessage(), member, Bot.getConfig().get(event.getGuild()), true, warnDebouncer));
 	}
 
 	/**
@@ -82,114 +82,6 @@ public class AutoMod extends ListenerAdapter {
 				|| member.hasPermission(Permission.MESSAGE_MANAGE);
 	}
 
-	/**
-	 * Runs all automod checks that should be run when a message is sent.
-	 *
-	 * @param message the {@link Message} that should be checked
-	 */
-	private void checkNewMessageAutomod(@Nonnull Message message) {
-		// mention spam
-		if (message.getMentions().getUsers().size() >= 5) {
-			new ModerationService(Bot.getConfig().get(message.getGuild()))
-					.warn(
-							message.getAuthor(),
-							WarnSeverity.MEDIUM,
-							"Automod: Mention Spam",
-							message.getGuild().getMember(message.getJDA().getSelfUser()),
-							message.getChannel(),
-							false
-					);
-		}
-
-		// spam
-		message.getChannel().getHistory().retrievePast(10).queue(messages -> {
-			int spamCount = (int) messages.stream().filter(msg -> !msg.equals(message))
-					// filter for spam
-					.filter(msg -> msg.getAuthor().equals(message.getAuthor()) && !msg.getAuthor().isBot())
-					.filter(msg -> (message.getTimeCreated().toEpochSecond() - msg.getTimeCreated().toEpochSecond()) < 6).count();
-			if (spamCount > 5) {
-				handleSpam(message, message.getMember());
-			}
-		});
-
-		checkContentAutomod(message);
-	}
-
-	/**
-	 * Runs all automod checks only depend on the message content.
-	 *
-	 * @param message the {@link Message} that should be checked
-	 */
-	private void checkContentAutomod(@Nonnull Message message) {
-		//Check for Advertising Links
-		if (hasAdvertisingLink(message)) {
-			NotificationService.withGuild(message.getGuild()).sendToModerationLog(c -> c.sendMessageFormat("Message: `%s`", message.getContentRaw()));
-			new ModerationService(Bot.getConfig().get(message.getGuild()))
-					.warn(
-							message.getAuthor(),
-							WarnSeverity.MEDIUM,
-							"Automod: Advertising",
-							message.getGuild().getMember(message.getJDA().getSelfUser()),
-							message.getChannel(),
-							isSuggestionsChannel(message.getChannel().asTextChannel())
-					);
-			message.delete().queue(success -> {
-			}, error -> log.info("Message was deleted before Automod was able to handle it."));
-
-
-		}
-
-		//Check for suspicious Links
-		if (hasSuspiciousLink(message)) {
-			NotificationService.withGuild(message.getGuild()).sendToModerationLog(c -> c.sendMessageFormat("Suspicious Link sent by: %s (`%s`)", message.getAuthor().getAsMention(), message.getContentRaw()));
-			new ModerationService(Bot.getConfig().get(message.getGuild()))
-					.warn(
-							message.getAuthor(),
-							WarnSeverity.MEDIUM,
-							"Automod: Suspicious Link",
-							message.getGuild().getMember(message.getJDA().getSelfUser()),
-							message.getChannel(),
-							isSuggestionsChannel(message.getChannel().asTextChannel())
-					);
-			message.delete().queue(success -> {
-			}, error -> log.info("Message was deleted before Automod was able to handle it."));
-		}
-	}
-
-	/**
-	 * Handles potential spam messages.
-	 *
-	 * @param msg    the message
-	 * @param member the member to be potentially warned
-	 */
-	private void handleSpam(@Nonnull Message msg, Member member) {
-		// java files -> not spam
-		if (!msg.getAttachments().isEmpty() && msg.getAttachments().stream().allMatch(a -> Objects.equals(a.getFileExtension(), "java"))) {
-			return;
-		}
-		new ModerationService(Bot.getConfig().get(member.getGuild()))
-				.timeout(
-						member,
-						"Automod: Spam",
-						msg.getGuild().getSelfMember(),
-						Duration.of(6, ChronoUnit.HOURS),
-						msg.getChannel(),
-						false
-				);
-	}
-
-	/**
-	 * returns the original String cleaned up of unused code points and spaces.
-	 *
-	 * @param input the input String.
-	 * @return the cleaned-up String.
-	 */
-	private @NotNull String cleanString(String input) {
-		input = input.replaceAll("\\p{C}", "");
-		input = input.replace(" ", "");
-		return input;
-	}
-
 	/**
 	 * Checks whether the given message contains a link that might be used to scam people.
 	 *
@@ -197,25 +89,7 @@ public class AutoMod extends ListenerAdapter {
 	 * @return True if a link is found and False if not.
 	 */
 	public boolean hasSuspiciousLink(@NotNull Message message) {
-		final String messageRaw = message.getContentRaw();
-		Matcher urlMatcher = URL_PATTERN.matcher(messageRaw);
-		if (messageRaw.contains("http://") || messageRaw.contains("https://")) {
-			// only do it for a links, so it won't iterate for each message
-			while (urlMatcher.find()) {
-				String url = urlMatcher.group(0).trim();
-				if (url.startsWith("http://") || url.startsWith("https://")) {
-					try {
-						URI uri = new URI(url);
-						if (uri.getHost() != null && spamUrls.contains(uri.getHost())) {
-							return true;
-						}
-					} catch (URISyntaxException e) {
-						ExceptionLogger.capture(e, getClass().getSimpleName());
-					}
-				}
-			}
-		}
-		return false;
+		return verdicts.get(message).suspiciousLink();
 	}
 
 	/**
@@ -225,19 +99,6 @@ public class AutoMod extends ListenerAdapter {
 	 * @return True if an invite is found and False if not.
 	 */
 	public boolean hasAdvertisingLink(@NotNull Message message) {
-		// Advertising
-		Matcher matcher = INVITE_URL.matcher(cleanString(message.getContentRaw()));
-		int start = 0;
-		while (matcher.find(start)) {
-			if (Bot.getConfig().get(message.getGuild()).getModerationConfig().getAutomodInviteExcludes().stream().noneMatch(matcher.group()::contains)) {
-				return true;
-			}
-			start = matcher.start() + 1;
-		}
-		return false;
-	}
-
-	private boolean isSuggestionsChannel(@NotNull TextChannel channel) {
-		return channel.equals(Bot.getConfig().get(channel.getGuild()).getModerationConfig().getSuggestionChannel());
+		return verdicts.get(message).advertisingLink();
 	}
-}
\ No newline at end of file
+}
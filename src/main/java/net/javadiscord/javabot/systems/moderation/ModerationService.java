@@ -68,8 +68,24 @@ public class ModerationService {
 	 * @param quiet    If true, don't send a message in the channel.
 	 */
 	public void warn(User user, WarnSeverity severity, String reason, Member warnedBy, MessageChannel channel, boolean quiet) {
+		warn(user, severity, severity.getWeight(), reason, warnedBy, channel, quiet);
+	}
+
+	/**
+	 * Issues a warning for the given user, which counts with the given weight
+	 * towards the user's total severity, for example because it combines several warnings.
+	 *
+	 * @param user     The user to warn.
+	 * @param severity The severity of the warning.
+	 * @param weight   The weight of the warning.
+	 * @param reason   The reason for this warning.
+	 * @param warnedBy The member who issued the warning.
+	 * @param channel  The channel in which the warning was issued.
+	 * @param quiet    If true, don't send a message in the channel.
+	 */
+	public void warn(User user, WarnSeverity severity, int weight, String reason, Member warnedBy, MessageChannel channel, boolean quiet) {
 		DbHelper.doDaoAction(WarnRepository::new, dao -> {
-			dao.insert(new Warn(user.getIdLong(), warnedBy.getIdLong(), severity, reason));
+			dao.insert(new Warn(user.getIdLong(), warnedBy.getIdLong(), severity, weight, reason));
 			int totalSeverity = dao.getTotalSeverityWeight(user.getIdLong(), LocalDateTime.now().minusDays(moderationConfig.getWarnTimeoutDays()));
 			MessageEmbed warnEmbed = buildWarnEmbed(user, warnedBy, severity, totalSeverity, reason);
 			NotificationService.withUser(user).sendDirectMessage(c -> c.sendMessageEmbeds(warnEmbed));
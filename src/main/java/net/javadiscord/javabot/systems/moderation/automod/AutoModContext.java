@@ -0,0 +1,105 @@
+package net.javadiscord.javabot.systems.moderation.automod;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import net.dv8tion.jda.api.entities.Member;
+import net.dv8tion.jda.api.entities.Message;
+import net.javadiscord.javabot.data.config.GuildConfig;
+import net.javadiscord.javabot.data.config.guild.ModerationConfig;
+import net.javadiscord.javabot.systems.moderation.ModerationService;
+import net.javadiscord.javabot.systems.moderation.warn.model.WarnSeverity;
+import net.javadiscord.javabot.util.scanner.MessageAnalysis;
+import net.javadiscord.javabot.util.scanner.MessageScanner;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Everything the {@link AutoModRule}s need to know about a single message,
+ * shared between all rules which check it.
+ */
+@Slf4j
+public class AutoModContext {
+	@Getter
+	private final Message message;
+	@Getter
+	private final Member member;
+	@Getter
+	private final GuildConfig guildConfig;
+	@Getter
+	private final boolean edit;
+	private final WarnDebouncer warnDebouncer;
+	private ModerationService moderationService;
+
+	/**
+	 * Creates a new context.
+	 *
+	 * @param message       The {@link Message} to check.
+	 * @param member        The message's author.
+	 * @param guildConfig   The guild's {@link GuildConfig}.
+	 * @param edit          Whether the message was edited, rather than sent.
+	 * @param warnDebouncer The {@link WarnDebouncer} which combines the warnings of a single member.
+	 */
+	public AutoModContext(@NotNull Message message, @NotNull Member member, @NotNull GuildConfig guildConfig, boolean edit, @NotNull WarnDebouncer warnDebouncer) {
+		this.message = message;
+		this.member = member;
+		this.guildConfig = guildConfig;
+		this.edit = edit;
+		this.warnDebouncer = warnDebouncer;
+	}
+
+	public @NotNull ModerationConfig getModerationConfig() {
+		return guildConfig.getModerationConfig();
+	}
+
+	public @NotNull MessageAnalysis getAnalysis() {
+		return MessageScanner.analyze(message);
+	}
+
+	public @NotNull Member getSelfMember() {
+		return message.getGuild().getSelfMember();
+	}
+
+	/**
+	 * Checks whether the message was sent in the guild's suggestion channel.
+	 *
+	 * @return Whether the message is a suggestion.
+	 */
+	public boolean isSuggestion() {
+		return message.getChannel().getIdLong() == getModerationConfig().getSuggestionChannelId();
+	}
+
+	/**
+	 * Deletes the message, ignoring the case that it was already deleted.
+	 */
+	public void deleteMessage() {
+		message.delete().queue(success -> {
+		}, error -> log.info("Message was deleted before Automod was able to handle it."));
+	}
+
+	/**
+	 * Warns the message's author. All warnings a member receives within the guild's
+	 * {@link ModerationConfig#getAutomodWarnDebounceMillis() debounce window} are
+	 * combined into a single one.
+	 *
+	 * @param severity The severity of the warning.
+	 * @param reason   The reason for the warning.
+	 * @param logLine  An optional line which is posted to the moderation log along with the warning.
+	 */
+	public void warn(@NotNull WarnSeverity severity, @NotNull String reason, @Nullable String logLine) {
+		warnDebouncer.warn(member, severity, reason, message.getChannel(), isSuggestion(), logLine, getModerationConfig().getAutomodWarnDebounceMillis());
+	}
+
+	/**
+	 * Gets the {@link ModerationService} which is shared by all rules that take
+	 * action on this message, creating it on first use. Warnings should be issued
+	 * using {@link AutoModContext#warn(WarnSeverity, String, String)} instead.
+	 *
+	 * @return The {@link ModerationService}.
+	 */
+	public @NotNull ModerationService getModerationService() {
+		if (moderationService == null) {
+			moderationService = new ModerationService(guildConfig);
+		}
+		return moderationService;
+	}
+}
@@ -0,0 +1,97 @@
+package net.javadiscord.javabot.systems.moderation.automod;
+
+import net.javadiscord.javabot.data.config.guild.ModerationConfig;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Runs {@link AutoModRule}s against messages, in the order the guild configured
+ * (or cheapest first). Once a terminal rule took action, only content rules are run,
+ * so that messages with e.g. scam links are always deleted.
+ * Every rule's executions, hits and running time are recorded in its {@link RuleStatistics}.
+ */
+public class AutoModEngine {
+	private final Map<String, AutoModRule> rules = new LinkedHashMap<>();
+	private final Map<String, RuleStatistics> statistics = new LinkedHashMap<>();
+
+	/**
+	 * Creates a new engine.
+	 *
+	 * @param rules All available {@link AutoModRule}s.
+	 */
+	public AutoModEngine(@NotNull List<AutoModRule> rules) {
+		rules.stream()
+				.sorted(Comparator.comparingInt(AutoModRule::getCost))
+				.forEach(rule -> {
+					if (this.rules.putIfAbsent(rule.getName(), rule) != null) {
+						throw new IllegalArgumentException("Duplicate AutoMod rule: " + rule.getName());
+					}
+					statistics.put(rule.getName(), new RuleStatistics());
+				});
+	}
+
+	/**
+	 * Runs all enabled rules against the context's message.
+	 *
+	 * @param context The {@link AutoModContext} of the message.
+	 */
+	public void run(@NotNull AutoModContext context) {
+		boolean terminated = false;
+		for (AutoModRule rule : getRules(context.getModerationConfig())) {
+			if (context.isEdit() && !rule.checksEdits()) continue;
+			if (terminated && !rule.isContentRule()) continue;
+			long start = System.nanoTime();
+			boolean hit = rule.apply(context);
+			statistics.get(rule.getName()).record(hit, System.nanoTime() - start);
+			if (hit && rule.isTerminal()) terminated = true;
+		}
+	}
+
+	/**
+	 * Determines the rules which are enabled in the given config, in the order they
+	 * should be run in. Rules in the config's order come first, followed by all others
+	 * cheapest first.
+	 *
+	 * @param config The guild's {@link ModerationConfig}.
+	 * @return The enabled rules, in order.
+	 */
+	public @NotNull List<AutoModRule> getRules(@NotNull ModerationConfig config) {
+		List<String> disabled = config.getAutomodDisabledRules();
+		List<String> order = config.getAutomodRuleOrder();
+		if (disabled.isEmpty() && order.isEmpty()) {
+			return List.copyOf(rules.values());
+		}
+		List<AutoModRule> result = new ArrayList<>(rules.size());
+		for (String name : order) {
+			AutoModRule rule = rules.get(name);
+			if (rule != null && !disabled.contains(name) && !result.contains(rule)) {
+				result.add(rule);
+			}
+		}
+		for (AutoModRule rule : rules.values()) {
+			if (!disabled.contains(rule.getName()) && !result.contains(rule)) {
+				result.add(rule);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Gets all available rules, cheapest first.
+	 *
+	 * @return An unmodifiable view of all rules.
+	 */
+	public @NotNull Map<String, AutoModRule> getAllRules() {
+		return Collections.unmodifiableMap(rules);
+	}
+
+	public @NotNull RuleStatistics getStatistics(@NotNull String ruleName) {
+		return statistics.get(ruleName);
+	}
+}
@@ -0,0 +1,61 @@
+package net.javadiscord.javabot.systems.moderation.automod;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A single check which is run by the {@link AutoModEngine} for every message.
+ */
+public interface AutoModRule {
+	/**
+	 * The rule's unique name, which is used to enable, disable and order rules
+	 * in the guild's {@link net.javadiscord.javabot.data.config.guild.ModerationConfig}.
+	 *
+	 * @return The rule's name.
+	 */
+	@NotNull String getName();
+
+	/**
+	 * The rule's relative cost. Unless a guild configured an explicit order,
+	 * rules are run cheapest first.
+	 *
+	 * @return The rule's cost.
+	 */
+	int getCost();
+
+	/**
+	 * Whether no further rules should be run once this rule took action,
+	 * usually because the message was deleted or its author was timed out.
+	 *
+	 * @return Whether the rule is terminal.
+	 */
+	boolean isTerminal();
+
+	/**
+	 * Whether this rule deletes messages because of what they contain, like invites or scam links.
+	 * Content rules are still run after a terminal rule took action, so that a message which is
+	 * part of a spam burst is deleted as well if it contains such a link.
+	 *
+	 * @return Whether this is a content rule.
+	 */
+	default boolean isContentRule() {
+		return false;
+	}
+
+	/**
+	 * Whether this rule should also be run when a message is edited. Rules
+	 * which track the rate of messages should only count every message once.
+	 *
+	 * @return Whether this rule checks edited messages.
+	 */
+	default boolean checksEdits() {
+		return false;
+	}
+
+	/**
+	 * Checks the message and takes action if it violates this rule.
+	 *
+	 * @param context The {@link AutoModContext} of the message.
+	 * @return Whether the rule took action.
+	 */
+	boolean apply(@NotNull AutoModContext context);
+}
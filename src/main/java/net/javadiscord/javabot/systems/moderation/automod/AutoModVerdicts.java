@@ -0,0 +1,103 @@
+package net.javadiscord.javabot.systems.moderation.automod;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import net.dv8tion.jda.api.entities.Message;
+import net.javadiscord.javabot.Bot;
+import net.javadiscord.javabot.util.scanner.MessageAnalysis;
+import net.javadiscord.javabot.util.scanner.MessageScanner;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Decides whether messages contain advertising or suspicious links, and
+ * remembers these verdicts for a short time, so that every listener which
+ * handles the same message reuses the first evaluation.
+ * <p>
+ * Verdicts are keyed by the message's id and the time it was last edited, so
+ * that an edited message is evaluated again.
+ * </p>
+ */
+public class AutoModVerdicts {
+	private final Cache<VerdictKey, Verdict> cache = Caffeine.newBuilder()
+			.expireAfterWrite(30, TimeUnit.SECONDS)
+			.maximumSize(1000)
+			.recordStats()
+			.build();
+
+	private final ScamDomainList spamUrls;
+
+	/**
+	 * Creates a new, empty verdict cache.
+	 *
+	 * @param spamUrls The {@link ScamDomainList} to check links against.
+	 */
+	public AutoModVerdicts(@NotNull ScamDomainList spamUrls) {
+		this.spamUrls = spamUrls;
+	}
+
+	/**
+	 * Gets the {@link Verdict} for the given message, evaluating it if it isn't cached yet.
+	 *
+	 * @param message The message to check.
+	 * @return The message's {@link Verdict}.
+	 */
+	public @NotNull Verdict get(@NotNull Message message) {
+		return get(message.getIdLong(), message.getTimeEdited(), () -> {
+			List<String> excludes = message.isFromGuild()
+					? Bot.getConfig().get(message.getGuild()).getModerationConfig().getAutomodInviteExcludes()
+					: List.of();
+			return evaluate(MessageScanner.analyze(message), excludes);
+		});
+	}
+
+	/**
+	 * Gets the cached {@link Verdict} for the given version of a message, or evaluates it.
+	 *
+	 * @param messageId  The message's id.
+	 * @param timeEdited The time the message was last edited, or null if it never was.
+	 * @param evaluation Evaluates the message if there's no cached verdict for this version.
+	 * @return The message's {@link Verdict}.
+	 */
+	@NotNull Verdict get(long messageId, @Nullable OffsetDateTime timeEdited, @NotNull Supplier<Verdict> evaluation) {
+		VerdictKey key = new VerdictKey(messageId, timeEdited == null ? 0 : timeEdited.toInstant().toEpochMilli());
+		return cache.get(key, k -> evaluation.get());
+	}
+
+	public @NotNull CacheStats getStats() {
+		return cache.stats();
+	}
+
+	/**
+	 * Evaluates a message, without looking at the cache.
+	 *
+	 * @param analysis The message's {@link MessageAnalysis}.
+	 * @param excludes Invites which contain one of these strings aren't considered advertising.
+	 * @return The message's {@link Verdict}.
+	 */
+	@NotNull Verdict evaluate(@NotNull MessageAnalysis analysis, @NotNull List<String> excludes) {
+		boolean advertising = analysis.invites().stream()
+				.anyMatch(invite -> excludes.stream().noneMatch(invite::contains));
+		boolean suspicious = analysis.links().stream()
+				.anyMatch(link -> spamUrls.contains(link.host()));
+		return new Verdict(advertising, suspicious);
+	}
+
+	private record VerdictKey(long messageId, long editedAt) {
+	}
+
+	/**
+	 * The result of checking a single message.
+	 *
+	 * @param advertisingLink Whether the message contains a Discord invite which isn't excluded.
+	 * @param suspiciousLink  Whether the message contains a link to a known scam domain.
+	 */
+	public record Verdict(boolean advertisingLink, boolean suspiciousLink) {
+	}
+}
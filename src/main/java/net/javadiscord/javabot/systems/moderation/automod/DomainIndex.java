@@ -0,0 +1,74 @@
+package net.javadiscord.javabot.systems.moderation.automod;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * An immutable index of domain names, which is able to check whether a host or
+ * any of its parent domains is listed. A lookup costs one hash set lookup per
+ * label of the host, regardless of the amount of indexed domains.
+ */
+public class DomainIndex {
+	private static final DomainIndex EMPTY = new DomainIndex(Set.of());
+
+	private final Set<String> domains;
+
+	/**
+	 * Builds a new index. Blank lines and lines starting with '#' are ignored.
+	 *
+	 * @param domains The domains to index.
+	 */
+	public DomainIndex(@NotNull Collection<String> domains) {
+		Set<String> set = new HashSet<>(domains.size() * 4 / 3 + 1);
+		for (String domain : domains) {
+			String normalized = normalize(domain);
+			if (!normalized.isEmpty() && normalized.charAt(0) != '#') {
+				set.add(normalized);
+			}
+		}
+		this.domains = set;
+	}
+
+	@Contract(pure = true)
+	public static DomainIndex empty() {
+		return EMPTY;
+	}
+
+	/**
+	 * Checks whether the given host, or any of its parent domains, is indexed.
+	 * For example, if <code>example.com</code> is indexed, both <code>example.com</code>
+	 * and <code>cdn.example.com</code> are matched, while <code>notexample.com</code> is not.
+	 *
+	 * @param host The host to check.
+	 * @return Whether the host is listed.
+	 */
+	public boolean contains(@Nullable String host) {
+		if (host == null || domains.isEmpty()) return false;
+		String domain = normalize(host);
+		while (!domain.isEmpty()) {
+			if (domains.contains(domain)) return true;
+			int dot = domain.indexOf('.');
+			if (dot < 0) break;
+			domain = domain.substring(dot + 1);
+		}
+		return false;
+	}
+
+	public int size() {
+		return domains.size();
+	}
+
+	private static @NotNull String normalize(@NotNull String domain) {
+		String normalized = domain.strip().toLowerCase(Locale.ROOT);
+		if (normalized.endsWith(".")) {
+			normalized = normalized.substring(0, normalized.length() - 1);
+		}
+		return normalized;
+	}
+}
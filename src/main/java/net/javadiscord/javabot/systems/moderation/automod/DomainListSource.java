@@ -0,0 +1,21 @@
+package net.javadiscord.javabot.systems.moderation.automod;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * A source from which a list of domains can be fetched, such as the upstream
+ * scam link list or a local file.
+ */
+@FunctionalInterface
+public interface DomainListSource {
+	/**
+	 * Fetches the list of domains.
+	 *
+	 * @return An {@link Optional} containing all listed domains, or an empty {@link Optional}
+	 * if the list did not change since the last fetch.
+	 * @throws IOException If the list could not be fetched.
+	 */
+	Optional<List<String>> fetch() throws IOException;
+}
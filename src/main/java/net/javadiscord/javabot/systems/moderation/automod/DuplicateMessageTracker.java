@@ -0,0 +1,85 @@
+package net.javadiscord.javabot.systems.moderation.automod;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import net.dv8tion.jda.api.entities.Message;
+import net.javadiscord.javabot.data.config.guild.ModerationConfig;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps track of the {@link MessageFingerprint fingerprints} of every member's
+ * most recent messages, so that the same (or a slightly altered) message being
+ * posted across several channels can be detected.
+ * <p>
+ * Every member's window holds a fixed amount of fingerprints, and is evicted
+ * as soon as its member hasn't sent a message for the length of the window.
+ * </p>
+ */
+public class DuplicateMessageTracker {
+	private static final int MIN_CAPACITY = 10;
+
+	private final Cache<GuildUserKey, FingerprintWindow> windows = Caffeine.newBuilder()
+			.expireAfter(new WindowExpiry())
+			.build();
+
+	/**
+	 * Records a new message and checks whether its author posted it (or a near-identical
+	 * copy) into multiple channels more often than the guild's threshold allows.
+	 * If so, the author's window is cleared, so that the same burst isn't reported twice.
+	 *
+	 * @param message The message that was sent.
+	 * @param content The message's content.
+	 * @param config  The guild's {@link ModerationConfig}.
+	 * @return The amount of channels the message was duplicated across, or 0 if it wasn't spam.
+	 */
+	public int track(@NotNull Message message, @NotNull String content, @NotNull ModerationConfig config) {
+		String normalized = MessageFingerprint.normalize(content);
+		if (normalized.length() < MessageFingerprint.MIN_LENGTH) {
+			return 0;
+		}
+		int threshold = config.getDuplicateMessageThreshold();
+		int capacity = Math.max(MIN_CAPACITY, threshold);
+		long windowMillis = TimeUnit.SECONDS.toMillis(config.getDuplicateWindowSeconds());
+		FingerprintWindow window = windows.asMap().compute(
+				new GuildUserKey(message.getGuild().getIdLong(), message.getAuthor().getIdLong()),
+				(key, existing) -> existing == null || !existing.matches(capacity, windowMillis) ? new FingerprintWindow(capacity, windowMillis) : existing
+		);
+		int channels = window.add(
+				MessageFingerprint.simhash(normalized),
+				message.getTimeCreated().toInstant().toEpochMilli(),
+				message.getChannel().getIdLong(),
+				threshold
+		);
+		if (channels < 2) {
+			return 0;
+		}
+		window.clear();
+		return channels;
+	}
+
+	private record GuildUserKey(long guildId, long userId) {
+	}
+
+	/**
+	 * Expires every window once its member has been idle for the length of the window.
+	 */
+	private static class WindowExpiry implements Expiry<GuildUserKey, FingerprintWindow> {
+		@Override
+		public long expireAfterCreate(@NotNull GuildUserKey key, @NotNull FingerprintWindow window, long currentTime) {
+			return TimeUnit.MILLISECONDS.toNanos(window.getWindowMillis());
+		}
+
+		@Override
+		public long expireAfterUpdate(@NotNull GuildUserKey key, @NotNull FingerprintWindow window, long currentTime, long currentDuration) {
+			return TimeUnit.MILLISECONDS.toNanos(window.getWindowMillis());
+		}
+
+		@Override
+		public long expireAfterRead(@NotNull GuildUserKey key, @NotNull FingerprintWindow window, long currentTime, long currentDuration) {
+			return currentDuration;
+		}
+	}
+}
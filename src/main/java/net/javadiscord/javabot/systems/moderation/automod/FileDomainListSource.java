@@ -0,0 +1,34 @@
+package net.javadiscord.javabot.systems.moderation.automod;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * A {@link DomainListSource} which reads a newline-separated list of domains
+ * from a local file. The file is only read again once its modification time changes.
+ */
+public class FileDomainListSource implements DomainListSource {
+	private final Path file;
+	private FileTime lastModified;
+
+	public FileDomainListSource(@NotNull Path file) {
+		this.file = file;
+	}
+
+	@Override
+	public synchronized Optional<List<String>> fetch() throws IOException {
+		FileTime modified = Files.getLastModifiedTime(file);
+		if (modified.equals(lastModified)) {
+			return Optional.empty();
+		}
+		List<String> domains = Files.readAllLines(file);
+		lastModified = modified;
+		return Optional.of(domains);
+	}
+}
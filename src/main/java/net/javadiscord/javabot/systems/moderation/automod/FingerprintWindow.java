@@ -0,0 +1,92 @@
+package net.javadiscord.javabot.systems.moderation.automod;
+
+/**
+ * A fixed-size ring buffer which holds the {@link MessageFingerprint fingerprints},
+ * creation timestamps and channel ids of a single member's most recent messages.
+ */
+public class FingerprintWindow {
+	private final long[] fingerprints;
+	private final long[] timestamps;
+	private final long[] channelIds;
+	private final long windowMillis;
+	private int head = 0;
+	private int size = 0;
+
+	/**
+	 * Creates a new, empty window.
+	 *
+	 * @param capacity     The amount of messages this window can hold.
+	 * @param windowMillis The length of the window, in milliseconds.
+	 */
+	public FingerprintWindow(int capacity, long windowMillis) {
+		if (capacity < 1) throw new IllegalArgumentException("Capacity must be positive.");
+		this.fingerprints = new long[capacity];
+		this.timestamps = new long[capacity];
+		this.channelIds = new long[capacity];
+		this.windowMillis = windowMillis;
+	}
+
+	/**
+	 * Adds a message to this window, overwriting the oldest one if the window is full,
+	 * and counts the near-identical messages which were sent within the window's length.
+	 *
+	 * @param fingerprint The message's {@link MessageFingerprint#simhash(String) fingerprint}.
+	 * @param timestamp   The message's creation timestamp, in epoch milliseconds.
+	 * @param channelId   The id of the channel the message was sent in.
+	 * @param threshold   The amount of near-identical messages (including this one) which are considered spam.
+	 * @return The amount of distinct channels the near-identical messages were sent in,
+	 * or 0 if there were less than <code>threshold</code> of them.
+	 */
+	public synchronized int add(long fingerprint, long timestamp, long channelId, int threshold) {
+		fingerprints[head] = fingerprint;
+		timestamps[head] = timestamp;
+		channelIds[head] = channelId;
+		head = (head + 1) % fingerprints.length;
+		if (size < fingerprints.length) size++;
+
+		int matches = 0;
+		int channels = 0;
+		long[] matchedChannels = new long[size];
+		for (int i = 0; i < size; i++) {
+			if (timestamp - timestamps[i] >= windowMillis
+					|| MessageFingerprint.distance(fingerprint, fingerprints[i]) > MessageFingerprint.MAX_DISTANCE) {
+				continue;
+			}
+			matches++;
+			if (!containsChannel(matchedChannels, channels, channelIds[i])) {
+				matchedChannels[channels++] = channelIds[i];
+			}
+		}
+		return matches >= threshold ? channels : 0;
+	}
+
+	/**
+	 * Removes all messages from this window.
+	 */
+	public synchronized void clear() {
+		head = 0;
+		size = 0;
+	}
+
+	/**
+	 * Checks whether this window was built with the given settings.
+	 *
+	 * @param capacity     The amount of messages this window should be able to hold.
+	 * @param windowMillis The length of the window, in milliseconds.
+	 * @return Whether the settings match.
+	 */
+	public boolean matches(int capacity, long windowMillis) {
+		return fingerprints.length == capacity && this.windowMillis == windowMillis;
+	}
+
+	public long getWindowMillis() {
+		return windowMillis;
+	}
+
+	private static boolean containsChannel(long[] channels, int count, long channelId) {
+		for (int i = 0; i < count; i++) {
+			if (channels[i] == channelId) return true;
+		}
+		return false;
+	}
+}
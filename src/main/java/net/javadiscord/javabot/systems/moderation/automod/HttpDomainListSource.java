@@ -0,0 +1,56 @@
+package net.javadiscord.javabot.systems.moderation.automod;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * A {@link DomainListSource} which downloads a newline-separated list of domains
+ * over HTTP. Subsequent fetches are conditional requests, using the
+ * <code>ETag</code> and <code>Last-Modified</code> headers of the previous response.
+ */
+public class HttpDomainListSource implements DomainListSource {
+	private static final int CONNECT_TIMEOUT = (int) Duration.ofSeconds(10).toMillis();
+	private static final int READ_TIMEOUT = (int) Duration.ofSeconds(30).toMillis();
+
+	private final URL url;
+	private String etag;
+	private String lastModified;
+
+	public HttpDomainListSource(@NotNull URL url) {
+		this.url = url;
+	}
+
+	@Override
+	public synchronized Optional<List<String>> fetch() throws IOException {
+		HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+		connection.setConnectTimeout(CONNECT_TIMEOUT);
+		connection.setReadTimeout(READ_TIMEOUT);
+		if (etag != null) connection.setRequestProperty("If-None-Match", etag);
+		if (lastModified != null) connection.setRequestProperty("If-Modified-Since", lastModified);
+		try {
+			int status = connection.getResponseCode();
+			if (status == HttpURLConnection.HTTP_NOT_MODIFIED) {
+				return Optional.empty();
+			}
+			if (status != HttpURLConnection.HTTP_OK) {
+				throw new IOException(String.format("Unexpected response code %s while fetching %s", status, url));
+			}
+			try (InputStream is = connection.getInputStream()) {
+				List<String> domains = new String(is.readAllBytes(), StandardCharsets.UTF_8).lines().toList();
+				etag = connection.getHeaderField("ETag");
+				lastModified = connection.getHeaderField("Last-Modified");
+				return Optional.of(domains);
+			}
+		} finally {
+			connection.disconnect();
+		}
+	}
+}
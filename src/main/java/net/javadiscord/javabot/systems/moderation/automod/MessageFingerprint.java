@@ -0,0 +1,99 @@
+package net.javadiscord.javabot.systems.moderation.automod;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Utility class which computes 64-bit SimHash fingerprints of message contents.
+ * Unlike a plain hash, the fingerprints of two near-identical messages only
+ * differ in a few bits, so that slightly altered copies of a message can still
+ * be recognized by their {@link MessageFingerprint#distance(long, long) distance}.
+ */
+public final class MessageFingerprint {
+	/**
+	 * The maximum {@link MessageFingerprint#distance(long, long) distance} of
+	 * two fingerprints whose messages are considered near-identical.
+	 */
+	public static final int MAX_DISTANCE = 10;
+
+	/**
+	 * The minimum length of a normalized message for it to be fingerprinted.
+	 * Shorter messages (like "ok" or "thanks") are far too common to be treated as duplicates.
+	 */
+	public static final int MIN_LENGTH = 12;
+
+	private static final int SHINGLE_LENGTH = 4;
+
+	private MessageFingerprint() {
+	}
+
+	/**
+	 * Normalizes the given message content by lower-casing it and removing
+	 * everything but letters and digits, so that copies which only differ in
+	 * whitespace, punctuation or invisible characters become equal.
+	 *
+	 * @param content The message's content.
+	 * @return The normalized content.
+	 */
+	public static @NotNull String normalize(@NotNull String content) {
+		StringBuilder sb = new StringBuilder(content.length());
+		content.codePoints()
+				.filter(Character::isLetterOrDigit)
+				.map(Character::toLowerCase)
+				.forEach(sb::appendCodePoint);
+		return sb.toString();
+	}
+
+	/**
+	 * Computes the SimHash of the given normalized content, based on its
+	 * overlapping character shingles.
+	 *
+	 * @param normalized The {@link MessageFingerprint#normalize(String) normalized} content.
+	 * @return The 64-bit fingerprint.
+	 */
+	public static long simhash(@NotNull String normalized) {
+		if (normalized.length() <= SHINGLE_LENGTH) {
+			return mix(normalized.hashCode());
+		}
+		int[] weights = new int[Long.SIZE];
+		for (int i = 0; i + SHINGLE_LENGTH <= normalized.length(); i++) {
+			long hash = 0;
+			for (int j = i; j < i + SHINGLE_LENGTH; j++) {
+				hash = hash * 31 + normalized.charAt(j);
+			}
+			hash = mix(hash);
+			for (int bit = 0; bit < Long.SIZE; bit++) {
+				weights[bit] += (hash >>> bit & 1) == 1 ? 1 : -1;
+			}
+		}
+		long fingerprint = 0;
+		for (int bit = 0; bit < Long.SIZE; bit++) {
+			if (weights[bit] > 0) {
+				fingerprint |= 1L << bit;
+			}
+		}
+		return fingerprint;
+	}
+
+	/**
+	 * Computes the Hamming distance of two fingerprints.
+	 *
+	 * @param a The first fingerprint.
+	 * @param b The second fingerprint.
+	 * @return The amount of bits which differ.
+	 */
+	public static int distance(long a, long b) {
+		return Long.bitCount(a ^ b);
+	}
+
+	/**
+	 * Spreads the bits of the given hash, using the finalizer of MurmurHash3.
+	 */
+	private static long mix(long hash) {
+		hash ^= hash >>> 33;
+		hash *= 0xff51afd7ed558ccdL;
+		hash ^= hash >>> 33;
+		hash *= 0xc4ceb9fe1a85ec53L;
+		hash ^= hash >>> 33;
+		return hash;
+	}
+}
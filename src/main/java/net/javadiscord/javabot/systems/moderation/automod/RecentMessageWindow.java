@@ -0,0 +1,76 @@
+package net.javadiscord.javabot.systems.moderation.automod;
+
+import java.util.Arrays;
+
+/**
+ * A fixed-size ring buffer which holds the creation timestamps and channel ids
+ * of a single member's most recent messages.
+ */
+public class RecentMessageWindow {
+	private final long[] timestamps;
+	private final long[] channelIds;
+	private final long windowMillis;
+	private int head = 0;
+	private int size = 0;
+
+	/**
+	 * Creates a new, empty window.
+	 *
+	 * @param capacity     The amount of messages this window can hold.
+	 * @param windowMillis The length of the window, in milliseconds.
+	 */
+	public RecentMessageWindow(int capacity, long windowMillis) {
+		if (capacity < 1) throw new IllegalArgumentException("Capacity must be positive.");
+		this.timestamps = new long[capacity];
+		this.channelIds = new long[capacity];
+		this.windowMillis = windowMillis;
+	}
+
+	/**
+	 * Adds a message to this window, overwriting the oldest one if the window is full.
+	 *
+	 * @param timestamp The message's creation timestamp, in epoch milliseconds.
+	 * @param channelId The id of the channel the message was sent in.
+	 * @return Whether the window is now full, and all its messages were sent within the window's length.
+	 */
+	public synchronized boolean add(long timestamp, long channelId) {
+		timestamps[head] = timestamp;
+		channelIds[head] = channelId;
+		head = (head + 1) % timestamps.length;
+		if (size < timestamps.length) size++;
+		// the head now points at the oldest entry
+		return size == timestamps.length && timestamp - timestamps[head] < windowMillis;
+	}
+
+	/**
+	 * Counts the distinct channels the messages in this window were sent in.
+	 *
+	 * @return The amount of distinct channels.
+	 */
+	public synchronized int getChannelCount() {
+		return (int) Arrays.stream(channelIds, 0, size).distinct().count();
+	}
+
+	/**
+	 * Removes all messages from this window.
+	 */
+	public synchronized void clear() {
+		head = 0;
+		size = 0;
+	}
+
+	/**
+	 * Checks whether this window was built with the given settings.
+	 *
+	 * @param capacity     The amount of messages this window should be able to hold.
+	 * @param windowMillis The length of the window, in milliseconds.
+	 * @return Whether the settings match.
+	 */
+	public boolean matches(int capacity, long windowMillis) {
+		return timestamps.length == capacity && this.windowMillis == windowMillis;
+	}
+
+	public long getWindowMillis() {
+		return windowMillis;
+	}
+}
@@ -0,0 +1,37 @@
+package net.javadiscord.javabot.systems.moderation.automod;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts how often a single {@link AutoModRule} was run, how often it took action,
+ * and how much time it took in total.
+ */
+public class RuleStatistics {
+	private final LongAdder executions = new LongAdder();
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder nanos = new LongAdder();
+
+	/**
+	 * Records a single execution of the rule.
+	 *
+	 * @param hit   Whether the rule took action.
+	 * @param nanos The time the rule took, in nanoseconds.
+	 */
+	public void record(boolean hit, long nanos) {
+		executions.increment();
+		if (hit) hits.increment();
+		this.nanos.add(nanos);
+	}
+
+	public long getExecutions() {
+		return executions.sum();
+	}
+
+	public long getHits() {
+		return hits.sum();
+	}
+
+	public long getTotalNanos() {
+		return nanos.sum();
+	}
+}
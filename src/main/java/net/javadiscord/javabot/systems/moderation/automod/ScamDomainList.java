@@ -0,0 +1,160 @@
+package net.javadiscord.javabot.systems.moderation.automod;
+
+import lombok.extern.slf4j.Slf4j;
+import net.javadiscord.javabot.data.config.SystemsConfig;
+import net.javadiscord.javabot.util.ExceptionLogger;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Holds the list of known scam domains.
+ * <p>
+ * The list is loaded from a local snapshot file at startup (falling back to the
+ * bundled <code>spamLinks.txt</code>), and is then periodically refreshed from
+ * its {@link DomainListSource} in the background. Every refresh builds a new
+ * {@link DomainIndex} which is swapped in atomically, and written back to the
+ * snapshot file so that it is available on the next startup.
+ * </p>
+ */
+@Slf4j
+public class ScamDomainList {
+	private static final String BUNDLED_LIST = "/spamLinks.txt";
+
+	private final DomainListSource source;
+	private final Path snapshotFile;
+	private volatile DomainIndex index = DomainIndex.empty();
+
+	/**
+	 * Creates a new, empty scam domain list.
+	 *
+	 * @param source       The {@link DomainListSource} to refresh the list from.
+	 * @param snapshotFile The file in which the most recent list is stored.
+	 */
+	public ScamDomainList(@NotNull DomainListSource source, @NotNull Path snapshotFile) {
+		this.source = source;
+		this.snapshotFile = snapshotFile;
+	}
+
+	/**
+	 * Creates a new, empty scam domain list based on the given config. The list's
+	 * url may either point to a remote list, or to a local file using the
+	 * <code>file:</code> scheme.
+	 *
+	 * @param config The {@link SystemsConfig.ScamListConfig} to use.
+	 * @return The {@link ScamDomainList}.
+	 */
+	public static @NotNull ScamDomainList fromConfig(@NotNull SystemsConfig.ScamListConfig config) {
+		URI uri = URI.create(config.getUrl());
+		DomainListSource source;
+		try {
+			source = "file".equals(uri.getScheme()) ? new FileDomainListSource(Path.of(uri)) : new HttpDomainListSource(uri.toURL());
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		return new ScamDomainList(source, Path.of(config.getSnapshotFile()));
+	}
+
+	/**
+	 * Loads the list from the snapshot file. If there is no snapshot yet, the
+	 * list that is bundled with the bot is used instead.
+	 */
+	public void loadSnapshot() {
+		try {
+			if (Files.exists(snapshotFile)) {
+				index = new DomainIndex(Files.readAllLines(snapshotFile));
+				log.info("Loaded {} spam URLs from snapshot {}", index.size(), snapshotFile);
+				return;
+			}
+			try (InputStream is = ScamDomainList.class.getResourceAsStream(BUNDLED_LIST)) {
+				if (is == null) throw new IOException("Could not load " + BUNDLED_LIST);
+				index = new DomainIndex(new String(is.readAllBytes(), StandardCharsets.UTF_8).lines().toList());
+				log.info("Loaded {} bundled spam URLs", index.size());
+			}
+		} catch (IOException e) {
+			ExceptionLogger.capture(e, getClass().getSimpleName());
+		}
+	}
+
+	/**
+	 * Fetches the list from its source, and swaps it in if it changed.
+	 *
+	 * @return Whether the list was updated.
+	 */
+	public boolean refresh() {
+		try {
+			Optional<List<String>> fetched = source.fetch();
+			if (fetched.isEmpty()) {
+				return false;
+			}
+			DomainIndex fetchedIndex = new DomainIndex(fetched.get());
+			if (fetchedIndex.size() == 0) {
+				log.warn("Fetched an empty spam URL list; keeping the current one.");
+				return false;
+			}
+			index = fetchedIndex;
+			writeSnapshot(fetched.get());
+			log.info("Refreshed spam URL list: {} entries", fetchedIndex.size());
+			return true;
+		} catch (IOException e) {
+			ExceptionLogger.capture(e, getClass().getSimpleName());
+			return false;
+		}
+	}
+
+	/**
+	 * Periodically refreshes the list, starting immediately. The next refresh is
+	 * only scheduled once the previous one is done.
+	 *
+	 * @param timer           The pool which waits for the next refresh.
+	 * @param executor        The {@link Executor} to run the blocking refresh on.
+	 * @param intervalMinutes The amount of minutes between refreshes.
+	 */
+	public void scheduleRefresh(@NotNull ScheduledExecutorService timer, @NotNull Executor executor, long intervalMinutes) {
+		executor.execute(() -> {
+			try {
+				refresh();
+			} finally {
+				timer.schedule(() -> scheduleRefresh(timer, executor, intervalMinutes), intervalMinutes, TimeUnit.MINUTES);
+			}
+		});
+	}
+
+	/**
+	 * Checks whether the given host, or any of its parent domains, is a known scam domain.
+	 *
+	 * @param host The host to check.
+	 * @return Whether the host is listed.
+	 */
+	public boolean contains(String host) {
+		return index.contains(host);
+	}
+
+	public int size() {
+		return index.size();
+	}
+
+	private void writeSnapshot(@NotNull List<String> domains) throws IOException {
+		Path dir = snapshotFile.toAbsolutePath().getParent();
+		Files.createDirectories(dir);
+		Path tmp = Files.createTempFile(dir, snapshotFile.getFileName().toString(), ".tmp");
+		try {
+			Files.write(tmp, domains, StandardCharsets.UTF_8);
+			Files.move(tmp, snapshotFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} finally {
+			Files.deleteIfExists(tmp);
+		}
+	}
+}
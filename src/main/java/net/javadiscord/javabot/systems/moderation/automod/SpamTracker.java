@@ -0,0 +1,67 @@
+package net.javadiscord.javabot.systems.moderation.automod;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import net.dv8tion.jda.api.entities.Message;
+import net.javadiscord.javabot.data.config.guild.ModerationConfig;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps track of every member's most recent messages, so that message spam can
+ * be detected without having to fetch the channel's history.
+ * <p>
+ * Windows are kept per guild and user, and are evicted as soon as their member
+ * hasn't sent a message for the length of the window.
+ * </p>
+ */
+public class SpamTracker {
+	private final Cache<GuildUserKey, RecentMessageWindow> windows = Caffeine.newBuilder()
+			.expireAfter(new WindowExpiry())
+			.build();
+
+	/**
+	 * Records a new message and checks whether its author exceeded the guild's spam threshold.
+	 *
+	 * @param message The message that was sent.
+	 * @param config  The guild's {@link ModerationConfig}.
+	 * @return The author's {@link RecentMessageWindow} if the message was spam, or null if it wasn't.
+	 */
+	public RecentMessageWindow track(@NotNull Message message, @NotNull ModerationConfig config) {
+		int capacity = config.getSpamMessageThreshold() + 2;
+		long windowMillis = TimeUnit.SECONDS.toMillis(config.getSpamWindowSeconds());
+		RecentMessageWindow window = windows.asMap().compute(
+				new GuildUserKey(message.getGuild().getIdLong(), message.getAuthor().getIdLong()),
+				(key, existing) -> existing == null || !existing.matches(capacity, windowMillis) ? new RecentMessageWindow(capacity, windowMillis) : existing
+		);
+		if (window.add(message.getTimeCreated().toInstant().toEpochMilli(), message.getChannel().getIdLong())) {
+			return window;
+		}
+		return null;
+	}
+
+	private record GuildUserKey(long guildId, long userId) {
+	}
+
+	/**
+	 * Expires every window once its member has been idle for the length of the window.
+	 */
+	private static class WindowExpiry implements Expiry<GuildUserKey, RecentMessageWindow> {
+		@Override
+		public long expireAfterCreate(@NotNull GuildUserKey key, @NotNull RecentMessageWindow window, long currentTime) {
+			return TimeUnit.MILLISECONDS.toNanos(window.getWindowMillis());
+		}
+
+		@Override
+		public long expireAfterUpdate(@NotNull GuildUserKey key, @NotNull RecentMessageWindow window, long currentTime, long currentDuration) {
+			return TimeUnit.MILLISECONDS.toNanos(window.getWindowMillis());
+		}
+
+		@Override
+		public long expireAfterRead(@NotNull GuildUserKey key, @NotNull RecentMessageWindow window, long currentTime, long currentDuration) {
+			return currentDuration;
+		}
+	}
+}
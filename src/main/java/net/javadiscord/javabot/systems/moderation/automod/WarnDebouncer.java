@@ -0,0 +1,187 @@
+package net.javadiscord.javabot.systems.moderation.automod;
+
+import net.dv8tion.jda.api.entities.Guild;
+import net.dv8tion.jda.api.entities.Member;
+import net.dv8tion.jda.api.entities.Message;
+import net.dv8tion.jda.api.entities.MessageChannel;
+import net.dv8tion.jda.api.entities.User;
+import net.javadiscord.javabot.Bot;
+import net.javadiscord.javabot.systems.moderation.ModerationService;
+import net.javadiscord.javabot.systems.moderation.warn.model.WarnSeverity;
+import net.javadiscord.javabot.systems.notification.NotificationService;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Collects the warnings AutoMod issues for a single member within a short
+ * window, and issues them as one combined warning. This way, a member who
+ * floods a channel with invites gets a single warning, DM and log entry
+ * (and causes a single database transaction), instead of one per message.
+ * The combined warning weighs as much as all of its warnings together, so that
+ * a flood still counts towards a ban as much as the individual warnings would.
+ */
+public class WarnDebouncer {
+	private final Map<GuildUserKey, PendingWarn> pending = new ConcurrentHashMap<>();
+	private final ScheduledExecutorService pool;
+	private final Consumer<PendingWarn> issuer;
+
+	/**
+	 * Creates a new debouncer.
+	 *
+	 * @param pool The pool to issue the combined warnings on.
+	 */
+	public WarnDebouncer(@NotNull ScheduledExecutorService pool) {
+		this(pool, WarnDebouncer::issue);
+	}
+
+	/**
+	 * Creates a new debouncer.
+	 *
+	 * @param pool   The pool to issue the combined warnings on.
+	 * @param issuer Issues a combined warning.
+	 */
+	WarnDebouncer(@NotNull ScheduledExecutorService pool, @NotNull Consumer<PendingWarn> issuer) {
+		this.pool = pool;
+		this.issuer = issuer;
+	}
+
+	/**
+	 * Queues a warning for the given member. The first warning within a window
+	 * schedules the combined warning, which includes all warnings that are
+	 * queued until the window has passed.
+	 *
+	 * @param member   The member to warn.
+	 * @param severity The severity of the warning.
+	 * @param reason   The reason for the warning.
+	 * @param channel  The channel the offending message was sent in.
+	 * @param quiet    If true, don't send a message in the channel.
+	 * @param logLine  An optional line which is posted to the moderation log along with the warning.
+	 * @param delay    The length of the window, in milliseconds.
+	 */
+	public void warn(@NotNull Member member, @NotNull WarnSeverity severity, @NotNull String reason, @NotNull MessageChannel channel, boolean quiet, @Nullable String logLine, long delay) {
+		GuildUserKey key = new GuildUserKey(member.getGuild().getIdLong(), member.getIdLong());
+		queue(key, () -> new PendingWarn(member.getGuild(), member.getUser(), channel, quiet), severity, reason, logLine, delay);
+	}
+
+	/**
+	 * Adds a warning to the batch of the given key, starting a new batch if there is none.
+	 *
+	 * @param key      The guild and user the warning is for.
+	 * @param newBatch Creates a new batch.
+	 * @param severity The severity of the warning.
+	 * @param reason   The reason for the warning.
+	 * @param logLine  An optional line which is posted to the moderation log along with the warning.
+	 * @param delay    The length of the window, in milliseconds.
+	 */
+	void queue(@NotNull GuildUserKey key, @NotNull Supplier<PendingWarn> newBatch, @NotNull WarnSeverity severity, @NotNull String reason, @Nullable String logLine, long delay) {
+		pending.compute(key, (k, warn) -> {
+			if (warn == null) {
+				warn = newBatch.get();
+				pool.schedule(() -> flush(k), delay, TimeUnit.MILLISECONDS);
+			}
+			warn.add(severity, reason, logLine);
+			return warn;
+		});
+	}
+
+	/**
+	 * Issues the combined warning of the given key, if there is any.
+	 *
+	 * @param key The guild and user whose warnings should be issued.
+	 */
+	void flush(@NotNull GuildUserKey key) {
+		// no warnings can be added to the batch once it is removed
+		PendingWarn warn = pending.remove(key);
+		if (warn != null) {
+			issuer.accept(warn);
+		}
+	}
+
+	private static void issue(@NotNull PendingWarn warn) {
+		if (!warn.logLines.isEmpty()) {
+			String log = String.join("\n", warn.logLines);
+			String truncated = log.length() > Message.MAX_CONTENT_LENGTH ? log.substring(0, Message.MAX_CONTENT_LENGTH - 3) + "..." : log;
+			NotificationService.withGuild(warn.guild).sendToModerationLog(c -> c.sendMessage(truncated));
+		}
+		new ModerationService(Bot.getConfig().get(warn.guild)).warn(
+				warn.user,
+				warn.getSeverity(),
+				warn.getWeight(),
+				warn.getReason(),
+				warn.guild.getSelfMember(),
+				warn.channel,
+				warn.quiet
+		);
+	}
+
+	/**
+	 * Identifies a member, as members of different guilds are warned separately.
+	 *
+	 * @param guildId The guild's id.
+	 * @param userId  The user's id.
+	 */
+	record GuildUserKey(long guildId, long userId) {
+	}
+
+	/**
+	 * All warnings which were queued for a single member within the current window.
+	 */
+	static class PendingWarn {
+		private final Guild guild;
+		private final User user;
+		private final MessageChannel channel;
+		private final boolean quiet;
+		private final List<WarnSeverity> severities = new ArrayList<>();
+		private final Map<String, Integer> reasons = new LinkedHashMap<>();
+		private final List<String> logLines = new ArrayList<>();
+
+		PendingWarn(Guild guild, User user, MessageChannel channel, boolean quiet) {
+			this.guild = guild;
+			this.user = user;
+			this.channel = channel;
+			this.quiet = quiet;
+		}
+
+		void add(WarnSeverity severity, String reason, String logLine) {
+			severities.add(severity);
+			reasons.merge(reason, 1, Integer::sum);
+			if (logLine != null) logLines.add(logLine);
+		}
+
+		/**
+		 * The combined warning is shown as severe as the most severe one it contains.
+		 *
+		 * @return The highest {@link WarnSeverity}.
+		 */
+		WarnSeverity getSeverity() {
+			return severities.stream().max(Comparator.comparingInt(WarnSeverity::getWeight)).orElseThrow();
+		}
+
+		/**
+		 * The combined warning weighs as much as all warnings it contains.
+		 *
+		 * @return The sum of all severity weights.
+		 */
+		int getWeight() {
+			return severities.stream().mapToInt(WarnSeverity::getWeight).sum();
+		}
+
+		String getReason() {
+			return reasons.entrySet().stream()
+					.map(e -> e.getValue() == 1 ? e.getKey() : String.format("%s (x%d)", e.getKey(), e.getValue()))
+					.collect(Collectors.joining(", "));
+		}
+	}
+}
@@ -0,0 +1,58 @@
+package net.javadiscord.javabot.systems.moderation.automod.rules;
+
+import net.javadiscord.javabot.systems.moderation.automod.AutoModContext;
+import net.javadiscord.javabot.systems.moderation.automod.AutoModRule;
+import net.javadiscord.javabot.systems.moderation.automod.AutoModVerdicts;
+import net.javadiscord.javabot.systems.moderation.warn.model.WarnSeverity;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Warns members who post Discord invites, and deletes their message.
+ */
+public class AdvertisingRule implements AutoModRule {
+	private final AutoModVerdicts verdicts;
+
+	/**
+	 * Creates a new rule.
+	 *
+	 * @param verdicts The {@link AutoModVerdicts} which decide whether a message contains an invite.
+	 */
+	public AdvertisingRule(@NotNull AutoModVerdicts verdicts) {
+		this.verdicts = verdicts;
+	}
+
+	@Override
+	public @NotNull String getName() {
+		return "advertising";
+	}
+
+	@Override
+	public int getCost() {
+		return 30;
+	}
+
+	@Override
+	public boolean isTerminal() {
+		return true;
+	}
+
+	@Override
+	public boolean isContentRule() {
+		return true;
+	}
+
+	@Override
+	public boolean checksEdits() {
+		return true;
+	}
+
+	@Override
+	public boolean apply(@NotNull AutoModContext context) {
+		if (!verdicts.get(context.getMessage()).advertisingLink()) {
+			return false;
+		}
+		context.warn(WarnSeverity.MEDIUM, "Automod: Advertising", String.format("Message: `%s`", context.getMessage().getContentRaw()));
+		context.deleteMessage();
+		return true;
+	}
+}
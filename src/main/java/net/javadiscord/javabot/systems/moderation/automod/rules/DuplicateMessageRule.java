@@ -0,0 +1,28 @@
+package net.javadiscord.javabot.systems.moderation.automod.rules;
+
+import net.javadiscord.javabot.systems.moderation.automod.AutoModContext;
+import net.javadiscord.javabot.systems.moderation.automod.DuplicateMessageTracker;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Times out members who post the same (or a near-identical) message across several channels.
+ */
+public class DuplicateMessageRule extends SpamRule {
+	private final DuplicateMessageTracker duplicateTracker = new DuplicateMessageTracker();
+
+	@Override
+	public @NotNull String getName() {
+		return "duplicate-messages";
+	}
+
+	@Override
+	public int getCost() {
+		return 50;
+	}
+
+	@Override
+	public boolean apply(@NotNull AutoModContext context) {
+		int channels = duplicateTracker.track(context.getMessage(), context.getAnalysis().content(), context.getModerationConfig());
+		return channels > 0 && timeout(context, String.format("Automod: Duplicate messages (across %s channels)", channels));
+	}
+}
@@ -0,0 +1,37 @@
+package net.javadiscord.javabot.systems.moderation.automod.rules;
+
+import net.javadiscord.javabot.systems.moderation.automod.AutoModContext;
+import net.javadiscord.javabot.systems.moderation.automod.AutoModRule;
+import net.javadiscord.javabot.systems.moderation.warn.model.WarnSeverity;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Warns members who mention five or more users in a single message.
+ */
+public class MentionSpamRule implements AutoModRule {
+	private static final int MAX_MENTIONS = 5;
+
+	@Override
+	public @NotNull String getName() {
+		return "mention-spam";
+	}
+
+	@Override
+	public int getCost() {
+		return 10;
+	}
+
+	@Override
+	public boolean isTerminal() {
+		return false;
+	}
+
+	@Override
+	public boolean apply(@NotNull AutoModContext context) {
+		if (context.getMessage().getMentions().getUsers().size() < MAX_MENTIONS) {
+			return false;
+		}
+		context.warn(WarnSeverity.MEDIUM, "Automod: Mention Spam", null);
+		return true;
+	}
+}
@@ -0,0 +1,35 @@
+package net.javadiscord.javabot.systems.moderation.automod.rules;
+
+import net.javadiscord.javabot.systems.moderation.automod.AutoModContext;
+import net.javadiscord.javabot.systems.moderation.automod.RecentMessageWindow;
+import net.javadiscord.javabot.systems.moderation.automod.SpamTracker;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Times out members who send too many messages within a short amount of time.
+ */
+public class MessageRateRule extends SpamRule {
+	private final SpamTracker spamTracker = new SpamTracker();
+
+	@Override
+	public @NotNull String getName() {
+		return "message-rate";
+	}
+
+	@Override
+	public int getCost() {
+		return 20;
+	}
+
+	@Override
+	public boolean apply(@NotNull AutoModContext context) {
+		RecentMessageWindow window = spamTracker.track(context.getMessage(), context.getModerationConfig());
+		if (window == null) {
+			return false;
+		}
+		int channelCount = window.getChannelCount();
+		// don't report the same burst twice
+		window.clear();
+		return timeout(context, channelCount > 1 ? String.format("Automod: Spam (across %s channels)", channelCount) : "Automod: Spam");
+	}
+}
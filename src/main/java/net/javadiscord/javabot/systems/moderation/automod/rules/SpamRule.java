@@ -0,0 +1,45 @@
+package net.javadiscord.javabot.systems.moderation.automod.rules;
+
+import net.dv8tion.jda.api.entities.Message;
+import net.javadiscord.javabot.systems.moderation.automod.AutoModContext;
+import net.javadiscord.javabot.systems.moderation.automod.AutoModRule;
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.Objects;
+
+/**
+ * Base class for all rules which time out members who spam.
+ */
+public abstract class SpamRule implements AutoModRule {
+	@Override
+	public boolean isTerminal() {
+		return true;
+	}
+
+	/**
+	 * Times out the message's author for spamming.
+	 *
+	 * @param context The {@link AutoModContext} of the message.
+	 * @param reason  The reason for the timeout.
+	 * @return Whether the author was timed out. Messages which only consist of
+	 * Java files are never treated as spam.
+	 */
+	protected boolean timeout(@NotNull AutoModContext context, @NotNull String reason) {
+		Message msg = context.getMessage();
+		// java files -> not spam
+		if (!msg.getAttachments().isEmpty() && msg.getAttachments().stream().allMatch(a -> Objects.equals(a.getFileExtension(), "java"))) {
+			return false;
+		}
+		context.getModerationService().timeout(
+				context.getMember(),
+				reason,
+				context.getSelfMember(),
+				Duration.of(6, ChronoUnit.HOURS),
+				msg.getChannel(),
+				false
+		);
+		return true;
+	}
+}
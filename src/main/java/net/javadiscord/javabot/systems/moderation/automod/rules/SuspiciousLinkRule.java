@@ -0,0 +1,60 @@
+package net.javadiscord.javabot.systems.moderation.automod.rules;
+
+import net.dv8tion.jda.api.entities.Message;
+import net.javadiscord.javabot.systems.moderation.automod.AutoModContext;
+import net.javadiscord.javabot.systems.moderation.automod.AutoModRule;
+import net.javadiscord.javabot.systems.moderation.automod.AutoModVerdicts;
+import net.javadiscord.javabot.systems.moderation.warn.model.WarnSeverity;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Warns members who post links to known scam domains, and deletes their message.
+ */
+public class SuspiciousLinkRule implements AutoModRule {
+	private final AutoModVerdicts verdicts;
+
+	/**
+	 * Creates a new rule.
+	 *
+	 * @param verdicts The {@link AutoModVerdicts} which decide whether a message contains a suspicious link.
+	 */
+	public SuspiciousLinkRule(@NotNull AutoModVerdicts verdicts) {
+		this.verdicts = verdicts;
+	}
+
+	@Override
+	public @NotNull String getName() {
+		return "suspicious-links";
+	}
+
+	@Override
+	public int getCost() {
+		return 40;
+	}
+
+	@Override
+	public boolean isTerminal() {
+		return true;
+	}
+
+	@Override
+	public boolean isContentRule() {
+		return true;
+	}
+
+	@Override
+	public boolean checksEdits() {
+		return true;
+	}
+
+	@Override
+	public boolean apply(@NotNull AutoModContext context) {
+		if (!verdicts.get(context.getMessage()).suspiciousLink()) {
+			return false;
+		}
+		Message message = context.getMessage();
+		context.warn(WarnSeverity.MEDIUM, "Automod: Suspicious Link", String.format("Suspicious Link sent by: %s (`%s`)", message.getAuthor().getAsMention(), message.getContentRaw()));
+		context.deleteMessage();
+		return true;
+	}
+}
@@ -1,6 +1,7 @@
 package net.javadiscord.javabot.systems.moderation.warn.dao;
 
 import lombok.RequiredArgsConstructor;
+import net.javadiscord.javabot.data.h2db.QueryRegistry;
 import net.javadiscord.javabot.systems.moderation.warn.model.Warn;
 import net.javadiscord.javabot.util.ExceptionLogger;
 import org.jetbrains.annotations.NotNull;
@@ -26,10 +27,7 @@ public class WarnRepository {
 	 * @throws SQLException If an error occurs.
 	 */
 	public Warn insert(@NotNull Warn warn) throws SQLException {
-		try (PreparedStatement s = con.prepareStatement(
-				"INSERT INTO warn (user_id, warned_by, severity, severity_weight, reason) VALUES (?, ?, ?, ?, ?)",
-				Statement.RETURN_GENERATED_KEYS
-		)) {
+		try (PreparedStatement s = QueryRegistry.prepare(con, "warn.insert", Statement.RETURN_GENERATED_KEYS)) {
 			s.setLong(1, warn.getUserId());
 			s.setLong(2, warn.getWarnedBy());
 			s.setString(3, warn.getSeverity());
@@ -52,7 +50,7 @@ public class WarnRepository {
 	 */
 	public Optional<Warn> findById(long id) throws SQLException {
 		Warn warn = null;
-		try (PreparedStatement s = con.prepareStatement("SELECT * FROM warn WHERE id = ?")) {
+		try (PreparedStatement s = QueryRegistry.prepare(con, "warn.select_by_id")) {
 			s.setLong(1, id);
 			ResultSet rs = s.executeQuery();
 			if (rs.next()) {
@@ -73,7 +71,7 @@ public class WarnRepository {
 	 * @throws SQLException If an error occurs.
 	 */
 	public int getTotalSeverityWeight(long userId, LocalDateTime cutoff) throws SQLException {
-		try (PreparedStatement s = con.prepareStatement("SELECT SUM(severity_weight) FROM warn WHERE user_id = ? AND discarded = FALSE AND created_at > ?")) {
+		try (PreparedStatement s = QueryRegistry.prepare(con, "warn.sum_active_severity_weight")) {
 			s.setLong(1, userId);
 			s.setTimestamp(2, Timestamp.valueOf(cutoff));
 			ResultSet rs = s.executeQuery();
@@ -93,9 +91,7 @@ public class WarnRepository {
 	 * @throws SQLException If an error occurs.
 	 */
 	public void discardAll(long userId) throws SQLException {
-		try (PreparedStatement s = con.prepareStatement("""
-				UPDATE warn SET discarded = TRUE
-				WHERE user_id = ?""")) {
+		try (PreparedStatement s = QueryRegistry.prepare(con, "warn.discard_by_user")) {
 			s.setLong(1, userId);
 			s.executeUpdate();
 		}
@@ -108,9 +104,7 @@ public class WarnRepository {
 	 * @throws SQLException If an error occurs.
 	 */
 	public void discardById(long id) throws SQLException {
-		try (PreparedStatement s = con.prepareStatement("""
-				UPDATE warn SET discarded = TRUE
-				WHERE id = ?""")) {
+		try (PreparedStatement s = QueryRegistry.prepare(con, "warn.discard_by_id")) {
 			s.setLong(1, id);
 			s.executeUpdate();
 		}
@@ -146,7 +140,7 @@ public class WarnRepository {
 	 */
 	public List<Warn> getWarnsByUserId(long userId, LocalDateTime cutoff) {
 		List<Warn> warns = new ArrayList<>();
-		try (PreparedStatement s = con.prepareStatement("SELECT * FROM warn WHERE user_id = ? AND discarded = FALSE AND created_at > ?")) {
+		try (PreparedStatement s = QueryRegistry.prepare(con, "warn.select_active_by_user")) {
 			s.setLong(1, userId);
 			s.setTimestamp(2, Timestamp.valueOf(cutoff));
 			ResultSet rs = s.executeQuery();
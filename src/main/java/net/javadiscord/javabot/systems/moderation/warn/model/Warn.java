@@ -30,10 +30,23 @@ public class Warn {
 	 * @param reason   The reason for the warning.
 	 */
 	public Warn(long userId, long warnedBy, @NotNull WarnSeverity severity, String reason) {
+		this(userId, warnedBy, severity, severity.getWeight(), reason);
+	}
+
+	/**
+	 * Constructs a new warning which weighs more than its severity, because it combines several warnings.
+	 *
+	 * @param userId         The id of the user being warned.
+	 * @param warnedBy       The id of the user who's warning them.
+	 * @param severity       The severity of the warning.
+	 * @param severityWeight The weight of the warning.
+	 * @param reason         The reason for the warning.
+	 */
+	public Warn(long userId, long warnedBy, @NotNull WarnSeverity severity, int severityWeight, String reason) {
 		this.userId = userId;
 		this.warnedBy = warnedBy;
 		this.severity = severity.name();
-		this.severityWeight = severity.getWeight();
+		this.severityWeight = severityWeight;
 		this.reason = reason;
 	}
 }
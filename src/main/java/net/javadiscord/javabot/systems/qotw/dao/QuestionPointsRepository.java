@@ -2,6 +2,7 @@ package net.javadiscord.javabot.systems.qotw.dao;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import net.javadiscord.javabot.data.h2db.QueryRegistry;
 import net.javadiscord.javabot.systems.qotw.model.QOTWAccount;
 import org.jetbrains.annotations.NotNull;
 
@@ -25,9 +26,7 @@ public class QuestionPointsRepository {
 	 * @throws SQLException If an error occurs.
 	 */
 	public void insert(QOTWAccount account) throws SQLException {
-		try (PreparedStatement stmt = con.prepareStatement("INSERT INTO qotw_points (user_id, points) VALUES (?, ?)",
-				Statement.RETURN_GENERATED_KEYS
-		)) {
+		try (PreparedStatement stmt = QueryRegistry.prepare(con, "qotw_points.insert", Statement.RETURN_GENERATED_KEYS)) {
 			stmt.setLong(1, account.getUserId());
 			stmt.setLong(2, account.getPoints());
 			int rows = stmt.executeUpdate();
@@ -44,7 +43,7 @@ public class QuestionPointsRepository {
 	 * @throws SQLException If an error occurs.
 	 */
 	public Optional<QOTWAccount> getByUserId(long userId) throws SQLException {
-		try (PreparedStatement s = con.prepareStatement("SELECT * FROM qotw_points WHERE user_id = ?")) {
+		try (PreparedStatement s = QueryRegistry.prepare(con, "qotw_points.select_by_user")) {
 			s.setLong(1, userId);
 			QOTWAccount account = null;
 			ResultSet rs = s.executeQuery();
@@ -63,7 +62,7 @@ public class QuestionPointsRepository {
 	 * @throws SQLException If an error occurs.
 	 */
 	public boolean update(@NotNull QOTWAccount account) throws SQLException {
-		try (PreparedStatement s = con.prepareStatement("UPDATE qotw_points SET points = ? WHERE user_id = ?")) {
+		try (PreparedStatement s = QueryRegistry.prepare(con, "qotw_points.update")) {
 			s.setLong(1, account.getPoints());
 			s.setLong(2, account.getUserId());
 			return s.executeUpdate() > 0;
@@ -77,7 +76,7 @@ public class QuestionPointsRepository {
 	 * @throws SQLException If an error occurs.
 	 */
 	public List<QOTWAccount> sortByPoints() throws SQLException {
-		try (PreparedStatement s = con.prepareStatement("SELECT * FROM qotw_points ORDER BY points DESC")) {
+		try (PreparedStatement s = QueryRegistry.prepare(con, "qotw_points.select_all_by_points")) {
 			ResultSet rs = s.executeQuery();
 			List<QOTWAccount> accounts = new ArrayList<>();
 			while (rs.next()) {
@@ -96,7 +95,7 @@ public class QuestionPointsRepository {
 	 * @throws SQLException If an error occurs.
 	 */
 	public List<QOTWAccount> getTopAccounts(int page, int size) throws SQLException {
-		try (PreparedStatement stmt = con.prepareStatement("SELECT * FROM qotw_points WHERE points > 0 ORDER BY points DESC LIMIT ? OFFSET ?")) {
+		try (PreparedStatement stmt = QueryRegistry.prepare(con, "qotw_points.select_page")) {
 			stmt.setInt(1, size);
 			stmt.setInt(2, Math.max(0, (page * size) - size));
 			ResultSet rs = stmt.executeQuery();
@@ -1,6 +1,7 @@
 package net.javadiscord.javabot.systems.qotw.dao;
 
 import lombok.RequiredArgsConstructor;
+import net.javadiscord.javabot.data.h2db.QueryRegistry;
 import net.javadiscord.javabot.systems.qotw.model.QOTWQuestion;
 
 import java.sql.*;
@@ -22,10 +23,7 @@ public class QuestionQueueRepository {
 	 * @throws SQLException If an error occurs.
 	 */
 	public void save(QOTWQuestion question) throws SQLException {
-		try (PreparedStatement stmt = con.prepareStatement(
-				"INSERT INTO qotw_question (guild_id, created_by, text, priority) VALUES (?, ?, ?, ?)",
-				Statement.RETURN_GENERATED_KEYS
-		)) {
+		try (PreparedStatement stmt = QueryRegistry.prepare(con, "qotw_question.insert", Statement.RETURN_GENERATED_KEYS)) {
 			stmt.setLong(1, question.getGuildId());
 			stmt.setLong(2, question.getCreatedBy());
 			stmt.setString(3, question.getText());
@@ -47,7 +45,7 @@ public class QuestionQueueRepository {
 	 * @throws SQLException If an error occurs.
 	 */
 	public Optional<QOTWQuestion> findByQuestionNumber(int questionNumber) throws SQLException {
-		try (PreparedStatement s = con.prepareStatement("SELECT * FROM qotw_question WHERE question_number = ?")) {
+		try (PreparedStatement s = QueryRegistry.prepare(con, "qotw_question.select_by_number")) {
 			QOTWQuestion question = null;
 			s.setInt(1, questionNumber);
 			ResultSet rs = s.executeQuery();
@@ -65,11 +63,7 @@ public class QuestionQueueRepository {
 	 * @throws SQLException If an error occurs.
 	 */
 	public int getNextQuestionNumber() throws SQLException {
-		try (PreparedStatement stmt = con.prepareStatement("""
-				SELECT question_number + 1
-				FROM qotw_question
-				WHERE used = TRUE AND question_number IS NOT NULL
-				ORDER BY created_at DESC LIMIT 1""")) {
+		try (PreparedStatement stmt = QueryRegistry.prepare(con, "qotw_question.next_question_number")) {
 			ResultSet rs = stmt.executeQuery();
 			if (rs.next()) {
 				return rs.getInt(1);
@@ -88,10 +82,7 @@ public class QuestionQueueRepository {
 		if (question.getQuestionNumber() == null) {
 			throw new IllegalArgumentException("Cannot mark an unnumbered question as used.");
 		}
-		try (PreparedStatement stmt = con.prepareStatement("""
-				UPDATE qotw_question
-				SET used = TRUE, question_number = ?
-				WHERE id = ?""")) {
+		try (PreparedStatement stmt = QueryRegistry.prepare(con, "qotw_question.mark_used")) {
 			stmt.setInt(1, question.getQuestionNumber());
 			stmt.setLong(2, question.getId());
 			stmt.executeUpdate();
@@ -108,8 +99,7 @@ public class QuestionQueueRepository {
 	 * @throws SQLException If an error occurs.
 	 */
 	public List<QOTWQuestion> getQuestions(long guildId, int page, int size) throws SQLException {
-		String sql = "SELECT * FROM qotw_question WHERE guild_id = ? AND used = FALSE ORDER BY priority DESC, created_at ASC LIMIT ? OFFSET ?";
-		try (PreparedStatement stmt = con.prepareStatement(sql)) {
+		try (PreparedStatement stmt = QueryRegistry.prepare(con, "qotw_question.select_unused_page")) {
 			stmt.setLong(1, guildId);
 			stmt.setInt(2, size);
 			stmt.setInt(3, page);
@@ -132,8 +122,7 @@ public class QuestionQueueRepository {
 	 * @throws SQLException If an error occurs.
 	 */
 	public List<QOTWQuestion> getUsedQuestionsWithQuery(long guildId, String query, int page, int size) throws SQLException {
-		String sql = "SELECT * FROM qotw_question WHERE guild_id = ? AND \"TEXT\" LIKE ? AND used = TRUE ORDER BY question_number DESC, created_at ASC LIMIT ? OFFSET ?";
-		try (PreparedStatement stmt = con.prepareStatement(sql)) {
+		try (PreparedStatement stmt = QueryRegistry.prepare(con, "qotw_question.search_used_page")) {
 			stmt.setLong(1, guildId);
 			stmt.setString(2, "%" + query.toLowerCase() + "%");
 			stmt.setInt(3, size);
@@ -155,12 +144,7 @@ public class QuestionQueueRepository {
 	 * @throws SQLException If an error occurs.
 	 */
 	public Optional<QOTWQuestion> getNextQuestion(long guildId) throws SQLException {
-		try (PreparedStatement stmt = con.prepareStatement("""
-				SELECT *
-				FROM qotw_question
-				WHERE guild_id = ? AND used = FALSE
-				ORDER BY priority DESC, created_at
-				LIMIT 1""")) {
+		try (PreparedStatement stmt = QueryRegistry.prepare(con, "qotw_question.select_next")) {
 			stmt.setLong(1, guildId);
 			ResultSet rs = stmt.executeQuery();
 			Optional<QOTWQuestion> optionalQuestion;
@@ -182,7 +166,7 @@ public class QuestionQueueRepository {
 	 * @throws SQLException If an error occurs.
 	 */
 	public boolean removeQuestion(long guildId, long id) throws SQLException {
-		try (PreparedStatement stmt = con.prepareStatement("DELETE FROM qotw_question WHERE guild_id = ? AND id = ?")) {
+		try (PreparedStatement stmt = QueryRegistry.prepare(con, "qotw_question.delete")) {
 			stmt.setLong(1, guildId);
 			stmt.setLong(2, id);
 			int rows = stmt.executeUpdate();
@@ -2,6 +2,7 @@ package net.javadiscord.javabot.systems.qotw.submissions.dao;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import net.javadiscord.javabot.data.h2db.QueryRegistry;
 import net.javadiscord.javabot.systems.qotw.submissions.SubmissionStatus;
 import net.javadiscord.javabot.systems.qotw.submissions.model.QOTWSubmission;
 import org.jetbrains.annotations.NotNull;
@@ -26,9 +27,7 @@ public class QOTWSubmissionRepository {
 	 * @throws SQLException If an error occurs.
 	 */
 	public void insert(QOTWSubmission submission) throws SQLException {
-		try (PreparedStatement stmt = con.prepareStatement("INSERT INTO qotw_submissions (thread_id, question_number, guild_id, author_id) VALUES (?, ?, ?, ?)",
-				Statement.RETURN_GENERATED_KEYS
-		)) {
+		try (PreparedStatement stmt = QueryRegistry.prepare(con, "qotw_submissions.insert", Statement.RETURN_GENERATED_KEYS)) {
 			stmt.setLong(1, submission.getThreadId());
 			stmt.setInt(2, submission.getQuestionNumber());
 			stmt.setLong(3, submission.getGuildId());
@@ -47,7 +46,7 @@ public class QOTWSubmissionRepository {
 	 * @throws SQLException If an error occurs.
 	 */
 	public boolean deleteSubmission(long threadId) throws SQLException {
-		try (PreparedStatement stmt = con.prepareStatement("DELETE FROM qotw_submissions WHERE thread_id = ?")) {
+		try (PreparedStatement stmt = QueryRegistry.prepare(con, "qotw_submissions.delete")) {
 			stmt.setLong(1, threadId);
 			int rows = stmt.executeUpdate();
 			return rows > 0;
@@ -62,7 +61,7 @@ public class QOTWSubmissionRepository {
 	 * @throws SQLException If an error occurs.
 	 */
 	public void updateStatus(long threadId, @NotNull SubmissionStatus status) throws SQLException {
-		try (PreparedStatement stmt = con.prepareStatement("UPDATE qotw_submissions SET status = ? WHERE thread_id = ?")) {
+		try (PreparedStatement stmt = QueryRegistry.prepare(con, "qotw_submissions.update_status")) {
 			stmt.setInt(1, status.ordinal());
 			stmt.setLong(2, threadId);
 			stmt.executeUpdate();
@@ -77,7 +76,7 @@ public class QOTWSubmissionRepository {
 	 * @throws SQLException If an error occurs.
 	 */
 	public List<QOTWSubmission> getUnreviewedSubmissions(long authorId) throws SQLException {
-		try (PreparedStatement s = con.prepareStatement("SELECT * FROM qotw_submissions WHERE author_id = ? AND status = 0")) {
+		try (PreparedStatement s = QueryRegistry.prepare(con, "qotw_submissions.select_unreviewed_by_author")) {
 			s.setLong(1, authorId);
 			ResultSet rs = s.executeQuery();
 			List<QOTWSubmission> submissions = new ArrayList<>();
@@ -96,7 +95,7 @@ public class QOTWSubmissionRepository {
 	 * @throws SQLException If an error occurs.
 	 */
 	public Optional<QOTWSubmission> getSubmissionByThreadId(long threadId) throws SQLException {
-		try (PreparedStatement s = con.prepareStatement("SELECT * FROM qotw_submissions WHERE thread_id = ?")) {
+		try (PreparedStatement s = QueryRegistry.prepare(con, "qotw_submissions.select_by_thread")) {
 			s.setLong(1, threadId);
 			ResultSet rs = s.executeQuery();
 			QOTWSubmission submission = null;
@@ -114,7 +113,7 @@ public class QOTWSubmissionRepository {
 	 * @throws SQLException If an error occurs.
 	 */
 	public int getCurrentQuestionNumber() throws SQLException {
-		try (PreparedStatement s = con.prepareStatement("SELECT MAX(question_number) FROM qotw_submissions")) {
+		try (PreparedStatement s = QueryRegistry.prepare(con, "qotw_submissions.max_question_number")) {
 			ResultSet rs = s.executeQuery();
 			if (rs.next()) {
 				return rs.getInt(1);
@@ -132,7 +131,7 @@ public class QOTWSubmissionRepository {
 	 * @throws SQLException If an error occurs.
 	 */
 	public List<QOTWSubmission> getSubmissionsByQuestionNumber(long guildId, int questionNumber) throws SQLException {
-		try (PreparedStatement s = con.prepareStatement("SELECT * FROM qotw_submissions WHERE guild_id = ? AND question_number = ?")) {
+		try (PreparedStatement s = QueryRegistry.prepare(con, "qotw_submissions.select_by_question")) {
 			s.setLong(1, guildId);
 			s.setInt(2, questionNumber);
 			ResultSet rs = s.executeQuery();
@@ -154,7 +153,7 @@ public class QOTWSubmissionRepository {
 	 * @throws SQLException If an error occurs.
 	 */
 	public QOTWSubmission getSubmissionByQuestionNumberAndAuthorID(long guildId,int questionNumber, long authorID) throws SQLException {
-		try (PreparedStatement s = con.prepareStatement("SELECT * FROM qotw_submissions WHERE guild_id = ? AND question_number = ? AND author_id = ?")) {
+		try (PreparedStatement s = QueryRegistry.prepare(con, "qotw_submissions.select_by_question_and_author")) {
 			s.setLong(1, guildId);
 			s.setInt(2, questionNumber);
 			s.setLong(3, authorID);
@@ -40,7 +40,7 @@ public class RedeployCommand extends SlashCommand {
 		}
 		log.warn("Redeploying... Requested by: " + event.getUser().getAsTag());
 		event.reply("**Redeploying...** This may take some time.").queue();
-		Bot.getMessageCache().synchronize();
+		Bot.getMessageCache().flush();
 		System.exit(0);
 	}
 }
\ No newline at end of file
@@ -1,6 +1,7 @@
 package net.javadiscord.javabot.systems.staff_commands.tags.dao;
 
 import lombok.RequiredArgsConstructor;
+import net.javadiscord.javabot.data.h2db.QueryRegistry;
 import net.javadiscord.javabot.systems.staff_commands.tags.model.CustomTag;
 import net.javadiscord.javabot.util.ExceptionLogger;
 import org.jetbrains.annotations.NotNull;
@@ -28,10 +29,7 @@ public class CustomTagRepository {
 		if (findByName(command.getGuildId(), command.getName()).isPresent()) {
 			throw new IllegalArgumentException(String.format("A Custom Command in Guild %s called %s already exists.", command.getGuildId(), command.getName()));
 		}
-		try (PreparedStatement s = con.prepareStatement(
-				"INSERT INTO custom_tags (guild_id, created_by, name, response, reply, embed) VALUES (?, ?, ?, ?, ?, ?)",
-				Statement.RETURN_GENERATED_KEYS
-		)) {
+		try (PreparedStatement s = QueryRegistry.prepare(con, "custom_tags.insert", Statement.RETURN_GENERATED_KEYS)) {
 			s.setLong(1, command.getGuildId());
 			s.setLong(2, command.getCreatedBy());
 			s.setString(3, command.getName());
@@ -58,10 +56,7 @@ public class CustomTagRepository {
 		if (findByName(old.getGuildId(), old.getName()).isEmpty()) {
 			throw new IllegalArgumentException(String.format("A Custom Command in Guild %s called %s does not exist.", old.getGuildId(), old.getName()));
 		}
-		try (PreparedStatement s = con.prepareStatement(
-				"UPDATE custom_tags SET response = ?, reply = ?, embed = ? WHERE id = ?",
-				Statement.RETURN_GENERATED_KEYS
-		)) {
+		try (PreparedStatement s = QueryRegistry.prepare(con, "custom_tags.update", Statement.RETURN_GENERATED_KEYS)) {
 			s.setString(1, update.getResponse());
 			s.setBoolean(2, update.isReply());
 			s.setBoolean(3, update.isEmbed());
@@ -81,7 +76,7 @@ public class CustomTagRepository {
 	 * @throws SQLException If an error occurs.
 	 */
 	public void delete(@NotNull CustomTag command) throws SQLException {
-		try (PreparedStatement s = con.prepareStatement("DELETE FROM custom_tags WHERE id = ?")) {
+		try (PreparedStatement s = QueryRegistry.prepare(con, "custom_tags.delete")) {
 			s.setLong(1, command.getId());
 			s.executeUpdate();
 		}
@@ -97,7 +92,7 @@ public class CustomTagRepository {
 	 */
 	public Optional<CustomTag> findByName(long guildId, String name) throws SQLException {
 		CustomTag command = null;
-		try (PreparedStatement s = con.prepareStatement("SELECT * FROM custom_tags WHERE guild_id = ? AND name = ?")) {
+		try (PreparedStatement s = QueryRegistry.prepare(con, "custom_tags.select_by_name")) {
 			s.setLong(1, guildId);
 			s.setString(2, name);
 			ResultSet rs = s.executeQuery();
@@ -118,7 +113,7 @@ public class CustomTagRepository {
 	 */
 	public Optional<CustomTag> findById(long id) throws SQLException {
 		CustomTag command = null;
-		try (PreparedStatement s = con.prepareStatement("SELECT * FROM custom_tags WHERE id = ?")) {
+		try (PreparedStatement s = QueryRegistry.prepare(con, "custom_tags.select_by_id")) {
 			s.setLong(1, id);
 			ResultSet rs = s.executeQuery();
 			if (rs.next()) {
@@ -137,7 +132,7 @@ public class CustomTagRepository {
 	 */
 	public List<CustomTag> getCustomTagsByGuildId(long guildId) {
 		List<CustomTag> commands = new ArrayList<>();
-		try (PreparedStatement s = con.prepareStatement("SELECT * FROM custom_tags WHERE guild_id = ?")) {
+		try (PreparedStatement s = QueryRegistry.prepare(con, "custom_tags.select_by_guild")) {
 			s.setLong(1, guildId);
 			ResultSet rs = s.executeQuery();
 			while (rs.next()) commands.add(read(rs));
@@ -44,7 +44,7 @@ public class StarboardManager extends ListenerAdapter {
 	}
 
 	private void handleReactionEvent(Guild guild, Emoji emoji, MessageChannel channel, long messageId) {
-		Bot.getAsyncPool().submit(() -> {
+		Bot.getBlockingPool().submit(() -> {
 			StarboardConfig config = Bot.getConfig().get(guild).getStarboardConfig();
 			if (config.getStarboardChannel().equals(channel)) return;
 			Emoji starEmote = config.getEmojis().get(0);
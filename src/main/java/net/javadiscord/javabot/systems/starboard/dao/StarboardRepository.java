@@ -2,6 +2,7 @@ package net.javadiscord.javabot.systems.starboard.dao;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import net.javadiscord.javabot.data.h2db.QueryRegistry;
 import net.javadiscord.javabot.systems.starboard.model.StarboardEntry;
 import org.jetbrains.annotations.NotNull;
 
@@ -24,9 +25,7 @@ public class StarboardRepository {
 	 * @throws SQLException If an error occurs.
 	 */
 	public void insert(StarboardEntry entry) throws SQLException {
-		try (PreparedStatement stmt = con.prepareStatement("INSERT INTO starboard (original_message_id, guild_id, channel_id, author_id, starboard_message_id) VALUES (?, ?, ?, ?, ?)",
-				Statement.RETURN_GENERATED_KEYS
-		)) {
+		try (PreparedStatement stmt = QueryRegistry.prepare(con, "starboard.insert", Statement.RETURN_GENERATED_KEYS)) {
 			stmt.setLong(1, entry.getOriginalMessageId());
 			stmt.setLong(2, entry.getGuildId());
 			stmt.setLong(3, entry.getChannelId());
@@ -45,9 +44,7 @@ public class StarboardRepository {
 	 * @throws SQLException If an error occurs.
 	 */
 	public void delete(long messageId) throws SQLException {
-		try (PreparedStatement stmt = con.prepareStatement("""
-				DELETE FROM starboard
-				WHERE original_message_id = ?""")) {
+		try (PreparedStatement stmt = QueryRegistry.prepare(con, "starboard.delete_by_original_message")) {
 			stmt.setLong(1, messageId);
 			stmt.executeUpdate();
 		}
@@ -61,7 +58,7 @@ public class StarboardRepository {
 	 * @throws SQLException If an error occurs.
 	 */
 	public StarboardEntry getEntryByMessageId(long messageId) throws SQLException {
-		try (PreparedStatement s = con.prepareStatement("SELECT * FROM starboard WHERE original_message_id = ?")) {
+		try (PreparedStatement s = QueryRegistry.prepare(con, "starboard.select_by_original_message")) {
 			s.setLong(1, messageId);
 			ResultSet rs = s.executeQuery();
 			if (rs.next()) {
@@ -80,7 +77,7 @@ public class StarboardRepository {
 	 * @throws SQLException If an error occurs.
 	 */
 	public StarboardEntry getEntryByStarboardMessageId(long starboardMessageId) throws SQLException {
-		try (PreparedStatement s = con.prepareStatement("SELECT * FROM starboard WHERE starboard_message_id = ?")) {
+		try (PreparedStatement s = QueryRegistry.prepare(con, "starboard.select_by_starboard_message")) {
 			s.setLong(1, starboardMessageId);
 			ResultSet rs = s.executeQuery();
 			if (rs.next()) {
@@ -99,7 +96,7 @@ public class StarboardRepository {
 	 * @throws SQLException If an error occurs.
 	 */
 	public List<StarboardEntry> getAllStarboardEntries(long guildId) throws SQLException {
-		try (PreparedStatement s = con.prepareStatement("SELECT * FROM starboard WHERE guild_id = ?")) {
+		try (PreparedStatement s = QueryRegistry.prepare(con, "starboard.select_by_guild")) {
 			s.setLong(1, guildId);
 			ResultSet rs = s.executeQuery();
 			List<StarboardEntry> entries = new ArrayList<>();
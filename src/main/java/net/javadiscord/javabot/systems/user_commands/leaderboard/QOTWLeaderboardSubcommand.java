@@ -52,7 +52,7 @@ public class QOTWLeaderboardSubcommand extends SlashCommand.Subcommand {
 	@Override
 	public void execute(SlashCommandInteractionEvent event) {
 		event.deferReply().queue();
-		Bot.getAsyncPool().submit(() -> {
+		Bot.getBlockingPool().submit(() -> {
 			try {
 				QOTWPointsService service = new QOTWPointsService(Bot.getDataSource());
 				WebhookMessageAction<Message> action = event.getHook().sendMessageEmbeds(buildLeaderboardRankEmbed(event.getMember(), service));
@@ -32,34 +32,20 @@ public class ThanksLeaderboardSubcommand extends SlashCommand.Subcommand {
 		event.deferReply(false).queue();
 		Collector<CharSequence, ?, String> collector = Collectors.joining("\n");
 		String format = "**%d** %s";
-		Bot.getAsyncPool().submit(() -> {
-			String totalHelpers = getCounts("""
-					SELECT COUNT(id), helper_id
-					FROM help_channel_thanks
-					GROUP BY helper_id""", event.getGuild()).stream()
+		Bot.getBlockingPool().submit(() -> {
+			String totalHelpers = getCounts("help_channel_thanks.leaderboard_helpers", event.getGuild()).stream()
 					.limit(3)
 					.map(p -> String.format(format, p.getSecond(), p.getFirst().getUser().getAsMention()))
 					.collect(collector);
-			String helpersThisWeek = getCounts("""
-					SELECT COUNT(id), helper_id
-					FROM help_channel_thanks
-					WHERE thanked_at > DATEADD('week', -1, CURRENT_TIMESTAMP(0))
-					GROUP BY helper_id""", event.getGuild()).stream()
+			String helpersThisWeek = getCounts("help_channel_thanks.leaderboard_helpers_this_week", event.getGuild()).stream()
 					.limit(3)
 					.map(p -> String.format(format, p.getSecond(), p.getFirst().getUser().getAsMention()))
 					.collect(collector);
-			String totalHelped = getCounts("""
-					SELECT COUNT(id) AS count, user_id
-					FROM help_channel_thanks
-					GROUP BY user_id""", event.getGuild()).stream()
+			String totalHelped = getCounts("help_channel_thanks.leaderboard_thanked_users", event.getGuild()).stream()
 					.limit(3)
 					.map(p -> String.format(format, p.getSecond(), p.getFirst().getUser().getAsMention()))
 					.collect(collector);
-			String helpedThisWeek = getCounts("""
-					SELECT COUNT(id) AS count, user_id
-					FROM help_channel_thanks
-					WHERE thanked_at > DATEADD('week', -1, CURRENT_TIMESTAMP(0))
-					GROUP BY user_id""", event.getGuild()).stream()
+			String helpedThisWeek = getCounts("help_channel_thanks.leaderboard_thanked_users_this_week", event.getGuild()).stream()
 					.limit(3)
 					.map(p -> String.format(format, p.getSecond(), p.getFirst().getUser().getAsMention()))
 					.collect(collector);
@@ -74,10 +60,10 @@ public class ThanksLeaderboardSubcommand extends SlashCommand.Subcommand {
 		});
 	}
 
-	private List<Pair<Member, Long>> getCounts(String query, Guild guild) {
+	private List<Pair<Member, Long>> getCounts(String queryName, Guild guild) {
 		try {
 			return DbActions.mapQuery(
-					query,
+					queryName,
 					s -> {
 					},
 					rs -> {
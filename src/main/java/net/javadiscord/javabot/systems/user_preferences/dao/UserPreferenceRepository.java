@@ -23,7 +23,7 @@ public class UserPreferenceRepository extends DatabaseRepository<UserPreference>
 	 * @param con The {@link Connection} to use.
 	 */
 	public UserPreferenceRepository(Connection con) {
-		super(con, UserPreference.class, "USER_PREFERENCES", List.of(
+		super(con, UserPreference.class, "USER_PREFERENCES", "user_preferences.insert", List.of(
 				TableProperty.of("user_id", H2Type.BIGINT, (x, y) -> x.setUserId((Long) y), UserPreference::getUserId),
 				TableProperty.of("ordinal", H2Type.INTEGER, (x, y) -> x.setPreference(Preference.values()[(Integer) y]), p -> p.getPreference().ordinal()),
 				TableProperty.of("enabled", H2Type.BOOLEAN, (x, y) -> x.setEnabled((Boolean) y), UserPreference::isEnabled)
@@ -31,10 +31,10 @@ public class UserPreferenceRepository extends DatabaseRepository<UserPreference>
 	}
 
 	public Optional<UserPreference> getById(long userId, @NotNull Preference preference) throws SQLException {
-		return querySingle("WHERE user_id = ? AND ordinal = ?", userId, preference.ordinal());
+		return querySingle("user_preferences.select_by_user_and_preference", userId, preference.ordinal());
 	}
 
 	public boolean updateState(long userId, @NotNull Preference preference, boolean enabled) throws SQLException {
-		return update("UPDATE user_preferences SET enabled = ? WHERE user_id = ? AND ordinal = ?", enabled, userId, preference.ordinal()) > 0;
+		return update("user_preferences.update_enabled", enabled, userId, preference.ordinal()) > 0;
 	}
 }
@@ -0,0 +1,141 @@
+package net.javadiscord.javabot.util;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Compresses short chat messages using raw DEFLATE with a preset dictionary of
+ * words and snippets which are common on a Java programming server. Without a
+ * dictionary, messages are too short for DEFLATE to find any repetitions; with
+ * one, even a single sentence can reference it.
+ * <p>
+ * Every encoded message starts with a variable-length header holding the length
+ * of its UTF-8 encoded text and whether it is compressed, since text which
+ * doesn't shrink is stored as-is.
+ * </p>
+ * This class is not thread-safe.
+ */
+public class ChatTextCompressor {
+	/**
+	 * The preset dictionary. DEFLATE can only reference its last 32 KiB, and
+	 * cheaper references are made to its end, so the most common snippets come last.
+	 */
+	private static final byte[] DICTIONARY = String.join(" ",
+			"implements extends interface abstract synchronized volatile transient instanceof",
+			"ArrayList HashMap LinkedList Optional Stream Collectors Scanner Integer Exception",
+			"NullPointerException IndexOutOfBoundsException ClassNotFoundException StackOverflowError",
+			"import java.util.*; import java.io.*; @Override public String toString() {",
+			"Maven Gradle Spring Boot IntelliJ Eclipse VS Code JDK JVM JavaFX Swing JDBC SQL",
+			"compile error runtime exception stack trace line method class object variable array",
+			"constructor parameter argument return type static final private protected void",
+			"https://docs.oracle.com/en/java/javase/17/docs/api/ https://stackoverflow.com/questions/",
+			"https://github.com/ https://discord.com/channels/ https://pastebin.com/ https://tenor.com/view/",
+			"does anyone know how to why is this not working can someone help me with this please",
+			"I don't know what you mean, I think you should try it, thank you thanks for the help",
+			"what do you mean? you can use it like this, have you tried that? it doesn't work because",
+			"for (int i = 0; i < n; i++) { if (x == null) { } else { } while (true) { } try { } catch (",
+			"System.out.println(\"Hello World\"); public static void main(String[] args) { new Scanner(System.in)",
+			"```java\n", "```\n", "<@", "<#", ":", "the", "and", "that", "this", "is", "it", "to", "you", "I"
+	).getBytes(StandardCharsets.UTF_8);
+
+	private final Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION, true);
+	private final Inflater inflater = new Inflater(true);
+	private byte[] buffer = new byte[4096];
+
+	/**
+	 * Encodes the given text.
+	 *
+	 * @param text The text to encode.
+	 * @return The encoded text.
+	 */
+	public byte @NotNull [] compress(@NotNull String text) {
+		byte[] raw = text.getBytes(StandardCharsets.UTF_8);
+		deflater.reset();
+		deflater.setDictionary(DICTIONARY);
+		deflater.setInput(raw);
+		deflater.finish();
+		ensureCapacity(raw.length + 64);
+		int compressedLength = 0;
+		while (!deflater.finished()) {
+			compressedLength += deflater.deflate(buffer, compressedLength, buffer.length - compressedLength);
+			if (compressedLength == buffer.length) {
+				ensureCapacity(buffer.length * 2);
+			}
+		}
+		boolean compressed = compressedLength < raw.length;
+		int header = (raw.length << 1) | (compressed ? 1 : 0);
+		byte[] encoded = new byte[headerSize(header) + (compressed ? compressedLength : raw.length)];
+		int offset = writeHeader(encoded, header);
+		System.arraycopy(compressed ? buffer : raw, 0, encoded, offset, encoded.length - offset);
+		return encoded;
+	}
+
+	/**
+	 * Decodes text which was encoded by {@link ChatTextCompressor#compress(String)}.
+	 *
+	 * @param encoded The encoded text. Its position is advanced to its limit.
+	 * @return The decoded text.
+	 */
+	public @NotNull String decompress(@NotNull ByteBuffer encoded) {
+		int header = 0;
+		int shift = 0;
+		byte b;
+		do {
+			b = encoded.get();
+			header |= (b & 0x7F) << shift;
+			shift += 7;
+		} while (b < 0);
+		int length = header >>> 1;
+		byte[] raw = new byte[length];
+		if ((header & 1) == 0) {
+			encoded.get(raw);
+			return new String(raw, StandardCharsets.UTF_8);
+		}
+		inflater.reset();
+		inflater.setDictionary(DICTIONARY);
+		inflater.setInput(encoded);
+		try {
+			int read = 0;
+			while (read < length) {
+				int n = inflater.inflate(raw, read, length - read);
+				if (n == 0 && (inflater.finished() || inflater.needsInput())) break;
+				read += n;
+			}
+			if (read != length) throw new IllegalStateException("Compressed text is truncated.");
+		} catch (DataFormatException e) {
+			throw new IllegalStateException("Compressed text is corrupted.", e);
+		}
+		encoded.position(encoded.limit());
+		return new String(raw, StandardCharsets.UTF_8);
+	}
+
+	private void ensureCapacity(int capacity) {
+		if (buffer.length < capacity) {
+			buffer = Arrays.copyOf(buffer, capacity);
+		}
+	}
+
+	private static int headerSize(int header) {
+		int size = 1;
+		while ((header >>>= 7) != 0) {
+			size++;
+		}
+		return size;
+	}
+
+	private static int writeHeader(byte[] target, int header) {
+		int offset = 0;
+		while ((header & ~0x7F) != 0) {
+			target[offset++] = (byte) ((header & 0x7F) | 0x80);
+			header >>>= 7;
+		}
+		target[offset++] = (byte) header;
+		return offset;
+	}
+}
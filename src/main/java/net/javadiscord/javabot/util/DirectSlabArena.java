@@ -0,0 +1,234 @@
+package net.javadiscord.javabot.util;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * Stores byte records outside the heap, in direct {@link ByteBuffer} slabs of
+ * a fixed size. Records are appended to the current slab; a new one is started
+ * once it is full. A slab is reused once all of its records have been freed,
+ * which suits data that is mostly freed in the order it was allocated. Records
+ * which outlive the rest of their slab are moved by {@link #compact(Consumer)},
+ * after which empty slabs are released.
+ * <p>
+ * Every record is addressed by a <code>long</code> handle, which encodes its
+ * slab, offset and length, so that callers don't need any objects per record.
+ * </p>
+ * This class is not thread-safe.
+ */
+public class DirectSlabArena {
+	/**
+	 * The amount of bits used for both the offset and the length of a record.
+	 */
+	private static final int POSITION_BITS = 22;
+	private static final long POSITION_MASK = (1L << POSITION_BITS) - 1;
+	/**
+	 * The largest possible slab size.
+	 */
+	public static final int MAX_SLAB_SIZE = (int) POSITION_MASK;
+
+	private final int slabSize;
+	/**
+	 * All slabs, indexed by the number that is encoded in handles. Released slabs are null.
+	 */
+	private final List<ByteBuffer> slabs = new ArrayList<>();
+	private final Deque<Integer> freeSlabs = new ArrayDeque<>();
+	private int[] liveBytes = new int[8];
+	private int allocatedSlabs = 0;
+	private int current = -1;
+	private int position = 0;
+	private long totalLiveBytes = 0;
+
+	/**
+	 * Creates a new, empty arena.
+	 *
+	 * @param slabSize The size of a single slab in bytes, up to {@link DirectSlabArena#MAX_SLAB_SIZE}.
+	 */
+	public DirectSlabArena(int slabSize) {
+		if (slabSize <= 0 || slabSize > MAX_SLAB_SIZE) {
+			throw new IllegalArgumentException("Slab size must be between 1 and " + MAX_SLAB_SIZE + " bytes.");
+		}
+		this.slabSize = slabSize;
+	}
+
+	/**
+	 * Copies the given record into the arena.
+	 *
+	 * @param header A prefix which is stored in front of the record.
+	 * @param record The record.
+	 * @return The record's handle.
+	 * @throws IllegalArgumentException If the record is larger than a slab.
+	 */
+	public long allocate(long header, byte @NotNull [] record) {
+		int length = Long.BYTES + record.length;
+		if (length > slabSize) {
+			throw new IllegalArgumentException("Record of " + length + " bytes does not fit into a slab.");
+		}
+		long handle = reserve(length);
+		ByteBuffer slab = slabs.get(current);
+		slab.putLong(offsetOf(handle), header);
+		slab.put(offsetOf(handle) + Long.BYTES, record);
+		return handle;
+	}
+
+	/**
+	 * Reads the header of a record.
+	 *
+	 * @param handle The record's handle.
+	 * @return The header which was stored in front of the record.
+	 */
+	public long getHeader(long handle) {
+		return slabs.get(slabOf(handle)).getLong(offsetOf(handle));
+	}
+
+	/**
+	 * Reads a record, without its header.
+	 *
+	 * @param handle The record's handle.
+	 * @return A read-only view of the record, which is only valid until it is freed.
+	 */
+	public @NotNull ByteBuffer get(long handle) {
+		int offset = offsetOf(handle) + Long.BYTES;
+		return slabs.get(slabOf(handle)).slice(offset, lengthOf(handle) - Long.BYTES).asReadOnlyBuffer();
+	}
+
+	/**
+	 * Frees a record. Its slab is reused once all of its records are freed.
+	 *
+	 * @param handle The record's handle.
+	 */
+	public void free(long handle) {
+		int slab = slabOf(handle);
+		int length = lengthOf(handle);
+		liveBytes[slab] -= length;
+		totalLiveBytes -= length;
+		if (liveBytes[slab] == 0) {
+			if (slab == current) {
+				position = 0;
+			} else {
+				freeSlabs.push(slab);
+			}
+		}
+	}
+
+	/**
+	 * Checks whether so much of the allocated memory is unused that the arena should be
+	 * {@link #compact(Consumer) compacted}. This is the case once the unused memory
+	 * exceeds the live records by more than two slabs.
+	 *
+	 * @return Whether the arena should be compacted.
+	 */
+	public boolean shouldCompact() {
+		return getAllocatedBytes() - totalLiveBytes > totalLiveBytes + 2L * slabSize;
+	}
+
+	/**
+	 * Moves the records of all slabs which are less than half full into other slabs,
+	 * and releases all empty slabs. Afterwards, at most half of every slab but the
+	 * current one is unused. As this changes the handles of the moved records, the
+	 * caller has to pass every handle it holds through the given relocation.
+	 *
+	 * @param relocateAll Applies the given relocation to every live handle, and replaces
+	 *                    each handle with the result.
+	 */
+	public void compact(@NotNull Consumer<LongUnaryOperator> relocateAll) {
+		boolean[] sparse = new boolean[slabs.size()];
+		for (int slab = 0; slab < sparse.length; slab++) {
+			sparse[slab] = slab != current && liveBytes[slab] > 0 && liveBytes[slab] < slabSize / 2;
+		}
+		relocateAll.accept(handle -> sparse[slabOf(handle)] ? move(handle) : handle);
+		for (int slab : freeSlabs) {
+			if (slabs.get(slab) != null) {
+				slabs.set(slab, null);
+				allocatedSlabs--;
+			}
+		}
+	}
+
+	/**
+	 * Gets the amount of bytes which are used by records which haven't been freed.
+	 *
+	 * @return The amount of live bytes.
+	 */
+	public long getLiveBytes() {
+		return totalLiveBytes;
+	}
+
+	/**
+	 * Gets the amount of off-heap memory which has been allocated for slabs.
+	 *
+	 * @return The amount of allocated bytes.
+	 */
+	public long getAllocatedBytes() {
+		return (long) allocatedSlabs * slabSize;
+	}
+
+	/**
+	 * Reserves space for a record of the given length, starting a new slab if the current one is full.
+	 *
+	 * @param length The record's length, including its header.
+	 * @return The record's handle.
+	 */
+	private long reserve(int length) {
+		if (current == -1 || slabSize - position < length) {
+			nextSlab();
+		}
+		long handle = ((long) current << (2 * POSITION_BITS)) | ((long) position << POSITION_BITS) | length;
+		position += length;
+		liveBytes[current] += length;
+		totalLiveBytes += length;
+		return handle;
+	}
+
+	/**
+	 * Copies a record, along with its header, into the current slab and frees the original.
+	 *
+	 * @param handle The record's handle.
+	 * @return The handle of the copy.
+	 */
+	private long move(long handle) {
+		int length = lengthOf(handle);
+		long moved = reserve(length);
+		slabs.get(current).put(offsetOf(moved), slabs.get(slabOf(handle)), offsetOf(handle), length);
+		free(handle);
+		return moved;
+	}
+
+	private void nextSlab() {
+		if (!freeSlabs.isEmpty()) {
+			current = freeSlabs.pop();
+			if (slabs.get(current) == null) {
+				slabs.set(current, ByteBuffer.allocateDirect(slabSize));
+				allocatedSlabs++;
+			}
+		} else {
+			slabs.add(ByteBuffer.allocateDirect(slabSize));
+			allocatedSlabs++;
+			current = slabs.size() - 1;
+			if (current == liveBytes.length) {
+				liveBytes = Arrays.copyOf(liveBytes, current * 2);
+			}
+		}
+		position = 0;
+	}
+
+	private static int slabOf(long handle) {
+		return (int) (handle >>> (2 * POSITION_BITS));
+	}
+
+	private static int offsetOf(long handle) {
+		return (int) ((handle >>> POSITION_BITS) & POSITION_MASK);
+	}
+
+	private static int lengthOf(long handle) {
+		return (int) (handle & POSITION_MASK);
+	}
+}
@@ -0,0 +1,134 @@
+package net.javadiscord.javabot.util;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A hashed timer wheel, which keeps a deadline for each of its keys and reports the keys whose
+ * deadline has passed. Scheduling and cancelling run in constant time, and advancing the wheel
+ * only visits the buckets of the ticks that passed, instead of every scheduled key.
+ * <p>
+ * Every key whose deadline has passed is reported by the next call to {@link #advance(long)}.
+ * Keys whose deadline is more than one rotation away simply stay in their bucket until a later
+ * rotation reaches them.
+ * </p>
+ * This class does not run any threads itself and is not thread-safe.
+ *
+ * @param <K> The type of the keys.
+ */
+public class HashedTimerWheel<K> {
+	private final long tickMillis;
+	private final List<Set<K>> buckets;
+	private final Map<K, Timer> timers = new HashMap<>();
+	private long currentTick;
+
+	/**
+	 * Creates a new, empty timer wheel.
+	 *
+	 * @param tickMillis  The duration of a single tick, in milliseconds.
+	 * @param ticks       The amount of ticks per rotation of the wheel.
+	 * @param startMillis The current time, in milliseconds.
+	 */
+	public HashedTimerWheel(long tickMillis, int ticks, long startMillis) {
+		if (tickMillis <= 0 || ticks <= 0) {
+			throw new IllegalArgumentException("Tick duration and count must be positive.");
+		}
+		this.tickMillis = tickMillis;
+		this.buckets = new ArrayList<>(ticks);
+		for (int i = 0; i < ticks; i++) {
+			buckets.add(new LinkedHashSet<>());
+		}
+		this.currentTick = Math.floorDiv(startMillis, tickMillis);
+	}
+
+	/**
+	 * Schedules the given key, replacing its previous deadline, if any.
+	 *
+	 * @param key            The key.
+	 * @param deadlineMillis The time at which the key expires, in milliseconds.
+	 */
+	public void schedule(K key, long deadlineMillis) {
+		cancel(key);
+		Timer timer = new Timer(deadlineMillis, bucketOf(deadlineMillis));
+		timers.put(key, timer);
+		buckets.get(timer.bucket()).add(key);
+	}
+
+	/**
+	 * Cancels the deadline of the given key.
+	 *
+	 * @param key The key.
+	 * @return True if the key was scheduled.
+	 */
+	public boolean cancel(K key) {
+		Timer timer = timers.remove(key);
+		if (timer == null) return false;
+		buckets.get(timer.bucket()).remove(key);
+		return true;
+	}
+
+	/**
+	 * Gets the deadline of the given key.
+	 *
+	 * @param key The key.
+	 * @return The deadline in milliseconds, or null if the key isn't scheduled.
+	 */
+	public Long getDeadline(K key) {
+		Timer timer = timers.get(key);
+		return timer == null ? null : timer.deadlineMillis();
+	}
+
+	/**
+	 * Gets the amount of scheduled keys.
+	 *
+	 * @return The amount of keys.
+	 */
+	public int size() {
+		return timers.size();
+	}
+
+	/**
+	 * Advances the wheel to the given time, and removes all keys whose deadline has passed.
+	 *
+	 * @param nowMillis The current time, in milliseconds.
+	 * @return The expired keys, in no particular order.
+	 */
+	public List<K> advance(long nowMillis) {
+		long targetTick = Math.max(Math.floorDiv(nowMillis, tickMillis), currentTick);
+		List<K> expired = new ArrayList<>();
+		// The current tick is visited again, as it may hold deadlines later in the tick.
+		// After a long pause, every bucket is visited once instead of once per passed tick.
+		long steps = Math.min(targetTick - currentTick + 1, buckets.size());
+		for (long i = 0; i < steps; i++) {
+			Iterator<K> it = buckets.get(index(currentTick + i)).iterator();
+			while (it.hasNext()) {
+				K key = it.next();
+				if (timers.get(key).deadlineMillis() <= nowMillis) {
+					it.remove();
+					timers.remove(key);
+					expired.add(key);
+				}
+			}
+		}
+		currentTick = targetTick;
+		return expired;
+	}
+
+	private int bucketOf(long deadlineMillis) {
+		// Deadlines of ticks that were already passed go into the current one, so that they aren't missed for a whole rotation.
+		long tick = Math.max(Math.floorDiv(deadlineMillis, tickMillis), currentTick);
+		return index(tick);
+	}
+
+	private int index(long tick) {
+		return (int) Math.floorMod(tick, (long) buckets.size());
+	}
+
+	private record Timer(long deadlineMillis, int bucket) {
+	}
+}
@@ -0,0 +1,311 @@
+package net.javadiscord.javabot.util;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.UnaryOperator;
+
+/**
+ * An insertion-ordered map with primitive <code>long</code> keys, similar to a
+ * {@link java.util.LinkedHashMap}, but without boxing its keys. Lookups, updates,
+ * removals and removing the oldest entry all run in constant time.
+ * <p>
+ * Entries are stored in parallel arrays and linked in insertion order, while
+ * an open-addressing hash table maps keys to their entry. Replacing the value
+ * of an existing key keeps its position.
+ * </p>
+ * This class is not thread-safe.
+ *
+ * @param <V> The type of the values.
+ */
+public class LongLinkedMap<V> {
+	private static final int NONE = -1;
+
+	private long[] keys;
+	private Object[] values;
+	private int[] prev;
+	private int[] next;
+	/**
+	 * Maps hash slots to entry indices, plus one. A zero marks an empty slot.
+	 */
+	private int[] table;
+	private int head = NONE;
+	private int tail = NONE;
+	private int freeList = NONE;
+	private int allocated = 0;
+	private int size = 0;
+
+	/**
+	 * Creates a new, empty map.
+	 *
+	 * @param expectedSize The amount of entries this map should be able to hold without resizing.
+	 */
+	public LongLinkedMap(int expectedSize) {
+		int capacity = Math.max(4, expectedSize);
+		keys = new long[capacity];
+		values = new Object[capacity];
+		prev = new int[capacity];
+		next = new int[capacity];
+		table = new int[tableSizeFor(capacity)];
+	}
+
+	/**
+	 * Gets the value for the given key.
+	 *
+	 * @param key The key.
+	 * @return The value, or null if the key isn't mapped.
+	 */
+	@SuppressWarnings("unchecked")
+	public @Nullable V get(long key) {
+		int slot = findSlot(key);
+		return slot < 0 ? null : (V) values[table[slot] - 1];
+	}
+
+	public boolean containsKey(long key) {
+		return findSlot(key) >= 0;
+	}
+
+	/**
+	 * Maps the given key to the given value. New keys are appended to the end of
+	 * the map, while existing keys keep their position.
+	 *
+	 * @param key   The key.
+	 * @param value The value.
+	 * @return The previous value, or null if the key wasn't mapped.
+	 */
+	@SuppressWarnings("unchecked")
+	public @Nullable V put(long key, @NotNull V value) {
+		int slot = findSlot(key);
+		if (slot >= 0) {
+			int entry = table[slot] - 1;
+			V previous = (V) values[entry];
+			values[entry] = value;
+			return previous;
+		}
+		insert(key, value, false);
+		return null;
+	}
+
+	/**
+	 * Maps the given key to the given value, unless the key is already mapped.
+	 * New keys are prepended to the start of the map, as if they were the oldest.
+	 *
+	 * @param key   The key.
+	 * @param value The value.
+	 * @return Whether the key was added.
+	 */
+	public boolean putFirst(long key, @NotNull V value) {
+		if (findSlot(key) >= 0) return false;
+		insert(key, value, true);
+		return true;
+	}
+
+	/**
+	 * Removes the given key.
+	 *
+	 * @param key The key.
+	 * @return The removed value, or null if the key wasn't mapped.
+	 */
+	public @Nullable V remove(long key) {
+		int slot = findSlot(key);
+		return slot < 0 ? null : removeSlot(slot);
+	}
+
+	/**
+	 * Removes the oldest entry.
+	 *
+	 * @return The removed value.
+	 * @throws NoSuchElementException If the map is empty.
+	 */
+	public @NotNull V removeOldest() {
+		if (head == NONE) throw new NoSuchElementException("Map is empty.");
+		return removeSlot(findSlot(keys[head]));
+	}
+
+	/**
+	 * Gets the oldest key.
+	 *
+	 * @return The oldest key.
+	 * @throws NoSuchElementException If the map is empty.
+	 */
+	public long oldestKey() {
+		if (head == NONE) throw new NoSuchElementException("Map is empty.");
+		return keys[head];
+	}
+
+	/**
+	 * Copies all values, oldest first.
+	 *
+	 * @return A new {@link List} containing all values.
+	 */
+	@SuppressWarnings("unchecked")
+	public @NotNull List<V> values() {
+		List<V> list = new ArrayList<>(size);
+		for (int entry = head; entry != NONE; entry = next[entry]) {
+			list.add((V) values[entry]);
+		}
+		return list;
+	}
+
+	/**
+	 * Replaces every value with the result of the given function, keeping all positions.
+	 *
+	 * @param function The function which is applied to every value, oldest first.
+	 */
+	@SuppressWarnings("unchecked")
+	public void replaceAll(@NotNull UnaryOperator<V> function) {
+		for (int entry = head; entry != NONE; entry = next[entry]) {
+			values[entry] = function.apply((V) values[entry]);
+		}
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Removes all entries.
+	 */
+	public void clear() {
+		Arrays.fill(values, null);
+		Arrays.fill(table, 0);
+		head = NONE;
+		tail = NONE;
+		freeList = NONE;
+		allocated = 0;
+		size = 0;
+	}
+
+	private void insert(long key, Object value, boolean first) {
+		if (freeList == NONE && allocated == keys.length) {
+			grow();
+		}
+		int entry;
+		if (freeList != NONE) {
+			entry = freeList;
+			freeList = next[entry];
+		} else {
+			entry = allocated++;
+		}
+		keys[entry] = key;
+		values[entry] = value;
+		if (first) {
+			prev[entry] = NONE;
+			next[entry] = head;
+			if (head == NONE) {
+				tail = entry;
+			} else {
+				prev[head] = entry;
+			}
+			head = entry;
+		} else {
+			prev[entry] = tail;
+			next[entry] = NONE;
+			if (tail == NONE) {
+				head = entry;
+			} else {
+				next[tail] = entry;
+			}
+			tail = entry;
+		}
+		int mask = table.length - 1;
+		int slot = hash(key) & mask;
+		while (table[slot] != 0) {
+			slot = (slot + 1) & mask;
+		}
+		table[slot] = entry + 1;
+		size++;
+	}
+
+	@SuppressWarnings("unchecked")
+	private V removeSlot(int slot) {
+		int entry = table[slot] - 1;
+		V value = (V) values[entry];
+		values[entry] = null;
+		if (prev[entry] == NONE) {
+			head = next[entry];
+		} else {
+			next[prev[entry]] = next[entry];
+		}
+		if (next[entry] == NONE) {
+			tail = prev[entry];
+		} else {
+			prev[next[entry]] = prev[entry];
+		}
+		next[entry] = freeList;
+		freeList = entry;
+		deleteSlot(slot);
+		size--;
+		return value;
+	}
+
+	/**
+	 * Empties the given hash slot, shifting back all following entries of the
+	 * same probe sequence, so that lookups never need tombstones.
+	 */
+	private void deleteSlot(int slot) {
+		int mask = table.length - 1;
+		int gap = slot;
+		int current = (gap + 1) & mask;
+		while (table[current] != 0) {
+			int home = hash(keys[table[current] - 1]) & mask;
+			// move the entry into the gap, unless its home slot lies cyclically within (gap, current]
+			if (((current - home) & mask) >= ((current - gap) & mask)) {
+				table[gap] = table[current];
+				gap = current;
+			}
+			current = (current + 1) & mask;
+		}
+		table[gap] = 0;
+	}
+
+	private int findSlot(long key) {
+		int mask = table.length - 1;
+		int slot = hash(key) & mask;
+		while (table[slot] != 0) {
+			if (keys[table[slot] - 1] == key) return slot;
+			slot = (slot + 1) & mask;
+		}
+		return NONE;
+	}
+
+	private void grow() {
+		int capacity = keys.length * 2;
+		keys = Arrays.copyOf(keys, capacity);
+		values = Arrays.copyOf(values, capacity);
+		prev = Arrays.copyOf(prev, capacity);
+		next = Arrays.copyOf(next, capacity);
+		table = new int[tableSizeFor(capacity)];
+		int mask = table.length - 1;
+		for (int entry = head; entry != NONE; entry = next[entry]) {
+			int slot = hash(keys[entry]) & mask;
+			while (table[slot] != 0) {
+				slot = (slot + 1) & mask;
+			}
+			table[slot] = entry + 1;
+		}
+	}
+
+	/**
+	 * Calculates the size of the hash table for the given amount of entries,
+	 * keeping its load factor at or below one half.
+	 */
+	private static int tableSizeFor(int capacity) {
+		return Integer.highestOneBit(capacity * 2 - 1) << 1;
+	}
+
+	private static int hash(long key) {
+		key ^= key >>> 33;
+		key *= 0xff51afd7ed558ccdL;
+		key ^= key >>> 33;
+		return (int) key;
+	}
+}
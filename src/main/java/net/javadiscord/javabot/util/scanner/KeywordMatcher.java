@@ -0,0 +1,116 @@
+package net.javadiscord.javabot.util.scanner;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+
+/**
+ * An Aho-Corasick automaton which finds all occurrences of a fixed set of
+ * keywords in a single pass over the input, regardless of the amount of keywords.
+ * <p>
+ * The automaton is driven one character at a time using {@link KeywordMatcher#next(int, char)},
+ * so that callers are able to do other work during the same pass.
+ * </p>
+ */
+public class KeywordMatcher {
+	/**
+	 * The state in which the automaton starts.
+	 */
+	public static final int INITIAL_STATE = 0;
+
+	private static final int[] NO_MATCHES = new int[0];
+
+	private final List<String> keywords;
+	private final List<Map<Character, Integer>> transitions = new ArrayList<>();
+	private final List<Integer> failures = new ArrayList<>();
+	private final List<int[]> matches = new ArrayList<>();
+
+	/**
+	 * Builds the automaton for the given keywords. Matching is case-sensitive.
+	 *
+	 * @param keywords The keywords to match.
+	 */
+	public KeywordMatcher(@NotNull List<String> keywords) {
+		this.keywords = List.copyOf(keywords);
+		addState();
+		for (int i = 0; i < this.keywords.size(); i++) {
+			int state = INITIAL_STATE;
+			for (char c : this.keywords.get(i).toCharArray()) {
+				Integer next = transitions.get(state).get(c);
+				if (next == null) {
+					next = addState();
+					transitions.get(state).put(c, next);
+				}
+				state = next;
+			}
+			matches.set(state, append(matches.get(state), i));
+		}
+		buildFailureLinks();
+	}
+
+	/**
+	 * Advances the automaton by a single character.
+	 *
+	 * @param state The current state.
+	 * @param c     The next character of the input.
+	 * @return The new state.
+	 */
+	public int next(int state, char c) {
+		int current = state;
+		while (true) {
+			Integer next = transitions.get(current).get(c);
+			if (next != null) return next;
+			if (current == INITIAL_STATE) return INITIAL_STATE;
+			current = failures.get(current);
+		}
+	}
+
+	/**
+	 * Gets the indices of all keywords which end in the given state.
+	 *
+	 * @param state The state.
+	 * @return The indices of the matched keywords, as passed to the constructor.
+	 */
+	public int[] getMatches(int state) {
+		return matches.get(state);
+	}
+
+	public String getKeyword(int index) {
+		return keywords.get(index);
+	}
+
+	private int addState() {
+		transitions.add(new HashMap<>(4));
+		failures.add(INITIAL_STATE);
+		matches.add(NO_MATCHES);
+		return transitions.size() - 1;
+	}
+
+	private void buildFailureLinks() {
+		Queue<Integer> queue = new ArrayDeque<>(transitions.get(INITIAL_STATE).values());
+		while (!queue.isEmpty()) {
+			int state = queue.remove();
+			for (Map.Entry<Character, Integer> entry : transitions.get(state).entrySet()) {
+				int child = entry.getValue();
+				int failure = next(failures.get(state), entry.getKey());
+				failures.set(child, failure);
+				for (int match : matches.get(failure)) {
+					matches.set(child, append(matches.get(child), match));
+				}
+				queue.add(child);
+			}
+		}
+	}
+
+	private static int @NotNull [] append(int @NotNull [] array, int value) {
+		int[] copy = new int[array.length + 1];
+		System.arraycopy(array, 0, copy, 0, array.length);
+		copy[array.length] = value;
+		return copy;
+	}
+}
@@ -0,0 +1,45 @@
+package net.javadiscord.javabot.util.scanner;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * The result of scanning a single message's content using the {@link MessageScanner}.
+ * It is shared by all listeners which handle the same message.
+ *
+ * @param content          The message's raw content.
+ * @param lowerCaseContent The message's raw content in lower case. Every character is at the same index as in the raw content.
+ * @param links            All http(s) links found in the message.
+ * @param invites          All (possibly obfuscated) Discord invites found in the message.
+ * @param gitHubLinks      All links to lines of a file on GitHub found in the message.
+ * @param messageLinks     All Discord message links found in the message.
+ * @param keywords         All of the {@link MessageScanner}'s watched keywords found in the message.
+ */
+public record MessageAnalysis(
+		String content,
+		String lowerCaseContent,
+		List<Link> links,
+		List<String> invites,
+		List<String> gitHubLinks,
+		List<String> messageLinks,
+		Set<String> keywords
+) {
+	/**
+	 * Checks whether the message contains the given keyword, ignoring case.
+	 *
+	 * @param keyword One of the {@link MessageScanner}'s watched keywords, in lower case.
+	 * @return Whether the keyword was found.
+	 */
+	public boolean containsKeyword(String keyword) {
+		return keywords.contains(keyword);
+	}
+
+	/**
+	 * A single http(s) link.
+	 *
+	 * @param url  The full url, as it was written in the message.
+	 * @param host The url's host, in lower case.
+	 */
+	public record Link(String url, String host) {
+	}
+}
@@ -0,0 +1,205 @@
+package net.javadiscord.javabot.util.scanner;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.re2j.Matcher;
+import com.google.re2j.Pattern;
+import net.dv8tion.jda.api.entities.Message;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Scans a message's content for links, invites and watched keywords in a single
+ * pass, so that every listener which handles the same message can share the result.
+ * <p>
+ * All keywords and url schemes are matched at once using a {@link KeywordMatcher},
+ * while the content is lower-cased and cleaned up during the same pass. Links are
+ * then tokenized directly, and the more specific patterns only run on links
+ * whose host matches, or if the content mentions Discord at all.
+ * </p>
+ * <p>
+ * All patterns use RE2J, which guarantees matching in linear time, so that a
+ * crafted message can't block the event thread through excessive backtracking.
+ * </p>
+ */
+public final class MessageScanner {
+	private static final List<String> URL_PREFIXES = List.of("http://", "https://");
+	/**
+	 * Keywords that listeners are interested in. These have to be in lower case.
+	 */
+	private static final List<String> WATCHED_KEYWORDS = List.of("fuck");
+	private static final KeywordMatcher MATCHER = new KeywordMatcher(Stream.concat(URL_PREFIXES.stream(), WATCHED_KEYWORDS.stream()).toList());
+	/**
+	 * Characters, besides letters and digits, that may be part of a link.
+	 */
+	private static final String URL_CHARACTERS = "-._~:/?#[]@!$&'()*+,;=%{}";
+
+	private static final Pattern INVITE_URL = Pattern.compile("discord(?:(\\.(?:me|io|gg)|sites\\.com)/.{0,4}|app\\.com.{1,4}(?:invite|oauth2).{0,5}/)\\w+");
+	private static final Pattern GITHUB_LINK_PATTERN = Pattern.compile("https:?//github\\.com/([A-Za-z0-9\\-_.]+)/([A-Za-z0-9\\-_.]+)/(?:blob|tree)/(\\S+?)/(\\S+?)(\\.\\S+)?#L(\\d+)[-~]?L?(\\d*)");
+	private static final Pattern MESSAGE_URL_PATTERN = Pattern.compile("https://((?:canary|ptb)\\.)?discord.com/channels/[0-9]+/[0-9]+/[0-9]+");
+
+	/**
+	 * Caches analyses by their message instance, which JDA shares between all
+	 * listeners of the same event.
+	 */
+	private static final Cache<Message, MessageAnalysis> CACHE = Caffeine.newBuilder()
+			.weakKeys()
+			.maximumSize(1000)
+			.build();
+
+	private MessageScanner() {
+	}
+
+	/**
+	 * Gets the analysis of the given message, scanning its content if no
+	 * other listener did so yet.
+	 *
+	 * @param message The message to analyze.
+	 * @return The {@link MessageAnalysis}.
+	 */
+	public static @NotNull MessageAnalysis analyze(@NotNull Message message) {
+		return CACHE.get(message, m -> scan(m.getContentRaw()));
+	}
+
+	/**
+	 * Scans the given content.
+	 *
+	 * @param content The content to scan.
+	 * @return The {@link MessageAnalysis}.
+	 */
+	public static @NotNull MessageAnalysis scan(@NotNull String content) {
+		int length = content.length();
+		char[] lowerCase = new char[length];
+		StringBuilder cleaned = new StringBuilder(length);
+		List<MessageAnalysis.Link> links = new ArrayList<>();
+		Set<String> keywords = new HashSet<>();
+		int state = KeywordMatcher.INITIAL_STATE;
+		int linkEnd = 0;
+		for (int i = 0; i < length; i++) {
+			char c = content.charAt(i);
+			char lc = Character.toLowerCase(c);
+			lowerCase[i] = lc;
+			if (c != ' ' && !isInvisible(c)) {
+				cleaned.append(c);
+			}
+			state = MATCHER.next(state, lc);
+			for (int match : MATCHER.getMatches(state)) {
+				String keyword = MATCHER.getKeyword(match);
+				if (match >= URL_PREFIXES.size()) {
+					keywords.add(keyword);
+					continue;
+				}
+				int start = i - keyword.length() + 1;
+				// ignore urls inside other urls
+				if (start < linkEnd) continue;
+				linkEnd = findLinkEnd(content, i + 1);
+				if (linkEnd > i + 1) {
+					String url = content.substring(start, linkEnd);
+					links.add(new MessageAnalysis.Link(url, getHost(url)));
+				}
+			}
+		}
+		return new MessageAnalysis(
+				content,
+				new String(lowerCase),
+				List.copyOf(links),
+				findInvites(cleaned.toString()),
+				findGitHubLinks(content, links),
+				findLinks(links, "discord.com", MESSAGE_URL_PATTERN),
+				Set.copyOf(keywords)
+		);
+	}
+
+	/**
+	 * Checks whether the given character is an invisible control or formatting character,
+	 * similar to the <code>\p{C}</code> regex class. Surrogates are kept, as they are
+	 * part of visible characters such as emojis.
+	 *
+	 * @param c The character to check.
+	 * @return Whether the character is invisible.
+	 */
+	private static boolean isInvisible(char c) {
+		int type = Character.getType(c);
+		return type == Character.CONTROL || type == Character.FORMAT
+				|| type == Character.PRIVATE_USE || type == Character.UNASSIGNED;
+	}
+
+	private static int findLinkEnd(@NotNull String content, int start) {
+		int end = start;
+		while (end < content.length()) {
+			char c = content.charAt(end);
+			if (!Character.isLetterOrDigit(c) && URL_CHARACTERS.indexOf(c) < 0) break;
+			end++;
+		}
+		return end;
+	}
+
+	/**
+	 * Extracts the host from a url, without relying on the url being fully valid.
+	 *
+	 * @param url The url, which has to contain a scheme.
+	 * @return The url's host, in lower case.
+	 */
+	private static @NotNull String getHost(@NotNull String url) {
+		int start = url.indexOf("://") + 3;
+		int end = start;
+		while (end < url.length() && "/?#\\".indexOf(url.charAt(end)) < 0) {
+			end++;
+		}
+		String authority = url.substring(start, end);
+		authority = authority.substring(authority.lastIndexOf('@') + 1);
+		int port = authority.lastIndexOf(':');
+		if (port >= 0 && !authority.endsWith("]")) {
+			authority = authority.substring(0, port);
+		}
+		return authority.toLowerCase(Locale.ROOT);
+	}
+
+	private static @NotNull List<String> findInvites(@NotNull String cleaned) {
+		if (!cleaned.contains("discord")) return List.of();
+		List<String> invites = new ArrayList<>();
+		Matcher matcher = INVITE_URL.matcher(cleaned);
+		int start = 0;
+		while (matcher.find(start)) {
+			invites.add(matcher.group());
+			start = matcher.start() + 1;
+		}
+		return List.copyOf(invites);
+	}
+
+	/**
+	 * Finds links to lines of a file on GitHub. These may also be written without the colon
+	 * after their scheme, in which case they aren't found as links, so the whole content is searched.
+	 *
+	 * @param content The message's raw content.
+	 * @param links   All links found in the content.
+	 * @return The GitHub links.
+	 */
+	private static @NotNull List<String> findGitHubLinks(@NotNull String content, @NotNull List<MessageAnalysis.Link> links) {
+		if (!content.contains("https//github.com/")) return findLinks(links, "github.com", GITHUB_LINK_PATTERN);
+		List<String> found = new ArrayList<>();
+		Matcher matcher = GITHUB_LINK_PATTERN.matcher(content);
+		while (matcher.find()) {
+			found.add(matcher.group());
+		}
+		return List.copyOf(found);
+	}
+
+	private static @NotNull List<String> findLinks(@NotNull List<MessageAnalysis.Link> links, @NotNull String domain, @NotNull Pattern pattern) {
+		List<String> found = new ArrayList<>();
+		for (MessageAnalysis.Link link : links) {
+			if (!link.host().equals(domain) && !link.host().endsWith("." + domain)) continue;
+			Matcher matcher = pattern.matcher(link.url());
+			if (matcher.find()) {
+				found.add(matcher.group());
+			}
+		}
+		return List.copyOf(found);
+	}
+}
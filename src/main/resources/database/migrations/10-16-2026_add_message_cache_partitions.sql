@@ -0,0 +1,2 @@
+ALTER TABLE message_cache ADD COLUMN guild_id BIGINT NOT NULL DEFAULT 0 AFTER message_id;
+ALTER TABLE message_cache ADD COLUMN channel_id BIGINT NOT NULL DEFAULT 0 AFTER guild_id;
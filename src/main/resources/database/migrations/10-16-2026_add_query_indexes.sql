@@ -0,0 +1,9 @@
+CREATE INDEX IF NOT EXISTS help_channel_thanks_helper_id_index ON help_channel_thanks (helper_id, thanked_at);
+CREATE INDEX IF NOT EXISTS help_channel_thanks_thanked_at_index ON help_channel_thanks (thanked_at);
+CREATE INDEX IF NOT EXISTS help_transaction_recipient_index ON help_transaction (recipient, created_at);
+CREATE INDEX IF NOT EXISTS qotw_question_question_number_index ON qotw_question (question_number);
+CREATE INDEX IF NOT EXISTS qotw_submissions_author_id_index ON qotw_submissions (author_id, status);
+CREATE INDEX IF NOT EXISTS qotw_submissions_question_number_index ON qotw_submissions (guild_id, question_number, author_id);
+CREATE INDEX IF NOT EXISTS warn_user_id_index ON warn (user_id, created_at);
+CREATE INDEX IF NOT EXISTS custom_tags_name_index ON custom_tags (guild_id, name);
+CREATE INDEX IF NOT EXISTS starboard_starboard_message_id_index ON starboard (starboard_message_id);
@@ -0,0 +1,17 @@
+-- name: insert
+INSERT INTO custom_tags (guild_id, created_by, name, response, reply, embed) VALUES (?, ?, ?, ?, ?, ?);
+
+-- name: update
+UPDATE custom_tags SET response = ?, reply = ?, embed = ? WHERE id = ?;
+
+-- name: delete
+DELETE FROM custom_tags WHERE id = ?;
+
+-- name: select_by_name
+SELECT * FROM custom_tags WHERE guild_id = ? AND name = ?;
+
+-- name: select_by_id
+SELECT * FROM custom_tags WHERE id = ?;
+
+-- name: select_by_guild
+SELECT * FROM custom_tags WHERE guild_id = ?;
@@ -0,0 +1,2 @@
+-- name: disk_space_used
+CALL DISK_SPACE_USED(?);
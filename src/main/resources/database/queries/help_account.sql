@@ -0,0 +1,17 @@
+-- name: insert
+INSERT INTO help_account (user_id, experience) VALUES ( ?, ? );
+
+-- name: update
+UPDATE help_account SET experience = ? WHERE user_id = ?;
+
+-- name: select_by_user
+SELECT * FROM help_account WHERE user_id = ?;
+
+-- name: count_with_experience
+SELECT COUNT(*) FROM help_account WHERE experience > 0;
+
+-- name: remove_experience
+UPDATE help_account SET experience = GREATEST(experience - LEAST(GREATEST(experience * (1 - ? / 100), ?), ?), 0);
+
+-- name: select_page
+SELECT * FROM help_account WHERE experience > 0 ORDER BY experience DESC LIMIT ? OFFSET ?;
@@ -0,0 +1,33 @@
+-- name: count_by_reservation_and_helper
+SELECT COUNT(id) FROM help_channel_thanks WHERE reservation_id = ? AND helper_id = ?;
+
+-- name: insert
+INSERT INTO help_channel_thanks (reservation_id, user_id, channel_id, helper_id) VALUES (?, ?, ?, ?);
+
+-- name: count_by_helper
+SELECT COUNT(id) FROM help_channel_thanks WHERE helper_id = ?;
+
+-- name: count_by_helper_this_week
+SELECT COUNT(id) FROM help_channel_thanks WHERE helper_id = ? AND thanked_at > DATEADD('week', -1, CURRENT_TIMESTAMP(0));
+
+-- name: leaderboard_helpers
+SELECT COUNT(id), helper_id
+FROM help_channel_thanks
+GROUP BY helper_id;
+
+-- name: leaderboard_helpers_this_week
+SELECT COUNT(id), helper_id
+FROM help_channel_thanks
+WHERE thanked_at > DATEADD('week', -1, CURRENT_TIMESTAMP(0))
+GROUP BY helper_id;
+
+-- name: leaderboard_thanked_users
+SELECT COUNT(id) AS count, user_id
+FROM help_channel_thanks
+GROUP BY user_id;
+
+-- name: leaderboard_thanked_users_this_week
+SELECT COUNT(id) AS count, user_id
+FROM help_channel_thanks
+WHERE thanked_at > DATEADD('week', -1, CURRENT_TIMESTAMP(0))
+GROUP BY user_id;
@@ -0,0 +1,8 @@
+-- name: insert
+INSERT INTO help_transaction (recipient, weight, messageType) VALUES ( ?, ?, ? );
+
+-- name: select_by_id
+SELECT * FROM help_transaction WHERE id = ?;
+
+-- name: select_latest_by_recipient
+SELECT * FROM help_transaction WHERE recipient = ? ORDER BY created_at DESC LIMIT ?;
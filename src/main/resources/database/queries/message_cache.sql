@@ -0,0 +1,17 @@
+-- name: count
+SELECT count(*) FROM message_cache;
+
+-- name: insert
+INSERT INTO message_cache (message_id, guild_id, channel_id, author_id, message_content) VALUES (?, ?, ?, ?, ?);
+
+-- name: merge
+MERGE INTO message_cache (message_id, guild_id, channel_id, author_id, message_content) VALUES (?, ?, ?, ?, ?);
+
+-- name: delete
+DELETE FROM message_cache WHERE message_id = ?;
+
+-- name: update_content
+UPDATE message_cache SET message_content = ? WHERE message_id = ?;
+
+-- name: select_newest_before
+SELECT * FROM message_cache WHERE message_id < ? ORDER BY message_id DESC LIMIT ?;
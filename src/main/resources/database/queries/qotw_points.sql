@@ -0,0 +1,14 @@
+-- name: insert
+INSERT INTO qotw_points (user_id, points) VALUES (?, ?);
+
+-- name: select_by_user
+SELECT * FROM qotw_points WHERE user_id = ?;
+
+-- name: update
+UPDATE qotw_points SET points = ? WHERE user_id = ?;
+
+-- name: select_all_by_points
+SELECT * FROM qotw_points ORDER BY points DESC;
+
+-- name: select_page
+SELECT * FROM qotw_points WHERE points > 0 ORDER BY points DESC LIMIT ? OFFSET ?;
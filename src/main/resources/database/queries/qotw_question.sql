@@ -0,0 +1,40 @@
+-- name: insert
+INSERT INTO qotw_question (guild_id, created_by, text, priority) VALUES (?, ?, ?, ?);
+
+-- name: select_by_number
+SELECT * FROM qotw_question WHERE question_number = ?;
+
+-- name: next_question_number
+SELECT question_number + 1
+FROM qotw_question
+WHERE used = TRUE AND question_number IS NOT NULL
+ORDER BY created_at DESC LIMIT 1;
+
+-- name: mark_used
+UPDATE qotw_question
+SET used = TRUE, question_number = ?
+WHERE id = ?;
+
+-- name: select_next
+SELECT *
+FROM qotw_question
+WHERE guild_id = ? AND used = FALSE
+ORDER BY priority DESC, created_at
+LIMIT 1;
+
+-- name: delete
+DELETE FROM qotw_question WHERE guild_id = ? AND id = ?;
+
+-- name: select_unused_page
+SELECT *
+FROM qotw_question
+WHERE guild_id = ? AND used = FALSE
+ORDER BY priority DESC, created_at ASC
+LIMIT ? OFFSET ?;
+
+-- name: search_used_page
+SELECT *
+FROM qotw_question
+WHERE guild_id = ? AND "TEXT" LIKE ? AND used = TRUE
+ORDER BY question_number DESC, created_at ASC
+LIMIT ? OFFSET ?;
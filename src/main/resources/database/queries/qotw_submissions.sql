@@ -0,0 +1,23 @@
+-- name: insert
+INSERT INTO qotw_submissions (thread_id, question_number, guild_id, author_id) VALUES (?, ?, ?, ?);
+
+-- name: delete
+DELETE FROM qotw_submissions WHERE thread_id = ?;
+
+-- name: update_status
+UPDATE qotw_submissions SET status = ? WHERE thread_id = ?;
+
+-- name: select_unreviewed_by_author
+SELECT * FROM qotw_submissions WHERE author_id = ? AND status = 0;
+
+-- name: select_by_thread
+SELECT * FROM qotw_submissions WHERE thread_id = ?;
+
+-- name: max_question_number
+SELECT MAX(question_number) FROM qotw_submissions;
+
+-- name: select_by_question
+SELECT * FROM qotw_submissions WHERE guild_id = ? AND question_number = ?;
+
+-- name: select_by_question_and_author
+SELECT * FROM qotw_submissions WHERE guild_id = ? AND question_number = ? AND author_id = ?;
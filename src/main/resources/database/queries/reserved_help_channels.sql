@@ -0,0 +1,14 @@
+-- name: delete_by_channel
+DELETE FROM reserved_help_channels WHERE channel_id = ?;
+
+-- name: insert
+INSERT INTO reserved_help_channels (channel_id, user_id, timeout) VALUES (?, ?, ?);
+
+-- name: select_all
+SELECT * FROM reserved_help_channels;
+
+-- name: select_by_id
+SELECT * FROM reserved_help_channels WHERE id = ?;
+
+-- name: update_timeout
+UPDATE reserved_help_channels SET timeout = ? WHERE channel_id = ?;
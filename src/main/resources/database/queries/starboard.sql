@@ -0,0 +1,15 @@
+-- name: insert
+INSERT INTO starboard (original_message_id, guild_id, channel_id, author_id, starboard_message_id) VALUES (?, ?, ?, ?, ?);
+
+-- name: delete_by_original_message
+DELETE FROM starboard
+WHERE original_message_id = ?;
+
+-- name: select_by_original_message
+SELECT * FROM starboard WHERE original_message_id = ?;
+
+-- name: select_by_starboard_message
+SELECT * FROM starboard WHERE starboard_message_id = ?;
+
+-- name: select_by_guild
+SELECT * FROM starboard WHERE guild_id = ?;
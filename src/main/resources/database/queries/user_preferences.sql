@@ -0,0 +1,8 @@
+-- name: insert
+INSERT INTO user_preferences (user_id, ordinal, enabled) VALUES (?, ?, ?);
+
+-- name: select_by_user_and_preference
+SELECT * FROM user_preferences WHERE user_id = ? AND ordinal = ?;
+
+-- name: update_enabled
+UPDATE user_preferences SET enabled = ? WHERE user_id = ? AND ordinal = ?;
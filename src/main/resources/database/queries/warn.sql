@@ -0,0 +1,19 @@
+-- name: insert
+INSERT INTO warn (user_id, warned_by, severity, severity_weight, reason) VALUES (?, ?, ?, ?, ?);
+
+-- name: select_by_id
+SELECT * FROM warn WHERE id = ?;
+
+-- name: sum_active_severity_weight
+SELECT SUM(severity_weight) FROM warn WHERE user_id = ? AND discarded = FALSE AND created_at > ?;
+
+-- name: discard_by_user
+UPDATE warn SET discarded = TRUE
+WHERE user_id = ?;
+
+-- name: discard_by_id
+UPDATE warn SET discarded = TRUE
+WHERE id = ?;
+
+-- name: select_active_by_user
+SELECT * FROM warn WHERE user_id = ? AND discarded = FALSE AND created_at > ?;
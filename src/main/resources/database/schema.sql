@@ -19,6 +19,9 @@ CREATE TABLE help_channel_thanks
 	CONSTRAINT help_channel_thanks_unique UNIQUE (reservation_id, helper_id)
 );
 
+CREATE INDEX help_channel_thanks_helper_id_index ON help_channel_thanks (helper_id, thanked_at);
+CREATE INDEX help_channel_thanks_thanked_at_index ON help_channel_thanks (thanked_at);
+
 CREATE TABLE help_account
 (
 	user_id    BIGINT PRIMARY KEY,
@@ -34,6 +37,8 @@ CREATE TABLE help_transaction
 	messagetype INT          NOT NULL DEFAULT 0
 );
 
+CREATE INDEX help_transaction_recipient_index ON help_transaction (recipient, created_at);
+
 // Question of the Week
 CREATE TABLE qotw_question
 (
@@ -47,6 +52,8 @@ CREATE TABLE qotw_question
 	priority        INTEGER       NOT NULL DEFAULT 0
 );
 
+CREATE INDEX qotw_question_question_number_index ON qotw_question (question_number);
+
 CREATE TABLE qotw_points
 (
 	user_id BIGINT PRIMARY KEY,
@@ -62,6 +69,9 @@ CREATE TABLE qotw_submissions
 	status          INTEGER NOT NULL DEFAULT 0
 );
 
+CREATE INDEX qotw_submissions_author_id_index ON qotw_submissions (author_id, status);
+CREATE INDEX qotw_submissions_question_number_index ON qotw_submissions (guild_id, question_number, author_id);
+
 // Warn
 CREATE TABLE warn
 (
@@ -75,6 +85,8 @@ CREATE TABLE warn
 	discarded       BOOL          NOT NULL DEFAULT FALSE
 );
 
+CREATE INDEX warn_user_id_index ON warn (user_id, created_at);
+
 // Custom Tags
 CREATE TABLE custom_tags
 (
@@ -87,6 +99,8 @@ CREATE TABLE custom_tags
 	embed      BOOL          NOT NULL DEFAULT TRUE
 );
 
+CREATE INDEX custom_tags_name_index ON custom_tags (guild_id, name);
+
 // Starboard
 CREATE TABLE starboard
 (
@@ -97,10 +111,14 @@ CREATE TABLE starboard
 	starboard_message_id BIGINT NOT NULL
 );
 
+CREATE INDEX starboard_starboard_message_id_index ON starboard (starboard_message_id);
+
 // Message Cache
 CREATE TABLE message_cache
 (
 	message_id      BIGINT PRIMARY KEY,
+	guild_id        BIGINT        NOT NULL DEFAULT 0,
+	channel_id      BIGINT        NOT NULL DEFAULT 0,
 	author_id       BIGINT        NOT NULL,
 	message_content VARCHAR(4000) NOT NULL
 );
@@ -0,0 +1,127 @@
+package net.javadiscord.javabot.data.h2db;
+
+import com.zaxxer.hikari.HikariDataSource;
+import net.javadiscord.javabot.data.config.SystemsConfig;
+import net.javadiscord.javabot.systems.help.dao.HelpAccountRepository;
+import net.javadiscord.javabot.systems.help.model.HelpAccount;
+import net.javadiscord.javabot.systems.moderation.warn.dao.WarnRepository;
+import net.javadiscord.javabot.systems.moderation.warn.model.Warn;
+import net.javadiscord.javabot.systems.moderation.warn.model.WarnSeverity;
+import org.h2.tools.Server;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the functionality of the {@link DbHelper} class, with the database opened
+ * in-process as well as through a TCP server.
+ */
+public class DbHelperTest {
+	@TempDir
+	Path dir;
+
+	private static SystemsConfig.HikariConfig config(String jdbcUrl) {
+		SystemsConfig.HikariConfig config = new SystemsConfig.HikariConfig();
+		config.setJdbcUrl(jdbcUrl);
+		return config;
+	}
+
+	/**
+	 * Runs some common repository calls against a newly created database.
+	 */
+	private static void testRepositories(SystemsConfig.HikariConfig config) throws IOException, SQLException {
+		assertTrue(DbHelper.shouldInitSchema(config.getJdbcUrl()));
+		try (HikariDataSource ds = DbHelper.createDataSource(config)) {
+			DbHelper.initializeSchema(ds);
+			try (Connection con = ds.getConnection()) {
+				WarnRepository warns = new WarnRepository(con);
+				Warn warn = warns.insert(new Warn(1, 2, WarnSeverity.MEDIUM, "test"));
+				assertEquals(Optional.of("test"), warns.findById(warn.getId()).map(Warn::getReason));
+				assertEquals(WarnSeverity.MEDIUM.getWeight(), warns.getTotalSeverityWeight(1, LocalDateTime.now().minusDays(1)));
+
+				HelpAccountRepository accounts = new HelpAccountRepository(con);
+				HelpAccount account = new HelpAccount();
+				account.setUserId(1);
+				account.setExperience(10);
+				accounts.insert(account);
+				assertEquals(List.of(account), accounts.getAccounts(1, 10));
+			}
+		}
+		assertFalse(DbHelper.shouldInitSchema(config.getJdbcUrl()));
+	}
+
+	/**
+	 * Tests the database opened in-process.
+	 */
+	@Test
+	public void testEmbedded() throws IOException, SQLException {
+		testRepositories(config("jdbc:h2:file:" + dir.resolve("embedded")));
+	}
+
+	/**
+	 * Tests the database accessed through the TCP server.
+	 */
+	@Test
+	public void testTcpServer() throws IOException, SQLException {
+		Server server = DbHelper.startTcpServer(0);
+		try {
+			testRepositories(config("jdbc:h2:tcp://localhost:" + server.getPort() + "/" + dir.resolve("tcp")));
+		} finally {
+			server.stop();
+		}
+	}
+
+	/**
+	 * Tests that urls which don't point to a local file are rejected.
+	 */
+	@Test
+	public void testShouldInitSchema() {
+		assertTrue(DbHelper.shouldInitSchema("jdbc:h2:mem:test"));
+		assertTrue(DbHelper.shouldInitSchema("jdbc:h2:" + dir.resolve("plain") + ";MODE=MySQL"));
+		assertThrows(IllegalArgumentException.class, () -> DbHelper.shouldInitSchema("jdbc:h2:tcp://example.com:9122/./java_bot"));
+		assertThrows(IllegalArgumentException.class, () -> DbHelper.shouldInitSchema("jdbc:postgresql://localhost/java_bot"));
+	}
+
+	/**
+	 * Tests that database files in the user's home directory are found, so that their schema isn't initialized again.
+	 */
+	@Test
+	public void testShouldInitSchemaInHomeDirectory() throws IOException {
+		String home = System.getProperty("user.home");
+		System.setProperty("user.home", dir.toString());
+		try {
+			assertTrue(DbHelper.shouldInitSchema("jdbc:h2:~/java_bot"));
+			Files.createFile(dir.resolve("java_bot.mv.db"));
+			assertFalse(DbHelper.shouldInitSchema("jdbc:h2:~/java_bot"));
+			assertFalse(DbHelper.shouldInitSchema("jdbc:h2:file:~/java_bot;MODE=MySQL"));
+			assertFalse(DbHelper.shouldInitSchema("jdbc:h2:tcp://localhost:9122/~/java_bot"));
+		} finally {
+			System.setProperty("user.home", home);
+		}
+	}
+
+	/**
+	 * Tests that the TCP server listens on the port which the bot connects to, if it does so through the server.
+	 */
+	@Test
+	public void testTcpServerPort() {
+		SystemsConfig.HikariConfig config = config("jdbc:h2:tcp://localhost:9200/./java_bot");
+		config.setTcpServerPort(9122);
+		assertEquals(9200, DbHelper.getTcpServerPort(config));
+		config.setJdbcUrl("jdbc:h2:file:./java_bot");
+		assertEquals(9122, DbHelper.getTcpServerPort(config));
+	}
+}
@@ -0,0 +1,135 @@
+package net.javadiscord.javabot.data.h2db;
+
+import com.zaxxer.hikari.HikariDataSource;
+import net.javadiscord.javabot.data.config.SystemsConfig;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs <code>EXPLAIN</code> on every query of the {@link QueryRegistry} against a seeded
+ * in-memory database, to make sure that queries use an index instead of scanning the whole table.
+ */
+public class QueryPlanTest {
+	private static final Path QUERIES = Path.of("src/main/resources/database/queries");
+
+	/**
+	 * Queries which read a whole table by design, like leaderboards, counts and the reservations
+	 * which are loaded into memory on startup, or which are run too rarely on too small tables
+	 * to be worth an index, like the QOTW queue.
+	 */
+	private static final Set<String> FULL_SCANS = Set.of(
+			"help_account.count_with_experience",
+			"help_account.remove_experience",
+			"help_account.select_page",
+			"help_channel_thanks.leaderboard_helpers",
+			"help_channel_thanks.leaderboard_thanked_users",
+			"message_cache.count",
+			"qotw_points.select_all_by_points",
+			"qotw_points.select_page",
+			"qotw_question.next_question_number",
+			"qotw_question.search_used_page",
+			"qotw_question.select_next",
+			"qotw_question.select_unused_page",
+			"qotw_submissions.max_question_number",
+			"reserved_help_channels.select_all",
+			"starboard.select_by_guild"
+	);
+
+	/**
+	 * Some rows for every table, so that the optimizer prefers indexes over scanning the table.
+	 */
+	private static final List<String> SEED = List.of(
+			"INSERT INTO reserved_help_channels (channel_id, user_id) SELECT X, X FROM SYSTEM_RANGE(1, 1000)",
+			"INSERT INTO help_channel_thanks (reservation_id, user_id, channel_id, thanked_at, helper_id) SELECT X, X, X, DATEADD('DAY', -X, CURRENT_TIMESTAMP(0)), X % 100 FROM SYSTEM_RANGE(1, 1000)",
+			"INSERT INTO help_account (user_id, experience) SELECT X, X FROM SYSTEM_RANGE(1, 1000)",
+			"INSERT INTO help_transaction (recipient, weight) SELECT X % 100, X FROM SYSTEM_RANGE(1, 1000)",
+			"INSERT INTO qotw_question (guild_id, created_by, \"TEXT\", used, question_number) SELECT 1, X, 'Question', X % 2 = 0, X FROM SYSTEM_RANGE(1, 1000)",
+			"INSERT INTO qotw_points (user_id, points) SELECT X, X FROM SYSTEM_RANGE(1, 1000)",
+			"INSERT INTO qotw_submissions (thread_id, question_number, guild_id, author_id, status) SELECT X, X % 50, X % 2, X, X % 3 FROM SYSTEM_RANGE(1, 1000)",
+			"INSERT INTO warn (user_id, warned_by, severity, severity_weight, reason) SELECT X % 100, 1, 'LOW', 20, 'Reason' FROM SYSTEM_RANGE(1, 1000)",
+			"INSERT INTO custom_tags (guild_id, created_by, name, response) SELECT X % 10, 1, 'tag' || X, 'Response' FROM SYSTEM_RANGE(1, 1000)",
+			"INSERT INTO starboard (original_message_id, guild_id, channel_id, author_id, starboard_message_id) SELECT X, X % 10, X, X, X + 1000000 FROM SYSTEM_RANGE(1, 1000)",
+			"INSERT INTO message_cache (message_id, guild_id, channel_id, author_id, message_content) SELECT X, 1, X % 10, X, 'Message' FROM SYSTEM_RANGE(1, 1000)",
+			"INSERT INTO user_preferences (user_id, ordinal) SELECT X, 0 FROM SYSTEM_RANGE(1, 1000)",
+			"ANALYZE"
+	);
+
+	/**
+	 * Queries which H2 can explain. Inserts don't read any rows, and calls can't be explained.
+	 */
+	private static final Pattern EXPLAINABLE = Pattern.compile("(?i)(SELECT|UPDATE|DELETE)\\b");
+
+	private static Map<String, String> queries() throws IOException {
+		Map<String, String> queries = new TreeMap<>();
+		try (Stream<Path> files = Files.list(QUERIES)) {
+			for (Path file : files.toList()) {
+				String group = file.getFileName().toString().replace(".sql", "");
+				QueryRegistry.parse(Files.readString(file)).forEach((name, query) -> queries.put(group + "." + name, query));
+			}
+		}
+		return queries;
+	}
+
+	private static String explain(Connection con, String query) throws SQLException {
+		try (PreparedStatement stmt = con.prepareStatement("EXPLAIN " + query)) {
+			int parameters = stmt.getParameterMetaData().getParameterCount();
+			for (int i = 1; i <= parameters; i++) {
+				stmt.setObject(i, null);
+			}
+			ResultSet rs = stmt.executeQuery();
+			StringBuilder plan = new StringBuilder();
+			while (rs.next()) {
+				plan.append(rs.getString(1));
+			}
+			return plan.toString();
+		}
+	}
+
+	/**
+	 * Tests that no query scans a whole table, unless it is expected to.
+	 */
+	@Test
+	public void testNoFullTableScans() throws IOException, SQLException {
+		SystemsConfig.HikariConfig config = new SystemsConfig.HikariConfig();
+		config.setJdbcUrl("jdbc:h2:mem:query_plans");
+		Map<String, String> queries = queries();
+		List<String> violations = new ArrayList<>();
+		try (HikariDataSource ds = DbHelper.createDataSource(config)) {
+			DbHelper.initializeSchema(ds);
+			try (Connection con = ds.getConnection()) {
+				for (String seed : SEED) {
+					try (Statement stmt = con.createStatement()) {
+						stmt.executeUpdate(seed);
+					}
+				}
+				for (Map.Entry<String, String> query : queries.entrySet()) {
+					if (!EXPLAINABLE.matcher(query.getValue()).lookingAt()) continue;
+					String plan = explain(con, query.getValue());
+					if (plan.contains("tableScan") && !FULL_SCANS.contains(query.getKey())) {
+						violations.add(query.getKey() + ": " + plan);
+					}
+				}
+			}
+		}
+		assertEquals(List.of(), violations, "Queries must not scan a whole table. Add an index or, if that is intended, list them in FULL_SCANS");
+		assertTrue(queries.keySet().containsAll(FULL_SCANS), "FULL_SCANS contains queries which don't exist");
+	}
+}
@@ -0,0 +1,117 @@
+package net.javadiscord.javabot.data.h2db;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the functionality of the {@link QueryRegistry} class, and that all queries of the bot are taken from it.
+ */
+public class QueryRegistryTest {
+	private static final Path SOURCES = Path.of("src/main/java");
+	private static final Path QUERIES = Path.of("src/main/resources/database/queries");
+
+	/**
+	 * Files which may create statements themselves, as they run whole scripts or user-provided admin commands.
+	 */
+	private static final Set<String> RAW_SQL_FILES = Set.of(
+			"QueryRegistry.java", "DbHelper.java", "ExportSchemaSubcommand.java",
+			"ExportTableSubcommand.java", "MigrateSubcommand.java", "QuickMigrateSubcommand.java"
+	);
+
+	private static final Pattern RAW_STATEMENT = Pattern.compile("\\.(prepareStatement|createStatement|prepareCall)\\(");
+	private static final Pattern QUERY_ARGUMENT = Pattern.compile(
+			"(?:QueryRegistry\\.prepare\\(\\s*\\w+,|DbActions\\.(?:mapQuery|mapQueryAsync|count|update|fetchSingleEntity)\\(|(?<![\\w>]\\s)\\b(?:querySingle|queryMultiple)\\()\\s*([^,)]*)");
+	private static final Pattern QUERY_NAME = Pattern.compile("\"(\\w+\\.\\w+)\"");
+	private static final Pattern IDENTIFIER = Pattern.compile("\\w+");
+
+	private static List<Path> sources() throws IOException {
+		try (Stream<Path> files = Files.walk(SOURCES)) {
+			return files.filter(p -> p.toString().endsWith(".java")).toList();
+		}
+	}
+
+	/**
+	 * Tests that statements are only created by the {@link QueryRegistry}.
+	 */
+	@Test
+	public void testNoRawStatements() throws IOException {
+		List<String> violations = new ArrayList<>();
+		for (Path file : sources()) {
+			if (RAW_SQL_FILES.contains(file.getFileName().toString())) continue;
+			if (RAW_STATEMENT.matcher(Files.readString(file)).find()) {
+				violations.add(file.toString());
+			}
+		}
+		assertEquals(List.of(), violations, "Statements must be prepared using the QueryRegistry");
+	}
+
+	/**
+	 * Tests that queries are always referred to by a constant name, and never built by concatenation or formatting.
+	 */
+	@Test
+	public void testQueryNamesAreConstant() throws IOException {
+		List<String> violations = new ArrayList<>();
+		int names = 0;
+		for (Path file : sources()) {
+			Matcher matcher = QUERY_ARGUMENT.matcher(Files.readString(file));
+			while (matcher.find()) {
+				String argument = matcher.group(1).strip();
+				Matcher name = QUERY_NAME.matcher(argument);
+				if (name.matches()) {
+					QueryRegistry.get(name.group(1));
+					names++;
+				} else if (!IDENTIFIER.matcher(argument).matches()) {
+					violations.add(file.getFileName() + ": " + argument);
+				}
+			}
+		}
+		assertEquals(List.of(), violations, "Query names must be string literals or plain variables");
+		assertTrue(names > 0);
+	}
+
+	/**
+	 * Tests that no query contains format placeholders, so that all values are passed as parameters.
+	 */
+	@Test
+	public void testNoFormatPlaceholders() throws IOException {
+		try (Stream<Path> files = Files.list(QUERIES)) {
+			for (Path file : files.toList()) {
+				Map<String, String> queries = QueryRegistry.parse(Files.readString(file));
+				assertFalse(queries.isEmpty(), file.toString());
+				queries.forEach((name, query) -> assertFalse(query.contains("%s") || query.contains("%d"), file.getFileName() + ": " + name));
+			}
+		}
+	}
+
+	/**
+	 * Tests that query files are split into their named queries.
+	 */
+	@Test
+	public void testParse() {
+		Map<String, String> queries = QueryRegistry.parse("""
+				-- name: first
+				SELECT *
+				FROM a WHERE id = ?;
+
+				-- name: second
+				DELETE FROM b
+				""");
+		assertEquals(Map.of("first", "SELECT *\nFROM a WHERE id = ?", "second", "DELETE FROM b"), queries);
+		assertThrows(IllegalArgumentException.class, () -> QueryRegistry.get("warn.unknown"));
+	}
+}
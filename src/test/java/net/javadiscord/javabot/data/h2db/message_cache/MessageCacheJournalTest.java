@@ -0,0 +1,141 @@
+package net.javadiscord.javabot.data.h2db.message_cache;
+
+import net.javadiscord.javabot.data.h2db.DbHelper;
+import net.javadiscord.javabot.data.h2db.message_cache.dao.MessageCacheRepository;
+import net.javadiscord.javabot.data.h2db.message_cache.model.CachedMessage;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the functionality of the {@link MessageCacheJournal} class, and writing its changes to an in-memory database.
+ */
+public class MessageCacheJournalTest {
+	private final MessageCacheJournal journal = new MessageCacheJournal();
+
+	private static CachedMessage message(long id, String content) {
+		CachedMessage message = new CachedMessage();
+		message.setMessageId(id);
+		message.setGuildId(1);
+		message.setChannelId(2);
+		message.setAuthorId(id * 10);
+		message.setMessageContent(content);
+		return message;
+	}
+
+	private static JdbcDataSource createDataSource() throws IOException, SQLException {
+		JdbcDataSource dataSource = new JdbcDataSource();
+		dataSource.setURL("jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+		DbHelper.initializeSchema(dataSource);
+		return dataSource;
+	}
+
+	private static List<String> contents(List<CachedMessage> messages) {
+		return messages.stream().map(message -> message.getMessageId() + ":" + message.getMessageContent()).toList();
+	}
+
+	/**
+	 * Tests that only the latest change of every message is kept, in the order the messages were first changed.
+	 */
+	@Test
+	public void testLatestChangePerMessage() {
+		journal.recordUpsert(message(1, "a"));
+		journal.recordUpsert(message(2, "b"));
+		journal.recordUpsert(message(1, "edited"));
+		journal.recordUpsert(message(3, "c"));
+		journal.recordDelete(2);
+		assertEquals(3, journal.size());
+
+		List<MessageCacheJournal.Change> changes = journal.drain();
+		assertEquals(List.of(1L, 2L, 3L), changes.stream().map(MessageCacheJournal.Change::messageId).toList());
+		assertEquals("edited", changes.get(0).message().getMessageContent());
+		assertTrue(changes.get(1).isDelete());
+		assertNull(changes.get(1).message());
+		assertEquals(0, journal.size());
+		assertEquals(List.of(), journal.drain());
+	}
+
+	/**
+	 * Tests that changes which could not be written are put back, unless their message changed again in the meantime.
+	 */
+	@Test
+	public void testRestore() {
+		journal.recordUpsert(message(1, "a"));
+		journal.recordUpsert(message(2, "b"));
+		List<MessageCacheJournal.Change> failed = journal.drain();
+		journal.recordDelete(2);
+		journal.recordUpsert(message(3, "c"));
+
+		journal.restore(failed);
+		List<MessageCacheJournal.Change> changes = journal.drain();
+		assertEquals(List.of(2L, 3L, 1L), changes.stream().map(MessageCacheJournal.Change::messageId).toList());
+		assertTrue(changes.get(0).isDelete());
+		assertEquals("a", changes.get(2).message().getMessageContent());
+	}
+
+	/**
+	 * Tests that the written changes are loaded again as they were recorded, and that
+	 * later changes replace or remove the written messages.
+	 */
+	@Test
+	public void testWriteAndLoad() throws IOException, SQLException {
+		JdbcDataSource dataSource = createDataSource();
+		journal.recordUpsert(message(1, "a"));
+		journal.recordUpsert(message(2, "b"));
+		journal.recordUpsert(message(3, "c"));
+		journal.recordUpsert(message(2, "edited"));
+		try (Connection con = dataSource.getConnection()) {
+			MessageCacheRepository repository = new MessageCacheRepository(con);
+			repository.applyChanges(journal.drain());
+			List<CachedMessage> loaded = repository.getNewestBefore(Long.MAX_VALUE, 10);
+			assertEquals(List.of("3:c", "2:edited", "1:a"), contents(loaded));
+			assertEquals(1, loaded.get(2).getGuildId());
+			assertEquals(2, loaded.get(2).getChannelId());
+			assertEquals(10, loaded.get(2).getAuthorId());
+
+			journal.recordDelete(3);
+			journal.recordUpsert(message(1, "edited"));
+			journal.recordDelete(4);
+			repository.applyChanges(journal.drain());
+			assertEquals(List.of("2:edited", "1:edited"), contents(repository.getNewestBefore(Long.MAX_VALUE, 10)));
+		}
+	}
+
+	/**
+	 * Tests that a batch which fails part of the way is rolled back as a whole, so that nothing but
+	 * the previously written messages is loaded, and that it can be written once it has been restored and fixed.
+	 */
+	@Test
+	public void testFailedWriteIsRolledBack() throws IOException, SQLException {
+		JdbcDataSource dataSource = createDataSource();
+		journal.recordUpsert(message(1, "a"));
+		try (Connection con = dataSource.getConnection()) {
+			MessageCacheRepository repository = new MessageCacheRepository(con);
+			repository.applyChanges(journal.drain());
+
+			journal.recordUpsert(message(2, "b"));
+			journal.recordDelete(1);
+			// the content may not be null, so the batch fails after some of its rows
+			journal.recordUpsert(message(3, null));
+			List<MessageCacheJournal.Change> failed = journal.drain();
+			assertThrows(SQLException.class, () -> repository.applyChanges(failed));
+			assertEquals(List.of("1:a"), contents(repository.getNewestBefore(Long.MAX_VALUE, 10)));
+			assertTrue(con.getAutoCommit());
+
+			journal.recordUpsert(message(3, "c"));
+			journal.restore(failed);
+			repository.applyChanges(journal.drain());
+			assertEquals(List.of("3:c", "2:b"), contents(repository.getNewestBefore(Long.MAX_VALUE, 10)));
+		}
+	}
+}
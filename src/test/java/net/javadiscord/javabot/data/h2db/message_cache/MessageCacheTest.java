@@ -0,0 +1,360 @@
+package net.javadiscord.javabot.data.h2db.message_cache;
+
+import net.javadiscord.javabot.data.config.guild.MessageCacheConfig;
+import net.javadiscord.javabot.data.h2db.message_cache.index.HeapMessageCacheIndex;
+import net.javadiscord.javabot.data.h2db.message_cache.model.CachedMessage;
+import net.javadiscord.javabot.data.h2db.message_cache.store.MessageCacheStore;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.Executor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the functionality of the {@link MessageCache} class, using a store which keeps everything in memory.
+ */
+public class MessageCacheTest {
+	private static final long GUILD = 1;
+	/**
+	 * The weight of a message without any content.
+	 */
+	private static final int EMPTY = 64;
+
+	private final MemoryStore store = new MemoryStore();
+	private final MessageCacheConfig config = new MessageCacheConfig();
+
+	private MessageCache createCache(long maxWeight) {
+		config.setMessageSynchronizationInterval(Integer.MAX_VALUE);
+		return new MessageCache(store, new HeapMessageCacheIndex(), maxWeight, 2);
+	}
+
+	/**
+	 * Creates a cache whose empty store has already been loaded, so that changes can be written right away.
+	 */
+	private MessageCache createLoadedCache(long maxWeight) {
+		MessageCache cache = createCache(maxWeight);
+		cache.warmUp(guildId -> config);
+		return cache;
+	}
+
+	private Set<Long> flushDeletes(MessageCache cache) {
+		cache.flush();
+		Set<Long> deleted = new HashSet<>();
+		for (MessageCacheJournal.Change change : store.written) {
+			if (change.isDelete()) {
+				deleted.add(change.messageId());
+			}
+		}
+		return deleted;
+	}
+
+	private static CachedMessage message(long id, long channelId, String content) {
+		CachedMessage message = new CachedMessage();
+		message.setMessageId(id);
+		message.setGuildId(GUILD);
+		message.setChannelId(channelId);
+		message.setAuthorId(id * 10);
+		message.setMessageContent(content);
+		return message;
+	}
+
+	private static MessageCachePartition.Statistics statistics(MessageCache cache, long channelId) {
+		return cache.getPartitionStatistics(GUILD).stream()
+				.filter(statistics -> statistics.channelId() == channelId)
+				.findFirst()
+				.orElse(null);
+	}
+
+	/**
+	 * Tests that a full partition only evicts its own oldest messages, both when the cache is
+	 * partitioned by channel and when it is partitioned by guild.
+	 */
+	@Test
+	public void testPartitionCapacity() {
+		config.setPartitionByChannel(true);
+		config.setMaxCachedMessagesPerChannel(2);
+		MessageCache cache = createCache(Long.MAX_VALUE);
+		cache.cache(message(1, 10, ""), config);
+		cache.cache(message(2, 11, ""), config);
+		cache.cache(message(3, 10, ""), config);
+		cache.cache(message(4, 10, ""), config);
+		assertEquals(3, cache.size());
+		assertEquals(new MessageCachePartition.Statistics(GUILD, 10, 2, 2 * EMPTY, 0, 0, 1), statistics(cache, 10));
+		assertEquals(new MessageCachePartition.Statistics(GUILD, 11, 1, EMPTY, 0, 0, 0), statistics(cache, 11));
+		assertNull(cache.remove(config, GUILD, 10, 1));
+		assertNotNull(cache.remove(config, GUILD, 10, 3));
+
+		config.setPartitionByChannel(false);
+		config.setMaxCachedMessages(2);
+		cache = createCache(Long.MAX_VALUE);
+		cache.cache(message(1, 10, ""), config);
+		cache.cache(message(2, 11, ""), config);
+		cache.cache(message(3, 12, ""), config);
+		assertEquals(2, cache.size());
+		assertEquals(new MessageCachePartition.Statistics(GUILD, 0, 2, 2 * EMPTY, 0, 0, 1), statistics(cache, 0));
+		assertNull(cache.remove(config, GUILD, 10, 1));
+	}
+
+	/**
+	 * Tests that the total weight follows every change, and that a partition is dropped once its last message is gone.
+	 */
+	@Test
+	public void testWeightAccounting() {
+		config.setPartitionByChannel(true);
+		MessageCache cache = createCache(Long.MAX_VALUE);
+		cache.cache(message(1, 10, "ab"), config);
+		cache.cache(message(2, 11, ""), config);
+		assertEquals(EMPTY + 2 + EMPTY, cache.getWeight());
+
+		CachedMessage before = cache.update(message(1, 10, "abcd"), config);
+		assertEquals("ab", before.getMessageContent());
+		assertEquals(EMPTY + 4 + EMPTY, cache.getWeight());
+		assertEquals(EMPTY + 4, statistics(cache, 10).weight());
+		assertEquals(1, statistics(cache, 10).hits());
+
+		// an edited message which wasn't cached before is cached like a new one
+		assertNull(cache.update(message(3, 11, "c"), config));
+		assertEquals(EMPTY + 4 + EMPTY + EMPTY + 1, cache.getWeight());
+		assertEquals(1, statistics(cache, 11).misses());
+
+		assertNotNull(cache.remove(config, GUILD, 10, 1));
+		assertEquals(EMPTY + EMPTY + 1, cache.getWeight());
+		assertNull(statistics(cache, 10));
+		// a missing message of a channel without cached messages doesn't create a partition
+		assertNull(cache.remove(config, GUILD, 12, 4));
+		assertNull(statistics(cache, 12));
+		assertEquals(1, cache.getPartitionStatistics(GUILD).size());
+	}
+
+	/**
+	 * Tests that an overweight cache evicts the oldest message of whichever partition is the heaviest at the time.
+	 */
+	@Test
+	public void testEvictionOrder() {
+		config.setPartitionByChannel(true);
+		MessageCache cache = createLoadedCache(5 * EMPTY + 10);
+		cache.cache(message(1, 10, "0123456789"), config);
+		cache.cache(message(2, 10, ""), config);
+		cache.cache(message(3, 11, ""), config);
+		cache.cache(message(4, 11, ""), config);
+		cache.cache(message(5, 10, ""), config);
+		assertEquals(5, cache.size());
+
+		// channel 10 weighs 3 * EMPTY + 10, channel 11 only 3 * EMPTY
+		cache.cache(message(6, 11, ""), config);
+		assertEquals(5 * EMPTY, cache.getWeight());
+		assertEquals(1, statistics(cache, 10).evictions());
+		assertNull(cache.remove(config, GUILD, 10, 1));
+
+		// now channel 11 is the heaviest
+		cache.cache(message(7, 11, ""), config);
+		assertEquals(5 * EMPTY, cache.getWeight());
+		assertEquals(1, statistics(cache, 11).evictions());
+		assertNull(cache.remove(config, GUILD, 11, 3));
+		assertNotNull(cache.remove(config, GUILD, 11, 4));
+		assertNotNull(cache.remove(config, GUILD, 10, 2));
+
+		// evicted messages are deleted from the store as well
+		assertEquals(Set.of(1L, 2L, 3L, 4L), flushDeletes(cache));
+	}
+
+	/**
+	 * Tests that messages which are cached or deleted while the cache is warmed up keep their live version,
+	 * even if their stored version is only loaded afterwards.
+	 */
+	@Test
+	public void testWarmUpKeepsLiveChanges() {
+		config.setPartitionByChannel(true);
+		MessageCache cache = createCache(Long.MAX_VALUE);
+		store.stored.addAll(List.of(message(5, 10, "stored"), message(4, 10, "stored"), message(3, 10, "stored"), message(2, 10, "stored")));
+		store.beforeSecondBatch = () -> {
+			assertTrue(cache.isWarmingUp());
+			cache.cache(message(3, 10, "live"), config);
+			assertNull(cache.remove(config, GUILD, 10, 2));
+		};
+		cache.warmUp(guildId -> guildId == GUILD ? config : null);
+		assertFalse(cache.isWarmingUp());
+		assertEquals(3, cache.size());
+
+		assertEquals("live", cache.update(message(3, 10, "edited"), config).getMessageContent());
+		assertEquals("stored", cache.update(message(5, 10, "edited"), config).getMessageContent());
+		assertNull(cache.remove(config, GUILD, 10, 2));
+		// the stored version of the deleted message is deleted as well
+		assertEquals(Set.of(2L), flushDeletes(cache));
+	}
+
+	/**
+	 * Tests that stored messages which don't fit into their partition anymore are deleted from the store,
+	 * and that messages of unknown guilds are kept in their guild's partition.
+	 */
+	@Test
+	public void testWarmUpDeletesWhatDoesntFit() {
+		config.setPartitionByChannel(true);
+		config.setMaxCachedMessagesPerChannel(2);
+		MessageCache cache = createCache(Long.MAX_VALUE);
+		CachedMessage unknownGuild = message(6, 10, "stored");
+		unknownGuild.setGuildId(GUILD + 1);
+		store.stored.addAll(List.of(unknownGuild, message(4, 10, "stored"), message(3, 10, "stored"), message(2, 10, "stored"), message(1, 10, "stored")));
+		cache.warmUp(guildId -> guildId == GUILD ? config : null);
+		assertEquals(3, cache.size());
+		assertEquals(2, statistics(cache, 10).size());
+		assertEquals(List.of(new MessageCachePartition.Statistics(GUILD + 1, 0, 1, EMPTY + 6, 0, 0, 0)), cache.getPartitionStatistics(GUILD + 1));
+		assertEquals(Set.of(1L, 2L), flushDeletes(cache));
+	}
+
+	/**
+	 * Tests that a flush waits for a synchronization which is still running, so that its older
+	 * changes can't overwrite the flushed ones.
+	 */
+	@Test
+	public void testFlushWaitsForSynchronization() throws InterruptedException {
+		config.setPartitionByChannel(true);
+		MessageCache cache = createLoadedCache(Long.MAX_VALUE);
+		List<Runnable> paused = new ArrayList<>();
+		store.executor = paused::add;
+		cache.cache(message(1, 10, "a"), config);
+		cache.synchronize();
+		assertEquals(1, paused.size());
+		assertNotNull(cache.remove(config, GUILD, 10, 1));
+		cache.cache(message(2, 10, "b"), config);
+		// a second synchronization waits for the first one
+		cache.synchronize();
+		assertEquals(1, paused.size());
+
+		Thread flush = new Thread(cache::flush);
+		flush.start();
+		flush.join(100);
+		assertTrue(flush.isAlive());
+		paused.get(0).run();
+		flush.join();
+		assertEquals(Set.of(2L), store.contents.keySet());
+		assertEquals(0, cache.getPendingChanges());
+	}
+
+	/**
+	 * Tests that no changes are written before the warm-up has loaded the store, and that
+	 * a flush which happens while the warm-up is queued waits for it.
+	 */
+	@Test
+	public void testWritesWaitForLoad() throws InterruptedException {
+		config.setPartitionByChannel(true);
+		MessageCache cache = createCache(Long.MAX_VALUE);
+		List<Runnable> paused = new ArrayList<>();
+		store.executor = paused::add;
+		cache.cache(message(1, 10, "a"), config);
+		cache.synchronize();
+		cache.flush();
+		assertTrue(paused.isEmpty());
+		assertEquals(1, cache.getPendingChanges());
+
+		cache.warmUp(guildId -> config);
+		cache.synchronize();
+		assertEquals(1, paused.size());
+		Thread flush = new Thread(cache::flush);
+		flush.start();
+		flush.join(100);
+		assertTrue(flush.isAlive());
+		paused.get(0).run();
+		flush.join();
+		assertEquals(Set.of(1L), store.contents.keySet());
+		assertEquals(0, cache.getPendingChanges());
+	}
+
+	/**
+	 * Tests that changes are put back into the journal if writing them throws any exception,
+	 * and that the next synchronization writes them.
+	 */
+	@Test
+	public void testFailedSynchronizationIsRestored() {
+		config.setPartitionByChannel(true);
+		MessageCache cache = createLoadedCache(Long.MAX_VALUE);
+		cache.cache(message(1, 10, "a"), config);
+		store.failure = new IllegalStateException("failed");
+		assertThrows(IllegalStateException.class, cache::synchronize);
+		assertEquals(1, cache.getPendingChanges());
+		assertTrue(store.contents.isEmpty());
+
+		cache.synchronize();
+		assertEquals(0, cache.getPendingChanges());
+		assertEquals("a", store.contents.get(1L).getMessageContent());
+	}
+
+	/**
+	 * A store which keeps everything in memory, and runs all asynchronous work right away unless its executor is replaced.
+	 */
+	private static class MemoryStore implements MessageCacheStore {
+		private final List<CachedMessage> stored = new ArrayList<>();
+		private final List<MessageCacheJournal.Change> written = new ArrayList<>();
+		/**
+		 * The latest written version of every message which hasn't been deleted.
+		 */
+		private final Map<Long, CachedMessage> contents = new TreeMap<>();
+		private Executor executor = Runnable::run;
+		/**
+		 * Fails the next write with this exception, unless it is null.
+		 */
+		private RuntimeException failure = null;
+		private boolean loaded = false;
+		/**
+		 * Runs once the first batch has been put into the cache, before the second one is loaded.
+		 */
+		private Runnable beforeSecondBatch = () -> {
+		};
+
+		@Override
+		public @NotNull Cursor load(int batchSize) {
+			loaded = true;
+			return new Cursor() {
+				private int position = 0;
+
+				@Override
+				public @NotNull List<CachedMessage> next() {
+					if (position == batchSize) {
+						beforeSecondBatch.run();
+					}
+					List<CachedMessage> batch = stored.subList(position, Math.min(stored.size(), position + batchSize));
+					position += batch.size();
+					return List.copyOf(batch);
+				}
+			};
+		}
+
+		@Override
+		public void write(@NotNull List<MessageCacheJournal.Change> changes) throws IOException {
+			if (!loaded) {
+				throw new IOException("The store has not been loaded.");
+			}
+			if (failure != null) {
+				RuntimeException e = failure;
+				failure = null;
+				throw e;
+			}
+			written.addAll(changes);
+			for (MessageCacheJournal.Change change : changes) {
+				if (change.isDelete()) {
+					contents.remove(change.messageId());
+				} else {
+					contents.put(change.messageId(), change.message());
+				}
+			}
+		}
+
+		@Override
+		public @NotNull Executor getExecutor() {
+			return executor;
+		}
+	}
+}
@@ -0,0 +1,86 @@
+package net.javadiscord.javabot.data.h2db.message_cache.index;
+
+import net.javadiscord.javabot.data.h2db.message_cache.model.CachedMessage;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the functionality of the {@link CompressedMessageCacheIndex} class.
+ */
+public class CompressedMessageCacheIndexTest {
+	private static CachedMessage message(long id, String content) {
+		CachedMessage message = new CachedMessage();
+		message.setMessageId(id);
+		message.setGuildId(id % 3);
+		message.setChannelId(100 + id % 5);
+		message.setAuthorId(id * 7);
+		message.setMessageContent(content);
+		return message;
+	}
+
+	/**
+	 * Compares random operations with a {@link HeapMessageCacheIndex}, using
+	 * small slabs so that they are frequently reused.
+	 */
+	@Test
+	public void testAgainstHeapIndex() {
+		CompressedMessageCacheIndex compressed = new CompressedMessageCacheIndex(4096);
+		HeapMessageCacheIndex heap = new HeapMessageCacheIndex();
+		Random random = new Random(42);
+		long nextId = 0;
+		for (int i = 0; i < 50_000; i++) {
+			long id = nextId - 1 - random.nextInt(300);
+			switch (random.nextInt(4)) {
+				case 0, 1 -> {
+					String content = "does anyone know how to fix this? " + "ü".repeat(random.nextInt(200));
+					assertEquals(heap.put(message(nextId, content)), compressed.put(message(nextId, content)));
+					nextId++;
+					while (heap.size() > 200) {
+						assertEquals(heap.removeOldest(), compressed.removeOldest());
+					}
+				}
+				case 2 -> assertEquals(heap.put(message(id, "edit " + i)), compressed.put(message(id, "edit " + i)));
+				default -> assertEquals(heap.remove(id), compressed.remove(id));
+			}
+			assertEquals(heap.size(), compressed.size());
+		}
+		for (long id = nextId - 300; id < nextId; id++) {
+			assertEquals(heap.get(id), compressed.get(id));
+		}
+		assertTrue(compressed.getOffHeapBytes() < 64 * 4096);
+	}
+
+	/**
+	 * Tests that slabs which are kept mostly empty by a few long-lived messages are compacted
+	 * and released, without changing the cached messages or their order.
+	 */
+	@Test
+	public void testCompaction() {
+		int slabSize = 4096;
+		CompressedMessageCacheIndex compressed = new CompressedMessageCacheIndex(slabSize);
+		HeapMessageCacheIndex heap = new HeapMessageCacheIndex();
+		for (long id = 0; id < 20_000; id++) {
+			String content = "message " + id + " " + "x".repeat((int) (id % 80));
+			heap.put(message(id, content));
+			compressed.put(message(id, content));
+		}
+		long allocated = compressed.getOffHeapBytes();
+		for (long id = 0; id < 20_000; id++) {
+			if (id % 100 != 0) {
+				assertEquals(heap.remove(id), compressed.remove(id));
+			}
+		}
+		assertTrue(compressed.getOffHeapBytes() < allocated / 10);
+		assertTrue(compressed.getOffHeapBytes() <= 2 * compressed.getUsedBytes() + 2L * slabSize);
+		for (long id = 0; id < 20_000; id += 100) {
+			assertEquals(heap.get(id), compressed.get(id));
+		}
+		while (!heap.isEmpty()) {
+			assertEquals(heap.removeOldest(), compressed.removeOldest());
+		}
+	}
+}
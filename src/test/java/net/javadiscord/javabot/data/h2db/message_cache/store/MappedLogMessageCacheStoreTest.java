@@ -0,0 +1,118 @@
+package net.javadiscord.javabot.data.h2db.message_cache.store;
+
+import net.javadiscord.javabot.data.h2db.message_cache.MessageCacheJournal;
+import net.javadiscord.javabot.data.h2db.message_cache.model.CachedMessage;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the functionality of the {@link MappedLogMessageCacheStore} class.
+ */
+public class MappedLogMessageCacheStoreTest {
+	@TempDir
+	Path dir;
+
+	private static CachedMessage message(long id, String content) {
+		CachedMessage message = new CachedMessage();
+		message.setMessageId(id);
+		message.setGuildId(id % 3);
+		message.setChannelId(100 + id % 5);
+		message.setAuthorId(id * 10);
+		message.setMessageContent(content);
+		return message;
+	}
+
+	private static void write(MappedLogMessageCacheStore store, CachedMessage... messages) throws IOException {
+		MessageCacheJournal journal = new MessageCacheJournal();
+		for (CachedMessage message : messages) {
+			journal.recordUpsert(message);
+		}
+		store.write(journal.drain());
+	}
+
+	private static List<CachedMessage> load(MappedLogMessageCacheStore store) throws IOException {
+		List<CachedMessage> messages = new ArrayList<>();
+		MessageCacheStore.Cursor cursor = store.load(2);
+		for (List<CachedMessage> batch = cursor.next(); !batch.isEmpty(); batch = cursor.next()) {
+			messages.addAll(batch);
+		}
+		return messages;
+	}
+
+	/**
+	 * Tests that edits and deletions survive reopening the store, and that messages are loaded newest first.
+	 */
+	@Test
+	public void testReplay() throws IOException {
+		MappedLogMessageCacheStore store = new MappedLogMessageCacheStore(dir, 1024, 0.5);
+		assertEquals(List.of(), load(store));
+		write(store, message(1, "a"), message(2, "b"), message(3, "c"));
+		MessageCacheJournal journal = new MessageCacheJournal();
+		journal.recordDelete(2);
+		journal.recordUpsert(message(1, "ä"));
+		store.write(journal.drain());
+		store.close();
+
+		List<CachedMessage> loaded = load(new MappedLogMessageCacheStore(dir, 1024, 0.5));
+		assertEquals(List.of(message(3, "c"), message(1, "ä")), loaded);
+	}
+
+	/**
+	 * Tests that a partially written record is discarded on startup, and that new records can be appended afterwards.
+	 */
+	@Test
+	public void testTornRecord() throws IOException {
+		MappedLogMessageCacheStore store = new MappedLogMessageCacheStore(dir, 1024, 0.5);
+		load(store);
+		write(store, message(1, "a"));
+		write(store, message(2, "torn"));
+		store.close();
+		try (Stream<Path> files = Files.list(dir);
+			FileChannel channel = FileChannel.open(files.findFirst().orElseThrow(), StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+			MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, channel.size());
+			int second = LogSegment.HEADER_SIZE + buffer.getInt(0);
+			// corrupt the last byte of the second record's content
+			int last = second + LogSegment.HEADER_SIZE + buffer.getInt(second) - 1;
+			buffer.put(last, (byte) (buffer.get(last) ^ 1));
+			buffer.force();
+		}
+
+		store = new MappedLogMessageCacheStore(dir, 1024, 0.5);
+		assertEquals(List.of(message(1, "a")), load(store));
+		write(store, message(3, "c"));
+		store.close();
+		assertEquals(List.of(message(3, "c"), message(1, "a")), load(new MappedLogMessageCacheStore(dir, 1024, 0.5)));
+	}
+
+	/**
+	 * Tests that outdated records are eventually compacted, without losing any messages.
+	 */
+	@Test
+	public void testCompaction() throws IOException {
+		MappedLogMessageCacheStore store = new MappedLogMessageCacheStore(dir, 256, 0.5);
+		load(store);
+		for (int i = 0; i < 100; i++) {
+			write(store, message(1, "edit " + i), message(2, "edit " + i));
+		}
+		assertTrue(store.getSegmentCount() <= 2);
+		assertTrue(store.getGarbageBytes() < 256);
+		store.close();
+		try (Stream<Path> files = Files.list(dir)) {
+			assertTrue(files.count() <= 2);
+		}
+		assertEquals(List.of(message(2, "edit 99"), message(1, "edit 99")), load(new MappedLogMessageCacheStore(dir, 256, 0.5)));
+	}
+}
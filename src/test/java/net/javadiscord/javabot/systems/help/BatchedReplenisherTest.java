@@ -0,0 +1,107 @@
+package net.javadiscord.javabot.systems.help;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the functionality of the {@link BatchedReplenisher} class.
+ */
+public class BatchedReplenisherTest {
+	private final Queue<BatchedReplenisher.Batch> batches = new ArrayDeque<>();
+	private final List<Runnable> paused = new ArrayList<>();
+	private final AtomicInteger requestedBatches = new AtomicInteger();
+	private final BatchedReplenisher replenisher = new BatchedReplenisher(
+			() -> {
+				requestedBatches.incrementAndGet();
+				BatchedReplenisher.Batch batch = batches.poll();
+				return batch == null ? BatchedReplenisher.Batch.EMPTY : batch;
+			},
+			Runnable::run,
+			paused::add
+	);
+
+	private void runPaused() {
+		List<Runnable> tasks = List.copyOf(paused);
+		paused.clear();
+		tasks.forEach(Runnable::run);
+	}
+
+	/**
+	 * Tests that failing and throwing actions are counted, don't stop the rest of the batch,
+	 * and that replenishing stops and can be started again once there are no more batches.
+	 */
+	@Test
+	public void testFailuresDontStopReplenishing() {
+		List<Supplier<CompletableFuture<?>>> actions = List.of(
+				() -> CompletableFuture.completedFuture("created"),
+				() -> CompletableFuture.failedFuture(new IllegalStateException("rejected")),
+				() -> {
+					throw new IllegalArgumentException("missing permission");
+				},
+				() -> CompletableFuture.completedFuture("created")
+		);
+		batches.add(new BatchedReplenisher.Batch(actions, 0));
+
+		replenisher.replenish();
+		assertEquals(2, replenisher.getSucceeded());
+		assertEquals(2, replenisher.getFailures());
+		// Waiting for the pause before checking whether another batch is needed.
+		assertTrue(replenisher.isRunning());
+		assertEquals(1, paused.size());
+
+		runPaused();
+		assertFalse(replenisher.isRunning());
+		assertTrue(paused.isEmpty());
+
+		replenisher.replenish();
+		assertEquals(3, requestedBatches.get());
+		assertFalse(replenisher.isRunning());
+	}
+
+	/**
+	 * Tests that actions are run one after another, and that only one batch runs at a time.
+	 */
+	@Test
+	public void testOneBatchAtATime() {
+		CompletableFuture<String> first = new CompletableFuture<>();
+		AtomicInteger created = new AtomicInteger();
+		batches.add(new BatchedReplenisher.Batch(List.of(
+				() -> {
+					created.incrementAndGet();
+					return first;
+				},
+				() -> {
+					created.incrementAndGet();
+					return CompletableFuture.completedFuture("created");
+				}
+		), 1));
+		batches.add(new BatchedReplenisher.Batch(List.of(() -> CompletableFuture.completedFuture("created")), 0));
+
+		replenisher.replenish();
+		replenisher.replenish();
+		assertEquals(1, requestedBatches.get());
+		assertEquals(1, created.get());
+
+		first.complete("created");
+		assertEquals(2, created.get());
+		assertEquals(2, replenisher.getSucceeded());
+
+		runPaused();
+		assertEquals(3, replenisher.getSucceeded());
+		assertTrue(replenisher.isRunning());
+		runPaused();
+		assertFalse(replenisher.isRunning());
+		assertEquals(0, replenisher.getFailures());
+	}
+}
@@ -0,0 +1,81 @@
+package net.javadiscord.javabot.systems.help;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the functionality of the {@link HelpChannelParticipants} class.
+ */
+public class HelpChannelParticipantsTest {
+	private static final long RESERVATION = 1;
+	private static final Instant START = Instant.parse("2022-06-01T12:00:00Z");
+
+	/**
+	 * Removes the index which a test may have left behind.
+	 */
+	@AfterEach
+	public void release() {
+		HelpChannelParticipants.release(RESERVATION);
+	}
+
+	/**
+	 * Tests that every user's messages are counted, and that the most recent one is kept even
+	 * if the messages are added out of order.
+	 */
+	@Test
+	public void testMerge() {
+		HelpChannelParticipants participants = new HelpChannelParticipants();
+		participants.add(2, START.plusSeconds(10));
+		participants.add(3, START.plusSeconds(20));
+		participants.add(2, START.plusSeconds(30));
+		participants.add(2, START);
+		List<HelpChannelParticipants.Participant> sorted = participants.getParticipants().stream()
+				.sorted(Comparator.comparingLong(HelpChannelParticipants.Participant::userId))
+				.toList();
+		assertEquals(List.of(
+				new HelpChannelParticipants.Participant(2, 3, START.plusSeconds(30)),
+				new HelpChannelParticipants.Participant(3, 1, START.plusSeconds(20))
+		), sorted);
+	}
+
+	/**
+	 * Tests that an index can be found once it's started, until it's released, and that starting
+	 * an index replaces the previous one.
+	 */
+	@Test
+	public void testStartGetRelease() {
+		assertTrue(HelpChannelParticipants.get(RESERVATION).isEmpty());
+		HelpChannelParticipants first = HelpChannelParticipants.start(RESERVATION);
+		first.add(2, START);
+		assertEquals(Optional.of(first), HelpChannelParticipants.get(RESERVATION));
+
+		HelpChannelParticipants second = HelpChannelParticipants.start(RESERVATION);
+		assertEquals(Optional.of(second), HelpChannelParticipants.get(RESERVATION));
+		assertEquals(List.of(), second.getParticipants());
+
+		HelpChannelParticipants.release(RESERVATION);
+		assertTrue(HelpChannelParticipants.get(RESERVATION).isEmpty());
+	}
+
+	/**
+	 * Tests that an index built from the channel's history is kept, unless one was started in the meantime.
+	 */
+	@Test
+	public void testRegister() {
+		HelpChannelParticipants crawled = new HelpChannelParticipants();
+		assertSame(crawled, HelpChannelParticipants.register(RESERVATION, crawled));
+		assertEquals(Optional.of(crawled), HelpChannelParticipants.get(RESERVATION));
+
+		HelpChannelParticipants live = HelpChannelParticipants.start(RESERVATION);
+		assertSame(live, HelpChannelParticipants.register(RESERVATION, new HelpChannelParticipants()));
+	}
+}
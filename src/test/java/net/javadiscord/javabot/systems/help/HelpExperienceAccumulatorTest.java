@@ -0,0 +1,71 @@
+package net.javadiscord.javabot.systems.help;
+
+import net.javadiscord.javabot.data.config.guild.HelpConfig;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the functionality of the {@link HelpExperienceAccumulator} class.
+ */
+public class HelpExperienceAccumulatorTest {
+	private static final long OWNER = 1;
+
+	/**
+	 * Tests that helpers earn experience for their own messages only, and that the owner and short messages are ignored.
+	 */
+	@Test
+	public void testExperiencePerAuthor() {
+		HelpConfig config = new HelpConfig();
+		HelpExperienceAccumulator accumulator = new HelpExperienceAccumulator(OWNER, config);
+		String message = "x".repeat(32);
+		accumulator.add(OWNER, message);
+		accumulator.add(2, message);
+		accumulator.add(2, message);
+		accumulator.add(3, message);
+		accumulator.add(4, "too short");
+		double xp = config.getBaseExperience() + config.getPerCharacterExperience() * (Math.log(32) / Math.log(2));
+		assertEquals(Map.of(2L, 2 * xp, 3L, xp), accumulator.getExperience());
+	}
+
+	/**
+	 * Tests that the experience is capped while messages are added concurrently, without losing the
+	 * messages of helpers who stay below the cap.
+	 */
+	@Test
+	public void testCapConcurrently() throws InterruptedException {
+		HelpConfig config = new HelpConfig();
+		double xp = config.getBaseExperience() + config.getPerCharacterExperience() * (Math.log(16) / Math.log(2));
+		// reached after a small share of the first helper's messages, but never by the second helper
+		config.setMaxExperiencePerChannel(1000);
+		HelpExperienceAccumulator accumulator = new HelpExperienceAccumulator(OWNER, config);
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		CountDownLatch done = new CountDownLatch(4);
+		for (int t = 0; t < 4; t++) {
+			executor.execute(() -> {
+				for (int i = 0; i < 10_000; i++) {
+					accumulator.add(2, "x".repeat(16));
+					if (i < 25) {
+						accumulator.add(3, "x".repeat(16));
+					}
+				}
+				done.countDown();
+			});
+		}
+		assertTrue(done.await(10, TimeUnit.SECONDS));
+		executor.shutdown();
+		assertTrue(100 * xp < config.getMaxExperiencePerChannel());
+		assertEquals(1000, accumulator.getExperience().get(2L), 0);
+		assertEquals(100 * xp, accumulator.getExperience().get(3L), 1e-9);
+
+		config.setMaxExperiencePerChannel(50);
+		assertEquals(Map.of(2L, 50.0, 3L, 50.0), accumulator.getExperience());
+	}
+}
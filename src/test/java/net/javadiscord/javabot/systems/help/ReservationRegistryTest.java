@@ -0,0 +1,137 @@
+package net.javadiscord.javabot.systems.help;
+
+import net.javadiscord.javabot.data.h2db.DbHelper;
+import net.javadiscord.javabot.systems.help.model.ChannelReservation;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the functionality of the {@link ReservationRegistry} class against an in-memory database.
+ */
+public class ReservationRegistryTest {
+	/**
+	 * Channels with an id below this belong to the registry's guild.
+	 */
+	private static final long GUILD_CHANNELS = 100;
+
+	private JdbcDataSource dataSource;
+	private ReservationRegistry registry;
+
+	/**
+	 * Creates a new database and an empty registry.
+	 */
+	@BeforeEach
+	public void setup() throws IOException, SQLException {
+		dataSource = new JdbcDataSource();
+		dataSource.setURL("jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+		DbHelper.initializeSchema(dataSource);
+		registry = new ReservationRegistry("Test", dataSource, id -> id < GUILD_CHANNELS);
+	}
+
+	private void execute(String sql) throws SQLException {
+		try (Connection con = dataSource.getConnection(); Statement stmt = con.createStatement()) {
+			stmt.executeUpdate(sql);
+		}
+	}
+
+	/**
+	 * Tests that reserving, changing the timeout and unreserving are applied to all lookups.
+	 */
+	@Test
+	public void testReserveAndUnreserve() throws SQLException {
+		ChannelReservation first = registry.reserve(1, 10, 60);
+		registry.reserve(2, 10, 60);
+		registry.reserve(3, 11, 60);
+		assertEquals(Optional.of(first), registry.getByChannel(1));
+		assertEquals(Optional.of(first), registry.getById(first.getId()));
+		assertEquals(Set.of(1L, 2L), registry.getChannelsByUser(10));
+		assertEquals(2, registry.countByUser(10));
+
+		registry.setTimeout(1, 120);
+		assertEquals(120, registry.getByChannel(1).orElseThrow().getTimeout());
+		assertEquals(120, registry.getById(first.getId()).orElseThrow().getTimeout());
+
+		registry.unreserve(1);
+		assertTrue(registry.getByChannel(1).isEmpty());
+		assertTrue(registry.getById(first.getId()).isEmpty());
+		assertEquals(1, registry.countByUser(10));
+
+		// Reserving a channel again replaces its previous reservation.
+		registry.reserve(2, 11, 60);
+		assertEquals(0, registry.countByUser(10));
+		assertEquals(Set.of(2L, 3L), registry.getChannelsByUser(11));
+
+		// Everything was written to the database as well.
+		ReservationRegistry loaded = new ReservationRegistry("Test", dataSource, id -> id < GUILD_CHANNELS);
+		loaded.reconcile();
+		assertEquals(registry.getByChannel(2), loaded.getByChannel(2));
+		assertEquals(Set.of(2L, 3L), loaded.getChannelsByUser(11));
+		assertEquals(0, loaded.countByUser(10));
+	}
+
+	/**
+	 * Tests that reconciling drops reservations which were removed from the database, adds the new ones
+	 * and ignores those of other guilds.
+	 */
+	@Test
+	public void testReconcile() throws SQLException {
+		registry.reserve(1, 10, 60);
+		registry.reserve(2, 10, 60);
+		execute("DELETE FROM reserved_help_channels WHERE channel_id = 1");
+		execute("INSERT INTO reserved_help_channels (channel_id, user_id, timeout) VALUES (3, 12, 30)");
+		execute("INSERT INTO reserved_help_channels (channel_id, user_id) VALUES (" + (GUILD_CHANNELS + 1) + ", 12)");
+		execute("UPDATE reserved_help_channels SET timeout = 90 WHERE channel_id = 2");
+
+		registry.reconcile();
+		assertTrue(registry.getByChannel(1).isEmpty());
+		assertEquals(Set.of(2L), registry.getChannelsByUser(10));
+		assertEquals(90, registry.getByChannel(2).orElseThrow().getTimeout());
+		assertEquals(30, registry.getByChannel(3).orElseThrow().getTimeout());
+		assertEquals(Set.of(3L), registry.getChannelsByUser(12));
+		assertTrue(registry.getByChannel(GUILD_CHANNELS + 1).isEmpty());
+	}
+
+	/**
+	 * Tests that a reservation can always be looked up while its timeout is changed.
+	 */
+	@Test
+	public void testLookupsWhileChangingTimeout() throws SQLException, InterruptedException {
+		ChannelReservation reservation = registry.reserve(1, 10, 60);
+		AtomicBoolean done = new AtomicBoolean();
+		AtomicInteger misses = new AtomicInteger();
+		Thread lookups = new Thread(() -> {
+			while (!done.get()) {
+				if (registry.getByChannel(1).isEmpty() || registry.getById(reservation.getId()).isEmpty()
+						|| !registry.getChannelsByUser(10).contains(1L)) {
+					misses.incrementAndGet();
+				}
+			}
+		});
+		lookups.start();
+		try {
+			for (int i = 0; i < 500; i++) {
+				registry.setTimeout(1, 60 + i);
+			}
+		} finally {
+			done.set(true);
+			lookups.join();
+		}
+		assertEquals(0, misses.get());
+		assertEquals(559, registry.getById(reservation.getId()).orElseThrow().getTimeout());
+		assertEquals(Set.of(1L), registry.getChannelsByUser(10));
+	}
+}
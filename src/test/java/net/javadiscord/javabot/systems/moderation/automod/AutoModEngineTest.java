@@ -0,0 +1,107 @@
+package net.javadiscord.javabot.systems.moderation.automod;
+
+import net.javadiscord.javabot.data.config.GuildConfig;
+import net.javadiscord.javabot.data.config.guild.ModerationConfig;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests the functionality of the {@link AutoModEngine} class.
+ */
+public class AutoModEngineTest {
+	private final AutoModEngine engine = new AutoModEngine(List.of(
+			new TestRule("c", 30),
+			new TestRule("a", 10),
+			new TestRule("b", 20)
+	));
+
+	private static List<String> names(List<AutoModRule> rules) {
+		return rules.stream().map(AutoModRule::getName).toList();
+	}
+
+	/**
+	 * Tests that rules are run cheapest first by default.
+	 */
+	@Test
+	public void testDefaultOrder() {
+		assertEquals(List.of("a", "b", "c"), names(engine.getRules(new ModerationConfig())));
+	}
+
+	/**
+	 * Tests that configured rules are run first, and that disabled or unknown rules are skipped.
+	 */
+	@Test
+	public void testConfiguredOrder() {
+		ModerationConfig config = new ModerationConfig();
+		config.setAutomodRuleOrder(List.of("c", "unknown", "b"));
+		assertEquals(List.of("c", "b", "a"), names(engine.getRules(config)));
+		config.setAutomodDisabledRules(List.of("b"));
+		assertEquals(List.of("c", "a"), names(engine.getRules(config)));
+	}
+
+	/**
+	 * Tests that rule names must be unique.
+	 */
+	@Test
+	public void testDuplicateNames() {
+		assertThrows(IllegalArgumentException.class, () -> new AutoModEngine(List.of(new TestRule("a", 1), new TestRule("a", 2))));
+	}
+
+	/**
+	 * Tests that content rules still delete a message once a terminal spam rule timed out its author,
+	 * and that the remaining spam rules are skipped.
+	 */
+	@Test
+	public void testContentRulesRunAfterTerminalRule() {
+		List<String> applied = new ArrayList<>();
+		AutoModEngine engine = new AutoModEngine(List.of(
+				new TestRule("message-rate", 20, true, false, true, applied),
+				new TestRule("advertising", 30, true, true, true, applied),
+				new TestRule("suspicious-links", 40, true, true, false, applied),
+				new TestRule("duplicate-messages", 50, true, false, true, applied)
+		));
+		// The test rules don't look at the message.
+		engine.run(new AutoModContext(null, null, new GuildConfig(null, null), false, null));
+		assertEquals(List.of("message-rate", "advertising", "suspicious-links"), applied);
+		assertEquals(1, engine.getStatistics("advertising").getHits());
+		assertEquals(0, engine.getStatistics("duplicate-messages").getExecutions());
+	}
+
+	private record TestRule(String name, int cost, boolean terminal, boolean content, boolean hit, List<String> applied) implements AutoModRule {
+		TestRule(String name, int cost) {
+			this(name, cost, false, false, false, new ArrayList<>());
+		}
+
+		@Override
+		public @NotNull String getName() {
+			return name;
+		}
+
+		@Override
+		public int getCost() {
+			return cost;
+		}
+
+		@Override
+		public boolean isTerminal() {
+			return terminal;
+		}
+
+		@Override
+		public boolean isContentRule() {
+			return content;
+		}
+
+		@Override
+		public boolean apply(@NotNull AutoModContext context) {
+			applied.add(name);
+			return hit;
+		}
+	}
+}
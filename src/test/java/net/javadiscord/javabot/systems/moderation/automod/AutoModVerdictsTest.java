@@ -0,0 +1,104 @@
+package net.javadiscord.javabot.systems.moderation.automod;
+
+import net.javadiscord.javabot.util.scanner.MessageAnalysis;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests the functionality of the {@link AutoModVerdicts} class, using a local {@link FileDomainListSource}.
+ */
+public class AutoModVerdictsTest {
+	private static final OffsetDateTime EDITED = OffsetDateTime.of(2022, 1, 1, 12, 0, 0, 0, ZoneOffset.UTC);
+
+	@TempDir
+	Path dir;
+	private AutoModVerdicts verdicts;
+
+	/**
+	 * Creates a verdict cache which checks links against a single scam domain.
+	 *
+	 * @throws IOException If the domain list cannot be written.
+	 */
+	@BeforeEach
+	public void setup() throws IOException {
+		Path source = dir.resolve("links.txt");
+		Files.write(source, List.of("scam.link"));
+		ScamDomainList spamUrls = new ScamDomainList(new FileDomainListSource(source), dir.resolve("snapshot.txt"));
+		spamUrls.refresh();
+		verdicts = new AutoModVerdicts(spamUrls);
+	}
+
+	private static MessageAnalysis analysis(List<String> hosts, List<String> invites) {
+		List<MessageAnalysis.Link> links = hosts.stream()
+				.map(host -> new MessageAnalysis.Link("https://" + host + "/", host))
+				.toList();
+		return new MessageAnalysis("", "", links, invites, List.of(), List.of(), Set.of());
+	}
+
+	/**
+	 * Tests that invites are advertising unless they're excluded, and that links are only suspicious
+	 * if they point to a listed domain or one of its subdomains.
+	 */
+	@Test
+	public void testEvaluate() {
+		assertEquals(new AutoModVerdicts.Verdict(false, false), verdicts.evaluate(analysis(List.of(), List.of()), List.of()));
+		assertEquals(new AutoModVerdicts.Verdict(true, false), verdicts.evaluate(analysis(List.of(), List.of("discord.gg/abc")), List.of()));
+		assertEquals(new AutoModVerdicts.Verdict(false, false), verdicts.evaluate(analysis(List.of(), List.of("discord.gg/java")), List.of("java")));
+		assertEquals(new AutoModVerdicts.Verdict(true, false), verdicts.evaluate(analysis(List.of(), List.of("discord.gg/java", "discord.gg/abc")), List.of("java")));
+		assertEquals(new AutoModVerdicts.Verdict(false, true), verdicts.evaluate(analysis(List.of("example.com", "login.scam.link"), List.of()), List.of()));
+		assertEquals(new AutoModVerdicts.Verdict(false, false), verdicts.evaluate(analysis(List.of("notscam.link"), List.of()), List.of()));
+	}
+
+	/**
+	 * Tests that a message is only evaluated once per version, and that every lookup is counted.
+	 */
+	@Test
+	public void testCachePerVersion() {
+		AtomicInteger evaluations = new AtomicInteger();
+		AutoModVerdicts.Verdict clean = new AutoModVerdicts.Verdict(false, false);
+		AutoModVerdicts.Verdict suspicious = new AutoModVerdicts.Verdict(false, true);
+
+		assertEquals(clean, verdicts.get(1, null, () -> {
+			evaluations.incrementAndGet();
+			return clean;
+		}));
+		// every other listener handling the same message reuses the first verdict
+		assertEquals(clean, verdicts.get(1, null, () -> {
+			evaluations.incrementAndGet();
+			return suspicious;
+		}));
+		assertEquals(1, evaluations.get());
+
+		// an edited message is evaluated again
+		assertEquals(suspicious, verdicts.get(1, EDITED, () -> {
+			evaluations.incrementAndGet();
+			return suspicious;
+		}));
+		assertEquals(suspicious, verdicts.get(1, EDITED.withOffsetSameInstant(ZoneOffset.ofHours(2)), () -> {
+			evaluations.incrementAndGet();
+			return clean;
+		}));
+		// as is a different message
+		assertEquals(clean, verdicts.get(2, EDITED, () -> {
+			evaluations.incrementAndGet();
+			return clean;
+		}));
+		assertEquals(3, evaluations.get());
+
+		assertEquals(2, verdicts.getStats().hitCount());
+		assertEquals(3, verdicts.getStats().missCount());
+		assertEquals(0.4, verdicts.getStats().hitRate(), 1e-9);
+	}
+}
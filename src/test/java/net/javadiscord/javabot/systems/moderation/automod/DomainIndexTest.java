@@ -0,0 +1,60 @@
+package net.javadiscord.javabot.systems.moderation.automod;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the functionality of the {@link DomainIndex} class.
+ */
+public class DomainIndexTest {
+	private final DomainIndex index = new DomainIndex(List.of(
+			"# known scam domains",
+			"steamcommunity-gift.com",
+			"  Discord-Nitro.RU. ",
+			"",
+			"free.example.org"
+	));
+
+	/**
+	 * Tests that listed domains are found, regardless of their case and of a trailing dot,
+	 * and that comments and blank lines are ignored.
+	 */
+	@Test
+	public void testExactMatch() {
+		assertEquals(3, index.size());
+		assertTrue(index.contains("steamcommunity-gift.com"));
+		assertTrue(index.contains("discord-nitro.ru"));
+		assertTrue(index.contains("STEAMCOMMUNITY-GIFT.COM."));
+		assertTrue(index.contains("free.example.org"));
+	}
+
+	/**
+	 * Tests that subdomains of listed domains are found as well.
+	 */
+	@Test
+	public void testSubdomainMatch() {
+		assertTrue(index.contains("www.steamcommunity-gift.com"));
+		assertTrue(index.contains("cdn.login.discord-nitro.ru"));
+		assertTrue(index.contains("a.free.example.org"));
+	}
+
+	/**
+	 * Tests that parent domains, and domains which only end with the same characters, are not matched.
+	 */
+	@Test
+	public void testNoMatch() {
+		assertFalse(index.contains("example.org"));
+		assertFalse(index.contains("notsteamcommunity-gift.com"));
+		assertFalse(index.contains("steamcommunity-gift.com.evil.net"));
+		assertFalse(index.contains("com"));
+		assertFalse(index.contains(""));
+		assertFalse(index.contains(null));
+		assertFalse(index.contains("# known scam domains"));
+		assertFalse(DomainIndex.empty().contains("steamcommunity-gift.com"));
+	}
+}
@@ -0,0 +1,45 @@
+package net.javadiscord.javabot.systems.moderation.automod;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the functionality of the {@link FingerprintWindow} and {@link MessageFingerprint} classes.
+ */
+public class FingerprintWindowTest {
+	private static long fingerprint(String content) {
+		return MessageFingerprint.simhash(MessageFingerprint.normalize(content));
+	}
+
+	/**
+	 * Tests that near-identical messages have similar fingerprints, while unrelated ones don't.
+	 */
+	@Test
+	public void testFingerprint() {
+		long scam = fingerprint("Free Nitro for everyone!! claim it here: steamcommunity gift");
+		assertEquals(scam, fingerprint("free nitro for everyone! claim it here:\u200b steamcommunity gift."));
+		assertTrue(MessageFingerprint.distance(scam, fingerprint("Hey guys, free Nitro for everyone!! claim it here: steamcommunity gift")) <= MessageFingerprint.MAX_DISTANCE);
+		assertTrue(MessageFingerprint.distance(scam, fingerprint("How do I fix this NullPointerException in my code?")) > MessageFingerprint.MAX_DISTANCE);
+	}
+
+	/**
+	 * Tests that duplicates are only reported once they reach the threshold within the window's length.
+	 */
+	@Test
+	public void testAdd() {
+		long scam = fingerprint("Free Nitro for everyone!! claim it here: steamcommunity gift");
+		long other = fingerprint("How do I fix this NullPointerException in my code?");
+		FingerprintWindow window = new FingerprintWindow(10, 1000);
+		assertEquals(0, window.add(scam, 0, 1, 3));
+		assertEquals(0, window.add(other, 10, 2, 3));
+		assertEquals(0, window.add(scam, 20, 2, 3));
+		assertEquals(3, window.add(scam, 30, 3, 3));
+		window.clear();
+		assertEquals(0, window.add(scam, 40, 1, 3));
+		assertEquals(0, window.add(scam, 1020, 2, 3));
+		// the first copy has left the window, so only two copies are within it
+		assertEquals(0, window.add(scam, 1100, 2, 3));
+	}
+}
@@ -0,0 +1,44 @@
+package net.javadiscord.javabot.systems.moderation.automod;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the functionality of the {@link RecentMessageWindow} class.
+ */
+public class RecentMessageWindowTest {
+
+	/**
+	 * Tests that a window only reports spam once it is full and all messages were sent within its length.
+	 */
+	@Test
+	public void testAdd() {
+		RecentMessageWindow window = new RecentMessageWindow(3, 1000);
+		assertFalse(window.add(0, 1));
+		assertFalse(window.add(100, 1));
+		assertTrue(window.add(999, 1));
+		// the oldest message is now at 100
+		assertFalse(window.add(1100, 1));
+		assertTrue(window.add(1200, 1));
+	}
+
+	/**
+	 * Tests clearing a window and counting its channels.
+	 */
+	@Test
+	public void testClearAndChannelCount() {
+		RecentMessageWindow window = new RecentMessageWindow(3, 1000);
+		window.add(0, 1);
+		window.add(1, 2);
+		window.add(2, 2);
+		assertEquals(2, window.getChannelCount());
+		window.clear();
+		assertEquals(0, window.getChannelCount());
+		assertFalse(window.add(3, 1));
+		assertFalse(window.add(4, 1));
+		assertTrue(window.add(5, 1));
+	}
+}
@@ -0,0 +1,53 @@
+package net.javadiscord.javabot.systems.moderation.automod;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the functionality of the {@link ScamDomainList} class, using a local {@link FileDomainListSource}.
+ */
+public class ScamDomainListTest {
+
+	/**
+	 * Tests refreshing the list from its source, and loading it from the written snapshot.
+	 *
+	 * @param dir A temporary directory.
+	 * @throws IOException If the test files cannot be written.
+	 */
+	@Test
+	public void testRefreshAndSnapshot(@TempDir Path dir) throws IOException {
+		Path source = dir.resolve("links.txt");
+		Path snapshot = dir.resolve("snapshot.txt");
+		Files.write(source, List.of("scam.link", "free-nitro.gift"));
+
+		ScamDomainList list = new ScamDomainList(new FileDomainListSource(source), snapshot);
+		assertFalse(list.contains("scam.link"));
+		assertTrue(list.refresh());
+		assertTrue(list.contains("login.scam.link"));
+		assertEquals(2, list.size());
+		// the source did not change
+		assertFalse(list.refresh());
+
+		Files.write(source, List.of("other.link"));
+		Files.setLastModifiedTime(source, FileTime.from(Instant.now().plusSeconds(60)));
+		assertTrue(list.refresh());
+		assertFalse(list.contains("scam.link"));
+		assertTrue(list.contains("other.link"));
+
+		ScamDomainList restarted = new ScamDomainList(new FileDomainListSource(source), snapshot);
+		restarted.loadSnapshot();
+		assertTrue(restarted.contains("other.link"));
+		assertEquals(1, restarted.size());
+	}
+}
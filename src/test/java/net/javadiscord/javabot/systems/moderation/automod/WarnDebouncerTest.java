@@ -0,0 +1,80 @@
+package net.javadiscord.javabot.systems.moderation.automod;
+
+import net.javadiscord.javabot.systems.moderation.warn.model.WarnSeverity;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests the functionality of the {@link WarnDebouncer} class. The window is long enough to never pass
+ * during a test, so batches are only issued when they're flushed explicitly.
+ */
+public class WarnDebouncerTest {
+	private static final long WINDOW = TimeUnit.HOURS.toMillis(1);
+	private static final WarnDebouncer.GuildUserKey MEMBER = new WarnDebouncer.GuildUserKey(1, 2);
+
+	private final ScheduledExecutorService pool = Executors.newSingleThreadScheduledExecutor();
+	private final List<WarnDebouncer.PendingWarn> issued = new ArrayList<>();
+	private final WarnDebouncer debouncer = new WarnDebouncer(pool, issued::add);
+
+	/**
+	 * Stops the pool, along with all flushes which are still scheduled.
+	 */
+	@AfterEach
+	public void shutdown() {
+		pool.shutdownNow();
+	}
+
+	private void queue(WarnDebouncer.GuildUserKey key, WarnSeverity severity, String reason) {
+		debouncer.queue(key, () -> new WarnDebouncer.PendingWarn(null, null, null, false), severity, reason, null, WINDOW);
+	}
+
+	/**
+	 * Tests that all warnings within the window are combined into one, which is shown with the highest
+	 * severity, weighs as much as all warnings together and counts repeated reasons.
+	 */
+	@Test
+	public void testMergeWithinWindow() {
+		queue(MEMBER, WarnSeverity.MEDIUM, "Automod: Advertising");
+		queue(MEMBER, WarnSeverity.MEDIUM, "Automod: Advertising");
+		queue(MEMBER, WarnSeverity.LOW, "Automod: Mention Spam");
+		queue(MEMBER, WarnSeverity.MEDIUM, "Automod: Advertising");
+		assertEquals(List.of(), issued);
+
+		debouncer.flush(MEMBER);
+		assertEquals(1, issued.size());
+		WarnDebouncer.PendingWarn warn = issued.get(0);
+		assertEquals(WarnSeverity.MEDIUM, warn.getSeverity());
+		assertEquals(3 * WarnSeverity.MEDIUM.getWeight() + WarnSeverity.LOW.getWeight(), warn.getWeight());
+		assertEquals("Automod: Advertising (x3), Automod: Mention Spam", warn.getReason());
+	}
+
+	/**
+	 * Tests that warnings after a flush start a new batch, and that members are warned separately.
+	 */
+	@Test
+	public void testNewBatchAfterFlush() {
+		WarnDebouncer.GuildUserKey other = new WarnDebouncer.GuildUserKey(1, 3);
+		queue(MEMBER, WarnSeverity.MEDIUM, "Automod: Advertising");
+		queue(other, WarnSeverity.HIGH, "Automod: Suspicious Link");
+		debouncer.flush(MEMBER);
+		debouncer.flush(MEMBER);
+		assertEquals(1, issued.size());
+
+		queue(MEMBER, WarnSeverity.LOW, "Automod: Mention Spam");
+		debouncer.flush(MEMBER);
+		debouncer.flush(other);
+		assertEquals(3, issued.size());
+		assertEquals("Automod: Mention Spam", issued.get(1).getReason());
+		assertEquals(WarnSeverity.LOW.getWeight(), issued.get(1).getWeight());
+		assertEquals(WarnSeverity.HIGH, issued.get(2).getSeverity());
+		assertEquals("Automod: Suspicious Link", issued.get(2).getReason());
+	}
+}
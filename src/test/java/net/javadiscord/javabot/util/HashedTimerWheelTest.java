@@ -0,0 +1,89 @@
+package net.javadiscord.javabot.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the functionality of the {@link HashedTimerWheel} class.
+ */
+public class HashedTimerWheelTest {
+
+	/**
+	 * Tests that keys expire on the first advance after their deadline, and that rescheduling and cancelling work.
+	 */
+	@Test
+	public void testExpiry() {
+		HashedTimerWheel<String> wheel = new HashedTimerWheel<>(1000, 8, 0);
+		wheel.schedule("a", 2500);
+		wheel.schedule("b", 4000);
+		wheel.schedule("c", 4000);
+		wheel.schedule("b", 6000);
+		assertTrue(wheel.cancel("c"));
+		assertFalse(wheel.cancel("c"));
+		assertEquals(List.of(), wheel.advance(2000));
+		assertEquals(List.of("a"), wheel.advance(3000));
+		assertEquals(List.of(), wheel.advance(5999));
+		assertEquals(6000L, wheel.getDeadline("b"));
+		assertEquals(List.of("b"), wheel.advance(6000));
+		assertNull(wheel.getDeadline("b"));
+		assertEquals(0, wheel.size());
+	}
+
+	/**
+	 * Tests that deadlines more than one rotation away, or already in the past, are not missed.
+	 */
+	@Test
+	public void testRotationsAndPastDeadlines() {
+		HashedTimerWheel<String> wheel = new HashedTimerWheel<>(1000, 4, 0);
+		wheel.schedule("far", 10_000);
+		wheel.advance(3000);
+		wheel.schedule("past", 1000);
+		for (long now = 4000; now < 10_000; now += 1000) {
+			List<String> expired = wheel.advance(now);
+			assertEquals(now == 4000 ? List.of("past") : List.of(), expired, "at " + now);
+		}
+		assertEquals(List.of("far"), wheel.advance(10_000));
+	}
+
+	/**
+	 * Tests advancing by random steps against a simple scan of all deadlines.
+	 */
+	@Test
+	public void testRandomAgainstScan() {
+		Random random = new Random(42);
+		HashedTimerWheel<Integer> wheel = new HashedTimerWheel<>(100, 16, 0);
+		Map<Integer, Long> expected = new HashMap<>();
+		long now = 0;
+		for (int i = 0; i < 10_000; i++) {
+			int key = random.nextInt(200);
+			if (random.nextInt(4) == 0) {
+				assertEquals(expected.remove(key) != null, wheel.cancel(key));
+			} else {
+				long deadline = now + random.nextInt(5000) - 500;
+				wheel.schedule(key, deadline);
+				expected.put(key, deadline);
+			}
+			now += random.nextInt(random.nextInt(10) == 0 ? 3000 : 150);
+			List<Integer> due = new ArrayList<>();
+			for (Map.Entry<Integer, Long> entry : expected.entrySet()) {
+				if (entry.getValue() <= now) due.add(entry.getKey());
+			}
+			due.forEach(expected::remove);
+			List<Integer> expired = new ArrayList<>(wheel.advance(now));
+			expired.sort(null);
+			due.sort(null);
+			assertEquals(due, expired);
+			assertEquals(expected.size(), wheel.size());
+		}
+	}
+}
@@ -0,0 +1,83 @@
+package net.javadiscord.javabot.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the functionality of the {@link LongLinkedMap} class.
+ */
+public class LongLinkedMapTest {
+
+	/**
+	 * Tests that updating a key keeps its position, and that the oldest entry is removed first.
+	 */
+	@Test
+	public void testInsertionOrder() {
+		LongLinkedMap<String> map = new LongLinkedMap<>(2);
+		map.put(3, "a");
+		map.put(1, "b");
+		map.put(2, "c");
+		assertEquals("a", map.put(3, "d"));
+		assertEquals(List.of("d", "b", "c"), map.values());
+		assertEquals(3, map.oldestKey());
+		assertEquals("d", map.removeOldest());
+		assertEquals("b", map.remove(1));
+		assertNull(map.remove(1));
+		assertEquals(List.of("c"), map.values());
+	}
+
+	/**
+	 * Tests that keys which are put first become the oldest, unless they are already mapped.
+	 */
+	@Test
+	public void testPutFirst() {
+		LongLinkedMap<String> map = new LongLinkedMap<>(2);
+		assertTrue(map.putFirst(3, "a"));
+		map.put(4, "b");
+		assertTrue(map.putFirst(2, "c"));
+		assertTrue(map.putFirst(1, "d"));
+		assertFalse(map.putFirst(4, "e"));
+		assertEquals(List.of("d", "c", "a", "b"), map.values());
+		assertEquals("d", map.removeOldest());
+		assertEquals("b", map.remove(4));
+		assertTrue(map.putFirst(4, "f"));
+		assertEquals(List.of("f", "c", "a"), map.values());
+	}
+
+	/**
+	 * Compares random operations with a {@link LinkedHashMap}.
+	 */
+	@Test
+	public void testRandomOperations() {
+		Random random = new Random(42);
+		LongLinkedMap<Integer> map = new LongLinkedMap<>(4);
+		Map<Long, Integer> expected = new LinkedHashMap<>();
+		for (int i = 0; i < 100_000; i++) {
+			long key = random.nextInt(500) * 1_000_000_007L;
+			switch (random.nextInt(4)) {
+				case 0 -> assertEquals(expected.put(key, i), map.put(key, i));
+				case 1 -> assertEquals(expected.remove(key), map.remove(key));
+				case 2 -> {
+					if (!expected.isEmpty()) {
+						long oldest = expected.keySet().iterator().next();
+						assertEquals(oldest, map.oldestKey());
+						assertEquals(expected.remove(oldest), map.removeOldest());
+					}
+				}
+				default -> assertEquals(expected.get(key), map.get(key));
+			}
+			assertEquals(expected.size(), map.size());
+		}
+		assertEquals(new ArrayList<>(expected.values()), map.values());
+	}
+}
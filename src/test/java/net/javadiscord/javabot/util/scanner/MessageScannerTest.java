@@ -0,0 +1,78 @@
+package net.javadiscord.javabot.util.scanner;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the functionality of the {@link MessageScanner} class.
+ */
+public class MessageScannerTest {
+
+	/**
+	 * Tests finding links and extracting their hosts.
+	 */
+	@Test
+	public void testLinks() {
+		MessageAnalysis analysis = MessageScanner.scan("check HTTPS://Login.Scam.link/path?x=1 and <http://user@example.com:80/a>");
+		assertEquals(List.of(
+				new MessageAnalysis.Link("HTTPS://Login.Scam.link/path?x=1", "login.scam.link"),
+				new MessageAnalysis.Link("http://user@example.com:80/a", "example.com")
+		), analysis.links());
+		assertTrue(MessageScanner.scan("https://").links().isEmpty());
+	}
+
+	/**
+	 * Tests finding GitHub and Discord message links.
+	 */
+	@Test
+	public void testSpecificLinks() {
+		MessageAnalysis analysis = MessageScanner.scan("see https://github.com/Java-Discord/JavaBot/blob/main/Bot.java#L10-L20 "
+				+ "and https://canary.discord.com/channels/1/2/3 but not https://github.com/Java-Discord");
+		assertEquals(List.of("https://github.com/Java-Discord/JavaBot/blob/main/Bot.java#L10-L20"), analysis.gitHubLinks());
+		assertEquals(List.of("https://canary.discord.com/channels/1/2/3"), analysis.messageLinks());
+		// links without the colon after their scheme are accepted as well
+		assertEquals(List.of("https//github.com/a/b/blob/main/A.java#L1", "https://github.com/a/b/tree/main/B.java#L2-L3"),
+				MessageScanner.scan("https//github.com/a/b/blob/main/A.java#L1 https://github.com/a/b/tree/main/B.java#L2-L3").gitHubLinks());
+	}
+
+	/**
+	 * Tests finding obfuscated invites.
+	 */
+	@Test
+	public void testInvites() {
+		assertEquals(List.of("discord.gg/abc123now"), MessageScanner.scan("join disc ord.gg/abc123 now").invites());
+		assertTrue(MessageScanner.scan("discord is great").invites().isEmpty());
+	}
+
+	/**
+	 * Tests finding watched keywords, ignoring case.
+	 */
+	@Test
+	public void testKeywords() {
+		MessageAnalysis analysis = MessageScanner.scan("What the FUCKing hell");
+		assertTrue(analysis.containsKeyword("fuck"));
+		assertEquals("what the fucking hell", analysis.lowerCaseContent());
+		assertFalse(MessageScanner.scan("fu ck").containsKeyword("fuck"));
+	}
+
+	/**
+	 * Tests that messages which are crafted to cause catastrophic backtracking
+	 * are still scanned quickly.
+	 */
+	@Test
+	public void testAdversarialMessages() {
+		String githubPath = "https://github.com/a/b/blob/" + "a/".repeat(1000) + ".b".repeat(1000);
+		String labels = "http://" + "a.".repeat(2000) + "\u0000";
+		assertTimeoutPreemptively(Duration.ofSeconds(1), () -> {
+			assertTrue(MessageScanner.scan(githubPath).gitHubLinks().isEmpty());
+			assertEquals(1, MessageScanner.scan(labels).links().size());
+		});
+	}
+}